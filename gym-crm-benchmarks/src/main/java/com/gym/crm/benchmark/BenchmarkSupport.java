@@ -0,0 +1,37 @@
+package com.gym.crm.benchmark;
+
+import java.lang.reflect.Field;
+
+/**
+ * Wires the few fields that Spring normally injects, so production classes can be
+ * benchmarked without starting an application context.
+ */
+final class BenchmarkSupport {
+
+    static final String JWT_SECRET = "1a48f384162d40fc7abee842ebd0ff94aa7895aa549605bd0b8f29ca456e6138";
+    static final long JWT_EXPIRATION_MS = 3_600_000;
+
+    private BenchmarkSupport() {
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T getField(Object target, String name) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return (T) field.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.security.BruteForceProtectionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login-path checks under contention: 8 threads call isBlocked while 4 threads record
+ * failures for the same set of usernames. {@code usernames=1} is a credential-stuffing
+ * attack on one account; larger values spread the load across map bins.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BruteForceProtectionBenchmark {
+
+    @Param({"1", "64", "4096"})
+    public int usernames;
+
+    private BruteForceProtectionService service;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        service = new BruteForceProtectionService();
+        // Never lock, so every iteration exercises the counting path rather than the early exit.
+        BenchmarkSupport.setField(service, "maxAttempts", Integer.MAX_VALUE);
+        BenchmarkSupport.setField(service, "lockDurationMillis", 300_000L);
+
+        names = new String[usernames];
+        for (int i = 0; i < usernames; i++) {
+            names[i] = "User.Name" + i;
+            service.loginFailed(names[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String advance(String[] names) {
+            next = next + 1 == names.length ? 0 : next + 1;
+            return names[next];
+        }
+    }
+
+    @Benchmark
+    @Group("login")
+    @GroupThreads(8)
+    public boolean isBlocked(Cursor cursor) {
+        return service.isBlocked(cursor.advance(names));
+    }
+
+    @Benchmark
+    @Group("login")
+    @GroupThreads(4)
+    public void loginFailed(Cursor cursor) {
+        service.loginFailed(cursor.advance(names));
+    }
+}
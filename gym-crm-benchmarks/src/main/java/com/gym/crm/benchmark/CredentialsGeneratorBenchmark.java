@@ -0,0 +1,43 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.util.impl.CredentialsGeneratorServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password generation on registration. Runs with 4 threads because all callers share
+ * one SecureRandom instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(4)
+public class CredentialsGeneratorBenchmark {
+
+    private CredentialsGeneratorServiceImpl credentialsGenerator;
+
+    @Setup
+    public void setUp() {
+        // generatePassword() does not touch the DAOs
+        credentialsGenerator = new CredentialsGeneratorServiceImpl(null, null);
+    }
+
+    @Benchmark
+    public String generatePassword() {
+        return credentialsGenerator.generatePassword();
+    }
+}
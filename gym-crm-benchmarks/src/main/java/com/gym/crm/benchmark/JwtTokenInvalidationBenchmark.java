@@ -0,0 +1,93 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.security.JwtTokenInvalidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of the logout blacklist, which JwtRequestFilter consults on every request.
+ * The map is filled directly: invalidateToken() sweeps the whole map on each call, so
+ * building 1M entries through it would take hours. Probes are fresh String instances,
+ * as they would be when parsed from an Authorization header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx3g")
+@Threads(4)
+public class JwtTokenInvalidationBenchmark {
+
+    private static final int PROBES = 4096;
+
+    @Param({"10000", "100000", "1000000"})
+    public int invalidatedTokens;
+
+    private JwtTokenInvalidationService service;
+    private String[] invalidatedProbes;
+    private String[] validProbes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new JwtTokenInvalidationService();
+        ConcurrentMap<String, Long> map = BenchmarkSupport.getField(service, "invalidatedTokens");
+        SplittableRandom random = new SplittableRandom(42);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+
+        String[] stored = new String[invalidatedTokens];
+        for (int i = 0; i < invalidatedTokens; i++) {
+            stored[i] = token(random);
+            map.put(stored[i], expiresAt);
+        }
+
+        invalidatedProbes = new String[PROBES];
+        validProbes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            invalidatedProbes[i] = new String(stored[random.nextInt(invalidatedTokens)].toCharArray());
+            validProbes[i] = token(random);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            return next = (next + 1) & (PROBES - 1);
+        }
+    }
+
+    /** The common case: a still-valid token that is not on the blacklist. */
+    @Benchmark
+    public boolean isInvalidatedMiss(Cursor cursor) {
+        return service.isInvalidated(validProbes[cursor.advance()]);
+    }
+
+    @Benchmark
+    public boolean isInvalidatedHit(Cursor cursor) {
+        return service.isInvalidated(invalidatedProbes[cursor.advance()]);
+    }
+
+    private static String token(SplittableRandom random) {
+        byte[] signature = new byte[96];
+        random.nextBytes(signature);
+        return "eyJhbGciOiJIUzI1NiJ9." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+}
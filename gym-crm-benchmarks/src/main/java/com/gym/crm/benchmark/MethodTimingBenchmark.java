@@ -0,0 +1,90 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.diagnostics.MethodTimingAspect;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.service.TrainingTypeService;
+import com.gym.crm.service.impl.TrainingTypeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the service/DAO timing aspect. {@code plain} is the bare service,
+ * {@code timingDisabled} goes through the proxy with its package switched off and
+ * {@code timingEnabled} records into a Prometheus registry. The difference between the
+ * last two is what every service and DAO call pays; compare it with a database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MethodTimingBenchmark {
+
+    private TrainingTypeService plain;
+    private TrainingTypeService timingDisabled;
+    private TrainingTypeService timingEnabled;
+
+    @Setup
+    public void setUp() {
+        TrainingTypeDao dao = inMemoryDao(List.of(new TrainingType("Yoga"), new TrainingType("Cardio")));
+
+        plain = new TrainingTypeServiceImpl(dao, new SimpleMeterRegistry());
+
+        MethodTimingAspect disabledAspect = new MethodTimingAspect(new SimpleMeterRegistry(), true, "com.gym.crm.service");
+        timingDisabled = proxy(new TrainingTypeServiceImpl(dao, new SimpleMeterRegistry()), disabledAspect);
+
+        MethodTimingAspect enabledAspect = new MethodTimingAspect(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), true, "");
+        timingEnabled = proxy(new TrainingTypeServiceImpl(dao, new SimpleMeterRegistry()), enabledAspect);
+    }
+
+    @Benchmark
+    public List<TrainingType> plain() {
+        return plain.findAllTrainingTypes();
+    }
+
+    @Benchmark
+    public List<TrainingType> timingDisabled() {
+        return timingDisabled.findAllTrainingTypes();
+    }
+
+    @Benchmark
+    public List<TrainingType> timingEnabled() {
+        return timingEnabled.findAllTrainingTypes();
+    }
+
+    private static TrainingTypeService proxy(TrainingTypeService target, MethodTimingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static TrainingTypeDao inMemoryDao(List<TrainingType> types) {
+        return (TrainingTypeDao) Proxy.newProxyInstance(TrainingTypeDao.class.getClassLoader(),
+                new Class<?>[]{TrainingTypeDao.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> types;
+                    case "findByName", "findById" -> Optional.empty();
+                    case "count" -> (long) types.size();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
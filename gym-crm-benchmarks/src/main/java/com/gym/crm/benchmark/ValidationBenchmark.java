@@ -0,0 +1,43 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.util.impl.ValidationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name validation done for every trainee/trainer create and update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ValidationBenchmark {
+
+    @Param({"John", "Mary-Jane O'Connor"})
+    public String name;
+
+    private ValidationServiceImpl validationService;
+
+    @Setup
+    public void setUp() {
+        validationService = new ValidationServiceImpl();
+    }
+
+    @Benchmark
+    public boolean validateName() {
+        return validationService.validateName(name, "First name");
+    }
+}
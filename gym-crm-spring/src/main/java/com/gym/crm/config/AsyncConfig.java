@@ -0,0 +1,13 @@
+package com.gym.crm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} on the auto-configured application task executor.
+ * With the {@code vthreads} profile (spring.threads.virtual.enabled=true) that executor
+ * spawns a virtual thread per task instead of using a bounded platform thread pool.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {}
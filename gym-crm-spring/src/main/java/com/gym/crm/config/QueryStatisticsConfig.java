@@ -0,0 +1,31 @@
+package com.gym.crm.config;
+
+import com.gym.crm.diagnostics.QueryCountingIntegrator;
+import com.gym.crm.diagnostics.QueryCountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hooks per-request query counting into Hibernate. Hibernate's own Statistics are
+ * process-wide, so they cannot tell concurrent requests apart; the inspector and event
+ * listeners count against the statistics bound to the request thread instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new QueryCountingIntegrator()));
+        };
+    }
+}
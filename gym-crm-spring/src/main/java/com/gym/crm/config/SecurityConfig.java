@@ -2,6 +2,7 @@ package com.gym.crm.config;
 
 import com.gym.crm.security.JwtAuthenticationEntryPoint;
 import com.gym.crm.security.JwtRequestFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -78,6 +79,11 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
                 .authorizeHttpRequests(authZ -> authZ
+                        // lets a 403 reach the error page instead of turning into a 401 there
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                        // async dispatches (e.g. closing an SSE stream) belong to a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers(
                                 "/api/trainees/register",
                                 "/api/trainers/register",
@@ -93,7 +99,16 @@ public class SecurityConfig {
                         ).permitAll()
 
                         .requestMatchers(
-                                "/actuator/**",
+                                "/actuator/health/**",
+                                "/actuator/info",
+                                "/actuator/prometheus"
+                        ).permitAll()
+
+                        .requestMatchers("/actuator/**").hasRole(JwtRequestFilter.OPERATOR_ROLE)
+                        // lists every account, so it is staff-only
+                        .requestMatchers("/api/users/search").hasRole(JwtRequestFilter.OPERATOR_ROLE)
+
+                        .requestMatchers(
                                 "/management/**",
                                 "/metrics-dashboard/**",
                                 "/h2-console/**"
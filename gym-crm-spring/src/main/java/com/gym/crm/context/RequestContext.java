@@ -0,0 +1,143 @@
+package com.gym.crm.context;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Per-request state shared by the filters, controllers and any work the request hands to other
+ * threads: the request ID (also in the MDC as {@value #MDC_KEY} and in the {@value #HEADER}
+ * response header) and, once the JWT filter has accepted a token, the authenticated principal.
+ * Bound to the request thread by {@link RequestContextBindingFilter}; {@link #wrap(Runnable)}
+ * carries it, together with the MDC, onto executor threads.
+ */
+public final class RequestContext {
+
+    public static final String MDC_KEY = "transactionId";
+    public static final String HEADER = "X-Transaction-Id";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private volatile Principal principal;
+
+    public RequestContext(String requestId) {
+        if (requestId == null || requestId.isBlank()) {
+            throw new IllegalArgumentException("Request ID must not be blank");
+        }
+        this.requestId = requestId;
+    }
+
+    /**
+     * The user a valid JWT identified; role is the token's role claim (TRAINEE or TRAINER).
+     */
+    public record Principal(String username, Long userId, String role) {
+    }
+
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a context to the calling thread and returns whatever was bound before,
+     * to be handed back to {@link #restore(RequestContext)}.
+     */
+    public static RequestContext bind(RequestContext context) {
+        RequestContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    public static void restore(RequestContext previous) {
+        bind(previous);
+    }
+
+    /**
+     * Username of the authenticated caller, or null outside a request or for anonymous calls.
+     */
+    public static String currentUsername() {
+        RequestContext context = CURRENT.get();
+        Principal principal = context == null ? null : context.principal;
+        return principal == null ? null : principal.username();
+    }
+
+    /**
+     * User id of the authenticated caller, or null outside a request, for anonymous calls or
+     * for tokens without a userId claim.
+     */
+    public static Long currentUserId() {
+        RequestContext context = CURRENT.get();
+        Principal principal = context == null ? null : context.principal;
+        return principal == null ? null : principal.userId();
+    }
+
+    /**
+     * Captures the caller's context and MDC; the returned task runs with both installed and
+     * puts back whatever the executing thread had afterwards.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestContext context = CURRENT.get();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (context == null && mdc == null) {
+            return task;
+        }
+        return () -> {
+            RequestContext previous = bind(context);
+            Map<String, String> previousMdc = replaceMdc(mdc);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+                replaceMdc(previousMdc);
+            }
+        };
+    }
+
+    /**
+     * {@link #wrap(Runnable)} for tasks that return a value.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext context = CURRENT.get();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        if (context == null && mdc == null) {
+            return task;
+        }
+        return () -> {
+            RequestContext previous = bind(context);
+            Map<String, String> previousMdc = replaceMdc(mdc);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+                replaceMdc(previousMdc);
+            }
+        };
+    }
+
+    private static Map<String, String> replaceMdc(Map<String, String> mdc) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+        return previous;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public Principal getPrincipal() {
+        return principal;
+    }
+
+    public void authenticate(String username, Long userId, String role) {
+        this.principal = new Principal(username, userId, role);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gym.crm.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the {@link RequestContext} before any other filter so that load shedding, security and
+ * the controllers all log under the same request ID. The context is kept as a request attribute
+ * and rebound on async and error dispatches, which therefore keep the original ID.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextBindingFilter extends OncePerRequestFilter {
+
+    static final String ATTRIBUTE = RequestContext.class.getName();
+
+    private final RequestIdGenerator requestIdGenerator;
+
+    public RequestContextBindingFilter(RequestIdGenerator requestIdGenerator) {
+        this.requestIdGenerator = requestIdGenerator;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestContext context = (RequestContext) request.getAttribute(ATTRIBUTE);
+        if (context == null) {
+            context = new RequestContext(requestIdGenerator.nextId());
+            request.setAttribute(ATTRIBUTE, context);
+            response.setHeader(RequestContext.HEADER, context.getRequestId());
+        }
+
+        RequestContext previous = RequestContext.bind(context);
+        MDC.put(RequestContext.MDC_KEY, context.getRequestId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestContext.MDC_KEY);
+            RequestContext.restore(previous);
+        }
+    }
+}
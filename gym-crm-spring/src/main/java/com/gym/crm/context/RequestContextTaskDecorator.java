@@ -0,0 +1,19 @@
+package com.gym.crm.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picked up by Spring Boot for the application task executor, so {@code @Async} work keeps the
+ * submitting request's ID and principal.
+ */
+@Component
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        return RequestContext.wrap(runnable);
+    }
+}
@@ -1,15 +1,16 @@
 package com.gym.crm.controller;
 
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.dto.request.ChangeLoginRequest;
 import com.gym.crm.dto.response.LoginResponse;
-import com.gym.crm.entity.Trainee;
-import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.User;
 import com.gym.crm.exception.InvalidCredentialsException;
 import com.gym.crm.exception.UserNotFoundException;
 import com.gym.crm.security.BruteForceProtectionService;
+import com.gym.crm.security.JwtRequestFilter;
 import com.gym.crm.security.JwtTokenInvalidationService;
-import com.gym.crm.service.TraineeService;
-import com.gym.crm.service.TrainerService;
+import com.gym.crm.security.OperatorAccount;
+import com.gym.crm.service.UserService;
 import com.gym.crm.util.AuthenticationService;
 import com.gym.crm.util.impl.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +21,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.LockedException;
@@ -29,7 +29,6 @@ import com.gym.crm.service.impl.CustomMetricsService;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.Optional;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -39,27 +38,27 @@ public class AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
     private final AuthenticationService authenticationService;
-    private final TraineeService traineeService;
-    private final TrainerService trainerService;
+    private final UserService userService;
     private final JwtUtil jwtUtil;
     private final CustomMetricsService metricsService;
     private final BruteForceProtectionService bruteForceProtectionService;
     private final JwtTokenInvalidationService jwtTokenInvalidationService;
+    private final OperatorAccount operatorAccount;
 
     public AuthController(AuthenticationService authenticationService,
-                          TraineeService traineeService,
-                          TrainerService trainerService,
+                          UserService userService,
                           JwtUtil jwtUtil,
                           CustomMetricsService metricsService,
                           BruteForceProtectionService bruteForceProtectionService,
-                          JwtTokenInvalidationService jwtTokenInvalidationService) {
+                          JwtTokenInvalidationService jwtTokenInvalidationService,
+                          OperatorAccount operatorAccount) {
         this.authenticationService = authenticationService;
-        this.traineeService = traineeService;
-        this.trainerService = trainerService;
+        this.userService = userService;
         this.jwtUtil = jwtUtil;
         this.metricsService = metricsService;
         this.bruteForceProtectionService = bruteForceProtectionService;
         this.jwtTokenInvalidationService = jwtTokenInvalidationService;
+        this.operatorAccount = operatorAccount;
     }
 
     @GetMapping("/login")
@@ -74,9 +73,6 @@ public class AuthController {
             @RequestParam String username,
             @RequestParam String password) {
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
         Timer.Sample authTimer = metricsService.startAuthenticationTimer();
         metricsService.incrementLoginAttempt();
 
@@ -91,19 +87,16 @@ public class AuthController {
 
         try {
             String role;
-            Long userId;
-
-            try {
-                Trainee trainee = authenticationService.authenticateTrainee(username, password);
-                role = "TRAINEE";
-                userId = trainee.getId();
-            } catch (InvalidCredentialsException e) {
-                Trainer trainer = authenticationService.authenticateTrainer(username, password);
-                role = "TRAINER";
-                userId = trainer.getId();
+            String token;
+            if (operatorAccount.isOperatorUsername(username)) {
+                operatorAccount.authenticate(username, password);
+                role = JwtRequestFilter.OPERATOR_ROLE;
+                token = jwtUtil.generateToken(username.trim(), role);
+            } else {
+                User user = authenticationService.authenticate(username, password);
+                role = user.getRole().name();
+                token = jwtUtil.generateToken(username, role, user.getId());
             }
-
-            String token = jwtUtil.generateToken(username, role, userId);
             LoginResponse response = new LoginResponse(token);
 
             bruteForceProtectionService.loginSucceeded(username);
@@ -118,7 +111,6 @@ public class AuthController {
             throw e;
         } finally {
             metricsService.stopAuthenticationTimer(authTimer);
-            MDC.clear();
         }
     }
 
@@ -148,11 +140,8 @@ public class AuthController {
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
-    public ResponseEntity<Void> changeLogin(@Valid @RequestBody ChangeLoginRequest request, HttpServletRequest httpRequest) {
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
-        String authenticatedUsername = (String) httpRequest.getAttribute("authenticatedUsername");
+    public ResponseEntity<Void> changeLogin(@Valid @RequestBody ChangeLoginRequest request) {
+        String authenticatedUsername = RequestContext.currentUsername();
         if (authenticatedUsername == null) {
             logger.warn("Authentication principal not found for password change request.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -166,27 +155,22 @@ public class AuthController {
         }
 
         try {
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(request.getUsername());
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(request.getUsername());
-
-            if (traineeOpt.isPresent()) {
-                traineeService.changePassword(traineeOpt.get(), request);
-                logger.info("Password changed successfully for trainee: {}", request.getUsername());
-            } else if (trainerOpt.isPresent()) {
-                trainerService.changePassword(trainerOpt.get(), request);
-                logger.info("Password changed successfully for trainer: {}", request.getUsername());
-            } else {
+            Optional<User> userOpt = userService.findUserByUsername(request.getUsername());
+
+            if (userOpt.isEmpty()) {
                 logger.warn("User not found for password change: {}", request.getUsername());
                 throw new UserNotFoundException("User not found");
             }
 
+            User user = userOpt.get();
+            userService.changePassword(user, request);
+            logger.info("Password changed successfully for {}: {}", user.getRole(), request.getUsername());
+
             return ResponseEntity.ok().build();
 
         } catch (Exception e) {
             logger.error("Password change failed for username: {} - {}", request.getUsername(), e.getMessage());
             throw e;
-        } finally {
-            MDC.clear();
         }
     }
 }
\ No newline at end of file
@@ -1,68 +1,52 @@
 package com.gym.crm.controller;
 
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
+import com.gym.crm.dto.response.MetricsSnapshot;
+import com.gym.crm.service.impl.MetricsDashboardService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Date;
 
 @Controller
 @Profile({"local", "dev"})
 public class MetricsDashboardController {
 
-    private final MeterRegistry meterRegistry;
+    private final MetricsDashboardService dashboardService;
 
-    public MetricsDashboardController(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+    public MetricsDashboardController(MetricsDashboardService dashboardService) {
+        this.dashboardService = dashboardService;
     }
 
     @GetMapping("/metrics-dashboard")
     public String metricsDashboard(Model model) {
-        double traineeRegistrations = getCounterValue("gym.trainee.registrations");
-        double trainerRegistrations = getCounterValue("gym.trainer.registrations");
-        double trainingsCreated = getCounterValue("gym.training.created");
-        double loginAttempts = getCounterValue("gym.login.attempts");
-        double loginSuccess = getCounterValue("gym.login.success");
-        double authTime = getTimerValue();
-
-        double successRate = loginAttempts > 0 ? (loginSuccess / loginAttempts * 100) : 0;
-
-        double memoryUsed = getGaugeValue("jvm.memory.used") / (1024 * 1024);
-        double memoryMax = getGaugeValue("jvm.memory.max") / (1024 * 1024);
-        double cpuUsage = getGaugeValue("process.cpu.usage") * 100;
-
-        model.addAttribute("traineeRegistrations", traineeRegistrations);
-        model.addAttribute("trainerRegistrations", trainerRegistrations);
-        model.addAttribute("trainingsCreated", trainingsCreated);
-        model.addAttribute("loginAttempts", loginAttempts);
-        model.addAttribute("loginSuccess", loginSuccess);
-        model.addAttribute("loginSuccessRate", successRate);
-        model.addAttribute("authTime", authTime);
-        model.addAttribute("memoryUsed", memoryUsed);
-        model.addAttribute("memoryMax", memoryMax);
-        model.addAttribute("cpuUsage", cpuUsage);
-        model.addAttribute("timestamp", new java.util.Date());
+        MetricsSnapshot snapshot = dashboardService.getLatest();
+
+        model.addAttribute("traineeRegistrations", snapshot.traineeRegistrations());
+        model.addAttribute("trainerRegistrations", snapshot.trainerRegistrations());
+        model.addAttribute("trainingsCreated", snapshot.trainingsCreated());
+        model.addAttribute("loginAttempts", snapshot.loginAttempts());
+        model.addAttribute("loginSuccess", snapshot.loginSuccess());
+        model.addAttribute("loginSuccessRate", snapshot.loginSuccessRate());
+        model.addAttribute("authP50", snapshot.authentication().p50());
+        model.addAttribute("authP95", snapshot.authentication().p95());
+        model.addAttribute("authP99", snapshot.authentication().p99());
+        model.addAttribute("memoryUsed", snapshot.memoryUsedMb());
+        model.addAttribute("memoryMax", snapshot.memoryMaxMb());
+        model.addAttribute("cpuUsage", snapshot.cpuUsage());
+        model.addAttribute("endpoints", snapshot.endpoints());
+        model.addAttribute("timestamp", Date.from(snapshot.timestamp()));
 
         return "metrics-dashboard";
     }
 
-    private double getCounterValue(String name) {
-        Counter counter = meterRegistry.find(name).counter();
-        return counter != null ? counter.count() : 0.0;
-    }
-
-    private double getGaugeValue(String name) {
-        Gauge gauge = meterRegistry.find(name).gauge();
-        return gauge != null ? gauge.value() : 0.0;
-    }
-
-    private double getTimerValue() {
-        Timer timer = meterRegistry.find("gym.authentication.time").timer();
-        return timer != null ? timer.mean(TimeUnit.MILLISECONDS) : 0.0;
+    @GetMapping(path = "/metrics-dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream() {
+        return dashboardService.subscribe();
     }
 }
@@ -0,0 +1,57 @@
+package com.gym.crm.controller;
+
+import com.gym.crm.context.RequestContext;
+import com.gym.crm.events.ScheduleEventHub;
+import com.gym.crm.exception.UnauthorizedAccessException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Schedule Events", description = "Server-sent stream of schedule changes")
+public class ScheduleEventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleEventController.class);
+
+    private final ScheduleEventHub eventHub;
+
+    public ScheduleEventController(ScheduleEventHub eventHub) {
+        this.eventHub = eventHub;
+    }
+
+    @GetMapping(path = "/schedule", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream schedule changes",
+            description = "Pushes training-created and assignment-changed events for the caller; replaces polling the training lists")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams")
+    })
+    public ResponseEntity<SseEmitter> streamScheduleEvents() {
+        Long userId = RequestContext.currentUserId();
+        if (userId == null) {
+            throw new UnauthorizedAccessException("Token does not identify a user");
+        }
+
+        logger.info("Opening schedule event stream for user: {}", RequestContext.currentUsername());
+
+        return eventHub.subscribe(userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header("Retry-After", "30")
+                        .build());
+    }
+}
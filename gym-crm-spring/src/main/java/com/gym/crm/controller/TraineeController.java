@@ -1,5 +1,6 @@
 package com.gym.crm.controller;
 
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.dao.TraineeTrainerAssignmentDao;
 import com.gym.crm.dto.request.TraineeRegistrationRequest;
 import com.gym.crm.dto.request.TraineeUpdateRequest;
@@ -7,22 +8,26 @@ import com.gym.crm.dto.request.UpdateTrainerListRequest;
 import com.gym.crm.dto.response.RegistrationResponse;
 import com.gym.crm.dto.response.TraineeProfileResponse;
 import com.gym.crm.dto.response.TraineeProfileUpdateResponse;
+import com.gym.crm.dto.response.TrainerRecommendation;
 import com.gym.crm.dto.response.TrainerSummary;
 import com.gym.crm.entity.*;
 import com.gym.crm.exception.UnauthorizedAccessException;
 import com.gym.crm.exception.UserNotFoundException;
+import com.gym.crm.exception.ValidationException;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TraineeProfileService;
 import com.gym.crm.service.TraineeService;
+import com.gym.crm.service.TrainerRecommendationService;
 import com.gym.crm.service.TrainerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,18 +44,30 @@ public class TraineeController {
     private static final Logger logger = LoggerFactory.getLogger(TraineeController.class);
 
     private final TraineeService traineeService;
+    private final TraineeProfileService traineeProfileService;
     private final TrainerService trainerService;
     private final TraineeTrainerAssignmentDao assignmentDao;
     private final CustomMetricsService metricsService;
+    private final TrainerRecommendationService recommendationService;
+    private final int maxBulkUsernames;
+    private final int maxRecommendations;
 
     public TraineeController(TraineeService traineeService,
+                             TraineeProfileService traineeProfileService,
                              TrainerService trainerService,
                              TraineeTrainerAssignmentDao assignmentDao,
-                             CustomMetricsService metricsService) {
+                             CustomMetricsService metricsService,
+                             TrainerRecommendationService recommendationService,
+                             @Value("${profile.bulk.max-usernames:100}") int maxBulkUsernames,
+                             @Value("${recommendation.max-results:50}") int maxRecommendations) {
         this.traineeService = traineeService;
+        this.traineeProfileService = traineeProfileService;
         this.trainerService = trainerService;
         this.assignmentDao = assignmentDao;
         this.metricsService = metricsService;
+        this.recommendationService = recommendationService;
+        this.maxBulkUsernames = maxBulkUsernames;
+        this.maxRecommendations = maxRecommendations;
     }
 
     @PostMapping("/register")
@@ -60,33 +77,25 @@ public class TraineeController {
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     public ResponseEntity<RegistrationResponse> register(@Valid @RequestBody TraineeRegistrationRequest request) {
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
         logger.info("Registering new trainee: {} {}", request.getFirstName(), request.getLastName());
 
-        try {
-            Trainee trainee = new Trainee(
-                    request.getFirstName(),
-                    request.getLastName(),
-                    request.getDateOfBirth(),
-                    request.getAddress()
-            );
-
-            Trainee created = traineeService.createTrainee(trainee);
-            metricsService.incrementTraineeRegistration();
+        Trainee trainee = new Trainee(
+                request.getFirstName(),
+                request.getLastName(),
+                request.getDateOfBirth(),
+                request.getAddress()
+        );
 
-            RegistrationResponse response = new RegistrationResponse(
-                    created.getUsername(),
-                    created.getPassword()
-            );
+        Trainee created = traineeService.createTrainee(trainee);
+        metricsService.incrementTraineeRegistration();
 
-            logger.info("Trainee registered successfully with username: {}", created.getUsername());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        RegistrationResponse response = new RegistrationResponse(
+                created.getUsername(),
+                created.getPassword()
+        );
 
-        } finally {
-            MDC.clear();
-        }
+        logger.info("Trainee registered successfully with username: {}", created.getUsername());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/profile/{username}")
@@ -94,63 +103,60 @@ public class TraineeController {
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields parameter"),
             @ApiResponse(responseCode = "404", description = "Trainee not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TraineeProfileResponse> getProfile(
             @PathVariable String username,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
 
         logger.info("Fetching profile for trainee: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-            String authenticatedRole = (String) request.getAttribute("authenticatedRole");
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            // Users can only view their own profile
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to view profile of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only view your own profile");
-            }
+        // Users can only view their own profile
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view profile of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only view your own profile");
+        }
 
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        FieldSelection selection = FieldSelection.parse(fields, TraineeProfileResponse.class);
+        TraineeProfileResponse response = traineeProfileService.getProfile(username, selection)
+                .orElseThrow(() -> new UserNotFoundException("Trainee not found"));
+
+        logger.info("Profile retrieved successfully for trainee: {}", username);
+        return ResponseEntity.ok(response);
+    }
 
-            Trainee trainee = traineeOpt.get();
-
-            List<TrainerSummary> trainers = assignmentDao.findByTraineeId(trainee.getId()).stream()
-                    .map(assignment -> trainerService.findTrainerById(assignment.getTrainerId()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(trainer -> new TrainerSummary(
-                            trainer.getUsername(),
-                            trainer.getFirstName(),
-                            trainer.getLastName(),
-                            trainer.getSpecializationName()
-                    ))
-                    .collect(Collectors.toList());
-
-            TraineeProfileResponse response = new TraineeProfileResponse(
-                    trainee.getFirstName(),
-                    trainee.getLastName(),
-                    trainee.getDateOfBirth(),
-                    trainee.getAddress(),
-                    trainee.getIsActive(),
-                    trainers
-            );
-
-            logger.info("Profile retrieved successfully for trainee: {}", username);
-            return ResponseEntity.ok(response);
-
-        } finally {
-            MDC.clear();
+    @GetMapping("/profiles")
+    @Operation(summary = "Get trainee profiles in bulk",
+            description = "Retrieve several trainee profiles keyed by username; only profiles visible to the caller are returned")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many usernames"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Map<String, TraineeProfileResponse>> getProfiles(
+            @RequestParam List<String> usernames,
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
+
+        if (usernames.size() > maxBulkUsernames) {
+            throw new ValidationException("At most " + maxBulkUsernames + " usernames per request");
         }
+        // Only validated here: the bulk path needs the assignments for visibility anyway,
+        // so fields just trims the output
+        FieldSelection.parse(fields, TraineeProfileResponse.class);
+
+        String authenticatedUsername = RequestContext.currentUsername();
+        logger.info("Fetching {} trainee profiles for {}", usernames.size(), authenticatedUsername);
+
+        Map<String, TraineeProfileResponse> profiles = traineeProfileService.getProfiles(authenticatedUsername, usernames);
+
+        logger.info("Retrieved {} of {} requested trainee profiles", profiles.size(), usernames.size());
+        return ResponseEntity.ok(profiles);
     }
 
     @PutMapping("/profile/{username}")
@@ -163,67 +169,58 @@ public class TraineeController {
     })
     public ResponseEntity<TraineeProfileUpdateResponse> updateProfile(
             @PathVariable String username,
-            @Valid @RequestBody TraineeUpdateRequest updateRequest,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @Valid @RequestBody TraineeUpdateRequest updateRequest) {
 
         logger.info("Updating profile for trainee: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to update profile of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only update your own profile");
-            }
-
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to update profile of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only update your own profile");
+        }
 
-            Trainee trainee = traineeOpt.get();
-            trainee.setFirstName(updateRequest.getFirstName());
-            trainee.setLastName(updateRequest.getLastName());
-            trainee.setDateOfBirth(updateRequest.getDateOfBirth());
-            trainee.setAddress(updateRequest.getAddress());
-            trainee.setIsActive(updateRequest.getIsActive());
-
-            // Note: I'm passing dummy auth credentials since user is already authenticated via JWT
-            //service needs refactoring, but it works
-            Trainee updated = traineeService.updateTrainee(authenticatedUsername, "JWT_AUTH", trainee);
-
-            List<TrainerSummary> trainers = assignmentDao.findByTraineeId(updated.getId()).stream()
-                    .map(assignment -> trainerService.findTrainerById(assignment.getTrainerId()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(trainer -> new TrainerSummary(
-                            trainer.getUsername(),
-                            trainer.getFirstName(),
-                            trainer.getLastName(),
-                            trainer.getSpecializationName()
-                    ))
-                    .collect(Collectors.toList());
-
-            TraineeProfileUpdateResponse response = new TraineeProfileUpdateResponse(
-                    updated.getUsername(),
-                    updated.getFirstName(),
-                    updated.getLastName(),
-                    updated.getDateOfBirth(),
-                    updated.getAddress(),
-                    updated.getIsActive(),
-                    trainers
-            );
-
-            logger.info("Profile updated successfully for trainee: {}", username);
-            return ResponseEntity.ok(response);
-
-        } finally {
-            MDC.clear();
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
         }
+
+        Trainee trainee = traineeOpt.get();
+        trainee.setFirstName(updateRequest.getFirstName());
+        trainee.setLastName(updateRequest.getLastName());
+        trainee.setDateOfBirth(updateRequest.getDateOfBirth());
+        trainee.setAddress(updateRequest.getAddress());
+        trainee.setIsActive(updateRequest.getIsActive());
+
+        // Note: I'm passing dummy auth credentials since user is already authenticated via JWT
+        //service needs refactoring, but it works
+        Trainee updated = traineeService.updateTrainee(authenticatedUsername, "JWT_AUTH", trainee);
+
+        List<TrainerSummary> trainers = assignmentDao.findByTraineeId(updated.getId()).stream()
+                .map(assignment -> trainerService.findTrainerById(assignment.getTrainerId()))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .map(trainer -> new TrainerSummary(
+                        trainer.getUsername(),
+                        trainer.getFirstName(),
+                        trainer.getLastName(),
+                        trainer.getSpecializationName()
+                ))
+                .collect(Collectors.toList());
+
+        TraineeProfileUpdateResponse response = new TraineeProfileUpdateResponse(
+                updated.getUsername(),
+                updated.getFirstName(),
+                updated.getLastName(),
+                updated.getDateOfBirth(),
+                updated.getAddress(),
+                updated.getIsActive(),
+                trainers
+        );
+
+        logger.info("Profile updated successfully for trainee: {}", username);
+        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/profile/{username}")
@@ -235,43 +232,34 @@ public class TraineeController {
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Void> deleteProfile(
-            @PathVariable String username,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @PathVariable String username) {
 
         logger.info("Deleting profile for trainee: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to delete profile of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only delete your own profile");
-            }
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to delete profile of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only delete your own profile");
+        }
 
-            // Delete assignments first
-            assignmentDao.deleteByTraineeId(traineeOpt.get().getId());
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
+        }
 
-            // Then delete trainee (this will cascade delete trainings)
-            boolean deleted = traineeService.deleteTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
+        // Delete assignments first
+        assignmentDao.deleteByTraineeId(traineeOpt.get().getId());
 
-            if (deleted) {
-                logger.info("Profile deleted successfully for trainee: {}", username);
-                return ResponseEntity.ok().build();
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+        // Then delete trainee (this will cascade delete trainings)
+        boolean deleted = traineeService.deleteTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
 
-        } finally {
-            MDC.clear();
+        if (deleted) {
+            logger.info("Profile deleted successfully for trainee: {}", username);
+            return ResponseEntity.ok().build();
+        } else {
+            return ResponseEntity.notFound().build();
         }
     }
 
@@ -285,41 +273,32 @@ public class TraineeController {
     })
     public ResponseEntity<Void> changeActiveStatus(
             @PathVariable String username,
-            @RequestParam boolean isActive,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @RequestParam boolean isActive) {
 
         logger.info("Changing active status for trainee: {} to: {}", username, isActive);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to change status of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only modify your own profile");
-            }
-
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            boolean result;
-            if (isActive) {
-                result = traineeService.activateTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
-            } else {
-                result = traineeService.deactivateTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to change status of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only modify your own profile");
+        }
 
-            logger.info("Active status changed to {} for trainee: {}", isActive, username);
-            return ResponseEntity.ok().build();
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
+        }
 
-        } finally {
-            MDC.clear();
+        boolean result;
+        if (isActive) {
+            result = traineeService.activateTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
+        } else {
+            result = traineeService.deactivateTrainee(authenticatedUsername, "JWT_AUTH", traineeOpt.get().getId());
         }
+
+        logger.info("Active status changed to {} for trainee: {}", isActive, username);
+        return ResponseEntity.ok().build();
     }
 
     @GetMapping("/{username}/not-assigned-trainers")
@@ -331,52 +310,82 @@ public class TraineeController {
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<List<TrainerSummary>> getNotAssignedActiveTrainers(
-            @PathVariable String username,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @PathVariable String username) {
 
         logger.info("Getting not assigned active trainers for trainee: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to view trainers for {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only view your own trainer options");
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view trainers for {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only view your own trainer options");
+        }
 
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
+        }
+
+        Trainee trainee = traineeOpt.get();
+
+        Set<Long> assignedTrainerIds = assignmentDao.findByTraineeId(trainee.getId()).stream()
+                .map(TraineeTrainerAssignment::getTrainerId)
+                .collect(Collectors.toSet());
+
+        List<TrainerSummary> notAssignedTrainers = trainerService.findAllTrainers().stream()
+                .filter(User::getIsActive)
+                .filter(trainer -> !assignedTrainerIds.contains(trainer.getId()))
+                .map(trainer -> new TrainerSummary(
+                        trainer.getUsername(),
+                        trainer.getFirstName(),
+                        trainer.getLastName(),
+                        trainer.getSpecializationName()
+                ))
+                .collect(Collectors.toList());
+
+        logger.info("Found {} not assigned active trainers for trainee: {}",
+                notAssignedTrainers.size(), username);
+        return ResponseEntity.ok(notAssignedTrainers);
+    }
+
+    @GetMapping("/{username}/recommended-trainers")
+    @Operation(summary = "Get recommended trainers",
+            description = "Rank active trainers not assigned to the trainee by training history and by the choices of trainees sharing their trainers")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recommendations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range"),
+            @ApiResponse(responseCode = "404", description = "Trainee not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<TrainerRecommendation>> getRecommendedTrainers(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.info("Getting recommended trainers for trainee: {}", username);
+
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            Trainee trainee = traineeOpt.get();
-
-            Set<Long> assignedTrainerIds = assignmentDao.findByTraineeId(trainee.getId()).stream()
-                    .map(TraineeTrainerAssignment::getTrainerId)
-                    .collect(Collectors.toSet());
-
-            List<TrainerSummary> notAssignedTrainers = trainerService.findAllTrainers().stream()
-                    .filter(User::getIsActive)
-                    .filter(trainer -> !assignedTrainerIds.contains(trainer.getId()))
-                    .map(trainer -> new TrainerSummary(
-                            trainer.getUsername(),
-                            trainer.getFirstName(),
-                            trainer.getLastName(),
-                            trainer.getSpecializationName()
-                    ))
-                    .collect(Collectors.toList());
-
-            logger.info("Found {} not assigned active trainers for trainee: {}",
-                    notAssignedTrainers.size(), username);
-            return ResponseEntity.ok(notAssignedTrainers);
-
-        } finally {
-            MDC.clear();
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view recommendations for {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only view your own trainer options");
         }
+        if (limit < 1 || limit > maxRecommendations) {
+            throw new ValidationException("Limit must be between 1 and " + maxRecommendations);
+        }
+
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
+        }
+
+        List<TrainerRecommendation> recommendations =
+                recommendationService.recommendTrainers(traineeOpt.get().getId(), limit);
+
+        logger.info("Recommended {} trainers for trainee: {}", recommendations.size(), username);
+        return ResponseEntity.ok(recommendations);
     }
 
     @PutMapping("/{username}/trainers")
@@ -389,60 +398,51 @@ public class TraineeController {
     })
     public ResponseEntity<List<TrainerSummary>> updateTrainerList(
             @PathVariable String username,
-            @Valid @RequestBody UpdateTrainerListRequest updateRequest,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @Valid @RequestBody UpdateTrainerListRequest updateRequest) {
 
         logger.info("Updating trainer list for trainee: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to update trainers for {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only update your own trainer list");
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to update trainers for {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only update your own trainer list");
+        }
 
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
+        }
 
-            Trainee trainee = traineeOpt.get();
+        Trainee trainee = traineeOpt.get();
 
-            List<Long> trainerIds = new ArrayList<>();
-            List<Trainer> newTrainers = new ArrayList<>();
+        List<Long> trainerIds = new ArrayList<>();
+        List<Trainer> newTrainers = new ArrayList<>();
 
-            for (String trainerUsername : updateRequest.getTrainerUsernames()) {
-                Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(trainerUsername);
-                if (trainerOpt.isEmpty()) {
-                    throw new UserNotFoundException("Trainer not found: " + trainerUsername);
-                }
-                Trainer trainer = trainerOpt.get();
-                trainerIds.add(trainer.getId());
-                newTrainers.add(trainer);
+        for (String trainerUsername : updateRequest.getTrainerUsernames()) {
+            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(trainerUsername);
+            if (trainerOpt.isEmpty()) {
+                throw new UserNotFoundException("Trainer not found: " + trainerUsername);
             }
+            Trainer trainer = trainerOpt.get();
+            trainerIds.add(trainer.getId());
+            newTrainers.add(trainer);
+        }
 
-            assignmentDao.replaceTraineeAssignments(trainee.getId(), trainerIds);
-
-            List<TrainerSummary> updatedTrainers = newTrainers.stream()
-                    .map(trainer -> new TrainerSummary(
-                            trainer.getUsername(),
-                            trainer.getFirstName(),
-                            trainer.getLastName(),
-                            trainer.getSpecializationName()
-                    ))
-                    .collect(Collectors.toList());
+        assignmentDao.replaceTraineeAssignments(trainee.getId(), trainerIds);
 
-            logger.info("Updated trainer list for trainee: {} with {} trainers",
-                    username, updatedTrainers.size());
-            return ResponseEntity.ok(updatedTrainers);
+        List<TrainerSummary> updatedTrainers = newTrainers.stream()
+                .map(trainer -> new TrainerSummary(
+                        trainer.getUsername(),
+                        trainer.getFirstName(),
+                        trainer.getLastName(),
+                        trainer.getSpecializationName()
+                ))
+                .collect(Collectors.toList());
 
-        } finally {
-            MDC.clear();
-        }
+        logger.info("Updated trainer list for trainee: {} with {} trainers",
+                username, updatedTrainers.size());
+        return ResponseEntity.ok(updatedTrainers);
     }
 }
\ No newline at end of file
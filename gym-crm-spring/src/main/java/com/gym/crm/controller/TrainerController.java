@@ -1,5 +1,6 @@
 package com.gym.crm.controller;
 
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.dao.TraineeTrainerAssignmentDao;
 import com.gym.crm.dao.TrainingTypeDao;
 import com.gym.crm.dto.request.TrainerRegistrationRequest;
@@ -12,6 +13,8 @@ import com.gym.crm.entity.TrainingType;
 import com.gym.crm.exception.UnauthorizedAccessException;
 import com.gym.crm.exception.UserNotFoundException;
 import com.gym.crm.exception.ValidationException;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TrainerProfileService;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.service.TraineeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,11 +22,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -40,21 +42,27 @@ public class TrainerController {
     private static final Logger logger = LoggerFactory.getLogger(TrainerController.class);
 
     private final TrainerService trainerService;
+    private final TrainerProfileService trainerProfileService;
     private final TraineeService traineeService;
     private final TrainingTypeDao trainingTypeDao;
     private final TraineeTrainerAssignmentDao assignmentDao;
     private final CustomMetricsService metricsService;
+    private final int maxBulkUsernames;
 
     public TrainerController(TrainerService trainerService,
+                             TrainerProfileService trainerProfileService,
                              TraineeService traineeService,
                              TrainingTypeDao trainingTypeDao,
                              TraineeTrainerAssignmentDao assignmentDao,
-                             CustomMetricsService metricsService) {
+                             CustomMetricsService metricsService,
+                             @Value("${profile.bulk.max-usernames:100}") int maxBulkUsernames) {
         this.trainerService = trainerService;
+        this.trainerProfileService = trainerProfileService;
         this.traineeService = traineeService;
         this.trainingTypeDao = trainingTypeDao;
         this.assignmentDao = assignmentDao;
         this.metricsService = metricsService;
+        this.maxBulkUsernames = maxBulkUsernames;
     }
 
     @PostMapping("/register")
@@ -64,37 +72,29 @@ public class TrainerController {
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     public ResponseEntity<RegistrationResponse> register(@Valid @RequestBody TrainerRegistrationRequest request) {
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
         logger.info("Registering new trainer: {} {}", request.getFirstName(), request.getLastName());
 
-        try {
-            Optional<TrainingType> specializationOpt = trainingTypeDao.findById(request.getSpecializationId());
-            if (specializationOpt.isEmpty()) {
-                throw new ValidationException("Invalid specialization ID");
-            }
-
-            Trainer trainer = new Trainer(
-                    request.getFirstName(),
-                    request.getLastName(),
-                    specializationOpt.get()
-            );
+        Optional<TrainingType> specializationOpt = trainingTypeDao.findById(request.getSpecializationId());
+        if (specializationOpt.isEmpty()) {
+            throw new ValidationException("Invalid specialization ID");
+        }
 
-            Trainer created = trainerService.createTrainer(trainer);
-            metricsService.incrementTrainerRegistration();
+        Trainer trainer = new Trainer(
+                request.getFirstName(),
+                request.getLastName(),
+                specializationOpt.get()
+        );
 
-            RegistrationResponse response = new RegistrationResponse(
-                    created.getUsername(),
-                    created.getPassword()
-            );
+        Trainer created = trainerService.createTrainer(trainer);
+        metricsService.incrementTrainerRegistration();
 
-            logger.info("Trainer registered successfully with username: {}", created.getUsername());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        RegistrationResponse response = new RegistrationResponse(
+                created.getUsername(),
+                created.getPassword()
+        );
 
-        } finally {
-            MDC.clear();
-        }
+        logger.info("Trainer registered successfully with username: {}", created.getUsername());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/profile/{username}")
@@ -102,60 +102,59 @@ public class TrainerController {
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Profile retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields parameter"),
             @ApiResponse(responseCode = "404", description = "Trainer not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TrainerProfileResponse> getProfile(
             @PathVariable String username,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
 
         logger.info("Fetching profile for trainer: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-            String authenticatedRole = (String) request.getAttribute("authenticatedRole");
-
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to view profile of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only view your own profile");
-            }
-
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
-            if (trainerOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainer not found");
-            }
-
-            Trainer trainer = trainerOpt.get();
-
-            List<TraineeSummary> trainees = assignmentDao.findByTrainerId(trainer.getId()).stream()
-                    .map(assignment -> traineeService.findTraineeById(assignment.getTraineeId()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(trainee -> new TraineeSummary(
-                            trainee.getUsername(),
-                            trainee.getFirstName(),
-                            trainee.getLastName()
-                    ))
-                    .collect(Collectors.toList());
-
-            TrainerProfileResponse response = new TrainerProfileResponse(
-                    trainer.getFirstName(),
-                    trainer.getLastName(),
-                    trainer.getSpecializationName(),
-                    trainer.getIsActive(),
-                    trainees
-            );
-
-            logger.info("Profile retrieved successfully for trainer: {}", username);
-            return ResponseEntity.ok(response);
-
-        } finally {
-            MDC.clear();
+        String authenticatedUsername = RequestContext.currentUsername();
+
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view profile of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only view your own profile");
+        }
+
+        FieldSelection selection = FieldSelection.parse(fields, TrainerProfileResponse.class);
+        TrainerProfileResponse response = trainerProfileService.getProfile(username, selection)
+                .orElseThrow(() -> new UserNotFoundException("Trainer not found"));
+
+        logger.info("Profile retrieved successfully for trainer: {}", username);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/profiles")
+    @Operation(summary = "Get trainer profiles in bulk",
+            description = "Retrieve several trainer profiles keyed by username; only profiles visible to the caller are returned")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Profiles retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many usernames"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Map<String, TrainerProfileResponse>> getProfiles(
+            @RequestParam List<String> usernames,
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
+
+        if (usernames.size() > maxBulkUsernames) {
+            throw new ValidationException("At most " + maxBulkUsernames + " usernames per request");
         }
+        // Only validated here: the bulk path needs the assignments for visibility anyway,
+        // so fields just trims the output
+        FieldSelection.parse(fields, TrainerProfileResponse.class);
+
+        String authenticatedUsername = RequestContext.currentUsername();
+        logger.info("Fetching {} trainer profiles for {}", usernames.size(), authenticatedUsername);
+
+        Map<String, TrainerProfileResponse> profiles = trainerProfileService.getProfiles(authenticatedUsername, usernames);
+
+        logger.info("Retrieved {} of {} requested trainer profiles", profiles.size(), usernames.size());
+        return ResponseEntity.ok(profiles);
     }
 
     @PutMapping("/profile/{username}")
@@ -168,62 +167,53 @@ public class TrainerController {
     })
     public ResponseEntity<TrainerProfileResponse> updateProfile(
             @PathVariable String username,
-            @Valid @RequestBody TrainerUpdateRequest updateRequest,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @Valid @RequestBody TrainerUpdateRequest updateRequest) {
 
         logger.info("Updating profile for trainer: {}", username);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to update profile of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only update your own profile");
-            }
-
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
-            if (trainerOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainer not found");
-            }
-
-            Trainer trainer = trainerOpt.get();
-            trainer.setFirstName(updateRequest.getFirstName());
-            trainer.setLastName(updateRequest.getLastName());
-            trainer.setIsActive(updateRequest.getIsActive());
-
-            // using dummy auth since user is already authenticated via JWT and service needs refactoring
-            Trainer updated = trainerService.updateTrainer(authenticatedUsername, "JWT_AUTH", trainer);
-
-            List<TraineeSummary> trainees = assignmentDao.findByTrainerId(updated.getId()).stream()
-                    .map(assignment -> traineeService.findTraineeById(assignment.getTraineeId()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(trainee -> new TraineeSummary(
-                            trainee.getUsername(),
-                            trainee.getFirstName(),
-                            trainee.getLastName()
-                    ))
-                    .collect(Collectors.toList());
-
-            TrainerProfileResponse response = new TrainerProfileResponse(
-                    updated.getUsername(),
-                    updated.getFirstName(),
-                    updated.getLastName(),
-                    updated.getSpecializationName(),
-                    updated.getIsActive(),
-                    trainees
-            );
-
-            logger.info("Profile updated successfully for trainer: {}", username);
-            return ResponseEntity.ok(response);
-
-        } finally {
-            MDC.clear();
+        String authenticatedUsername = RequestContext.currentUsername();
+
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to update profile of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only update your own profile");
+        }
+
+        Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
+        if (trainerOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainer not found");
         }
+
+        Trainer trainer = trainerOpt.get();
+        trainer.setFirstName(updateRequest.getFirstName());
+        trainer.setLastName(updateRequest.getLastName());
+        trainer.setIsActive(updateRequest.getIsActive());
+
+        // using dummy auth since user is already authenticated via JWT and service needs refactoring
+        Trainer updated = trainerService.updateTrainer(authenticatedUsername, "JWT_AUTH", trainer);
+
+        List<TraineeSummary> trainees = assignmentDao.findByTrainerId(updated.getId()).stream()
+                .map(assignment -> traineeService.findTraineeById(assignment.getTraineeId()))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .map(trainee -> new TraineeSummary(
+                        trainee.getUsername(),
+                        trainee.getFirstName(),
+                        trainee.getLastName()
+                ))
+                .collect(Collectors.toList());
+
+        TrainerProfileResponse response = new TrainerProfileResponse(
+                updated.getUsername(),
+                updated.getFirstName(),
+                updated.getLastName(),
+                updated.getSpecializationName(),
+                updated.getIsActive(),
+                trainees
+        );
+
+        logger.info("Profile updated successfully for trainer: {}", username);
+        return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/profile/{username}/activate")
@@ -236,40 +226,31 @@ public class TrainerController {
     })
     public ResponseEntity<Void> changeActiveStatus(
             @PathVariable String username,
-            @RequestParam boolean isActive,
-            HttpServletRequest request) {
-
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
+            @RequestParam boolean isActive) {
 
         logger.info("Changing active status for trainer: {} to: {}", username, isActive);
 
-        try {
-            String authenticatedUsername = (String) request.getAttribute("authenticatedUsername");
-
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to change status of {}",
-                        authenticatedUsername, username);
-                throw new UnauthorizedAccessException("You can only modify your own profile");
-            }
-
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
-            if (trainerOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainer not found");
-            }
+        String authenticatedUsername = RequestContext.currentUsername();
 
-            boolean result;
-            if (isActive) {
-                result = trainerService.activateTrainer(authenticatedUsername, "JWT_AUTH", trainerOpt.get().getId());
-            } else {
-                result = trainerService.deactivateTrainer(authenticatedUsername, "JWT_AUTH", trainerOpt.get().getId());
-            }
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to change status of {}",
+                    authenticatedUsername, username);
+            throw new UnauthorizedAccessException("You can only modify your own profile");
+        }
 
-            logger.info("Active status changed to {} for trainer: {}", isActive, username);
-            return ResponseEntity.ok().build();
+        Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
+        if (trainerOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainer not found");
+        }
 
-        } finally {
-            MDC.clear();
+        boolean result;
+        if (isActive) {
+            result = trainerService.activateTrainer(authenticatedUsername, "JWT_AUTH", trainerOpt.get().getId());
+        } else {
+            result = trainerService.deactivateTrainer(authenticatedUsername, "JWT_AUTH", trainerOpt.get().getId());
         }
+
+        logger.info("Active status changed to {} for trainer: {}", isActive, username);
+        return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.gym.crm.controller;
+
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dto.response.LeaderboardEntry;
+import com.gym.crm.dto.response.TrainerLeaderboardResponse;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.exception.ValidationException;
+import com.gym.crm.leaderboard.TrainerLeaderboard;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/trainers")
+@Tag(name = "Trainer Leaderboard", description = "Top trainers by training minutes this month")
+@SecurityRequirement(name = "Bearer Authentication")
+public class TrainerLeaderboardController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerLeaderboardController.class);
+
+    private final TrainerLeaderboard leaderboard;
+    private final TrainerDao trainerDao;
+    private final int maxResults;
+
+    public TrainerLeaderboardController(TrainerLeaderboard leaderboard,
+                                        TrainerDao trainerDao,
+                                        @Value("${leaderboard.max-results:100}") int maxResults) {
+        this.leaderboard = leaderboard;
+        this.trainerDao = trainerDao;
+        this.maxResults = maxResults;
+    }
+
+    @GetMapping("/leaderboard")
+    @Operation(summary = "Get trainer leaderboard",
+            description = "Trainers with the most training minutes dated in the current month, served from memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TrainerLeaderboardResponse> getLeaderboard(
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > maxResults) {
+            throw new ValidationException("Limit must be between 1 and " + maxResults);
+        }
+
+        List<TrainerLeaderboard.Standing> standings = leaderboard.top(limit);
+        // one lookup for the names of the listed trainers only
+        Map<Long, Trainer> trainers = trainerDao.findByIds(
+                        standings.stream().map(TrainerLeaderboard.Standing::trainerId).toList()).stream()
+                .collect(Collectors.toMap(Trainer::getId, Function.identity()));
+
+        List<LeaderboardEntry> entries = standings.stream()
+                .map(standing -> {
+                    Trainer trainer = trainers.get(standing.trainerId());
+                    return trainer == null ? null : new LeaderboardEntry(standing.rank(), trainer.getUsername(),
+                            trainer.getFirstName(), trainer.getLastName(), trainer.getSpecializationName(),
+                            standing.minutes());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        logger.debug("Leaderboard for {} with {} trainers", leaderboard.getMonth(), entries.size());
+        return ResponseEntity.ok(new TrainerLeaderboardResponse(leaderboard.getMonth(), entries));
+    }
+}
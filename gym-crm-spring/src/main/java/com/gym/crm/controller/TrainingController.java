@@ -1,7 +1,10 @@
 package com.gym.crm.controller;
 
-import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.dto.request.AddTrainingRequest;
+import com.gym.crm.dto.request.BatchTrainingRequest;
+import com.gym.crm.dto.response.BatchTrainingResponse;
+import com.gym.crm.dto.response.TrainingCalendarResponse;
 import com.gym.crm.dto.response.TrainingResponse;
 import com.gym.crm.dto.response.TrainingTypeResponse;
 import com.gym.crm.entity.Training;
@@ -9,7 +12,10 @@ import com.gym.crm.entity.TrainingType;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.exception.UserNotFoundException;
+import com.gym.crm.exception.ValidationException;
+import com.gym.crm.fields.FieldSelection;
 import com.gym.crm.service.TrainingService;
+import com.gym.crm.service.TrainingTypeService;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.service.TrainerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,17 +23,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.gym.crm.service.impl.CustomMetricsService;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,15 +49,15 @@ public class TrainingController {
     private final TrainingService trainingService;
     private final TraineeService traineeService;
     private final TrainerService trainerService;
-    private final TrainingTypeDao trainingTypeDao;
+    private final TrainingTypeService trainingTypeService;
     private final CustomMetricsService metricsService;
 
     public TrainingController(TrainingService trainingService, TraineeService traineeService,
-                              TrainingTypeDao trainingTypeDao, TrainerService trainerService,
+                              TrainingTypeService trainingTypeService, TrainerService trainerService,
                               CustomMetricsService metricsService) {
         this.trainingService = trainingService;
         this.trainerService = trainerService;
-        this.trainingTypeDao = trainingTypeDao;
+        this.trainingTypeService = trainingTypeService;
         this.traineeService = traineeService;
         this.metricsService = metricsService;
     }
@@ -61,61 +68,86 @@ public class TrainingController {
             @ApiResponse(responseCode = "200", description = "Training added successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
             @ApiResponse(responseCode = "404", description = "Trainee or trainer not found"),
+            @ApiResponse(responseCode = "409", description = "Trainer is already booked at that time"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Void> addTraining(
-            @Valid @RequestBody AddTrainingRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody AddTrainingRequest request) {
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
-        String authenticatedUsername = (String) httpRequest.getAttribute("authenticatedUsername");
-        String authenticatedRole = (String) httpRequest.getAttribute("authenticatedRole");
+        String authenticatedUsername = RequestContext.currentUsername();
 
         logger.info("Adding training: {} for trainee: {} and trainer: {} by user: {}",
                 request.getTrainingName(), request.getTraineeUsername(),
                 request.getTrainerUsername(), authenticatedUsername);
 
-        try {
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(request.getTraineeUsername());
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(request.getTrainerUsername());
-
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found: " + request.getTraineeUsername());
-            }
-            if (trainerOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainer not found: " + request.getTrainerUsername());
-            }
-
-            Trainee trainee = traineeOpt.get();
-            Trainer trainer = trainerOpt.get();
-
-            if (!authenticatedUsername.equals(request.getTraineeUsername()) &&
-                    !authenticatedUsername.equals(request.getTrainerUsername())) {
-                logger.warn("Access denied: {} attempted to create training for trainee {} and trainer {}",
-                        authenticatedUsername, request.getTraineeUsername(), request.getTrainerUsername());
-                throw new UserNotFoundException("You can only create trainings where you are involved");
-            }
-
-            Training training = new Training(
-                    trainee.getId(),
-                    trainer.getId(),
-                    request.getTrainingName(),
-                    trainer.getSpecialization(),
-                    request.getTrainingDate(),
-                    request.getTrainingDuration()
-            );
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(request.getTraineeUsername());
+        Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(request.getTrainerUsername());
+
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found: " + request.getTraineeUsername());
+        }
+        if (trainerOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainer not found: " + request.getTrainerUsername());
+        }
+
+        Trainee trainee = traineeOpt.get();
+        Trainer trainer = trainerOpt.get();
+
+        if (!authenticatedUsername.equals(request.getTraineeUsername()) &&
+                !authenticatedUsername.equals(request.getTrainerUsername())) {
+            logger.warn("Access denied: {} attempted to create training for trainee {} and trainer {}",
+                    authenticatedUsername, request.getTraineeUsername(), request.getTrainerUsername());
+            throw new UserNotFoundException("You can only create trainings where you are involved");
+        }
+
+        Training training = new Training(
+                trainee.getId(),
+                trainer.getId(),
+                request.getTrainingName(),
+                trainer.getSpecialization(),
+                request.getTrainingDate(),
+                request.getTrainingDuration()
+        );
+        training.setTrainingStartTime(request.getTrainingStartTime());
+
+        trainingService.createTraining(authenticatedUsername, training);
+        metricsService.incrementTrainingCreated();
+
+        logger.info("Training added successfully: {}", request.getTrainingName());
+        return ResponseEntity.ok().build();
+    }
 
-            trainingService.createTraining(authenticatedUsername, training);
-            metricsService.incrementTrainingCreated();
+    @PostMapping("/trainings/batch")
+    @Operation(summary = "Add trainings in batch",
+            description = "Create up to " + BatchTrainingRequest.MAX_ITEMS + " training sessions in one transaction. "
+                    + "ALL_OR_NOTHING saves nothing if any item is invalid; PARTIAL saves the valid items.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All trainings added"),
+            @ApiResponse(responseCode = "207", description = "Some trainings added, see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Invalid batch or no training added"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<BatchTrainingResponse> addTrainings(@Valid @RequestBody BatchTrainingRequest request) {
 
-            logger.info("Training added successfully: {}", request.getTrainingName());
-            return ResponseEntity.ok().build();
+        String authenticatedUsername = RequestContext.currentUsername();
 
-        } finally {
-            MDC.clear();
+        logger.info("Adding batch of {} trainings ({}) by user: {}",
+                request.getTrainings().size(), request.getMode(), authenticatedUsername);
+
+        BatchTrainingResponse response = trainingService.createTrainings(authenticatedUsername, request);
+        metricsService.incrementTrainingsCreated(response.getCreated());
+
+        HttpStatus status;
+        if (response.getFailed() == 0) {
+            status = HttpStatus.OK;
+        } else if (response.getCreated() > 0) {
+            status = HttpStatus.MULTI_STATUS;
+        } else {
+            status = HttpStatus.BAD_REQUEST;
         }
+
+        logger.info("Batch finished: {} created, {} failed", response.getCreated(), response.getFailed());
+        return ResponseEntity.status(status).body(response);
     }
 
     @GetMapping("/trainees/{username}/trainings")
@@ -131,72 +163,68 @@ public class TrainingController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodTo,
             @RequestParam(required = false) String trainerName,
             @RequestParam(required = false) String trainingType,
-            HttpServletRequest httpRequest) {
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
-        String authenticatedUsername = (String) httpRequest.getAttribute("authenticatedUsername");
-        String authenticatedRole = (String) httpRequest.getAttribute("authenticatedRole");
+        String authenticatedUsername = RequestContext.currentUsername();
 
         logger.info("Getting trainings for trainee: {} by user: {}", username, authenticatedUsername);
 
-        try {
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to view trainings for {}",
-                        authenticatedUsername, username);
-                throw new UserNotFoundException("You can only view your own trainings");
-            }
-
-            Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
-            if (traineeOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainee not found");
-            }
-
-            Trainee trainee = traineeOpt.get();
-
-            List<Training> trainings;
-            if (periodFrom != null && periodTo != null) {
-                trainings = trainingService.findTraineeTrainingsByDateRange(
-                        username, trainee.getId(), periodFrom, periodTo
-                );
-            } else {
-                trainings = trainingService.findTrainingsByTraineeId(
-                        username, trainee.getId()
-                );
-            }
-
-            if (trainerName != null && !trainerName.isEmpty()) {
-                trainings = filterByTrainerName(trainings, trainerName);
-            }
-
-            if (trainingType != null && !trainingType.isEmpty()) {
-                trainings = trainings.stream()
-                        .filter(t -> t.getTrainingTypeName().equalsIgnoreCase(trainingType))
-                        .collect(Collectors.toList());
-            }
-
-            List<TrainingResponse> response = trainings.stream()
-                    .map(t -> {
-                        Optional<Trainer> trainer = trainerService.findTrainerById(t.getTrainerId());
-                        String trainerFullName = trainer.map(tr -> tr.getFirstName() + " " + tr.getLastName())
-                                .orElse("Unknown");
-                        return new TrainingResponse(
-                                t.getTrainingName(),
-                                t.getTrainingDate(),
-                                t.getTrainingTypeName(),
-                                t.getTrainingDuration(),
-                                trainerFullName
-                        );
-                    })
-                    .collect(Collectors.toList());
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view trainings for {}",
+                    authenticatedUsername, username);
+            throw new UserNotFoundException("You can only view your own trainings");
+        }
 
-            logger.info("Retrieved {} trainings for trainee: {}", response.size(), username);
-            return ResponseEntity.ok(response);
+        FieldSelection selection = FieldSelection.parse(fields, TrainingResponse.class);
+        boolean withNames = selection.includes("trainerName");
 
-        } finally {
-            MDC.clear();
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainee not found");
         }
+
+        Trainee trainee = traineeOpt.get();
+
+        List<Training> trainings;
+        if (periodFrom != null && periodTo != null) {
+            trainings = trainingService.findTraineeTrainingsByDateRange(
+                    username, trainee.getId(), periodFrom, periodTo
+            );
+        } else {
+            trainings = trainingService.findTrainingsByTraineeId(
+                    username, trainee.getId()
+            );
+        }
+
+        if (trainerName != null && !trainerName.isEmpty()) {
+            trainings = filterByTrainerName(trainings, trainerName);
+        }
+
+        if (trainingType != null && !trainingType.isEmpty()) {
+            trainings = trainings.stream()
+                    .filter(t -> t.getTrainingTypeName().equalsIgnoreCase(trainingType))
+                    .collect(Collectors.toList());
+        }
+
+        List<TrainingResponse> response = trainings.stream()
+                .map(t -> {
+                    String trainerFullName = !withNames ? null : trainerService.findTrainerById(t.getTrainerId())
+                            .map(tr -> tr.getFirstName() + " " + tr.getLastName())
+                            .orElse("Unknown");
+                    TrainingResponse trainingResponse = new TrainingResponse(
+                            t.getTrainingName(),
+                            t.getTrainingDate(),
+                            t.getTrainingTypeName(),
+                            t.getTrainingDuration(),
+                            trainerFullName
+                    );
+                    trainingResponse.setTrainingStartTime(t.getTrainingStartTime());
+                    return trainingResponse;
+                })
+                .collect(Collectors.toList());
+
+        logger.info("Retrieved {} trainings for trainee: {}", response.size(), username);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/trainers/{username}/trainings")
@@ -211,65 +239,130 @@ public class TrainingController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodTo,
             @RequestParam(required = false) String traineeName,
-            HttpServletRequest httpRequest) {
+            @RequestParam(name = FieldSelection.PARAM, required = false) String fields) {
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-
-        String authenticatedUsername = (String) httpRequest.getAttribute("authenticatedUsername");
-        String authenticatedRole = (String) httpRequest.getAttribute("authenticatedRole");
+        String authenticatedUsername = RequestContext.currentUsername();
 
         logger.info("Getting trainings for trainer: {} by user: {}", username, authenticatedUsername);
 
-        try {
-            if (!username.equals(authenticatedUsername)) {
-                logger.warn("Access denied: {} attempted to view trainings for {}",
-                        authenticatedUsername, username);
-                throw new UserNotFoundException("You can only view your own trainings");
-            }
-
-            Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
-            if (trainerOpt.isEmpty()) {
-                throw new UserNotFoundException("Trainer not found");
-            }
-
-            Trainer trainer = trainerOpt.get();
-
-            List<Training> trainings;
-            if (periodFrom != null && periodTo != null) {
-                trainings = trainingService.findTrainerTrainingsByDateRange(
-                        username, trainer.getId(), periodFrom, periodTo
-                );
-            } else {
-                trainings = trainingService.findTrainingsByTrainerId(
-                        username, trainer.getId()
-                );
-            }
-
-            if (traineeName != null && !traineeName.isEmpty()) {
-                trainings = filterByTraineeName(trainings, traineeName);
-            }
-
-            List<TrainingResponse> response = trainings.stream()
-                    .map(t -> {
-                        Optional<Trainee> trainee = traineeService.findTraineeById(t.getTraineeId());
-                        String traineeFullName = trainee.map(tr -> tr.getFirstName() + " " + tr.getLastName())
-                                .orElse("Unknown");
-                        return new TrainingResponse(
-                                t.getTrainingName(),
-                                t.getTrainingDate(),
-                                t.getTrainingTypeName(),
-                                t.getTrainingDuration(),
-                                traineeFullName
-                        );
-                    })
-                    .collect(Collectors.toList());
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view trainings for {}",
+                    authenticatedUsername, username);
+            throw new UserNotFoundException("You can only view your own trainings");
+        }
+
+        FieldSelection selection = FieldSelection.parse(fields, TrainingResponse.class);
+        boolean withNames = selection.includes("trainerName");
+
+        Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
+        if (trainerOpt.isEmpty()) {
+            throw new UserNotFoundException("Trainer not found");
+        }
 
-            logger.info("Retrieved {} trainings for trainer: {}", response.size(), username);
-            return ResponseEntity.ok(response);
+        Trainer trainer = trainerOpt.get();
 
-        } finally {
-            MDC.clear();
+        List<Training> trainings;
+        if (periodFrom != null && periodTo != null) {
+            trainings = trainingService.findTrainerTrainingsByDateRange(
+                    username, trainer.getId(), periodFrom, periodTo
+            );
+        } else {
+            trainings = trainingService.findTrainingsByTrainerId(
+                    username, trainer.getId()
+            );
+        }
+
+        if (traineeName != null && !traineeName.isEmpty()) {
+            trainings = filterByTraineeName(trainings, traineeName);
+        }
+
+        List<TrainingResponse> response = trainings.stream()
+                .map(t -> {
+                    String traineeFullName = !withNames ? null : traineeService.findTraineeById(t.getTraineeId())
+                            .map(tr -> tr.getFirstName() + " " + tr.getLastName())
+                            .orElse("Unknown");
+                    TrainingResponse trainingResponse = new TrainingResponse(
+                            t.getTrainingName(),
+                            t.getTrainingDate(),
+                            t.getTrainingTypeName(),
+                            t.getTrainingDuration(),
+                            traineeFullName
+                    );
+                    trainingResponse.setTrainingStartTime(t.getTrainingStartTime());
+                    return trainingResponse;
+                })
+                .collect(Collectors.toList());
+
+        logger.info("Retrieved {} trainings for trainer: {}", response.size(), username);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/trainees/{username}/calendar")
+    @Operation(summary = "Get trainee calendar", description = "Per-day training counts and minutes for one month (YYYY-MM, default current)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid month"),
+            @ApiResponse(responseCode = "404", description = "Trainee not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TrainingCalendarResponse> getTraineeCalendar(
+            @PathVariable String username,
+            @RequestParam(required = false) String month) {
+
+        String authenticatedUsername = RequestContext.currentUsername();
+
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view calendar of {}", authenticatedUsername, username);
+            throw new UserNotFoundException("You can only view your own trainings");
+        }
+
+        YearMonth yearMonth = parseMonth(month);
+        Trainee trainee = traineeService.findTraineeByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("Trainee not found"));
+
+        TrainingCalendarResponse response = trainingService.getTraineeCalendar(username, trainee.getId(), yearMonth);
+
+        logger.info("Retrieved {} calendar of trainee: {} ({} trainings)", yearMonth, username, response.getTrainingCount());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/trainers/{username}/calendar")
+    @Operation(summary = "Get trainer calendar", description = "Per-day training counts and minutes for one month (YYYY-MM, default current)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid month"),
+            @ApiResponse(responseCode = "404", description = "Trainer not found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TrainingCalendarResponse> getTrainerCalendar(
+            @PathVariable String username,
+            @RequestParam(required = false) String month) {
+
+        String authenticatedUsername = RequestContext.currentUsername();
+
+        if (!username.equals(authenticatedUsername)) {
+            logger.warn("Access denied: {} attempted to view calendar of {}", authenticatedUsername, username);
+            throw new UserNotFoundException("You can only view your own trainings");
+        }
+
+        YearMonth yearMonth = parseMonth(month);
+        Trainer trainer = trainerService.findTrainerByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("Trainer not found"));
+
+        TrainingCalendarResponse response = trainingService.getTrainerCalendar(username, trainer.getId(), yearMonth);
+
+        logger.info("Retrieved {} calendar of trainer: {} ({} trainings)", yearMonth, username, response.getTrainingCount());
+        return ResponseEntity.ok(response);
+    }
+
+    private static YearMonth parseMonth(String month) {
+        if (month == null || month.isBlank()) {
+            return YearMonth.now();
+        }
+        try {
+            return YearMonth.parse(month.trim());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Month must be formatted as YYYY-MM");
         }
     }
 
@@ -281,7 +374,7 @@ public class TrainingController {
     public ResponseEntity<List<TrainingTypeResponse>> getTrainingTypes() {
         logger.info("Getting all training types");
 
-        List<TrainingType> types = trainingTypeDao.findAll();
+        List<TrainingType> types = trainingTypeService.findAllTrainingTypes();
 
         List<TrainingTypeResponse> response = types.stream()
                 .map(t -> new TrainingTypeResponse(t.getId(), t.getTrainingTypeName()))
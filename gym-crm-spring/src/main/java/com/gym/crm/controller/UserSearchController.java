@@ -0,0 +1,83 @@
+package com.gym.crm.controller;
+
+import com.gym.crm.dto.response.UserSearchResult;
+import com.gym.crm.exception.ValidationException;
+import com.gym.crm.search.UserSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/users")
+@Tag(name = "User Search", description = "Name search over trainees and trainers")
+@SecurityRequirement(name = "Bearer Authentication")
+public class UserSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchController.class);
+
+    private final UserSearchIndex searchIndex;
+    private final int maxResults;
+
+    public UserSearchController(UserSearchIndex searchIndex,
+                                @Value("${search.max-results:50}") int maxResults) {
+        this.searchIndex = searchIndex;
+        this.maxResults = maxResults;
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search users by name",
+            description = "Prefix and typo-tolerant search over first name, last name and username, best matches first. "
+                    + "Operator only")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching users"),
+            @ApiResponse(responseCode = "400", description = "Missing query, unknown role or invalid limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an operator")
+    })
+    public ResponseEntity<List<UserSearchResult>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (q == null || q.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        if (limit < 1 || limit > maxResults) {
+            throw new ValidationException("Limit must be between 1 and " + maxResults);
+        }
+
+        long startedAt = System.nanoTime();
+        List<UserSearchResult> results = searchIndex.search(q, parseRole(role), limit).stream()
+                .map(hit -> new UserSearchResult(hit.username(), hit.firstName(), hit.lastName(),
+                        hit.role().name().toLowerCase(Locale.ROOT), hit.active(), hit.score()))
+                .toList();
+
+        logger.debug("User search '{}' returned {} results in {} us",
+                q, results.size(), (System.nanoTime() - startedAt) / 1_000);
+        return ResponseEntity.ok(results);
+    }
+
+    private static UserSearchIndex.Role parseRole(String role) {
+        if (role == null || role.isBlank()) {
+            return null;
+        }
+        try {
+            return UserSearchIndex.Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Role must be trainee or trainer");
+        }
+    }
+}
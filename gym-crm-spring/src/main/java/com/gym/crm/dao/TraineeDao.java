@@ -2,6 +2,7 @@ package com.gym.crm.dao;
 
 import com.gym.crm.entity.Trainee;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,23 @@ public interface TraineeDao {
      */
     Optional<Trainee> findByUsername(String username);
 
+    /**
+     * Finds the trainees with the given usernames in a single query.
+     * Unknown usernames are skipped, so the result may be shorter than the input.
+     *
+     * @param usernames Trainee usernames
+     * @return List of the trainees found, empty if none match
+     */
+    List<Trainee> findByUsernames(Collection<String> usernames);
+
+    /**
+     * Finds the trainees with the given userIds in a single query.
+     *
+     * @param userIds Trainee userIds
+     * @return List of the trainees found, empty if none match
+     */
+    List<Trainee> findByIds(Collection<Long> userIds);
+
     /**
      * Finds all active trainees.
      *
@@ -1,6 +1,7 @@
 package com.gym.crm.dao;
 
 import com.gym.crm.entity.TraineeTrainerAssignment;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,11 @@ public interface TraineeTrainerAssignmentDao {
      */
     TraineeTrainerAssignment create(TraineeTrainerAssignment assignment);
 
+    /**
+     * Finds every assignment; used to build in-memory views at startup.
+     */
+    List<TraineeTrainerAssignment> findAll();
+
     /**
      * Finds all assignments for a specific trainee.
      */
@@ -21,6 +27,16 @@ public interface TraineeTrainerAssignmentDao {
      */
     List<TraineeTrainerAssignment> findByTrainerId(Long trainerId);
 
+    /**
+     * Finds all assignments for any of the given trainees in a single query.
+     */
+    List<TraineeTrainerAssignment> findByTraineeIds(Collection<Long> traineeIds);
+
+    /**
+     * Finds all assignments for any of the given trainers in a single query.
+     */
+    List<TraineeTrainerAssignment> findByTrainerIds(Collection<Long> trainerIds);
+
     /**
      * Finds a specific assignment between trainee and trainer.
      */
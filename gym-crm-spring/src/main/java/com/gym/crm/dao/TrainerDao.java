@@ -2,7 +2,9 @@ package com.gym.crm.dao;
 
 import com.gym.crm.entity.Trainer;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TrainerDao {
@@ -51,6 +53,31 @@ public interface TrainerDao {
      */
     Optional<Trainer> findByUsername(String username);
 
+    /**
+     * Finds the trainers with the given usernames in a single query.
+     * Unknown usernames are skipped, so the result may be shorter than the input.
+     *
+     * @param usernames Trainer usernames
+     * @return List of the trainers found, empty if none match
+     */
+    List<Trainer> findByUsernames(Collection<String> usernames);
+
+    /**
+     * Finds the trainers with the given userIds in a single query.
+     *
+     * @param userIds Trainer userIds
+     * @return List of the trainers found, empty if none match
+     */
+    List<Trainer> findByIds(Collection<Long> userIds);
+
+    /**
+     * Finds the active trainers specialized in any of the given training types, without loading them.
+     *
+     * @param trainingTypeIds Training type ids
+     * @return Specialization id per trainer userId, empty if none match
+     */
+    Map<Long, Long> findActiveIdsBySpecializations(Collection<Long> trainingTypeIds);
+
     /**
      * Checks if a trainer exists with the given userId.
      *
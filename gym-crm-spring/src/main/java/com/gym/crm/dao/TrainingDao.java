@@ -1,9 +1,11 @@
 package com.gym.crm.dao;
 
+import com.gym.crm.dto.response.CalendarDay;
 import com.gym.crm.entity.Training;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TrainingDao {
@@ -18,6 +20,15 @@ public interface TrainingDao {
      */
     Training create(Training training);
 
+    /**
+     * Creates several training sessions in one transaction, sending the inserts in JDBC batches.
+     *
+     * @param trainings Trainings to create
+     * @return The same trainings with ids assigned
+     * @throws IllegalArgumentException if the list or any element is null
+     */
+    List<Training> createAll(List<Training> trainings);
+
     /**
      * Finds a training by its id.
      *
@@ -86,6 +97,53 @@ public interface TrainingDao {
      */
     List<Training> findByTrainerIdAndDateRange(Long trainerId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Counts a trainee's trainings and sums their minutes per day within a date range, in one
+     * grouped query that reads the (trainee, date) index instead of the trainings themselves.
+     *
+     * @param traineeId Trainee's userId
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One entry per day with trainings, in date order
+     */
+    List<CalendarDay> sumByTraineeIdPerDay(Long traineeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Counts a trainer's trainings and sums their minutes per day within a date range.
+     *
+     * @param trainerId Trainer's userId
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One entry per day with trainings, in date order
+     */
+    List<CalendarDay> sumByTrainerIdPerDay(Long trainerId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Sums the training minutes of every trainer within a date range in one grouped query.
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return Total minutes keyed by trainer userId; trainers without trainings are absent
+     */
+    Map<Long, Long> sumMinutesPerTrainer(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Counts a trainee's trainings per training type in one grouped query.
+     *
+     * @param traineeId Trainee's userId
+     * @return Number of trainings keyed by training type id; empty if the trainee has none
+     */
+    Map<Long, Long> countByTraineeIdPerType(Long traineeId);
+
+    /**
+     * Finds the training sessions on or after a date that have a start time, i.e. those that
+     * occupy a slot in their trainer's schedule.
+     *
+     * @param fromDate First date (inclusive)
+     * @return List of timed training sessions from that date on
+     */
+    List<Training> findScheduledFrom(LocalDate fromDate);
+
     /**
      * Checks if a training exists with the given id.
      *
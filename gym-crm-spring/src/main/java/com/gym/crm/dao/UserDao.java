@@ -0,0 +1,35 @@
+package com.gym.crm.dao;
+
+import com.gym.crm.entity.User;
+
+import java.util.Optional;
+
+public interface UserDao {
+
+    /**
+     * Finds a user of any role by username.
+     * Resolves the concrete subtype (Trainee or Trainer) with a single query
+     * on the indexed Users.Username column.
+     *
+     * @param username User's username
+     * @return Optional containing the trainee or trainer if found, empty otherwise
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Checks if any user (trainee or trainer) exists with the given username.
+     *
+     * @param username User's username
+     * @return true if a user exists, false otherwise
+     */
+    boolean existsByUsername(String username);
+
+    /**
+     * Updates an existing user of any role.
+     *
+     * @param user User to update (must have valid id)
+     * @return Updated user
+     * @throws IllegalArgumentException if user is null or id is null
+     */
+    User update(User user);
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -155,6 +156,51 @@ public class TraineeDaoImpl implements TraineeDao {
         return activeTrainees;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Trainee> findByUsernames(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cleanUsernames = usernames.stream()
+                .filter(username -> username != null && !username.trim().isEmpty())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (cleanUsernames.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding trainees by {} usernames", cleanUsernames.size());
+
+        TypedQuery<Trainee> query = entityManager.createQuery(
+                "SELECT t FROM Trainee t WHERE t.username IN :usernames", Trainee.class);
+        query.setParameter("usernames", cleanUsernames);
+
+        List<Trainee> trainees = query.getResultList();
+        logger.debug("Found {} of {} requested trainees", trainees.size(), cleanUsernames.size());
+        return trainees;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Trainee> findByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding trainees by {} ids", userIds.size());
+
+        TypedQuery<Trainee> query = entityManager.createQuery(
+                "SELECT t FROM Trainee t WHERE t.id IN :ids", Trainee.class);
+        query.setParameter("ids", userIds);
+
+        List<Trainee> trainees = query.getResultList();
+        logger.debug("Found {} trainees", trainees.size());
+        return trainees;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long userId) {
@@ -2,8 +2,10 @@ package com.gym.crm.dao.impl;
 
 import com.gym.crm.dao.TraineeTrainerAssignmentDao;
 import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.events.ScheduleEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +15,7 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,12 @@ public class TraineeTrainerAssignmentDaoImpl implements TraineeTrainerAssignment
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TraineeTrainerAssignmentDaoImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public TraineeTrainerAssignment create(TraineeTrainerAssignment assignment) {
         if (assignment == null) {
@@ -49,6 +58,18 @@ public class TraineeTrainerAssignmentDaoImpl implements TraineeTrainerAssignment
         return assignment;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TraineeTrainerAssignment> findAll() {
+        logger.debug("Finding all assignments");
+
+        List<TraineeTrainerAssignment> assignments = entityManager.createQuery(
+                "SELECT a FROM TraineeTrainerAssignment a", TraineeTrainerAssignment.class).getResultList();
+
+        logger.debug("Found {} assignments", assignments.size());
+        return assignments;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TraineeTrainerAssignment> findByTraineeId(Long traineeId) {
@@ -89,6 +110,46 @@ public class TraineeTrainerAssignmentDaoImpl implements TraineeTrainerAssignment
         return assignments;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TraineeTrainerAssignment> findByTraineeIds(Collection<Long> traineeIds) {
+        if (traineeIds == null || traineeIds.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding assignments for {} trainees", traineeIds.size());
+
+        TypedQuery<TraineeTrainerAssignment> query = entityManager.createQuery(
+                "SELECT a FROM TraineeTrainerAssignment a WHERE a.traineeId IN :traineeIds",
+                TraineeTrainerAssignment.class);
+        query.setParameter("traineeIds", traineeIds);
+
+        List<TraineeTrainerAssignment> assignments = query.getResultList();
+        logger.debug("Found {} assignments for {} trainees", assignments.size(), traineeIds.size());
+
+        return assignments;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TraineeTrainerAssignment> findByTrainerIds(Collection<Long> trainerIds) {
+        if (trainerIds == null || trainerIds.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding assignments for {} trainers", trainerIds.size());
+
+        TypedQuery<TraineeTrainerAssignment> query = entityManager.createQuery(
+                "SELECT a FROM TraineeTrainerAssignment a WHERE a.trainerId IN :trainerIds",
+                TraineeTrainerAssignment.class);
+        query.setParameter("trainerIds", trainerIds);
+
+        List<TraineeTrainerAssignment> assignments = query.getResultList();
+        logger.debug("Found {} assignments for {} trainers", assignments.size(), trainerIds.size());
+
+        return assignments;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<TraineeTrainerAssignment> findByTraineeIdAndTrainerId(Long traineeId, Long trainerId) {
@@ -200,6 +261,10 @@ public class TraineeTrainerAssignmentDaoImpl implements TraineeTrainerAssignment
 
         logger.info("Replacing trainer assignments for trainee: {}", traineeId);
 
+        List<Long> previousTrainerIds = findByTraineeId(traineeId).stream()
+                .map(TraineeTrainerAssignment::getTrainerId)
+                .toList();
+
         // Delete existing assignments
         int deletedCount = deleteByTraineeId(traineeId);
         logger.debug("Deleted {} existing assignments for trainee: {}", deletedCount, traineeId);
@@ -217,6 +282,9 @@ public class TraineeTrainerAssignmentDaoImpl implements TraineeTrainerAssignment
         }
 
         logger.info("Created {} new assignments for trainee: {}", newAssignments.size(), traineeId);
+        // delivered by the listener once this transaction commits
+        eventPublisher.publishEvent(ScheduleEvent.assignmentsChanged(traineeId, previousTrainerIds,
+                newAssignments.stream().map(TraineeTrainerAssignment::getTrainerId).toList()));
         return newAssignments;
     }
 
@@ -11,7 +11,10 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -119,6 +122,73 @@ public class TrainerDaoImpl implements TrainerDao {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Trainer> findByUsernames(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> cleanUsernames = usernames.stream()
+                .filter(username -> username != null && !username.trim().isEmpty())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (cleanUsernames.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding trainers by {} usernames", cleanUsernames.size());
+
+        TypedQuery<Trainer> query = entityManager.createQuery(
+                "SELECT t FROM Trainer t LEFT JOIN FETCH t.specialization WHERE t.username IN :usernames", Trainer.class);
+        query.setParameter("usernames", cleanUsernames);
+
+        List<Trainer> trainers = query.getResultList();
+        logger.debug("Found {} of {} requested trainers", trainers.size(), cleanUsernames.size());
+        return trainers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Trainer> findByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        logger.debug("Finding trainers by {} ids", userIds.size());
+
+        TypedQuery<Trainer> query = entityManager.createQuery(
+                "SELECT t FROM Trainer t LEFT JOIN FETCH t.specialization WHERE t.id IN :ids", Trainer.class);
+        query.setParameter("ids", userIds);
+
+        List<Trainer> trainers = query.getResultList();
+        logger.debug("Found {} trainers", trainers.size());
+        return trainers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findActiveIdsBySpecializations(Collection<Long> trainingTypeIds) {
+        if (trainingTypeIds == null || trainingTypeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT t.id, t.specialization.id FROM Trainer t " +
+                                "WHERE t.isActive = true AND t.specialization.id IN :typeIds",
+                        Object[].class)
+                .setParameter("typeIds", trainingTypeIds)
+                .getResultList();
+
+        Map<Long, Long> specializations = new HashMap<>();
+        for (Object[] row : rows) {
+            specializations.put((Long) row[0], (Long) row[1]);
+        }
+        logger.debug("Found {} active trainers in {} specializations", specializations.size(), trainingTypeIds.size());
+        return specializations;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long userId) {
@@ -1,9 +1,13 @@
 package com.gym.crm.dao.impl;
 
 import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.response.CalendarDay;
 import com.gym.crm.entity.Training;
+import com.gym.crm.events.TrainerMinutesChanged;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,7 +15,11 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
@@ -20,9 +28,18 @@ public class TrainingDaoImpl implements TrainingDao {
 
     private static final Logger logger = LoggerFactory.getLogger(TrainingDaoImpl.class);
 
+    /** Rows per JDBC batch in {@link #createAll(List)}; matches the training_seq allocation size. */
+    static final int JDBC_BATCH_SIZE = 50;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TrainingDaoImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public Training create(Training training) {
         if (training == null) {
@@ -38,9 +55,36 @@ public class TrainingDaoImpl implements TrainingDao {
                 training.getTrainingName(), training.getId(),
                 training.getTraineeId(), training.getTrainerId());
 
+        publishMinutes(training);
         return training;
     }
 
+    @Override
+    public List<Training> createAll(List<Training> trainings) {
+        if (trainings == null || trainings.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Trainings cannot be null");
+        }
+        if (trainings.isEmpty()) {
+            return trainings;
+        }
+
+        logger.debug("Creating {} trainings in JDBC batches of {}", trainings.size(), JDBC_BATCH_SIZE);
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+        try {
+            trainings.forEach(entityManager::persist);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+
+        logger.info("Successfully created {} trainings", trainings.size());
+        trainings.forEach(this::publishMinutes);
+        return trainings;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Training> findById(Long id) {
@@ -223,6 +267,108 @@ public class TrainingDaoImpl implements TrainingDao {
         return trainings;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarDay> sumByTraineeIdPerDay(Long traineeId, LocalDate startDate, LocalDate endDate) {
+        return sumPerDay("traineeId", traineeId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarDay> sumByTrainerIdPerDay(Long trainerId, LocalDate startDate, LocalDate endDate) {
+        return sumPerDay("trainerId", trainerId, startDate, endDate);
+    }
+
+    private List<CalendarDay> sumPerDay(String userAttribute, Long userId, LocalDate startDate, LocalDate endDate) {
+        if (userId == null || startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            logger.debug("SumPerDay called with invalid parameters: {}={}, start={}, end={}",
+                    userAttribute, userId, startDate, endDate);
+            return List.of();
+        }
+
+        List<CalendarDay> days = entityManager.createQuery(
+                        "SELECT new com.gym.crm.dto.response.CalendarDay(t.trainingDate, COUNT(t), SUM(t.trainingDuration)) " +
+                                "FROM Training t WHERE t." + userAttribute + " = :userId " +
+                                "AND t.trainingDate >= :startDate AND t.trainingDate <= :endDate " +
+                                "GROUP BY t.trainingDate ORDER BY t.trainingDate",
+                        CalendarDay.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+
+        logger.debug("Found trainings on {} days for {} {} between {} and {}",
+                days.size(), userAttribute, userId, startDate, endDate);
+        return days;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> sumMinutesPerTrainer(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            logger.debug("SumMinutesPerTrainer called with invalid range: {} to {}", startDate, endDate);
+            return Map.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT t.trainerId, SUM(t.trainingDuration) FROM Training t " +
+                                "WHERE t.trainingDate >= :startDate AND t.trainingDate <= :endDate " +
+                                "GROUP BY t.trainerId",
+                        Object[].class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+
+        Map<Long, Long> minutes = new HashMap<>();
+        for (Object[] row : rows) {
+            minutes.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        logger.debug("Summed training minutes of {} trainers between {} and {}", minutes.size(), startDate, endDate);
+        return minutes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countByTraineeIdPerType(Long traineeId) {
+        if (traineeId == null) {
+            logger.debug("CountByTraineeIdPerType called with null traineeId");
+            return Map.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT t.trainingType.id, COUNT(t) FROM Training t WHERE t.traineeId = :traineeId " +
+                                "GROUP BY t.trainingType.id",
+                        Object[].class)
+                .setParameter("traineeId", traineeId)
+                .getResultList();
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        logger.debug("Found trainings of {} types for trainee {}", counts.size(), traineeId);
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Training> findScheduledFrom(LocalDate fromDate) {
+        if (fromDate == null) {
+            return List.of();
+        }
+
+        logger.debug("Finding timed trainings from {}", fromDate);
+
+        List<Training> trainings = entityManager.createQuery(
+                        "SELECT t FROM Training t WHERE t.trainingDate >= :fromDate AND t.trainingStartTime IS NOT NULL",
+                        Training.class)
+                .setParameter("fromDate", fromDate)
+                .getResultList();
+
+        logger.debug("Found {} timed trainings from {}", trainings.size(), fromDate);
+        return trainings;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long id) {
@@ -241,6 +387,14 @@ public class TrainingDaoImpl implements TrainingDao {
         return exists;
     }
 
+    private void publishMinutes(Training training) {
+        if (training.getTrainerId() != null && training.getTrainingDate() != null
+                && training.getTrainingDuration() != null) {
+            eventPublisher.publishEvent(new TrainerMinutesChanged(
+                    training.getTrainerId(), training.getTrainingDate(), training.getTrainingDuration()));
+        }
+    }
+
     public int deleteByTraineeId(Long traineeId) {
         if (traineeId == null) {
             return 0;
@@ -248,12 +402,24 @@ public class TrainingDaoImpl implements TrainingDao {
 
         logger.debug("Deleting all trainings for trainee: {}", traineeId);
 
+        // what each trainer loses, read before the rows are gone
+        List<Object[]> minutesByTrainerAndDate = entityManager.createQuery(
+                        "SELECT t.trainerId, t.trainingDate, SUM(t.trainingDuration) FROM Training t " +
+                                "WHERE t.traineeId = :traineeId GROUP BY t.trainerId, t.trainingDate",
+                        Object[].class)
+                .setParameter("traineeId", traineeId)
+                .getResultList();
+
         int deletedCount = entityManager.createQuery(
                         "DELETE FROM Training t WHERE t.traineeId = :traineeId")
                 .setParameter("traineeId", traineeId)
                 .executeUpdate();
 
         logger.info("Deleted {} trainings for trainee: {}", deletedCount, traineeId);
+        for (Object[] row : minutesByTrainerAndDate) {
+            eventPublisher.publishEvent(new TrainerMinutesChanged(
+                    (Long) row[0], (LocalDate) row[1], -((Number) row[2]).longValue()));
+        }
 
         return deletedCount;
     }
@@ -0,0 +1,93 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.dao.UserDao;
+import com.gym.crm.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional
+public class UserDaoImpl implements UserDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDaoImpl.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            logger.debug("FindByUsername called with invalid username: {}", username);
+            return Optional.empty();
+        }
+
+        String cleanUsername = username.trim();
+        logger.debug("Finding user by username: {}", cleanUsername);
+
+        // Polymorphic query: Hibernate outer-joins Trainee and Trainer in one statement
+        // and instantiates the matching subtype
+        TypedQuery<User> query = entityManager.createQuery(
+                "SELECT u FROM User u WHERE u.username = :username", User.class);
+        query.setParameter("username", cleanUsername);
+        query.setMaxResults(1);
+
+        List<User> users = query.getResultList();
+        if (users.isEmpty()) {
+            logger.debug("No user found with username: {}", cleanUsername);
+            return Optional.empty();
+        }
+
+        User user = users.get(0);
+        logger.debug("Found {} with username: {}", user.getRole(), cleanUsername);
+        return Optional.of(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByUsername(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            return false;
+        }
+
+        String cleanUsername = username.trim();
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT COUNT(u) FROM User u WHERE u.username = :username", Long.class);
+        query.setParameter("username", cleanUsername);
+
+        Long count = query.getSingleResult();
+        boolean exists = count != null && count > 0;
+
+        logger.debug("User exists check for username '{}': {}", cleanUsername, exists);
+        return exists;
+    }
+
+    @Override
+    public User update(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User cannot be null");
+        }
+
+        if (user.getId() == null) {
+            throw new IllegalArgumentException("User id cannot be null for update");
+        }
+
+        logger.debug("Updating {} with id: {}", user.getRole(), user.getId());
+
+        User updatedUser = entityManager.merge(user);
+
+        logger.info("Successfully updated {}: {} with id: {}",
+                updatedUser.getRole(), updatedUser.getFullName(), updatedUser.getId());
+
+        return updatedUser;
+    }
+}
@@ -0,0 +1,83 @@
+package com.gym.crm.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fills an empty database at startup from data.bulk.file and/or a synthetic population
+ * sized by data.synthetic.*. Both are off by default; nothing is loaded once users exist.
+ */
+@Component
+public class BulkDataInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDataInitializer.class);
+
+    private final BulkDataLoader bulkDataLoader;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final ResourceLoader resourceLoader;
+    private final String bulkFile;
+    private final int syntheticTrainees;
+    private final int syntheticTrainers;
+    private final int syntheticTrainings;
+    private final int syntheticAssignmentsPerTrainee;
+    private final String syntheticPassword;
+    private final long syntheticSeed;
+
+    public BulkDataInitializer(BulkDataLoader bulkDataLoader,
+                               SyntheticDataGenerator syntheticDataGenerator,
+                               ResourceLoader resourceLoader,
+                               @Value("${data.bulk.file:}") String bulkFile,
+                               @Value("${data.synthetic.trainees:0}") int syntheticTrainees,
+                               @Value("${data.synthetic.trainers:0}") int syntheticTrainers,
+                               @Value("${data.synthetic.trainings:0}") int syntheticTrainings,
+                               @Value("${data.synthetic.assignments-per-trainee:2}") int syntheticAssignmentsPerTrainee,
+                               @Value("${data.synthetic.password:Synthetic123}") String syntheticPassword,
+                               @Value("${data.synthetic.seed:42}") long syntheticSeed) {
+        this.bulkDataLoader = bulkDataLoader;
+        this.syntheticDataGenerator = syntheticDataGenerator;
+        this.resourceLoader = resourceLoader;
+        this.bulkFile = bulkFile;
+        this.syntheticTrainees = syntheticTrainees;
+        this.syntheticTrainers = syntheticTrainers;
+        this.syntheticTrainings = syntheticTrainings;
+        this.syntheticAssignmentsPerTrainee = syntheticAssignmentsPerTrainee;
+        this.syntheticPassword = syntheticPassword;
+        this.syntheticSeed = syntheticSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        boolean synthetic = syntheticTrainees > 0 || syntheticTrainers > 0;
+        if (bulkFile.isBlank() && !synthetic) {
+            return;
+        }
+        if (!bulkDataLoader.hasNoUsers()) {
+            logger.info("Users already present. Skipping bulk data initialization.");
+            return;
+        }
+
+        if (!bulkFile.isBlank()) {
+            Resource resource = resourceLoader.getResource(bulkFile);
+            logger.info("Loading bulk data from {}", resource.getDescription());
+            try (InputStream in = resource.getInputStream()) {
+                bulkDataLoader.load(in);
+            }
+        }
+
+        if (synthetic) {
+            BulkLoadReport report = syntheticDataGenerator.populate(new SyntheticPopulation(
+                    syntheticTrainees, syntheticTrainers, syntheticTrainings,
+                    syntheticAssignmentsPerTrainee, syntheticPassword, syntheticSeed));
+            logger.info("Synthetic population loaded: {} rows in {} ms", report.totalRows(), report.elapsedMillis());
+        }
+    }
+}
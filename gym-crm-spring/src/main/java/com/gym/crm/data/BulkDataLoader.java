@@ -0,0 +1,466 @@
+package com.gym.crm.data;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads large populations straight into the tables with JDBC batches, bypassing the
+ * persistence context. Input is either a JSON document in the initial-data.json layout,
+ * parsed element by element so file size is not bounded by heap, or rows pushed through
+ * {@link #openSession()} (see {@link SyntheticDataGenerator}).
+ *
+ * Ids come from the Hibernate sequences in blocks of {@value #ID_BLOCK}, the same pooled
+ * allocation Hibernate uses, so the application can keep inserting during and after a load.
+ * Inside a Spring transaction the load joins it; otherwise it commits after every batch.
+ */
+@Component
+public class BulkDataLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDataLoader.class);
+
+    /** Must match the allocationSize of the entity id generators (Hibernate default). */
+    static final int ID_BLOCK = 50;
+
+    private final DataSource dataSource;
+    private final PasswordEncryption passwordEncryption;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public BulkDataLoader(DataSource dataSource,
+                          PasswordEncryption passwordEncryption,
+                          ObjectMapper objectMapper,
+                          @Value("${data.bulk.batch-size:5000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.passwordEncryption = passwordEncryption;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Parses and loads a document with the optional top-level arrays trainingTypes, trainers,
+     * trainees, assignments and trainings. Users carry either "passwordHash" (stored as is) or
+     * "password"; plain passwords are hashed once per distinct value.
+     *
+     * @throws IllegalArgumentException if the document or one of its rows is malformed
+     */
+    public BulkLoadReport load(InputStream json) throws IOException {
+        Map<String, String> hashes = new ConcurrentHashMap<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             BulkDataSink sink = openSession()) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Bulk data must be a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int row = 0;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    JsonNode node = parser.readValueAsTree();
+                    try {
+                        addRow(sink, section, node, hashes);
+                    } catch (RuntimeException e) {
+                        throw new IllegalArgumentException(
+                                "Invalid " + section + "[" + row + "]: " + e.getMessage(), e);
+                    }
+                    row++;
+                }
+            }
+
+            BulkLoadReport report = sink.finish();
+            logger.info("Bulk load finished: {}", report);
+            return report;
+        }
+    }
+
+    /**
+     * True when no user rows exist yet, i.e. a load will not collide with existing usernames.
+     */
+    public boolean hasNoUsers() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select 1 from users fetch first 1 rows only")) {
+            return !rs.next();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot query users", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Opens a sink that writes rows in JDBC batches. Callers must call
+     * {@link BulkDataSink#finish()} and close the sink.
+     */
+    public BulkDataSink openSession() {
+        try {
+            return new JdbcSession(dataSource, batchSize);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot open bulk load session", e);
+        }
+    }
+
+    private void addRow(BulkDataSink sink, String section, JsonNode node, Map<String, String> hashes) {
+        switch (section) {
+            case "trainingTypes" -> sink.addTrainingType(required(node, "trainingTypeName"));
+            case "trainers" -> sink.addTrainer(
+                    required(node, "firstName"), required(node, "lastName"), required(node, "username"),
+                    passwordHash(node, hashes), node.path("isActive").asBoolean(true),
+                    required(node, "specialization"));
+            case "trainees" -> sink.addTrainee(
+                    required(node, "firstName"), required(node, "lastName"), required(node, "username"),
+                    passwordHash(node, hashes), node.path("isActive").asBoolean(true),
+                    node.hasNonNull("dateOfBirth") ? LocalDate.parse(node.get("dateOfBirth").asText()) : null,
+                    node.path("address").asText(null));
+            case "assignments" -> sink.addAssignment(
+                    required(node, "traineeUsername"), required(node, "trainerUsername"),
+                    node.hasNonNull("assignedDate") ? LocalDate.parse(node.get("assignedDate").asText()) : LocalDate.now());
+            case "trainings" -> sink.addTraining(
+                    required(node, "traineeUsername"), required(node, "trainerUsername"),
+                    required(node, "trainingName"), node.path("trainingType").asText(null),
+                    LocalDate.parse(required(node, "trainingDate")), node.path("trainingDuration").asInt(60));
+            default -> logger.warn("Ignoring unknown bulk data section: {}", section);
+        }
+    }
+
+    private String passwordHash(JsonNode node, Map<String, String> hashes) {
+        if (node.hasNonNull("passwordHash")) {
+            return node.get("passwordHash").asText();
+        }
+        return hashes.computeIfAbsent(required(node, "password"), passwordEncryption::encode);
+    }
+
+    private static String required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull() || value.asText().isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value.asText();
+    }
+
+    /**
+     * Buffers rows in one prepared statement per table. All statements are flushed together
+     * in foreign-key order once the buffered row count reaches the batch size.
+     */
+    static final class JdbcSession implements BulkDataSink {
+
+        private final DataSource dataSource;
+        private final Connection connection;
+        private final boolean managed;
+        private final int batchSize;
+
+        private final PreparedStatement trainingTypes;
+        private final PreparedStatement users;
+        private final PreparedStatement trainers;
+        private final PreparedStatement trainees;
+        private final PreparedStatement assignments;
+        private final PreparedStatement trainings;
+        private final List<PreparedStatement> flushOrder;
+
+        private final IdBlock userIds;
+        private final IdBlock typeIds;
+        private final IdBlock assignmentIds;
+        private final IdBlock trainingIds;
+
+        private final Map<String, Long> typeIdsByName = new HashMap<>();
+        private final Map<String, Long> userIdsByUsername = new HashMap<>();
+        private final Map<Long, Long> specializationByTrainerId = new HashMap<>();
+
+        private final long startNanos = System.nanoTime();
+        private int pending;
+        private int typeCount;
+        private int trainerCount;
+        private int traineeCount;
+        private int assignmentCount;
+        private int trainingCount;
+
+        JdbcSession(DataSource dataSource, int batchSize) throws SQLException {
+            this.dataSource = dataSource;
+            this.connection = DataSourceUtils.getConnection(dataSource);
+            this.managed = DataSourceUtils.isConnectionTransactional(connection, dataSource);
+            this.batchSize = batchSize;
+            if (!managed) {
+                connection.setAutoCommit(false);
+            }
+
+            trainingTypes = connection.prepareStatement(
+                    "insert into training_type (id, \"training type name\") values (?, ?)");
+            users = connection.prepareStatement(
+                    "insert into users (id, \"first name\", \"last name\", username, password, is_active) values (?, ?, ?, ?, ?, ?)");
+            trainers = connection.prepareStatement("insert into trainer (id, specialization) values (?, ?)");
+            trainees = connection.prepareStatement(
+                    "insert into trainee (id, \"date of birth\", address) values (?, ?, ?)");
+            assignments = connection.prepareStatement(
+                    "insert into trainee_trainer_assignment (id, trainee_id, trainer_id, assigned_date) values (?, ?, ?, ?)");
+            trainings = connection.prepareStatement(
+                    "insert into training (id, \"trainee id\", \"trainer id\", \"training name\", \"training type id\", "
+                            + "\"training date\", \"training duration\") values (?, ?, ?, ?, ?, ?, ?)");
+            flushOrder = List.of(trainingTypes, users, trainers, trainees, assignments, trainings);
+
+            userIds = new IdBlock(connection, "users_seq");
+            typeIds = new IdBlock(connection, "training_type_seq");
+            assignmentIds = new IdBlock(connection, "trainee_trainer_assignment_seq");
+            trainingIds = new IdBlock(connection, "training_seq");
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("select id, \"training type name\" from training_type")) {
+                while (rs.next()) {
+                    typeIdsByName.put(rs.getString(2), rs.getLong(1));
+                }
+            }
+        }
+
+        @Override
+        public void addTrainingType(String name) {
+            if (typeIdsByName.containsKey(name)) {
+                return;
+            }
+            run(() -> {
+                long id = typeIds.next();
+                trainingTypes.setLong(1, id);
+                trainingTypes.setString(2, name);
+                trainingTypes.addBatch();
+                typeIdsByName.put(name, id);
+                typeCount++;
+            });
+        }
+
+        @Override
+        public void addTrainer(String firstName, String lastName, String username, String passwordHash,
+                               boolean active, String specialization) {
+            Long typeId = typeIdsByName.get(specialization);
+            if (typeId == null) {
+                throw new IllegalArgumentException("Unknown training type: " + specialization);
+            }
+            run(() -> {
+                long id = addUser(firstName, lastName, username, passwordHash, active);
+                trainers.setLong(1, id);
+                trainers.setLong(2, typeId);
+                trainers.addBatch();
+                specializationByTrainerId.put(id, typeId);
+                trainerCount++;
+            });
+        }
+
+        @Override
+        public void addTrainee(String firstName, String lastName, String username, String passwordHash,
+                               boolean active, LocalDate dateOfBirth, String address) {
+            run(() -> {
+                long id = addUser(firstName, lastName, username, passwordHash, active);
+                trainees.setLong(1, id);
+                trainees.setDate(2, dateOfBirth != null ? Date.valueOf(dateOfBirth) : null);
+                trainees.setString(3, address);
+                trainees.addBatch();
+                traineeCount++;
+            });
+        }
+
+        @Override
+        public void addAssignment(String traineeUsername, String trainerUsername, LocalDate assignedDate) {
+            run(() -> {
+                assignments.setLong(1, assignmentIds.next());
+                assignments.setLong(2, userId(traineeUsername));
+                assignments.setLong(3, userId(trainerUsername));
+                assignments.setDate(4, Date.valueOf(assignedDate));
+                assignments.addBatch();
+                assignmentCount++;
+            });
+        }
+
+        @Override
+        public void addTraining(String traineeUsername, String trainerUsername, String trainingName,
+                                String trainingType, LocalDate trainingDate, int trainingDuration) {
+            run(() -> {
+                long trainerId = userId(trainerUsername);
+                Long typeId = trainingType != null ? typeIdsByName.get(trainingType) : specialization(trainerId);
+                if (typeId == null) {
+                    throw new IllegalArgumentException("Unknown training type: " + trainingType);
+                }
+                trainings.setLong(1, trainingIds.next());
+                trainings.setLong(2, userId(traineeUsername));
+                trainings.setLong(3, trainerId);
+                trainings.setString(4, trainingName);
+                trainings.setLong(5, typeId);
+                trainings.setDate(6, Date.valueOf(trainingDate));
+                trainings.setInt(7, trainingDuration);
+                trainings.addBatch();
+                trainingCount++;
+            });
+        }
+
+        @Override
+        public BulkLoadReport finish() {
+            run(this::flush);
+            return new BulkLoadReport(typeCount, trainerCount, traineeCount, assignmentCount, trainingCount,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        @Override
+        public void close() {
+            for (PreparedStatement statement : flushOrder) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    logger.debug("Failed to close bulk statement", e);
+                }
+            }
+            userIds.close();
+            typeIds.close();
+            assignmentIds.close();
+            trainingIds.close();
+            if (!managed) {
+                try {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    logger.debug("Failed to reset bulk connection", e);
+                }
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        private long addUser(String firstName, String lastName, String username, String passwordHash,
+                             boolean active) throws SQLException {
+            if (userIdsByUsername.containsKey(username)) {
+                throw new IllegalArgumentException("Duplicate username: " + username);
+            }
+            long id = userIds.next();
+            users.setLong(1, id);
+            users.setString(2, firstName);
+            users.setString(3, lastName);
+            users.setString(4, username);
+            users.setString(5, passwordHash);
+            users.setBoolean(6, active);
+            users.addBatch();
+            userIdsByUsername.put(username, id);
+            return id;
+        }
+
+        /** Resolves users loaded in this session first, then users that already existed. */
+        private long userId(String username) throws SQLException {
+            Long id = userIdsByUsername.get(username);
+            if (id != null) {
+                return id;
+            }
+            try (PreparedStatement query = connection.prepareStatement("select id from users where username = ?")) {
+                query.setString(1, username);
+                try (ResultSet rs = query.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IllegalArgumentException("Unknown user: " + username);
+                    }
+                    id = rs.getLong(1);
+                }
+            }
+            userIdsByUsername.put(username, id);
+            return id;
+        }
+
+        private Long specialization(long trainerId) throws SQLException {
+            Long typeId = specializationByTrainerId.get(trainerId);
+            if (typeId != null) {
+                return typeId;
+            }
+            try (PreparedStatement query = connection.prepareStatement("select specialization from trainer where id = ?")) {
+                query.setLong(1, trainerId);
+                try (ResultSet rs = query.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IllegalArgumentException("User " + trainerId + " is not a trainer");
+                    }
+                    typeId = rs.getLong(1);
+                }
+            }
+            specializationByTrainerId.put(trainerId, typeId);
+            return typeId;
+        }
+
+        private void run(SqlAction action) {
+            try {
+                action.run();
+                if (++pending >= batchSize) {
+                    flush();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Bulk insert failed: " + e.getMessage(), e);
+            }
+        }
+
+        private void flush() throws SQLException {
+            for (PreparedStatement statement : flushOrder) {
+                statement.executeBatch();
+            }
+            if (!managed) {
+                connection.commit();
+            }
+            pending = 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Hands out ids the way Hibernate's pooled optimizer does: each sequence call
+     * reserves the {@value #ID_BLOCK} ids ending at the returned value.
+     */
+    private static final class IdBlock implements AutoCloseable {
+
+        private final PreparedStatement nextValue;
+        private long next;
+        private long last = -1;
+
+        IdBlock(Connection connection, String sequence) throws SQLException {
+            this.nextValue = connection.prepareStatement("select next value for " + sequence);
+        }
+
+        long next() throws SQLException {
+            if (next > last) {
+                try (ResultSet rs = nextValue.executeQuery()) {
+                    rs.next();
+                    last = rs.getLong(1);
+                }
+                next = Math.max(1, last - ID_BLOCK + 1);
+            }
+            return next++;
+        }
+
+        @Override
+        public void close() {
+            try {
+                nextValue.close();
+            } catch (SQLException e) {
+                logger.debug("Failed to close sequence statement", e);
+            }
+        }
+    }
+}
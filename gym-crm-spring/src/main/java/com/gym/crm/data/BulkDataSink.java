@@ -0,0 +1,35 @@
+package com.gym.crm.data;
+
+import java.time.LocalDate;
+
+/**
+ * Receives a population row by row, in dependency order: training types, trainers,
+ * trainees, assignments, trainings. Users are referenced by username; passwords are
+ * always passed already hashed.
+ */
+public interface BulkDataSink extends AutoCloseable {
+
+    void addTrainingType(String name);
+
+    void addTrainer(String firstName, String lastName, String username, String passwordHash,
+                    boolean active, String specialization);
+
+    void addTrainee(String firstName, String lastName, String username, String passwordHash,
+                    boolean active, LocalDate dateOfBirth, String address);
+
+    void addAssignment(String traineeUsername, String trainerUsername, LocalDate assignedDate);
+
+    /**
+     * @param trainingType type name, or null to use the trainer's specialization
+     */
+    void addTraining(String traineeUsername, String trainerUsername, String trainingName,
+                     String trainingType, LocalDate trainingDate, int trainingDuration);
+
+    /**
+     * Flushes everything still buffered and makes it durable.
+     */
+    BulkLoadReport finish();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,9 @@
+package com.gym.crm.data;
+
+public record BulkLoadReport(int trainingTypes, int trainers, int trainees,
+                             int assignments, int trainings, long elapsedMillis) {
+
+    public long totalRows() {
+        return (long) trainingTypes + trainers + trainees + assignments + trainings;
+    }
+}
@@ -0,0 +1,241 @@
+package com.gym.crm.data;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates deterministic populations of trainers, trainees, assignments and trainings.
+ * Rows go either straight to the database through {@link BulkDataLoader} or to a JSON file
+ * that the loader can read back. All users share the population password, hashed once.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int HISTORY_DAYS = 730;
+
+    private final BulkDataLoader bulkDataLoader;
+    private final TrainingTypeDao trainingTypeDao;
+    private final PasswordEncryption passwordEncryption;
+    private final ObjectMapper objectMapper;
+
+    public SyntheticDataGenerator(BulkDataLoader bulkDataLoader,
+                                  TrainingTypeDao trainingTypeDao,
+                                  PasswordEncryption passwordEncryption,
+                                  ObjectMapper objectMapper) {
+        this.bulkDataLoader = bulkDataLoader;
+        this.trainingTypeDao = trainingTypeDao;
+        this.passwordEncryption = passwordEncryption;
+        this.objectMapper = objectMapper;
+    }
+
+    public BulkLoadReport populate(SyntheticPopulation population) {
+        logger.info("Generating synthetic population: {}", population);
+        try (BulkDataSink sink = bulkDataLoader.openSession()) {
+            generate(population, sink);
+            return sink.finish();
+        }
+    }
+
+    /**
+     * Writes the population in the bulk data file format, so it can be loaded elsewhere
+     * with data.bulk.file.
+     */
+    public void writeJson(SyntheticPopulation population, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             JsonSink sink = new JsonSink(json)) {
+            generate(population, sink);
+            sink.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void generate(SyntheticPopulation population, BulkDataSink sink) {
+        List<String> trainingTypes = trainingTypeDao.findAll().stream()
+                .map(TrainingType::getTrainingTypeName)
+                .toList();
+        if (trainingTypes.isEmpty() && population.trainers() > 0) {
+            throw new IllegalStateException("Training types must exist before generating trainers");
+        }
+
+        SplittableRandom random = new SplittableRandom(population.seed());
+        LocalDate today = LocalDate.now();
+        String passwordHash = passwordEncryption.encode(population.password());
+
+        trainingTypes.forEach(sink::addTrainingType);
+
+        for (int i = 0; i < population.trainers(); i++) {
+            sink.addTrainer("Trainer", "Synthetic", population.trainerUsername(i), passwordHash, true,
+                    trainingTypes.get(random.nextInt(trainingTypes.size())));
+        }
+
+        for (int i = 0; i < population.trainees(); i++) {
+            sink.addTrainee("Trainee", "Synthetic", population.traineeUsername(i), passwordHash, true,
+                    today.minusYears(18 + random.nextInt(40)).minusDays(random.nextInt(365)),
+                    (1 + random.nextInt(999)) + " Synthetic Street");
+        }
+
+        for (int i = 0; i < population.trainees(); i++) {
+            for (int trainer : population.assignedTrainers(i)) {
+                sink.addAssignment(population.traineeUsername(i), population.trainerUsername(trainer),
+                        today.minusDays(random.nextInt(HISTORY_DAYS)));
+            }
+        }
+
+        for (int i = 0; i < population.trainings(); i++) {
+            int trainee = random.nextInt(population.trainees());
+            int[] assigned = population.assignedTrainers(trainee);
+            int trainer = assigned.length > 0 ? assigned[random.nextInt(assigned.length)]
+                    : random.nextInt(population.trainers());
+            sink.addTraining(population.traineeUsername(trainee), population.trainerUsername(trainer),
+                    "Session " + i, null, today.minusDays(random.nextInt(HISTORY_DAYS)),
+                    15 * (2 + random.nextInt(7)));
+        }
+    }
+
+    /**
+     * Streams rows as JSON, opening a new top-level array whenever the section changes.
+     */
+    private static final class JsonSink implements BulkDataSink {
+
+        private final JsonGenerator json;
+        private String section;
+        private int trainingTypes;
+        private int trainers;
+        private int trainees;
+        private int assignments;
+        private int trainings;
+
+        JsonSink(JsonGenerator json) {
+            this.json = json;
+            write(json::writeStartObject);
+        }
+
+        @Override
+        public void addTrainingType(String name) {
+            row("trainingTypes", () -> json.writeStringField("trainingTypeName", name));
+            trainingTypes++;
+        }
+
+        @Override
+        public void addTrainer(String firstName, String lastName, String username, String passwordHash,
+                               boolean active, String specialization) {
+            row("trainers", () -> {
+                user(firstName, lastName, username, passwordHash, active);
+                json.writeStringField("specialization", specialization);
+            });
+            trainers++;
+        }
+
+        @Override
+        public void addTrainee(String firstName, String lastName, String username, String passwordHash,
+                               boolean active, LocalDate dateOfBirth, String address) {
+            row("trainees", () -> {
+                user(firstName, lastName, username, passwordHash, active);
+                if (dateOfBirth != null) {
+                    json.writeStringField("dateOfBirth", dateOfBirth.toString());
+                }
+                if (address != null) {
+                    json.writeStringField("address", address);
+                }
+            });
+            trainees++;
+        }
+
+        @Override
+        public void addAssignment(String traineeUsername, String trainerUsername, LocalDate assignedDate) {
+            row("assignments", () -> {
+                json.writeStringField("traineeUsername", traineeUsername);
+                json.writeStringField("trainerUsername", trainerUsername);
+                json.writeStringField("assignedDate", assignedDate.toString());
+            });
+            assignments++;
+        }
+
+        @Override
+        public void addTraining(String traineeUsername, String trainerUsername, String trainingName,
+                                String trainingType, LocalDate trainingDate, int trainingDuration) {
+            row("trainings", () -> {
+                json.writeStringField("traineeUsername", traineeUsername);
+                json.writeStringField("trainerUsername", trainerUsername);
+                json.writeStringField("trainingName", trainingName);
+                if (trainingType != null) {
+                    json.writeStringField("trainingType", trainingType);
+                }
+                json.writeStringField("trainingDate", trainingDate.toString());
+                json.writeNumberField("trainingDuration", trainingDuration);
+            });
+            trainings++;
+        }
+
+        @Override
+        public BulkLoadReport finish() {
+            write(() -> {
+                if (section != null) {
+                    json.writeEndArray();
+                    section = null;
+                }
+                json.writeEndObject();
+                json.flush();
+            });
+            return new BulkLoadReport(trainingTypes, trainers, trainees, assignments, trainings, 0);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void user(String firstName, String lastName, String username, String passwordHash,
+                          boolean active) throws IOException {
+            json.writeStringField("firstName", firstName);
+            json.writeStringField("lastName", lastName);
+            json.writeStringField("username", username);
+            json.writeStringField("passwordHash", passwordHash);
+            json.writeBooleanField("isActive", active);
+        }
+
+        private void row(String rowSection, JsonWrite fields) {
+            write(() -> {
+                if (!rowSection.equals(section)) {
+                    if (section != null) {
+                        json.writeEndArray();
+                    }
+                    json.writeArrayFieldStart(rowSection);
+                    section = rowSection;
+                }
+                json.writeStartObject();
+                fields.write();
+                json.writeEndObject();
+            });
+        }
+
+        private static void write(JsonWrite action) {
+            try {
+                action.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gym.crm.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Size and seed of a generated population. The same values always produce the same rows,
+ * so perf runs on different commits see identical data.
+ */
+public record SyntheticPopulation(int trainees, int trainers, int trainings,
+                                  int assignmentsPerTrainee, String password, long seed) {
+
+    public static final String TRAINEE_PREFIX = "Synthetic.Trainee";
+    public static final String TRAINER_PREFIX = "Synthetic.Trainer";
+
+    public SyntheticPopulation {
+        if (trainees < 0 || trainers < 0 || trainings < 0 || assignmentsPerTrainee < 0) {
+            throw new IllegalArgumentException("Population sizes cannot be negative");
+        }
+        if ((trainings > 0 || assignmentsPerTrainee > 0 && trainees > 0) && trainers == 0) {
+            throw new IllegalArgumentException("Trainings and assignments require at least one trainer");
+        }
+        if (trainings > 0 && trainees == 0) {
+            throw new IllegalArgumentException("Trainings require at least one trainee");
+        }
+        if (password == null || password.isEmpty()) {
+            throw new IllegalArgumentException("Password is required");
+        }
+    }
+
+    public String traineeUsername(int index) {
+        return TRAINEE_PREFIX + index;
+    }
+
+    public String trainerUsername(int index) {
+        return TRAINER_PREFIX + index;
+    }
+
+    /**
+     * Trainers assigned to a trainee: a run of consecutive trainer indexes starting at a
+     * seeded offset, so callers can recompute them without keeping the whole matrix.
+     */
+    public int[] assignedTrainers(int traineeIndex) {
+        int count = Math.min(assignmentsPerTrainee, trainers);
+        int start = new SplittableRandom(seed ^ (traineeIndex * 0x9E3779B97F4A7C15L)).nextInt(Math.max(trainers, 1));
+        int[] assigned = new int[count];
+        for (int i = 0; i < count; i++) {
+            assigned[i] = (start + i) % trainers;
+        }
+        return assigned;
+    }
+}
@@ -0,0 +1,111 @@
+package com.gym.crm.diagnostics;
+
+import com.gym.crm.diagnostics.JfrRecordingService.RecordingInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * On-demand flight recordings ({@code /actuator/jfr}).
+ * <ul>
+ *     <li>{@code POST /actuator/jfr} with {@code {"profile": "CPU|ALLOCATION|LOCKS", "durationSeconds": 60}}
+ *     starts a recording</li>
+ *     <li>{@code GET /actuator/jfr/{id}} returns its state and, once finished, the top frames</li>
+ *     <li>{@code GET /actuator/jfr/{id}/file} downloads the {@code .jfr} file</li>
+ *     <li>{@code DELETE /actuator/jfr/{id}} stops it early</li>
+ * </ul>
+ * Restricted to operators in {@link com.gym.crm.config.SecurityConfig}.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    static final String FILE = "file";
+
+    private final JfrRecordingService recordingService;
+    private final String basePath;
+
+    public JfrEndpoint(JfrRecordingService recordingService,
+                       @Value("${management.endpoints.web.base-path:/actuator}") String basePath) {
+        this.recordingService = recordingService;
+        this.basePath = basePath;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        return Map.of("recordings", recordingService.list().stream().map(this::describe).toList());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(String profile, @Nullable Long durationSeconds) {
+        JfrProfile jfrProfile;
+        try {
+            jfrProfile = JfrProfile.valueOf(profile.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Unknown profile: " + profile),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        try {
+            RecordingInfo info = recordingService.start(jfrProfile,
+                    durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null);
+            return new WebEndpointResponse<>(describe(info));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), 409);
+        }
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, Object>> recording(@Selector String id) {
+        return recordingService.find(id)
+                .map(info -> {
+                    Map<String, Object> body = describe(info);
+                    recordingService.summary(id).ifPresent(summary -> body.put("summary", summary));
+                    return new WebEndpointResponse<>(body);
+                })
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Resource> download(@Selector String id, @Selector String format) {
+        return recordingService.find(id)
+                .filter(info -> FILE.equals(format) && info.isFinished())
+                .<WebEndpointResponse<Resource>>map(info -> new WebEndpointResponse<>(new FileSystemResource(info.file())))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, Object>> stop(@Selector String id) {
+        return recordingService.stop(id)
+                .map(info -> new WebEndpointResponse<>(describe(info)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    private Map<String, Object> describe(RecordingInfo info) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", info.id());
+        body.put("profile", info.profile());
+        body.put("startedAt", info.startedAt().toString());
+        body.put("durationSeconds", info.duration().toSeconds());
+        body.put("state", info.isRunning() ? "RUNNING" : "FINISHED");
+        if (info.isFinished()) {
+            body.put("download", basePath + "/jfr/" + info.id() + "/" + FILE);
+        }
+        return body;
+    }
+}
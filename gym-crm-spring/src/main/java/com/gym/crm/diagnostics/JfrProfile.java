@@ -0,0 +1,42 @@
+package com.gym.crm.diagnostics;
+
+import java.util.Map;
+
+/**
+ * Event selections for on-demand recordings. Each profile enables only what its summary
+ * needs, so a recording in production costs little beyond the sampled events themselves.
+ */
+public enum JfrProfile {
+
+    CPU(Map.of(
+            "jdk.ExecutionSample#enabled", "true",
+            "jdk.ExecutionSample#period", "10 ms",
+            "jdk.ExecutionSample#stackTrace", "true",
+            "jdk.CPULoad#enabled", "true",
+            "jdk.CPULoad#period", "1 s")),
+
+    ALLOCATION(Map.of(
+            "jdk.ObjectAllocationSample#enabled", "true",
+            "jdk.ObjectAllocationSample#throttle", "300/s",
+            "jdk.ObjectAllocationSample#stackTrace", "true",
+            "jdk.GarbageCollection#enabled", "true",
+            "jdk.GCHeapSummary#enabled", "true")),
+
+    LOCKS(Map.of(
+            "jdk.JavaMonitorEnter#enabled", "true",
+            "jdk.JavaMonitorEnter#threshold", "10 ms",
+            "jdk.JavaMonitorEnter#stackTrace", "true",
+            "jdk.ThreadPark#enabled", "true",
+            "jdk.ThreadPark#threshold", "10 ms",
+            "jdk.ThreadPark#stackTrace", "true"));
+
+    private final Map<String, String> settings;
+
+    JfrProfile(Map<String, String> settings) {
+        this.settings = settings;
+    }
+
+    public Map<String, String> settings() {
+        return settings;
+    }
+}
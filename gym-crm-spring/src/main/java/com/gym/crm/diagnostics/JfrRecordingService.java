@@ -0,0 +1,296 @@
+package com.gym.crm.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts time-boxed Java Flight Recorder sessions on demand and summarizes the result.
+ * Only one recording runs at a time; finished {@code .jfr} files are kept in
+ * {@code diagnostics.jfr.directory} and the oldest are deleted beyond
+ * {@code diagnostics.jfr.max-recordings}.
+ */
+@Component
+public class JfrRecordingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    private static final String APPLICATION_PACKAGE = "com.gym.crm.";
+    private static final int TOP_FRAMES = 15;
+
+    private final Path directory;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final int maxRecordings;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, RecordingInfo> recordings = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> summaries = new HashMap<>();
+
+    public JfrRecordingService(@Value("${diagnostics.jfr.directory:${java.io.tmpdir}/gym-crm-jfr}") Path directory,
+                               @Value("${diagnostics.jfr.default-duration-seconds:60}") long defaultDurationSeconds,
+                               @Value("${diagnostics.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                               @Value("${diagnostics.jfr.max-recordings:5}") int maxRecordings) {
+        this.directory = directory;
+        this.defaultDuration = Duration.ofSeconds(defaultDurationSeconds);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxRecordings = maxRecordings;
+    }
+
+    /**
+     * Starts a recording with the given profile. The recording stops by itself after the
+     * duration (capped at the configured maximum) and is written to disk.
+     *
+     * @throws IllegalArgumentException if the duration is not positive
+     * @throws IllegalStateException    if another recording is still running
+     */
+    public synchronized RecordingInfo start(JfrProfile profile, Duration duration) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Profile cannot be null");
+        }
+        Duration requested = duration != null ? duration : defaultDuration;
+        if (requested.isZero() || requested.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        Duration effective = requested.compareTo(maxDuration) > 0 ? maxDuration : requested;
+
+        recordings.values().stream()
+                .filter(RecordingInfo::isRunning)
+                .findFirst()
+                .ifPresent(running -> {
+                    throw new IllegalStateException("Recording " + running.id() + " is still running");
+                });
+
+        String id = "rec-" + sequence.incrementAndGet() + "-" + profile.name().toLowerCase();
+        Path file = directory.resolve(id + ".jfr");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create JFR directory " + directory, e);
+        }
+
+        Recording recording = new Recording(profile.settings());
+        recording.setName("gym-crm-" + id);
+        recording.setToDisk(true);
+        recording.setDuration(effective);
+        try {
+            recording.setDestination(file);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("Cannot write JFR recording to " + file, e);
+        }
+        recording.start();
+
+        RecordingInfo info = new RecordingInfo(id, profile, Instant.now(), effective, file, recording);
+        recordings.put(id, info);
+        evictOldRecordings();
+        logger.info("JFR recording {} started with profile {} for {} s", id, profile, effective.toSeconds());
+        return info;
+    }
+
+    /**
+     * Stops a running recording early; its data so far is written to disk.
+     */
+    public synchronized Optional<RecordingInfo> stop(String id) {
+        RecordingInfo info = recordings.get(id);
+        if (info != null && info.isRunning()) {
+            info.recording().stop();
+            logger.info("JFR recording {} stopped early", id);
+        }
+        return Optional.ofNullable(info);
+    }
+
+    public synchronized Optional<RecordingInfo> find(String id) {
+        return Optional.ofNullable(recordings.get(id));
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        return List.copyOf(recordings.values());
+    }
+
+    /**
+     * Top frames of a finished recording. Empty while the recording is still running.
+     */
+    public Optional<Map<String, Object>> summary(String id) {
+        RecordingInfo info;
+        synchronized (this) {
+            info = recordings.get(id);
+            if (info == null || !info.isFinished()) {
+                return Optional.empty();
+            }
+            Map<String, Object> cached = summaries.get(id);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Map<String, Object> summary = summarize(info);
+        synchronized (this) {
+            summaries.put(id, summary);
+        }
+        return Optional.of(summary);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        recordings.values().forEach(info -> info.recording().close());
+    }
+
+    private Map<String, Object> summarize(RecordingInfo info) {
+        FrameTally topFrames = new FrameTally();
+        FrameTally applicationFrames = new FrameTally();
+        long events = 0;
+
+        try (RecordingFile file = new RecordingFile(info.file())) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                double weight = weightOf(info.profile(), event);
+                if (weight <= 0) {
+                    continue;
+                }
+                List<String> frames = frames(event.getStackTrace());
+                String applicationFrame = frames.stream()
+                        .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                        .findFirst()
+                        .orElse(null);
+                // idle pool threads park with a timeout all the time; only waits reached
+                // from application code say anything about contention
+                if (info.profile() == JfrProfile.LOCKS && applicationFrame == null) {
+                    continue;
+                }
+                events++;
+                if (!frames.isEmpty()) {
+                    topFrames.add(frames.get(0), weight);
+                }
+                if (applicationFrame != null) {
+                    applicationFrames.add(applicationFrame, weight);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read JFR recording " + info.file(), e);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("id", info.id());
+        summary.put("profile", info.profile());
+        summary.put("unit", unitOf(info.profile()));
+        summary.put("events", events);
+        summary.put("topFrames", topFrames.top(TOP_FRAMES));
+        summary.put("topApplicationFrames", applicationFrames.top(TOP_FRAMES));
+        return summary;
+    }
+
+    /**
+     * CPU samples count once each; allocation samples carry the bytes they stand for and
+     * lock events their blocked time.
+     */
+    static double weightOf(JfrProfile profile, RecordedEvent event) {
+        String type = event.getEventType().getName();
+        return switch (profile) {
+            case CPU -> "jdk.ExecutionSample".equals(type) ? 1 : 0;
+            case ALLOCATION -> "jdk.ObjectAllocationSample".equals(type) ? event.getLong("weight") : 0;
+            case LOCKS -> "jdk.JavaMonitorEnter".equals(type) || "jdk.ThreadPark".equals(type)
+                    ? event.getDuration().toNanos() / 1_000_000.0
+                    : 0;
+        };
+    }
+
+    static String unitOf(JfrProfile profile) {
+        return switch (profile) {
+            case CPU -> "samples";
+            case ALLOCATION -> "bytes";
+            case LOCKS -> "blockedMs";
+        };
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<String> frames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        return frames;
+    }
+
+    private void evictOldRecordings() {
+        List<RecordingInfo> finished = recordings.values().stream()
+                .filter(RecordingInfo::isFinished)
+                .sorted(Comparator.comparing(RecordingInfo::startedAt))
+                .toList();
+        int excess = recordings.size() - maxRecordings;
+        for (int i = 0; i < excess && i < finished.size(); i++) {
+            RecordingInfo oldest = finished.get(i);
+            recordings.remove(oldest.id());
+            summaries.remove(oldest.id());
+            oldest.recording().close();
+            try {
+                Files.deleteIfExists(oldest.file());
+            } catch (IOException e) {
+                logger.warn("Could not delete old JFR recording {}: {}", oldest.file(), e.getMessage());
+            }
+        }
+    }
+
+    private static final class FrameTally {
+
+        private final Map<String, Double> weights = new HashMap<>();
+        private double total;
+
+        void add(String frame, double weight) {
+            weights.merge(frame, weight, Double::sum);
+            total += weight;
+        }
+
+        List<FrameWeight> top(int limit) {
+            return weights.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(entry -> new FrameWeight(entry.getKey(), Math.round(entry.getValue()),
+                            Math.round(entry.getValue() * 1000 / total) / 10.0))
+                    .toList();
+        }
+    }
+
+    public record FrameWeight(String frame, long weight, double percent) {}
+
+    public record RecordingInfo(String id, JfrProfile profile, Instant startedAt, Duration duration, Path file,
+                                Recording recording) {
+
+        public boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+        }
+
+        public boolean isFinished() {
+            return !isRunning() && Files.exists(file);
+        }
+    }
+}
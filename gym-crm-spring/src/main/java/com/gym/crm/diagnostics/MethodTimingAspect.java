@@ -0,0 +1,178 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the service and DAO layers as {@code gym.method.execution}.
+ * Tags are limited to {@code class}, {@code method} and {@code outcome} so the number of
+ * series stays bounded by the size of the code base rather than by the traffic.
+ * <p>
+ * Timing can be switched per package at runtime (see {@link MethodTimingEndpoint}); a setting
+ * on a package also applies to its sub-packages unless they have their own.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodTimingAspect.class);
+
+    static final String METER_NAME = "gym.method.execution";
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_ERROR = "error";
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(50_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabledByDefault;
+
+    private final ConcurrentMap<String, Boolean> packageSettings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> resolvedPackages = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MethodKey, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry meterRegistry,
+                              @Value("${instrumentation.method-timing.enabled:true}") boolean enabledByDefault,
+                              @Value("${instrumentation.method-timing.disabled-packages:}") String disabledPackages) {
+        this.meterRegistry = meterRegistry;
+        this.enabledByDefault = enabledByDefault;
+        Arrays.stream(disabledPackages.split(","))
+                .map(String::trim)
+                .filter(packageName -> !packageName.isEmpty())
+                .forEach(packageName -> packageSettings.put(packageName, false));
+    }
+
+    @Around("(execution(public * com.gym.crm.service..*(..)) || execution(public * com.gym.crm.dao..*(..)))"
+            + " && !within(com.gym.crm.service.impl.CustomMetricsService)"
+            + " && !within(com.gym.crm.service.impl.MetricsDashboardService)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timersFor(joinPoint);
+        if (!isEnabled(methodTimers.packageName())) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            // error series are registered on first failure so healthy methods export only one
+            timer(methodTimers.className(), methodTimers.methodName(), OUTCOME_ERROR)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Enables or disables timing for a package and its sub-packages.
+     */
+    public void setEnabled(String packageName, boolean enabled) {
+        if (packageName == null || packageName.isBlank()) {
+            throw new IllegalArgumentException("Package name cannot be null or empty");
+        }
+        packageSettings.put(packageName.trim(), enabled);
+        resolvedPackages.clear();
+        logger.info("Method timing {} for package {}", enabled ? "enabled" : "disabled", packageName.trim());
+    }
+
+    /**
+     * Drops the setting for a package so it inherits from its parent again.
+     */
+    public void reset(String packageName) {
+        if (packageName == null || packageName.isBlank()) {
+            throw new IllegalArgumentException("Package name cannot be null or empty");
+        }
+        packageSettings.remove(packageName.trim());
+        resolvedPackages.clear();
+        logger.info("Method timing setting removed for package {}", packageName.trim());
+    }
+
+    public boolean isEnabled(String packageName) {
+        return resolvedPackages.computeIfAbsent(packageName, this::resolve);
+    }
+
+    public boolean isEnabledByDefault() {
+        return enabledByDefault;
+    }
+
+    public Map<String, Boolean> packageSettings() {
+        return new TreeMap<>(packageSettings);
+    }
+
+    /**
+     * Effective setting of every package that has been timed so far.
+     */
+    public Map<String, Boolean> instrumentedPackages() {
+        Map<String, Boolean> packages = new TreeMap<>();
+        timers.values().forEach(methodTimers ->
+                packages.put(methodTimers.packageName(), isEnabled(methodTimers.packageName())));
+        return packages;
+    }
+
+    private boolean resolve(String packageName) {
+        String current = packageName;
+        while (!current.isEmpty()) {
+            Boolean setting = packageSettings.get(current);
+            if (setting != null) {
+                return setting;
+            }
+            int lastDot = current.lastIndexOf('.');
+            current = lastDot < 0 ? "" : current.substring(0, lastDot);
+        }
+        return enabledByDefault;
+    }
+
+    private MethodTimers timersFor(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = ClassUtils.getUserClass(joinPoint.getTarget() != null
+                ? joinPoint.getTarget().getClass()
+                : joinPoint.getSignature().getDeclaringType());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(new MethodKey(targetClass, method), this::createTimers);
+    }
+
+    private MethodTimers createTimers(MethodKey key) {
+        String className = key.targetClass().getSimpleName();
+        String methodName = key.method().getName();
+        return new MethodTimers(key.targetClass().getPackageName(), className, methodName,
+                timer(className, methodName, OUTCOME_SUCCESS));
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        // a histogram is enough for server-side quantiles; client-side percentiles on every
+        // method would cost more per call than the methods being measured
+        return Timer.builder(METER_NAME)
+                .description("Execution time of service and DAO methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(true)
+                .publishPercentiles()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private record MethodTimers(String packageName, String className, String methodName, Timer success) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.gym.crm.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime switch for service/DAO method timing ({@code /actuator/methodtiming}).
+ * {@code POST /actuator/methodtiming/com.gym.crm.dao} with {@code {"enabled": false}} turns
+ * timing off for the DAO layer; {@code DELETE} on the same path restores the default.
+ */
+@Component
+@Endpoint(id = "methodtiming")
+public class MethodTimingEndpoint {
+
+    private final MethodTimingAspect methodTimingAspect;
+
+    public MethodTimingEndpoint(MethodTimingAspect methodTimingAspect) {
+        this.methodTimingAspect = methodTimingAspect;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("enabledByDefault", methodTimingAspect.isEnabledByDefault());
+        settings.put("packageSettings", methodTimingAspect.packageSettings());
+        settings.put("instrumentedPackages", methodTimingAspect.instrumentedPackages());
+        return settings;
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Selector String packageName, boolean enabled) {
+        methodTimingAspect.setEnabled(packageName, enabled);
+        return settings();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset(@Selector String packageName) {
+        methodTimingAspect.reset(packageName);
+        return settings();
+    }
+}
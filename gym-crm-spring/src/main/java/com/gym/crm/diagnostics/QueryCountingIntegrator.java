@@ -0,0 +1,55 @@
+package com.gym.crm.diagnostics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers Hibernate event listeners that count entity loads and lazy collection
+ * initializations against the statistics bound to the current thread.
+ */
+public class QueryCountingIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, new EntityLoadListener());
+        registry.prependListeners(EventType.INIT_COLLECTION, new CollectionFetchListener());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    static class EntityLoadListener implements PostLoadEventListener {
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            RequestQueryStatistics statistics = RequestQueryStatistics.current();
+            if (statistics != null) {
+                statistics.entityLoaded();
+            }
+        }
+    }
+
+    /** Runs before the default listener, so already initialized collections can be skipped. */
+    static class CollectionFetchListener implements InitializeCollectionEventListener {
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            RequestQueryStatistics statistics = RequestQueryStatistics.current();
+            if (statistics != null && !event.getCollection().wasInitialized()) {
+                statistics.collectionFetched();
+            }
+        }
+    }
+}
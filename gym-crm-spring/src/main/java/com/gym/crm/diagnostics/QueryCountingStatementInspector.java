@@ -0,0 +1,19 @@
+package com.gym.crm.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the statistics bound to the
+ * current thread. Statements issued outside a request are not counted.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null) {
+            statistics.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
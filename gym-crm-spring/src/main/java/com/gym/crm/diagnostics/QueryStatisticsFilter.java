@@ -0,0 +1,128 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Attributes the SQL statements, entity loads and collection fetches of each API request
+ * to the controller method that served it, and enforces a per-request statement budget.
+ * A request over budget is logged and counted; with query.statistics.fail-on-budget-exceeded
+ * (the test profile) the statement that crosses the budget throws a
+ * {@link StatementBudgetExceededException}, failing the request before its response is
+ * committed, so regressions such as a per-row lookup inside a list endpoint break the build
+ * instead of slipping into production.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatisticsFilter.class);
+
+    static final String UNMAPPED = "unmapped";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+    private final boolean failOnBudgetExceeded;
+
+    public QueryStatisticsFilter(MeterRegistry meterRegistry,
+                                 @Value("${query.statistics.enabled:true}") boolean enabled,
+                                 @Value("${query.statistics.statement-budget:30}") int statementBudget,
+                                 @Value("${query.statistics.repeated-statement-threshold:10}") int repeatedStatementThreshold,
+                                 @Value("${query.statistics.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStatistics statistics = failOnBudgetExceeded
+                ? new RequestQueryStatistics(statementBudget) : new RequestQueryStatistics();
+        RequestQueryStatistics previous = RequestQueryStatistics.bind(statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStatistics.restore(previous);
+            record(handlerName(request), statistics);
+        }
+    }
+
+    /**
+     * Publishes the request's numbers and reports a budget violation, if any.
+     */
+    void record(String handler, RequestQueryStatistics statistics) {
+        DistributionSummary.builder("gym.request.sql.statements")
+                .description("SQL statements prepared per API request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("gym.request.entity.loads")
+                .description("Entities loaded per API request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getEntityLoads());
+        DistributionSummary.builder("gym.request.collection.fetches")
+                .description("Lazy collections initialized per API request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getCollectionFetches());
+
+        statistics.mostRepeatedStatement(repeatedStatementThreshold).ifPresent(repeated -> {
+            Counter.builder("gym.request.sql.repeated")
+                    .description("API requests that issued the same statement repeatedly")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("Possible N+1 in {}: statement executed {} times: {}",
+                    handler, repeated.getValue(), repeated.getKey());
+        });
+
+        if (statistics.getStatements() <= statementBudget) {
+            return;
+        }
+        Counter.builder("gym.request.sql.budget.exceeded")
+                .description("API requests that exceeded the SQL statement budget")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+        String violation = String.format("%s issued %d SQL statements (budget %d, %d entity loads, %d collection fetches)",
+                handler, statistics.getStatements(), statementBudget,
+                statistics.getEntityLoads(), statistics.getCollectionFetches());
+        logger.warn("Statement budget exceeded: {}", violation);
+    }
+
+    static String handlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return UNMAPPED;
+    }
+}
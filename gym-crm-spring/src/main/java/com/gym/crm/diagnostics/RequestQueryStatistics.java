@@ -0,0 +1,106 @@
+package com.gym.crm.diagnostics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL statements, entity loads and collection fetches issued on behalf of one request.
+ * The instance is bound to the request thread; work handed to other threads can bind the
+ * same instance so its queries are still attributed to the request. Statistics created with a
+ * statement limit throw {@link StatementBudgetExceededException} from the statement that
+ * goes over it.
+ */
+public final class RequestQueryStatistics {
+
+    /** Distinct statements tracked per request for repeat detection. */
+    static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+    private final LongAdder collectionFetches = new LongAdder();
+    private final Map<String, AtomicInteger> executionsBySql = new ConcurrentHashMap<>();
+    private final long statementLimit;
+
+    public RequestQueryStatistics() {
+        this(Long.MAX_VALUE);
+    }
+
+    public RequestQueryStatistics(long statementLimit) {
+        this.statementLimit = statementLimit;
+    }
+
+    public static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds statistics to the calling thread and returns whatever was bound before,
+     * to be handed back to {@link #restore(RequestQueryStatistics)}.
+     */
+    public static RequestQueryStatistics bind(RequestQueryStatistics statistics) {
+        RequestQueryStatistics previous = CURRENT.get();
+        if (statistics == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics);
+        }
+        return previous;
+    }
+
+    public static void restore(RequestQueryStatistics previous) {
+        bind(previous);
+    }
+
+    void statementPrepared(String sql) {
+        statements.increment();
+        AtomicInteger count = executionsBySql.get(sql);
+        if (count == null && executionsBySql.size() < MAX_TRACKED_STATEMENTS) {
+            count = executionsBySql.computeIfAbsent(sql, key -> new AtomicInteger());
+        }
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        long prepared = statements.sum();
+        if (prepared > statementLimit) {
+            throw new StatementBudgetExceededException(String.format(
+                    "Statement %d exceeds the budget of %d SQL statements per request: %s",
+                    prepared, statementLimit, sql));
+        }
+    }
+
+    void entityLoaded() {
+        entityLoads.increment();
+    }
+
+    void collectionFetched() {
+        collectionFetches.increment();
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getEntityLoads() {
+        return entityLoads.sum();
+    }
+
+    public long getCollectionFetches() {
+        return collectionFetches.sum();
+    }
+
+    /**
+     * The statement issued most often in this request, if any was issued at least
+     * {@code threshold} times - the usual signature of an N+1 loop.
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeatedStatement(int threshold) {
+        return executionsBySql.entrySet().stream()
+                .filter(entry -> entry.getValue().get() >= threshold)
+                .max(Map.Entry.comparingByValue((a, b) -> Integer.compare(a.get(), b.get())))
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().get()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.gym.crm.diagnostics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Times every statement executed through the wrapped pool and hands the ones over the
+ * threshold to {@link SlowQueryMonitor}. Connections and statements are JDK proxies; bound
+ * parameters are remembered per statement so a slow execution can be reported with them.
+ * Being a {@link DelegatingDataSource}, the pool underneath stays visible to pool metrics.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    private static final Set<String> UNBINDABLE_SETTERS = Set.of(
+            "setAsciiStream", "setBinaryStream", "setCharacterStream", "setNCharacterStream",
+            "setBlob", "setClob", "setNClob", "setBytes");
+
+    private final ObjectProvider<SlowQueryMonitor> monitorProvider;
+    private volatile SlowQueryMonitor monitor;
+
+    public SlowQueryDataSource(DataSource target, ObjectProvider<SlowQueryMonitor> monitorProvider) {
+        super(target);
+        this.monitorProvider = monitorProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /** Resolved on first use: the data source is created before the meter registry exists. */
+    private SlowQueryMonitor monitor() {
+        SlowQueryMonitor resolved = monitor;
+        if (resolved == null) {
+            resolved = monitorProvider.getIfAvailable();
+            monitor = resolved;
+        }
+        return resolved;
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Proxy identity methods must not be forwarded, or a proxy would never equal itself. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> wrap(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> wrap(CallableStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private Statement wrap(Class<? extends Statement> type, Statement statement, String sql) {
+            return (Statement) Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(target, statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final Statement target;
+        private String sql;
+        private Object[] parameters = NO_PARAMETERS;
+        private int parameterCount;
+        private int batchSize;
+
+        StatementHandler(Connection connection, Statement target, String sql) {
+            this.connection = connection;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return timed(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, "setNull".equals(name) ? null
+                        : UNBINDABLE_SETTERS.contains(name) ? SlowQueryMonitor.UNBINDABLE : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameterCount = 0;
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+                if (args != null && args.length == 1) {
+                    sql = (String) args[0];
+                }
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            boolean batch = "executeBatch".equals(method.getName()) || "executeLargeBatch".equals(method.getName());
+            int executedBatch = batch ? batchSize : 1;
+            long start = System.nanoTime();
+            try {
+                return SlowQueryDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (batch) {
+                    batchSize = 0;
+                }
+                SlowQueryMonitor slowQueryMonitor = monitor();
+                if (slowQueryMonitor != null && slowQueryMonitor.isSlow(elapsed)) {
+                    slowQueryMonitor.record(executedSql, Arrays.copyOf(parameters, parameterCount), executedBatch, elapsed, connection);
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
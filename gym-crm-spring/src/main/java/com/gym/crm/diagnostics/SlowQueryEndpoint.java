@@ -0,0 +1,27 @@
+package com.gym.crm.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator view of slow statements grouped by SQL fingerprint ({@code /actuator/slowqueries}).
+ * Add the id to management.endpoints.web.exposure.include to reach it over HTTP.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryMonitor slowQueryMonitor;
+
+    public SlowQueryEndpoint(SlowQueryMonitor slowQueryMonitor) {
+        this.slowQueryMonitor = slowQueryMonitor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        return slowQueryMonitor.snapshot();
+    }
+}
@@ -0,0 +1,235 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Receives JDBC statements that ran longer than slow-query.threshold-ms from
+ * {@link SlowQueryDataSource}. Each one is logged with its parameters (rendered according to
+ * slow-query.parameter-policy) and the DAO method that issued it, and counted under its
+ * {@link SqlFingerprint}. With slow-query.explain the H2 plan of slow SELECTs is captured too.
+ */
+@Component
+public class SlowQueryMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryMonitor.class);
+
+    /** How bound parameters appear in the log. */
+    public enum ParameterPolicy {
+        /** Every value as bound. Development only. */
+        SHOW,
+        /** Numbers, dates, booleans and nulls as bound; strings (names, usernames, hashes) masked. */
+        MASK_STRINGS,
+        /** Only the parameter count. */
+        HIDE
+    }
+
+    /** Stands in for stream, LOB and byte array parameters, which are neither logged nor re-bound. */
+    static final Object UNBINDABLE = new Object() {
+        @Override
+        public String toString() {
+            return "<binary>";
+        }
+    };
+
+    static final String OTHER_FINGERPRINT = "other";
+    private static final String DAO_PACKAGE = "com.gym.crm.dao.";
+    private static final String APPLICATION_PACKAGE = "com.gym.crm.";
+    private static final String DIAGNOSTICS_PACKAGE = "com.gym.crm.diagnostics.";
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final ParameterPolicy parameterPolicy;
+    private final boolean explain;
+    private final int maxFingerprints;
+    private final ConcurrentMap<String, FingerprintStats> statsByFingerprint = new ConcurrentHashMap<>();
+
+    public SlowQueryMonitor(MeterRegistry meterRegistry,
+                            @Value("${slow-query.threshold-ms:200}") long thresholdMillis,
+                            @Value("${slow-query.parameter-policy:MASK_STRINGS}") ParameterPolicy parameterPolicy,
+                            @Value("${slow-query.explain:false}") boolean explain,
+                            @Value("${slow-query.max-fingerprints:200}") int maxFingerprints) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.parameterPolicy = parameterPolicy;
+        this.explain = explain;
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * @param connection the raw connection the statement ran on, used for EXPLAIN
+     */
+    public void record(String sql, Object[] parameters, int batchSize, long elapsedNanos, Connection connection) {
+        String normalized = SqlFingerprint.normalize(sql);
+        String fingerprint = SqlFingerprint.id(normalized);
+        String caller = callerOf(StackWalker.getInstance().walk(frames -> frames
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                .toList()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        FingerprintStats stats = statsByFingerprint.get(fingerprint);
+        if (stats == null && statsByFingerprint.size() < maxFingerprints) {
+            stats = statsByFingerprint.computeIfAbsent(fingerprint, key -> new FingerprintStats(normalized, caller));
+        }
+        String fingerprintTag = stats != null ? fingerprint : OTHER_FINGERPRINT;
+
+        Timer.builder("gym.sql.slow")
+                .description("JDBC statements slower than the slow-query threshold")
+                .tag("fingerprint", fingerprintTag)
+                .tag("caller", caller)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        String plan = explain ? explain(sql, parameters, connection).orElse(null) : null;
+        if (stats != null) {
+            stats.record(elapsedMillis, plan);
+        }
+
+        if (plan != null) {
+            logger.warn("Slow query {} ms in {} [{}]{}: {} params={} plan={}", elapsedMillis, caller, fingerprint,
+                    batchSize > 1 ? " batch=" + batchSize : "", sql, renderParameters(parameters), plan);
+        } else {
+            logger.warn("Slow query {} ms in {} [{}]{}: {} params={}", elapsedMillis, caller, fingerprint,
+                    batchSize > 1 ? " batch=" + batchSize : "", sql, renderParameters(parameters));
+        }
+    }
+
+    String renderParameters(Object[] parameters) {
+        if (parameterPolicy == ParameterPolicy.HIDE) {
+            return "[" + parameters.length + " hidden]";
+        }
+        return Arrays.stream(parameters)
+                .map(this::renderParameter)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private String renderParameter(Object value) {
+        if (value instanceof CharSequence || value instanceof Character) {
+            return parameterPolicy == ParameterPolicy.SHOW ? "'" + value + "'" : "'***'";
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * The DAO method that issued the statement, or the closest application frame when the
+     * statement did not come from a DAO (for example the bulk loader).
+     */
+    static String callerOf(List<String> frames) {
+        Optional<String> dao = frames.stream().filter(frame -> frame.startsWith(DAO_PACKAGE)).findFirst();
+        return dao.or(() -> frames.stream()
+                        .filter(frame -> frame.startsWith(APPLICATION_PACKAGE) && !frame.startsWith(DIAGNOSTICS_PACKAGE))
+                        .findFirst())
+                .map(SlowQueryMonitor::simpleName)
+                .orElse("unknown");
+    }
+
+    private static String simpleName(String frame) {
+        int method = frame.lastIndexOf('.');
+        String className = frame.substring(0, method);
+        int proxySuffix = className.indexOf("$$");
+        if (proxySuffix > 0) {
+            className = className.substring(0, proxySuffix);
+        }
+        return className.substring(className.lastIndexOf('.') + 1) + frame.substring(method);
+    }
+
+    private Optional<String> explain(String sql, Object[] parameters, Connection connection) {
+        if (connection == null || !sql.stripLeading().regionMatches(true, 0, "select", 0, 6)
+                || Arrays.stream(parameters).anyMatch(p -> p == UNBINDABLE)) {
+            return Optional.empty();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.ofNullable(rs.getString(1)).map(plan -> plan.replaceAll("\\s+", " ")) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            logger.debug("Could not capture plan for slow query: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Slow statements grouped by fingerprint, most frequent first.
+     */
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> statements = statsByFingerprint.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, FingerprintStats> e) -> e.getValue().count.sum())
+                        .reversed())
+                .map(e -> e.getValue().toMap(e.getKey()))
+                .toList();
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("thresholdMs", TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+        snapshot.put("parameterPolicy", parameterPolicy);
+        snapshot.put("explain", explain);
+        snapshot.put("statements", statements);
+        return snapshot;
+    }
+
+    private static final class FingerprintStats {
+
+        private final String sql;
+        private final String caller;
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private volatile Instant lastSeen;
+        private volatile String lastPlan;
+
+        FingerprintStats(String sql, String caller) {
+            this.sql = sql;
+            this.caller = caller;
+        }
+
+        void record(long elapsedMillis, String plan) {
+            count.increment();
+            maxMillis.accumulate(elapsedMillis);
+            lastSeen = Instant.now();
+            if (plan != null) {
+                lastPlan = plan;
+            }
+        }
+
+        Map<String, Object> toMap(String fingerprint) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("fingerprint", fingerprint);
+            map.put("sql", sql);
+            map.put("caller", caller);
+            map.put("count", count.sum());
+            map.put("maxMs", maxMillis.get());
+            map.put("lastSeen", lastSeen);
+            if (lastPlan != null) {
+                map.put("lastPlan", lastPlan);
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.gym.crm.diagnostics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to a shape shared by every execution of the same statement: literals become
+ * {@code ?}, IN lists collapse to one placeholder and whitespace and case are normalized.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?+)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase();
+    }
+
+    /**
+     * Short, stable id of a normalized statement, suitable as a metric tag.
+     */
+    public static String id(String normalizedSql) {
+        return String.format("%08x", normalizedSql.hashCode());
+    }
+}
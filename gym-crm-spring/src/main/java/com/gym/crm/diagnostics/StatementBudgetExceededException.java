@@ -0,0 +1,11 @@
+package com.gym.crm.diagnostics;
+
+/**
+ * Thrown when a request prepares more SQL statements than its budget allows, at the statement
+ * that crosses it, so the request fails before its response is written.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gym.crm.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator view of carrier-thread pinning ({@code /actuator/vthreadpinning}).
+ * Only present with the {@code vthreads} profile; add the id to
+ * management.endpoints.web.exposure.include to reach it over HTTP.
+ */
+@Component
+@Profile("vthreads")
+@Endpoint(id = "vthreadpinning")
+public class VirtualThreadPinningEndpoint {
+
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
+    public VirtualThreadPinningEndpoint(VirtualThreadPinningMonitor pinningMonitor) {
+        this.pinningMonitor = pinningMonitor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        return pinningMonitor.snapshot();
+    }
+}
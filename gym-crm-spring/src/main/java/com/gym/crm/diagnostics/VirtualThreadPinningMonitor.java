@@ -0,0 +1,154 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listens for {@code jdk.VirtualThreadPinned} JFR events while the application runs on
+ * virtual threads. A virtual thread is pinned to its carrier when it blocks inside a
+ * synchronized block or native frame (for example inside the H2 driver's locks), which
+ * takes the carrier away from every other virtual thread for the duration.
+ */
+@Component
+@Profile("vthreads")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.gym.crm.";
+    private static final int MAX_RECENT_EVENTS = 100;
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+
+    private final ConcurrentLinkedDeque<PinnedEvent> recentEvents = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recentEventCount = new AtomicInteger();
+    private final ConcurrentMap<String, LongAdder> eventsBySite = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinnedTimer = Timer.builder("gym.vthreads.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinnedEvent);
+            recordingStream.startAsync();
+            logger.info("Virtual thread pinning monitor started with threshold {} ms", threshold.toMillis());
+        } catch (Exception e) {
+            // JFR can be unavailable (e.g. disabled with -XX:-FlightRecorder); the app keeps running without diagnostics
+            logger.warn("Virtual thread pinning monitor could not be started: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            logger.info("Virtual thread pinning monitor stopped");
+        }
+    }
+
+    private void onPinnedEvent(RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frames.size() == MAX_FRAMES) {
+                    break;
+                }
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        String threadName = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        record(event.getStartTime(), event.getDuration(), threadName, frames);
+    }
+
+    void record(Instant startTime, Duration duration, String threadName, List<String> frames) {
+        pinnedTimer.record(duration);
+
+        String site = pinningSite(frames);
+        eventsBySite.computeIfAbsent(site, k -> new LongAdder()).increment();
+
+        recentEvents.addFirst(new PinnedEvent(startTime, duration.toMillis(), threadName, site, List.copyOf(frames)));
+        if (recentEventCount.incrementAndGet() > MAX_RECENT_EVENTS) {
+            recentEvents.pollLast();
+            recentEventCount.decrementAndGet();
+        }
+
+        logger.debug("Virtual thread {} pinned for {} ms at {}", threadName, duration.toMillis(), site);
+    }
+
+    /**
+     * Summary of observed pinning: totals, the sites that pin most often and the latest events.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Long> topSites = new LinkedHashMap<>();
+        eventsBySite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(10)
+                .forEach(e -> topSites.put(e.getKey(), e.getValue().sum()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("active", recordingStream != null);
+        snapshot.put("thresholdMs", threshold.toMillis());
+        snapshot.put("totalEvents", pinnedTimer.count());
+        snapshot.put("totalPinnedMs", pinnedTimer.totalTime(TimeUnit.MILLISECONDS));
+        snapshot.put("topSites", topSites);
+        snapshot.put("recentEvents", List.copyOf(recentEvents));
+        return snapshot;
+    }
+
+    /**
+     * The first application frame is the most useful site to report; driver and JDK frames
+     * above it are the same for every caller. Falls back to the top frame.
+     */
+    static String pinningSite(List<String> frames) {
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        return frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+    }
+
+    public record PinnedEvent(Instant startTime, long durationMs, String thread, String site, List<String> frames) {}
+}
@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 public class AddTrainingRequest {
 
@@ -23,6 +24,8 @@ public class AddTrainingRequest {
     @Positive(message = "Training duration must be positive")
     private Integer trainingDuration;
 
+    private LocalTime trainingStartTime;
+
     public AddTrainingRequest() {}
 
     public AddTrainingRequest(String traineeUsername, String trainerUsername,
@@ -74,4 +77,12 @@ public class AddTrainingRequest {
     public void setTrainingDuration(Integer trainingDuration) {
         this.trainingDuration = trainingDuration;
     }
-}
\ No newline at end of file
+
+    public LocalTime getTrainingStartTime() {
+        return trainingStartTime;
+    }
+
+    public void setTrainingStartTime(LocalTime trainingStartTime) {
+        this.trainingStartTime = trainingStartTime;
+    }
+}
@@ -0,0 +1,53 @@
+package com.gym.crm.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Several trainings created in one call. Items are validated one by one so a bad item is
+ * reported in the response instead of failing the whole request; {@link Mode} decides
+ * whether the valid items are still saved.
+ */
+public class BatchTrainingRequest {
+
+    public static final int MAX_ITEMS = 100;
+
+    public enum Mode {
+        /** Nothing is saved if any item is invalid. */
+        ALL_OR_NOTHING,
+        /** Valid items are saved, invalid ones are reported. */
+        PARTIAL
+    }
+
+    @NotNull(message = "Mode is required")
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one training is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " trainings per batch")
+    private List<AddTrainingRequest> trainings;
+
+    public BatchTrainingRequest() {}
+
+    public BatchTrainingRequest(Mode mode, List<AddTrainingRequest> trainings) {
+        this.mode = mode;
+        this.trainings = trainings;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public List<AddTrainingRequest> getTrainings() {
+        return trainings;
+    }
+
+    public void setTrainings(List<AddTrainingRequest> trainings) {
+        this.trainings = trainings;
+    }
+}
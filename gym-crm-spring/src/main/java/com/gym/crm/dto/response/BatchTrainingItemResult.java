@@ -0,0 +1,70 @@
+package com.gym.crm.dto.response;
+
+public class BatchTrainingItemResult {
+
+    public enum Status {
+        CREATED,
+        /** The item itself is invalid; error says why. */
+        FAILED,
+        /** The item is valid but was not saved because another item in an all-or-nothing batch failed. */
+        NOT_CREATED
+    }
+
+    private int index;
+    private Status status;
+    private Long trainingId;
+    private String error;
+
+    public BatchTrainingItemResult() {}
+
+    public BatchTrainingItemResult(int index, Status status, Long trainingId, String error) {
+        this.index = index;
+        this.status = status;
+        this.trainingId = trainingId;
+        this.error = error;
+    }
+
+    public static BatchTrainingItemResult created(int index, Long trainingId) {
+        return new BatchTrainingItemResult(index, Status.CREATED, trainingId, null);
+    }
+
+    public static BatchTrainingItemResult failed(int index, String error) {
+        return new BatchTrainingItemResult(index, Status.FAILED, null, error);
+    }
+
+    public static BatchTrainingItemResult notCreated(int index) {
+        return new BatchTrainingItemResult(index, Status.NOT_CREATED, null, null);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getTrainingId() {
+        return trainingId;
+    }
+
+    public void setTrainingId(Long trainingId) {
+        this.trainingId = trainingId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,58 @@
+package com.gym.crm.dto.response;
+
+import com.gym.crm.dto.request.BatchTrainingRequest;
+
+import java.util.List;
+
+public class BatchTrainingResponse {
+
+    private BatchTrainingRequest.Mode mode;
+    private int created;
+    private int failed;
+    private List<BatchTrainingItemResult> results;
+
+    public BatchTrainingResponse() {}
+
+    public BatchTrainingResponse(BatchTrainingRequest.Mode mode, List<BatchTrainingItemResult> results) {
+        this.mode = mode;
+        this.results = results;
+        this.created = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchTrainingItemResult.Status.CREATED)
+                .count();
+        this.failed = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchTrainingItemResult.Status.FAILED)
+                .count();
+    }
+
+    public BatchTrainingRequest.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchTrainingRequest.Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchTrainingItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchTrainingItemResult> results) {
+        this.results = results;
+    }
+}
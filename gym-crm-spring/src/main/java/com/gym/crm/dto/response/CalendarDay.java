@@ -0,0 +1,27 @@
+package com.gym.crm.dto.response;
+
+import java.time.LocalDate;
+
+public class CalendarDay {
+    private LocalDate date;
+    private long trainingCount;
+    private long totalDurationMinutes;
+
+    public CalendarDay() {}
+
+    // also the JPQL constructor expression of the per-day aggregate in TrainingDao
+    public CalendarDay(LocalDate date, long trainingCount, long totalDurationMinutes) {
+        this.date = date;
+        this.trainingCount = trainingCount;
+        this.totalDurationMinutes = totalDurationMinutes;
+    }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public long getTrainingCount() { return trainingCount; }
+    public void setTrainingCount(long trainingCount) { this.trainingCount = trainingCount; }
+
+    public long getTotalDurationMinutes() { return totalDurationMinutes; }
+    public void setTotalDurationMinutes(long totalDurationMinutes) { this.totalDurationMinutes = totalDurationMinutes; }
+}
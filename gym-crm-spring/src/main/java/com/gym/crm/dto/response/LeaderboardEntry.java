@@ -0,0 +1,40 @@
+package com.gym.crm.dto.response;
+
+public class LeaderboardEntry {
+    private int rank;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String specialization;
+    private long minutes;
+
+    public LeaderboardEntry() {}
+
+    public LeaderboardEntry(int rank, String username, String firstName, String lastName,
+                            String specialization, long minutes) {
+        this.rank = rank;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.specialization = specialization;
+        this.minutes = minutes;
+    }
+
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getSpecialization() { return specialization; }
+    public void setSpecialization(String specialization) { this.specialization = specialization; }
+
+    public long getMinutes() { return minutes; }
+    public void setMinutes(long minutes) { this.minutes = minutes; }
+}
@@ -0,0 +1,29 @@
+package com.gym.crm.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point-in-time view of the metrics dashboard, built in the background and pushed to
+ * every connected browser. Latencies are in milliseconds.
+ */
+public record MetricsSnapshot(Instant timestamp,
+                              double traineeRegistrations,
+                              double trainerRegistrations,
+                              double trainingsCreated,
+                              double loginAttempts,
+                              double loginSuccess,
+                              double loginSuccessRate,
+                              Latency authentication,
+                              double memoryUsedMb,
+                              double memoryMaxMb,
+                              double cpuUsage,
+                              List<EndpointLatency> endpoints) {
+
+    public record Latency(long count, double p50, double p95, double p99, double max) {
+
+        public static final Latency EMPTY = new Latency(0, 0, 0, 0, 0);
+    }
+
+    public record EndpointLatency(String method, String uri, String status, Latency latency) {}
+}
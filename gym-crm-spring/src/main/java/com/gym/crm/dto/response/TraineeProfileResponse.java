@@ -1,8 +1,12 @@
 package com.gym.crm.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.gym.crm.fields.FieldSelection;
+
 import java.time.LocalDate;
 import java.util.List;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class TraineeProfileResponse {
     private String firstName;
     private String lastName;
@@ -10,6 +14,7 @@ public class TraineeProfileResponse {
     private String address;
     private Boolean isActive;
     private List<TrainerSummary> trainers;
+    private TrainingActivitySummary recentTrainings;
 
     public TraineeProfileResponse() {}
 
@@ -82,4 +87,12 @@ public class TraineeProfileResponse {
     public void setTrainers(List<TrainerSummary> trainers) {
         this.trainers = trainers;
     }
+
+    public TrainingActivitySummary getRecentTrainings() {
+        return recentTrainings;
+    }
+
+    public void setRecentTrainings(TrainingActivitySummary recentTrainings) {
+        this.recentTrainings = recentTrainings;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.gym.crm.dto.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Trainers with the most training minutes in a month, most first.
+ */
+public class TrainerLeaderboardResponse {
+    private YearMonth month;
+    private List<LeaderboardEntry> trainers;
+
+    public TrainerLeaderboardResponse() {}
+
+    public TrainerLeaderboardResponse(YearMonth month, List<LeaderboardEntry> trainers) {
+        this.month = month;
+        this.trainers = trainers;
+    }
+
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public List<LeaderboardEntry> getTrainers() { return trainers; }
+    public void setTrainers(List<LeaderboardEntry> trainers) { this.trainers = trainers; }
+}
@@ -1,7 +1,11 @@
 package com.gym.crm.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.gym.crm.fields.FieldSelection;
+
 import java.util.List;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class TrainerProfileResponse {
     private String username;
     private String firstName;
@@ -0,0 +1,45 @@
+package com.gym.crm.dto.response;
+
+public class TrainerRecommendation {
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String specialization;
+    private double score;
+    private double specializationScore;
+    private double coAssignmentScore;
+
+    public TrainerRecommendation() {}
+
+    public TrainerRecommendation(String username, String firstName, String lastName, String specialization,
+                                 double score, double specializationScore, double coAssignmentScore) {
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.specialization = specialization;
+        this.score = score;
+        this.specializationScore = specializationScore;
+        this.coAssignmentScore = coAssignmentScore;
+    }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getSpecialization() { return specialization; }
+    public void setSpecialization(String specialization) { this.specialization = specialization; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public double getSpecializationScore() { return specializationScore; }
+    public void setSpecializationScore(double specializationScore) { this.specializationScore = specializationScore; }
+
+    public double getCoAssignmentScore() { return coAssignmentScore; }
+    public void setCoAssignmentScore(double coAssignmentScore) { this.coAssignmentScore = coAssignmentScore; }
+}
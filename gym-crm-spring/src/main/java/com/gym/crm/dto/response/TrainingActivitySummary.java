@@ -0,0 +1,32 @@
+package com.gym.crm.dto.response;
+
+import java.time.LocalDate;
+
+public class TrainingActivitySummary {
+    private int windowDays;
+    private int trainingCount;
+    private long totalDurationMinutes;
+    private LocalDate lastTrainingDate;
+
+    public TrainingActivitySummary() {}
+
+    public TrainingActivitySummary(int windowDays, int trainingCount,
+                                   long totalDurationMinutes, LocalDate lastTrainingDate) {
+        this.windowDays = windowDays;
+        this.trainingCount = trainingCount;
+        this.totalDurationMinutes = totalDurationMinutes;
+        this.lastTrainingDate = lastTrainingDate;
+    }
+
+    public int getWindowDays() { return windowDays; }
+    public void setWindowDays(int windowDays) { this.windowDays = windowDays; }
+
+    public int getTrainingCount() { return trainingCount; }
+    public void setTrainingCount(int trainingCount) { this.trainingCount = trainingCount; }
+
+    public long getTotalDurationMinutes() { return totalDurationMinutes; }
+    public void setTotalDurationMinutes(long totalDurationMinutes) { this.totalDurationMinutes = totalDurationMinutes; }
+
+    public LocalDate getLastTrainingDate() { return lastTrainingDate; }
+    public void setLastTrainingDate(LocalDate lastTrainingDate) { this.lastTrainingDate = lastTrainingDate; }
+}
@@ -0,0 +1,35 @@
+package com.gym.crm.dto.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Per-day training totals for one month. Only days with trainings are listed.
+ */
+public class TrainingCalendarResponse {
+    private YearMonth month;
+    private long trainingCount;
+    private long totalDurationMinutes;
+    private List<CalendarDay> days;
+
+    public TrainingCalendarResponse() {}
+
+    public TrainingCalendarResponse(YearMonth month, List<CalendarDay> days) {
+        this.month = month;
+        this.days = days;
+        this.trainingCount = days.stream().mapToLong(CalendarDay::getTrainingCount).sum();
+        this.totalDurationMinutes = days.stream().mapToLong(CalendarDay::getTotalDurationMinutes).sum();
+    }
+
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public long getTrainingCount() { return trainingCount; }
+    public void setTrainingCount(long trainingCount) { this.trainingCount = trainingCount; }
+
+    public long getTotalDurationMinutes() { return totalDurationMinutes; }
+    public void setTotalDurationMinutes(long totalDurationMinutes) { this.totalDurationMinutes = totalDurationMinutes; }
+
+    public List<CalendarDay> getDays() { return days; }
+    public void setDays(List<CalendarDay> days) { this.days = days; }
+}
@@ -1,13 +1,19 @@
 package com.gym.crm.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.gym.crm.fields.FieldSelection;
+
 import java.time.LocalDate;
+import java.time.LocalTime;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class TrainingResponse {
     private String trainingName;
     private LocalDate trainingDate;
     private String trainingType;
     private Integer trainingDuration;
     private String trainerName; // or traineeName depending on context
+    private LocalTime trainingStartTime;
 
     public TrainingResponse() {}
 
@@ -60,4 +66,12 @@ public class TrainingResponse {
     public void setTrainerName(String trainerName) {
         this.trainerName = trainerName;
     }
-}
\ No newline at end of file
+
+    public LocalTime getTrainingStartTime() {
+        return trainingStartTime;
+    }
+
+    public void setTrainingStartTime(LocalTime trainingStartTime) {
+        this.trainingStartTime = trainingStartTime;
+    }
+}
@@ -0,0 +1,40 @@
+package com.gym.crm.dto.response;
+
+public class UserSearchResult {
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String role;
+    private boolean active;
+    private double score;
+
+    public UserSearchResult() {}
+
+    public UserSearchResult(String username, String firstName, String lastName,
+                            String role, boolean active, double score) {
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.active = active;
+        this.score = score;
+    }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
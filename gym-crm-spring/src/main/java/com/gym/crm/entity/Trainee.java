@@ -67,6 +67,11 @@ public class Trainee extends User {  // JOINED inheritance
         return address != null && !address.trim().isEmpty();
     }
 
+    @Override
+    public UserRole getRole() {
+        return UserRole.TRAINEE;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -47,6 +47,11 @@ public class Trainer extends User {
         return specialization != null;
     }
 
+    @Override
+    public UserRole getRole() {
+        return UserRole.TRAINER;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -2,11 +2,15 @@ package com.gym.crm.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 @Entity
-@Table(name = "Training")
+@Table(name = "Training", indexes = {
+        @Index(name = "idx_training_trainee_date", columnList = "Trainee Id, Training Date"),
+        @Index(name = "idx_training_trainer_date", columnList = "Trainer Id, Training Date")
+})
 public class Training {
 
     @Id
@@ -33,6 +37,10 @@ public class Training {
     @Column(name = "Training Duration", nullable = false)
     private Integer trainingDuration;
 
+    // optional; only trainings with a start time occupy a slot in the trainer's schedule
+    @Column(name = "Training Start Time")
+    private LocalTime trainingStartTime;
+
     public Training() {
     }
 
@@ -114,6 +122,14 @@ public class Training {
         this.trainingDuration = trainingDuration;
     }
 
+    public LocalTime getTrainingStartTime() {
+        return trainingStartTime;
+    }
+
+    public void setTrainingStartTime(LocalTime trainingStartTime) {
+        this.trainingStartTime = trainingStartTime;
+    }
+
     public String getTrainingTypeName() {
         return trainingType != null ? trainingType.getTrainingTypeName() : "Unknown";
     }
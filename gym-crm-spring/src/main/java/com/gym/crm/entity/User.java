@@ -5,7 +5,8 @@ import jakarta.persistence.*;
 import java.util.Objects;
 
 @Entity
-@Table(name = "Users")
+@Table(name = "Users",
+        indexes = @Index(name = "idx_users_username", columnList = "Username", unique = true))
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class User {
 
@@ -98,6 +99,12 @@ public abstract class User {
         return Boolean.TRUE.equals(isActive);
     }
 
+    /**
+     * Role of the concrete subtype, used when issuing tokens for a principal
+     * resolved through the shared Users table.
+     */
+    public abstract UserRole getRole();
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,6 @@
+package com.gym.crm.entity;
+
+public enum UserRole {
+    TRAINEE,
+    TRAINER
+}
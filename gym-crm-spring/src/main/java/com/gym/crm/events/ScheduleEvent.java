@@ -0,0 +1,74 @@
+package com.gym.crm.events;
+
+import com.gym.crm.entity.Training;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A change to somebody's schedule, published as a Spring application event and pushed by
+ * {@link ScheduleEventHub} to the affected users' open streams. Recipients are user ids so
+ * publishers never need an extra lookup to address an event.
+ *
+ * @param type what changed
+ * @param userIds users whose streams receive the event
+ * @param data JSON payload of the event
+ */
+public record ScheduleEvent(Type type, Set<Long> userIds, Map<String, Object> data) {
+
+    public enum Type {
+        TRAINING_CREATED("training-created"),
+        ASSIGNMENT_CHANGED("assignment-changed");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        /** Value of the SSE {@code event:} field. */
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    public static ScheduleEvent trainingCreated(Training training) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("trainingId", training.getId());
+        data.put("trainingName", training.getTrainingName());
+        data.put("trainingDate", training.getTrainingDate());
+        data.put("trainingStartTime", training.getTrainingStartTime());
+        data.put("trainingType", training.getTrainingTypeName());
+        data.put("trainingDuration", training.getTrainingDuration());
+        data.put("traineeId", training.getTraineeId());
+        data.put("trainerId", training.getTrainerId());
+        return new ScheduleEvent(Type.TRAINING_CREATED,
+                recipients(List.of(training.getTraineeId(), training.getTrainerId())), data);
+    }
+
+    /**
+     * Trainers that were removed are notified as well as the current ones.
+     */
+    public static ScheduleEvent assignmentsChanged(Long traineeId, Collection<Long> previousTrainerIds,
+                                                   Collection<Long> trainerIds) {
+        List<Long> currentTrainerIds = trainerIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> userIds = new ArrayList<>(previousTrainerIds);
+        userIds.add(traineeId);
+        userIds.addAll(currentTrainerIds);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("traineeId", traineeId);
+        data.put("trainerIds", currentTrainerIds);
+        return new ScheduleEvent(Type.ASSIGNMENT_CHANGED, recipients(userIds), data);
+    }
+
+    private static Set<Long> recipients(Collection<Long> userIds) {
+        return userIds.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,298 @@
+package com.gym.crm.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of {@link ScheduleEvent}s to per-user SSE streams. Events are taken
+ * after the publishing transaction commits, so a client never sees a change that rolled back.
+ * <p>
+ * An idle stream holds no thread: each subscriber only owns a small bounded buffer, and a
+ * shared sender pool drains a buffer when something is queued. Publishing never blocks on a
+ * slow client; a subscriber whose buffer overflows is disconnected so it reconnects and
+ * refetches instead of silently missing events. Heartbeat comments keep proxies from closing
+ * idle streams and reveal dead connections.
+ */
+@Component
+public class ScheduleEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleEventHub.class);
+
+    private static final SseMessage HEARTBEAT = new SseMessage(null, null, null, "heartbeat");
+
+    /**
+     * One queued SSE frame; either an event (name, id, data) or a comment.
+     */
+    record SseMessage(String name, String id, Object data, String comment) {}
+
+    /**
+     * Where a subscriber's frames are written; an {@link SseEmitter} outside of tests.
+     */
+    interface EventSink {
+        void send(SseMessage message) throws IOException;
+
+        void close();
+    }
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeats;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxPerUser;
+    private final long streamTimeoutMs;
+    private final Counter publishedEvents;
+    private final Counter overflowDisconnects;
+
+    @Autowired
+    public ScheduleEventHub(MeterRegistry meterRegistry,
+                            @Value("${events.stream.buffer-size:32}") int bufferSize,
+                            @Value("${events.stream.max-subscribers:50000}") int maxSubscribers,
+                            @Value("${events.stream.max-per-user:5}") int maxPerUser,
+                            @Value("${events.stream.timeout-ms:1800000}") long streamTimeoutMs,
+                            @Value("${events.stream.heartbeat-interval-ms:20000}") long heartbeatIntervalMs,
+                            @Value("${events.stream.sender-threads:4}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPerUser = maxPerUser;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.sender = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("sse-sender-", 1).daemon().factory());
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+        if (heartbeatIntervalMs > 0) {
+            heartbeats.scheduleWithFixedDelay(this::sendHeartbeats,
+                    heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        Gauge.builder("gym.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open schedule event streams")
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("gym.events.published")
+                .description("Schedule events fanned out to subscribers")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("gym.events.disconnects")
+                .description("Streams closed because the client fell behind")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the user.
+     *
+     * @param userId id of the authenticated user
+     * @return the emitter to return from the controller, or empty if the hub or the user's
+     *         connection quota is full
+     */
+    public Optional<SseEmitter> subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Optional<Subscriber> subscriber = register(userId, new EmitterSink(emitter));
+        if (subscriber.isEmpty()) {
+            return Optional.empty();
+        }
+        Runnable close = subscriber.get()::close;
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+        subscriber.get().offer(new SseMessage(null, null, null, "connected"));
+        return Optional.of(emitter);
+    }
+
+    Optional<Subscriber> register(Long userId, EventSink sink) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User id cannot be null");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            logger.warn("Rejecting event stream for user {}: {} streams open", userId, maxSubscribers);
+            return Optional.empty();
+        }
+
+        Subscriber subscriber = new Subscriber(userId, sink);
+        boolean[] added = new boolean[1];
+        subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> streams = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (streams.size() < maxPerUser) {
+                added[0] = streams.add(subscriber);
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+        if (!added[0]) {
+            subscriberCount.decrementAndGet();
+            logger.debug("Rejecting event stream for user {}: {} streams already open", userId, maxPerUser);
+            return Optional.empty();
+        }
+
+        logger.debug("Opened event stream for user {}", userId);
+        return Optional.of(subscriber);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ScheduleEvent event) {
+        SseMessage message = new SseMessage(event.type().eventName(),
+                Long.toString(eventSequence.incrementAndGet(), Character.MAX_RADIX), event.data(), null);
+        int delivered = 0;
+        for (Long userId : event.userIds()) {
+            Set<Subscriber> streams = subscribers.get(userId);
+            if (streams == null) {
+                continue;
+            }
+            for (Subscriber subscriber : streams) {
+                if (subscriber.offer(message)) {
+                    delivered++;
+                }
+            }
+        }
+        publishedEvents.increment();
+        logger.debug("Published {} to {} streams", event.type(), delivered);
+    }
+
+    void sendHeartbeats() {
+        for (Set<Subscriber> streams : subscribers.values()) {
+            for (Subscriber subscriber : streams) {
+                // only idle streams need one; a queued event proves liveness just as well
+                if (subscriber.buffer.isEmpty()) {
+                    subscriber.offer(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, streams) -> {
+            if (streams.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(streams -> streams.forEach(Subscriber::close));
+        sender.shutdownNow();
+    }
+
+    final class Subscriber {
+
+        private final Long userId;
+        private final EventSink sink;
+        private final BlockingQueue<SseMessage> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, EventSink sink) {
+            this.userId = userId;
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean offer(SseMessage message) {
+            if (closed.get()) {
+                return false;
+            }
+            if (!buffer.offer(message)) {
+                overflowDisconnects.increment();
+                logger.info("Closing event stream for user {}: {} events pending", userId, bufferSize);
+                close();
+                return false;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    SseMessage message;
+                    while (!closed.get() && (message = buffer.poll()) != null) {
+                        sink.send(message);
+                    }
+                    draining.set(false);
+                    // an offer may have landed after the last poll but before the flag was cleared
+                } while (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Event stream for user {} failed: {}", userId, e.getMessage());
+                close();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                remove(this);
+                sink.close();
+            }
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements EventSink {
+
+        @Override
+        public void send(SseMessage message) throws IOException {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (message.comment() != null) {
+                event.comment(message.comment());
+            } else {
+                event.name(message.name()).id(message.id()).data(message.data(), MediaType.APPLICATION_JSON);
+            }
+            emitter.send(event);
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // already completed by the container
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.gym.crm.events;
+
+import java.time.LocalDate;
+
+/**
+ * Training minutes added to or removed from a trainer on a date, published by the training DAO
+ * whenever trainings are stored or deleted. Listeners that only care about committed data should
+ * use a transactional event listener.
+ *
+ * @param trainerId trainer whose minutes changed
+ * @param trainingDate date of the trainings
+ * @param minutes minutes added, negative if removed
+ */
+public record TrainerMinutesChanged(Long trainerId, LocalDate trainingDate, long minutes) {}
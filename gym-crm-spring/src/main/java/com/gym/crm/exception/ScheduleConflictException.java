@@ -0,0 +1,7 @@
+package com.gym.crm.exception;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.gym.crm.fields;
+
+import com.gym.crm.exception.ValidationException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The top-level response fields a client asked for with {@code ?fields=a,b,c}. Services use
+ * {@link #includes(String)} to skip loading sections nobody asked for, and
+ * {@link SparseFieldsetAdvice} drops the unrequested properties from the JSON. Without the
+ * parameter every field is included, so existing clients see no change.
+ */
+public final class FieldSelection {
+
+    public static final String PARAM = "fields";
+    public static final String FILTER_ID = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final ClassValue<Set<String>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .map(Field::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Parses a comma-separated field list without checking the names.
+     *
+     * @param raw value of the {@code fields} parameter, may be null
+     * @return the selection, or {@link #all()} if the value is null or blank
+     */
+    public static FieldSelection parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return ALL;
+        }
+        Set<String> fields = Arrays.stream(raw.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return fields.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    /**
+     * Parses a comma-separated field list and checks every name against the properties of
+     * the response type.
+     *
+     * @param raw value of the {@code fields} parameter, may be null
+     * @param responseType the response DTO the fields refer to
+     * @return the selection, or {@link #all()} if the value is null or blank
+     * @throws ValidationException if a name is not a property of the response type
+     */
+    public static FieldSelection parse(String raw, Class<?> responseType) {
+        FieldSelection selection = parse(raw);
+        if (!selection.isAll()) {
+            Set<String> known = PROPERTIES.get(responseType);
+            for (String field : selection.fields) {
+                if (!known.contains(field)) {
+                    throw new ValidationException("Unknown field '" + field + "', expected any of "
+                            + new TreeSet<>(known));
+                }
+            }
+        }
+        return selection;
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    Set<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Stable textual form, usable as part of a cache or coalescing key.
+     */
+    @Override
+    public String toString() {
+        return fields == null ? "*" : String.join(",", new TreeSet<>(fields));
+    }
+}
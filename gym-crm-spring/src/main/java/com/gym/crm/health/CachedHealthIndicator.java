@@ -0,0 +1,85 @@
+package com.gym.crm.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves the last result of a delegate indicator instead of running it on every probe.
+ * {@link #refresh()} is called from a background schedule; when the last completed refresh
+ * is older than the staleness threshold (the check hangs or the scheduler stopped), the
+ * indicator reports DOWN rather than an outdated UP.
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedHealthIndicator.class);
+
+    private final String name;
+    private final HealthIndicator delegate;
+    private final long staleAfterMillis;
+    private final LongSupplier currentTimeMillis;
+
+    private volatile Snapshot snapshot;
+
+    public CachedHealthIndicator(String name, HealthIndicator delegate, Duration staleAfter) {
+        this(name, delegate, staleAfter, System::currentTimeMillis);
+    }
+
+    CachedHealthIndicator(String name, HealthIndicator delegate, Duration staleAfter, LongSupplier currentTimeMillis) {
+        this.name = name;
+        this.delegate = delegate;
+        this.staleAfterMillis = staleAfter.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * Runs the delegate check and stores its result.
+     */
+    public void refresh() {
+        long start = currentTimeMillis.getAsLong();
+        Health health;
+        try {
+            health = delegate.health();
+        } catch (Exception e) {
+            health = Health.down(e).build();
+        }
+        long finished = currentTimeMillis.getAsLong();
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(health, finished, finished - start);
+        if (previous != null && !previous.health().getStatus().equals(health.getStatus())) {
+            logger.warn("Health of {} changed from {} to {}", name, previous.health().getStatus(), health.getStatus());
+        }
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail("reason", "Not checked yet").build();
+        }
+
+        long age = currentTimeMillis.getAsLong() - current.checkedAt();
+        Health.Builder builder = age > staleAfterMillis
+                ? Health.down().withDetail("reason", "Last check is older than " + staleAfterMillis + " ms")
+                : Health.status(current.health().getStatus());
+        return builder
+                .withDetails(current.health().getDetails())
+                .withDetail("checkedAt", Instant.ofEpochMilli(current.checkedAt()).toString())
+                .withDetail("ageMs", age)
+                .withDetail("checkDurationMs", current.durationMs())
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private record Snapshot(Health health, long checkedAt, long durationMs) {
+    }
+}
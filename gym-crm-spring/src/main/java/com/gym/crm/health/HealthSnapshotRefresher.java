@@ -0,0 +1,101 @@
+package com.gym.crm.health;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces the expensive health indicators in the actuator registry with
+ * {@link CachedHealthIndicator}s and refreshes them on a background schedule, so
+ * liveness/readiness probes never borrow a pool connection or hit the database themselves.
+ * Each indicator refreshes on its own thread; a check that hangs only makes its own
+ * snapshot go stale.
+ */
+@Component
+public class HealthSnapshotRefresher implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthSnapshotRefresher.class);
+
+    private final ObjectProvider<HealthContributorRegistry> registryProvider;
+    private final boolean enabled;
+    private final List<String> indicatorNames;
+    private final long refreshIntervalMs;
+    private final Duration staleAfter;
+
+    private final List<CachedHealthIndicator> cachedIndicators = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    public HealthSnapshotRefresher(ObjectProvider<HealthContributorRegistry> registryProvider,
+                                   @Value("${health.cache.enabled:true}") boolean enabled,
+                                   @Value("${health.cache.indicators:db,database,trainingService,authentication}") String indicatorNames,
+                                   @Value("${health.cache.refresh-interval-ms:10000}") long refreshIntervalMs,
+                                   @Value("${health.cache.stale-after-ms:30000}") long staleAfterMs) {
+        this.registryProvider = registryProvider;
+        this.enabled = enabled;
+        this.indicatorNames = Arrays.stream(indicatorNames.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        HealthContributorRegistry registry = registryProvider.getIfAvailable();
+        if (!enabled || registry == null) {
+            return;
+        }
+
+        for (String name : indicatorNames) {
+            HealthContributor contributor = registry.getContributor(name);
+            if (!(contributor instanceof HealthIndicator indicator) || contributor instanceof CachedHealthIndicator) {
+                continue;
+            }
+            CachedHealthIndicator cached = new CachedHealthIndicator(name, indicator, staleAfter);
+            // first result is computed before the endpoint can be probed
+            cached.refresh();
+            registry.unregisterContributor(name);
+            registry.registerContributor(name, cached);
+            cachedIndicators.add(cached);
+        }
+        if (cachedIndicators.isEmpty()) {
+            return;
+        }
+
+        scheduler = Executors.newScheduledThreadPool(cachedIndicators.size(), Thread.ofPlatform()
+                .name("health-refresh-", 1).daemon().factory());
+        for (CachedHealthIndicator cached : cachedIndicators) {
+            scheduler.scheduleWithFixedDelay(cached::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        logger.info("Health indicators {} cached, refreshed every {} ms, stale after {} ms",
+                cachedIndicators.stream().map(CachedHealthIndicator::getName).toList(),
+                refreshIntervalMs, staleAfter.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    List<CachedHealthIndicator> cachedIndicators() {
+        return List.copyOf(cachedIndicators);
+    }
+}
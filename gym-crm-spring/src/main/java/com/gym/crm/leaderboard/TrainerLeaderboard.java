@@ -0,0 +1,400 @@
+package com.gym.crm.leaderboard;
+
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.events.TrainerMinutesChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Training minutes per trainer for the current month, kept in memory so the leaderboard is read
+ * without scanning the training table. Totals live in a primitive trainer id to minutes map and
+ * follow every committed insert and trainee deletion of the training DAO; the top trainers are
+ * picked with a bounded heap and cached until the totals change.
+ * <p>
+ * Trainings count towards the month they are dated in. The totals are loaded from the database
+ * once the application is ready, again when the month changes, and whenever the periodic drift
+ * check finds them out of line with the database, e.g. after a change made outside the DAO.
+ * Changes arrive after their commit, so a load that saw a change arrive meanwhile may or may
+ * not contain it; such a load is repeated rather than installed.
+ */
+@Component
+public class TrainerLeaderboard {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerLeaderboard.class);
+
+    static final int MAX_LOAD_ATTEMPTS = 3;
+
+    /**
+     * A trainer's position on the board.
+     */
+    public record Standing(int rank, Long trainerId, long minutes) {}
+
+    private final TrainingDao trainingDao;
+    private final Clock clock;
+    private final long driftCheckIntervalMs;
+    private final Counter driftCorrections;
+
+    // guarded by this
+    private YearMonth month;
+    private MinutesByTrainer minutes = new MinutesByTrainer();
+    // changes of the current month received, applied or not
+    private long changes;
+    private long version;
+    private List<Standing> cachedTop = List.of();
+    private int cachedLimit;
+    private long cachedVersion = -1;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TrainerLeaderboard(TrainingDao trainingDao,
+                              MeterRegistry meterRegistry,
+                              @Value("${leaderboard.drift-check-interval-ms:600000}") long driftCheckIntervalMs) {
+        this(trainingDao, meterRegistry, driftCheckIntervalMs, Clock.systemDefaultZone());
+    }
+
+    TrainerLeaderboard(TrainingDao trainingDao, MeterRegistry meterRegistry, long driftCheckIntervalMs, Clock clock) {
+        this.trainingDao = trainingDao;
+        this.clock = clock;
+        this.driftCheckIntervalMs = driftCheckIntervalMs;
+        Gauge.builder("gym.leaderboard.trainers", this, TrainerLeaderboard::getTrainerCount)
+                .description("Trainers with training minutes this month on the leaderboard")
+                .register(meterRegistry);
+        this.driftCorrections = Counter.builder("gym.leaderboard.drift-corrections")
+                .description("Leaderboard reloads because in-memory totals differed from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads this month's totals and starts the drift check; a non-positive interval disables it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        if (driftCheckIntervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("leaderboard-drift-check").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::checkDriftSafely,
+                    driftCheckIntervalMs, driftCheckIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Replaces the totals with the current month's from the database. If changes keep arriving
+     * during every attempt, the last load is installed and left to the drift check.
+     */
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        YearMonth current = YearMonth.now(clock);
+        MinutesByTrainer loaded;
+        for (int attempt = 1; ; attempt++) {
+            long seen = getChanges();
+            loaded = load(current);
+            synchronized (this) {
+                if (changes == seen || attempt == MAX_LOAD_ATTEMPTS) {
+                    replace(current, loaded);
+                    break;
+                }
+            }
+        }
+        logger.info("Loaded training minutes of {} trainers for {} in {} ms",
+                loaded.size(), current, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Compares the totals with the database and reloads them if they differ. The check is
+     * skipped if changes keep arriving while the database totals are read.
+     *
+     * @return true if the totals had drifted and were replaced
+     */
+    public boolean checkDrift() {
+        YearMonth current = YearMonth.now(clock);
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long seen = getChanges();
+            MinutesByTrainer stored = load(current);
+            synchronized (this) {
+                if (changes != seen) {
+                    continue;
+                }
+                if (current.equals(month) && minutes.sameTotals(stored)) {
+                    return false;
+                }
+                boolean drifted = current.equals(month);
+                replace(current, stored);
+                if (drifted) {
+                    driftCorrections.increment();
+                    logger.warn("Leaderboard totals for {} differed from the database and were reloaded", current);
+                }
+                return drifted;
+            }
+        }
+        logger.debug("Skipped leaderboard drift check: totals for {} kept changing", current);
+        return false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMinutesChanged(TrainerMinutesChanged event) {
+        if (event.trainerId() == null || event.trainingDate() == null) {
+            return;
+        }
+        YearMonth eventMonth = YearMonth.from(event.trainingDate());
+        if (!eventMonth.equals(YearMonth.now(clock))) {
+            return;
+        }
+        synchronized (this) {
+            changes++;
+            if (month == null) {
+                // not loaded yet; a load in progress sees the change count move and loads again
+                return;
+            }
+            if (eventMonth.equals(month)) {
+                minutes.add(event.trainerId(), event.minutes());
+                version++;
+                return;
+            }
+        }
+        // first change of a new month: the new month's totals are not in memory yet
+        rebuild();
+    }
+
+    /**
+     * Trainers with the most minutes this month, most first; ties go to the lower trainer id.
+     *
+     * @param limit maximum number of standings
+     */
+    public List<Standing> top(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (!YearMonth.now(clock).equals(getMonth())) {
+            rebuild();
+        }
+        synchronized (this) {
+            if (cachedVersion != version || cachedLimit < limit) {
+                cachedTop = minutes.top(limit);
+                cachedLimit = limit;
+                cachedVersion = version;
+            }
+            return cachedTop.subList(0, Math.min(limit, cachedTop.size()));
+        }
+    }
+
+    public synchronized YearMonth getMonth() {
+        return month;
+    }
+
+    public synchronized int getTrainerCount() {
+        return minutes.size();
+    }
+
+    private synchronized long getChanges() {
+        return changes;
+    }
+
+    // caller holds the monitor
+    private void replace(YearMonth current, MinutesByTrainer loaded) {
+        month = current;
+        minutes = loaded;
+        version++;
+    }
+
+    private MinutesByTrainer load(YearMonth month) {
+        Map<Long, Long> stored = trainingDao.sumMinutesPerTrainer(month.atDay(1), month.atEndOfMonth());
+        MinutesByTrainer loaded = new MinutesByTrainer();
+        stored.forEach(loaded::add);
+        return loaded;
+    }
+
+    private void checkDriftSafely() {
+        try {
+            checkDrift();
+        } catch (RuntimeException e) {
+            logger.warn("Leaderboard drift check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Open-addressing map from trainer id to minutes on parallel primitive arrays, so the totals
+     * take two longs per trainer and updates allocate nothing. Entries are never removed; a
+     * trainer whose minutes drop to zero simply stays off the board.
+     */
+    static final class MinutesByTrainer {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys = newKeys(64);
+        private long[] values = new long[64];
+        private int used;
+
+        void add(long trainerId, long delta) {
+            if (trainerId == EMPTY) {
+                throw new IllegalArgumentException("Invalid trainer id");
+            }
+            int slot = slot(keys, trainerId);
+            if (keys[slot] == EMPTY) {
+                if ((used + 1) * 4 > keys.length * 3) {
+                    grow();
+                    slot = slot(keys, trainerId);
+                }
+                keys[slot] = trainerId;
+                used++;
+            }
+            values[slot] += delta;
+        }
+
+        long get(long trainerId) {
+            int slot = slot(keys, trainerId);
+            return keys[slot] == EMPTY ? 0 : values[slot];
+        }
+
+        /**
+         * Trainers with positive minutes.
+         */
+        int size() {
+            int size = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && values[i] > 0) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        boolean sameTotals(MinutesByTrainer other) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && values[i] != other.get(keys[i])) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.keys[i] != EMPTY && other.values[i] != get(other.keys[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Picks the best entries with a min-heap of at most limit slots, worst at the root.
+         */
+        List<Standing> top(int limit) {
+            int[] heap = new int[limit];
+            int size = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == EMPTY || values[i] <= 0) {
+                    continue;
+                }
+                if (size < limit) {
+                    heap[size] = i;
+                    siftUp(heap, size++);
+                } else if (ranksAbove(i, heap[0])) {
+                    heap[0] = i;
+                    siftDown(heap, size);
+                }
+            }
+
+            Standing[] standings = new Standing[size];
+            for (int last = size - 1; last >= 0; last--) {
+                int slot = heap[0];
+                heap[0] = heap[last];
+                siftDown(heap, last);
+                standings[last] = new Standing(last + 1, keys[slot], values[slot]);
+            }
+            return List.of(standings);
+        }
+
+        private boolean ranksAbove(int slot, int other) {
+            return values[slot] != values[other] ? values[slot] > values[other] : keys[slot] < keys[other];
+        }
+
+        private void siftUp(int[] heap, int at) {
+            while (at > 0) {
+                int parent = (at - 1) / 2;
+                if (!ranksAbove(heap[parent], heap[at])) {
+                    return;
+                }
+                swap(heap, parent, at);
+                at = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int size) {
+            int at = 0;
+            while (true) {
+                int worst = at;
+                for (int child = 2 * at + 1; child <= 2 * at + 2 && child < size; child++) {
+                    if (ranksAbove(heap[worst], heap[child])) {
+                        worst = child;
+                    }
+                }
+                if (worst == at) {
+                    return;
+                }
+                swap(heap, at, worst);
+                at = worst;
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new long[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        // the key's slot, or the empty slot where it belongs
+        private static int slot(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private static void swap(int[] heap, int i, int j) {
+            int swapped = heap[i];
+            heap[i] = heap[j];
+            heap[j] = swapped;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.gym.crm.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-based adaptive concurrency limit for one endpoint group.
+ *
+ * Two exponentially weighted RTT averages are tracked: a short one reacting to the current
+ * latency and a long one acting as the no-load baseline. Every completed request moves the
+ * limit towards {@code limit * gradient + sqrt(limit)}, where
+ * {@code gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)}. While latency stays near
+ * the baseline the gradient is 1 and the sqrt headroom probes upward; once queueing inflates
+ * latency the gradient drops and the limit shrinks until it does not. Requests above the
+ * limit are rejected immediately instead of waiting for a Tomcat thread or a DB connection.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.005;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Reserves a slot if the group is below its current limit.
+     *
+     * @return true if the caller may proceed and must later call {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the observed latency into the limit estimate.
+     *
+     * @param rttNanos request duration, or a negative value to release without sampling
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+
+        // A baseline far above the current latency means load dropped; let it recover quickly.
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos = shortRttNanos;
+        }
+
+        double currentLimit = limit;
+        // Do not grow the limit while the group is not using it.
+        if (inFlightAtCompletion < currentLimit / 2 && shortRttNanos <= longRttNanos * tolerance) {
+            return;
+        }
+
+        double gradient = Math.clamp(tolerance * longRttNanos / shortRttNanos, MIN_GRADIENT, 1.0);
+        double target = currentLimit * gradient + Math.sqrt(currentLimit);
+        double next = currentLimit * (1 - smoothing) + target * smoothing;
+        limit = Math.clamp(next, minLimit, maxLimit);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getShortRttMillis() {
+        return shortRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.gym.crm.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sheds excess API load with an immediate 503 before it reaches Spring Security and the
+ * controllers. Each {@link EndpointGroup} has its own {@link AdaptiveConcurrencyLimiter}.
+ * Only /api/** is limited; actuator, Swagger and the metrics dashboard always pass.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final boolean enabled;
+    private final Map<EndpointGroup, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> acceptedCounters = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejectedCounters = new EnumMap<>(EndpointGroup.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${limiter.enabled:true}") boolean enabled,
+                                  @Value("${limiter.min-limit:4}") int minLimit,
+                                  @Value("${limiter.tolerance:1.5}") double tolerance,
+                                  @Value("${limiter.smoothing:0.2}") double smoothing,
+                                  @Value("${limiter.auth.initial-limit:16}") int authInitialLimit,
+                                  @Value("${limiter.auth.max-limit:64}") int authMaxLimit,
+                                  @Value("${limiter.read.initial-limit:40}") int readInitialLimit,
+                                  @Value("${limiter.read.max-limit:180}") int readMaxLimit,
+                                  @Value("${limiter.write.initial-limit:20}") int writeInitialLimit,
+                                  @Value("${limiter.write.max-limit:100}") int writeMaxLimit) {
+        this.enabled = enabled;
+        limiters.put(EndpointGroup.AUTH, new AdaptiveConcurrencyLimiter(
+                authInitialLimit, minLimit, authMaxLimit, tolerance, smoothing));
+        limiters.put(EndpointGroup.READ, new AdaptiveConcurrencyLimiter(
+                readInitialLimit, minLimit, readMaxLimit, tolerance, smoothing));
+        limiters.put(EndpointGroup.WRITE, new AdaptiveConcurrencyLimiter(
+                writeInitialLimit, minLimit, writeMaxLimit, tolerance, smoothing));
+
+        limiters.forEach((group, limiter) -> {
+            String tag = group.name().toLowerCase();
+            acceptedCounters.put(group, Counter.builder("gym.limiter.requests")
+                    .description("API requests admitted or shed by the concurrency limiter")
+                    .tag("group", tag)
+                    .tag("outcome", "accepted")
+                    .register(meterRegistry));
+            rejectedCounters.put(group, Counter.builder("gym.limiter.requests")
+                    .description("API requests admitted or shed by the concurrency limiter")
+                    .tag("group", tag)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+            Gauge.builder("gym.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            Gauge.builder("gym.limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests currently holding a limiter slot")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        EndpointGroup group = classify(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(group);
+
+        if (!limiter.tryAcquire()) {
+            rejectedCounters.get(group).increment();
+            logger.debug("Shedding {} {} - {} limit {} reached",
+                    request.getMethod(), request.getRequestURI(), group, limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        acceptedCounters.get(group).increment();
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // Failed requests say nothing reliable about queueing delay, so they are not sampled.
+            limiter.release(completed && response.getStatus() < 500 ? System.nanoTime() - start : -1);
+        }
+    }
+
+    static EndpointGroup classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/auth/") || path.endsWith("/register")) {
+            return EndpointGroup.AUTH;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return EndpointGroup.READ;
+        }
+        return EndpointGroup.WRITE;
+    }
+
+    AdaptiveConcurrencyLimiter getLimiter(EndpointGroup group) {
+        return limiters.get(group);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("timestamp", LocalDateTime.now().toString());
+        errorDetails.put("status", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        errorDetails.put("error", "Service Unavailable");
+        errorDetails.put("message", "Server is at capacity, retry later");
+        errorDetails.put("path", request.getRequestURI());
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorDetails));
+    }
+}
@@ -0,0 +1,11 @@
+package com.gym.crm.limiter;
+
+/**
+ * Endpoint groups with independent concurrency limits, so that CPU-heavy
+ * authentication (BCrypt) cannot starve reads and writes of connections, and vice versa.
+ */
+public enum EndpointGroup {
+    AUTH,
+    READ,
+    WRITE
+}
@@ -0,0 +1,79 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Publishes queue depth and drop counts of every {@link MeteredAsyncAppender} and the number of
+ * events removed by {@link LogSamplingTurboFilter}, so a logging backlog shows up on the
+ * dashboards before events start disappearing.
+ */
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            bindTo(registry, context);
+        }
+    }
+
+    void bindTo(MeterRegistry registry, LoggerContext context) {
+        for (MeteredAsyncAppender appender : asyncAppenders(context)) {
+            String name = appender.getName();
+            Gauge.builder("gym.logging.queue.depth", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting for the async appender worker")
+                    .tag("appender", name)
+                    .register(registry);
+            Gauge.builder("gym.logging.queue.capacity", appender, MeteredAsyncAppender::getQueueSize)
+                    .description("Size of the async appender queue")
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("gym.logging.events.dropped", appender, MeteredAsyncAppender::getDiscardedCount)
+                    .description("Log events dropped by the async appender")
+                    .tag("appender", name)
+                    .tag("reason", "threshold")
+                    .register(registry);
+            FunctionCounter.builder("gym.logging.events.dropped", appender, MeteredAsyncAppender::getDroppedWhenFullCount)
+                    .description("Log events dropped by the async appender")
+                    .tag("appender", name)
+                    .tag("reason", "full")
+                    .register(registry);
+        }
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof LogSamplingTurboFilter sampling) {
+                FunctionCounter.builder("gym.logging.events.sampled", sampling, LogSamplingTurboFilter::getSampledOutCount)
+                        .description("INFO events skipped by log sampling")
+                        .tag("logger", sampling.getLoggerPrefix())
+                        .register(registry);
+            }
+        }
+    }
+
+    static List<MeteredAsyncAppender> asyncAppenders(LoggerContext context) {
+        List<MeteredAsyncAppender> appenders = new ArrayList<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof MeteredAsyncAppender appender && !appenders.contains(appender)) {
+                    appenders.add(appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,62 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one in {@code rate} INFO events per message template for loggers under
+ * {@code loggerPrefix} (the DAO layer by default). Runs before the event is built, so a
+ * sampled-out call costs a map lookup and an increment. Counting per template keeps rare
+ * messages visible: the first occurrence of each is always logged. WARN and ERROR pass
+ * through untouched.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.gym.crm.dao";
+    private int rate = 100;
+
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final LongAdder sampledOut = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isInfoEnabled() checks; those must not consume a sample
+        if (rate <= 1 || format == null || level != Level.INFO || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        long seen = counters.computeIfAbsent(format, key -> new AtomicLong()).getAndIncrement();
+        if (seen % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    public String getLoggerPrefix() {
+        return loggerPrefix;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+}
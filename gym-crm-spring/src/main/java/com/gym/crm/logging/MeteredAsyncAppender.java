@@ -0,0 +1,51 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts what it throws away. Events go into a bounded
+ * array-backed queue and are written by a single worker thread, so the logging thread never
+ * touches the file or console. Two things drop events:
+ * <ul>
+ *     <li>once the remaining capacity falls below {@code discardingThreshold}, TRACE/DEBUG/INFO
+ *     events are discarded (WARN and ERROR are kept)</li>
+ *     <li>with {@code neverBlock} set, any event that finds the queue full is dropped instead of
+ *     making the caller wait</li>
+ * </ul>
+ * Both counts and the queue depth are published by {@link AsyncLoggingMetrics}.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder droppedWhenFull = new LongAdder();
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // the base class drops silently on a full queue; the check is racy, which is fine for a counter
+        if (isStarted() && isNeverBlock() && getRemainingCapacity() == 0
+                && !(isQueueBelowDiscardingThreshold() && super.isDiscardable(event))) {
+            droppedWhenFull.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getDroppedWhenFullCount() {
+        return droppedWhenFull.sum();
+    }
+}
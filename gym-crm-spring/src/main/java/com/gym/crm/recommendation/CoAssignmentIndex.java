@@ -0,0 +1,230 @@
+package com.gym.crm.recommendation;
+
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.events.ScheduleEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory trainer co-assignment matrix: for every pair of trainers, how many trainees are
+ * assigned to both. Trainers often chosen together are similar, so a trainee's current trainers
+ * point at the trainers their peers picked next.
+ * <p>
+ * The matrix is trainer by trainer rather than trainee by trainee, so it stays as small as the
+ * trainer pool, and an assignment change only touches the pairs of that one trainee's trainers.
+ * It is loaded once the application is ready and then follows assignment change events.
+ */
+@Component
+public class CoAssignmentIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoAssignmentIndex.class);
+
+    private final TraineeTrainerAssignmentDao assignmentDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock
+    private final Map<Long, Set<Long>> trainersByTrainee = new HashMap<>();
+    private final Map<Long, Integer> traineeCounts = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> sharedTrainees = new HashMap<>();
+    private long pairCount;
+
+    public CoAssignmentIndex(TraineeTrainerAssignmentDao assignmentDao, MeterRegistry meterRegistry) {
+        this.assignmentDao = assignmentDao;
+        Gauge.builder("gym.recommendation.trainer-pairs", this, CoAssignmentIndex::getPairCount)
+                .description("Trainer pairs sharing at least one trainee in the co-assignment matrix")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every assignment. Trainees whose assignments changed meanwhile are kept as they are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        Map<Long, List<Long>> stored = assignmentDao.findAll().stream()
+                .collect(Collectors.groupingBy(TraineeTrainerAssignment::getTraineeId,
+                        Collectors.mapping(TraineeTrainerAssignment::getTrainerId, Collectors.toList())));
+
+        lock.writeLock().lock();
+        try {
+            stored.forEach((traineeId, trainerIds) -> {
+                if (!trainersByTrainee.containsKey(traineeId)) {
+                    replace(traineeId, trainerIds);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Indexed assignments of {} trainees ({} trainer pairs) in {} ms",
+                stored.size(), getPairCount(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Follows committed trainer list changes.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleEvent(ScheduleEvent event) {
+        if (event.type() == ScheduleEvent.Type.ASSIGNMENT_CHANGED
+                && event.data().get("traineeId") instanceof Long traineeId
+                && event.data().get("trainerIds") instanceof List<?> trainerIds) {
+            replaceAssignments(traineeId, trainerIds.stream().map(Long.class::cast).toList());
+        }
+    }
+
+    /**
+     * Sets the trainers of a trainee, updating only the pairs among its old and new trainers.
+     */
+    public void replaceAssignments(Long traineeId, Collection<Long> trainerIds) {
+        if (traineeId == null) {
+            throw new IllegalArgumentException("Trainee ID cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            replace(traineeId, trainerIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTrainee(Long traineeId) {
+        if (traineeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            replace(traineeId, List.of());
+            trainersByTrainee.remove(traineeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> getTrainerIds(Long traineeId) {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(trainersByTrainee.getOrDefault(traineeId, Set.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of trainees assigned to each trainer; trainers without trainees are absent.
+     */
+    public Map<Long, Integer> getTraineeCounts() {
+        lock.readLock().lock();
+        try {
+            return Map.copyOf(traineeCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores the trainers co-assigned with any of the given trainer's: the average cosine
+     * similarity to them, from 0 (never chosen together) to 1 (always chosen together).
+     *
+     * @param trainerIds a trainee's current trainers
+     * @return similarity per co-assigned trainer, excluding the given ones
+     */
+    public Map<Long, Double> similarTrainers(Collection<Long> trainerIds) {
+        Map<Long, Double> similarity = new HashMap<>();
+        if (trainerIds == null || trainerIds.isEmpty()) {
+            return similarity;
+        }
+        lock.readLock().lock();
+        try {
+            for (Long trainerId : trainerIds) {
+                int trainees = traineeCounts.getOrDefault(trainerId, 0);
+                for (Map.Entry<Long, Integer> pair : sharedTrainees.getOrDefault(trainerId, Map.of()).entrySet()) {
+                    if (!trainerIds.contains(pair.getKey())) {
+                        double cosine = pair.getValue()
+                                / Math.sqrt((double) trainees * traineeCounts.get(pair.getKey()));
+                        similarity.merge(pair.getKey(), cosine / trainerIds.size(), Double::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return similarity;
+    }
+
+    public long getPairCount() {
+        lock.readLock().lock();
+        try {
+            return pairCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // caller holds the write lock
+    private void replace(Long traineeId, Collection<Long> trainerIds) {
+        Set<Long> previous = trainersByTrainee.getOrDefault(traineeId, Set.of());
+        Set<Long> current = trainerIds.stream().filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<Long> kept = new LinkedHashSet<>(previous);
+        kept.retainAll(current);
+        for (Long removed : previous) {
+            if (!current.contains(removed)) {
+                // pairs with the trainers still assigned, and with each other removed one once
+                kept.forEach(other -> addShared(removed, other, -1));
+                kept.add(removed);
+                traineeCounts.merge(removed, -1, Integer::sum);
+                traineeCounts.remove(removed, 0);
+            }
+        }
+
+        kept = new LinkedHashSet<>(previous);
+        kept.retainAll(current);
+        for (Long added : current) {
+            if (!previous.contains(added)) {
+                kept.forEach(other -> addShared(added, other, 1));
+                kept.add(added);
+                traineeCounts.merge(added, 1, Integer::sum);
+            }
+        }
+        trainersByTrainee.put(traineeId, current);
+    }
+
+    // caller holds the write lock
+    private void addShared(Long trainerId, Long otherId, int delta) {
+        if (updatePair(trainerId, otherId, delta) & updatePair(otherId, trainerId, delta)) {
+            pairCount += delta;
+        }
+    }
+
+    // true if the pair appeared or disappeared
+    private boolean updatePair(Long trainerId, Long otherId, int delta) {
+        Map<Long, Integer> pairs = sharedTrainees.computeIfAbsent(trainerId, id -> new HashMap<>());
+        Integer count = pairs.merge(otherId, delta, Integer::sum);
+        if (count == 0) {
+            pairs.remove(otherId);
+            if (pairs.isEmpty()) {
+                sharedTrainees.remove(trainerId);
+            }
+            return true;
+        }
+        return count == 1 && delta > 0;
+    }
+}
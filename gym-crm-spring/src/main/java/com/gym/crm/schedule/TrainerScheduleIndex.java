@@ -0,0 +1,336 @@
+package com.gym.crm.schedule;
+
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.entity.Training;
+import com.gym.crm.exception.ScheduleConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of every trainer's upcoming timed sessions, used to reject double bookings
+ * without querying the training table on each insert. A trainer's sessions are kept ordered by
+ * start, so an overlap check only visits the sessions starting within one longest-session
+ * length before the new one ends: a tree lookup plus a few neighbours.
+ * <p>
+ * A slot is reserved before the training is inserted and released if the insert fails, so two
+ * concurrent bookings of the same slot cannot both pass. The index is filled from the database
+ * once the application is ready; until then, and for trainings dated before the indexed window,
+ * the stored trainings are checked as well. Trainings without a start time never conflict.
+ */
+@Component
+public class TrainerScheduleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerScheduleIndex.class);
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private static final Comparator<Slot> SLOT_ORDER =
+            Comparator.<Slot>comparingLong(slot -> slot.start).thenComparingLong(slot -> slot.sequence);
+
+    private final TrainingDao trainingDao;
+    private final ConcurrentMap<Long, TrainerSchedule> schedules = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Slot> slotsByTrainingId = new ConcurrentHashMap<>();
+    private final AtomicLong slotSequence = new AtomicLong();
+    private final AtomicInteger indexedSessions = new AtomicInteger();
+    private final Counter conflicts;
+
+    // first date whose sessions are all in memory; null until the index has been rebuilt
+    private volatile LocalDate indexedFrom;
+
+    public TrainerScheduleIndex(TrainingDao trainingDao, MeterRegistry meterRegistry) {
+        this.trainingDao = trainingDao;
+        Gauge.builder("gym.schedule.indexed-sessions", indexedSessions, AtomicInteger::get)
+                .description("Timed training sessions held in the trainer schedule index")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("gym.schedule.conflicts")
+                .description("Trainings rejected because the trainer was already booked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the timed sessions from today on. Runs after the startup data loaders; bookings made
+     * meanwhile are already in memory and are not added twice.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        long startedAt = System.nanoTime();
+        // yesterday as well, for sessions running past midnight into today
+        List<Training> trainings = trainingDao.findScheduledFrom(today.minusDays(1));
+        for (Training training : trainings) {
+            add(training);
+        }
+        indexedFrom = today;
+        logger.info("Indexed {} upcoming timed trainings in {} ms",
+                indexedSessions.get(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Claims the training's time slot with its trainer.
+     *
+     * @param training training about to be inserted
+     * @return the reservation to confirm with the new id once stored, or release if the insert fails
+     * @throws ScheduleConflictException if the trainer already has a session overlapping it
+     */
+    public Reservation reserve(Training training) {
+        if (training == null) {
+            throw new IllegalArgumentException("Training cannot be null");
+        }
+        Slot slot = toSlot(training, slotSequence.incrementAndGet());
+        if (slot == null) {
+            return new Reservation(null);
+        }
+
+        LocalDate from = advanceWindow();
+        boolean indexed = from != null && !training.getTrainingDate().isBefore(from);
+        TrainerSchedule schedule = schedule(slot.trainerId);
+        synchronized (schedule) {
+            if (from != null) {
+                prune(schedule, epochSecond(from, LocalTime.MIDNIGHT));
+            }
+            Slot booked = schedule.findOverlap(slot.start, slot.end);
+            if (booked == null && !indexed) {
+                booked = findStoredOverlap(training, slot);
+            }
+            if (booked != null) {
+                conflicts.increment();
+                throw new ScheduleConflictException("Trainer is already booked from "
+                        + toDateTime(booked.start) + " to " + toDateTime(booked.end));
+            }
+            schedule.add(slot);
+            indexedSessions.incrementAndGet();
+        }
+        return new Reservation(slot);
+    }
+
+    /**
+     * Drops the sessions of a trainee whose trainings were deleted.
+     */
+    public void removeTrainee(Long traineeId) {
+        if (traineeId == null) {
+            return;
+        }
+        int removed = 0;
+        for (TrainerSchedule schedule : schedules.values()) {
+            synchronized (schedule) {
+                Iterator<Slot> slots = schedule.slots.iterator();
+                while (slots.hasNext()) {
+                    Slot slot = slots.next();
+                    if (traineeId.equals(slot.traineeId)) {
+                        slots.remove();
+                        forget(slot);
+                        removed++;
+                    }
+                }
+            }
+        }
+        logger.debug("Removed {} indexed sessions of trainee {}", removed, traineeId);
+    }
+
+    public int getIndexedSessionCount() {
+        return indexedSessions.get();
+    }
+
+    private void add(Training training) {
+        Slot slot = toSlot(training, slotSequence.incrementAndGet());
+        if (slot == null || training.getId() == null) {
+            return;
+        }
+        TrainerSchedule schedule = schedule(slot.trainerId);
+        synchronized (schedule) {
+            if (slotsByTrainingId.putIfAbsent(training.getId(), slot) == null) {
+                slot.trainingId = training.getId();
+                schedule.add(slot);
+                indexedSessions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Moves the window to today once the date changes, so old sessions can be pruned.
+     */
+    private LocalDate advanceWindow() {
+        LocalDate from = indexedFrom;
+        if (from != null) {
+            LocalDate today = LocalDate.now();
+            if (from.isBefore(today)) {
+                indexedFrom = today;
+                return today;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Drops sessions that ended before the window; they cannot overlap anything in it, and
+     * bookings dated earlier are checked against the database.
+     */
+    private void prune(TrainerSchedule schedule, long windowStart) {
+        Iterator<Slot> slots = schedule.slots.headSet(Slot.probe(windowStart), false).iterator();
+        while (slots.hasNext()) {
+            Slot slot = slots.next();
+            if (slot.end <= windowStart) {
+                slots.remove();
+                forget(slot);
+            }
+        }
+    }
+
+    private Slot findStoredOverlap(Training training, Slot slot) {
+        LocalDate lastDate = LocalDate.ofEpochDay((slot.end - 1) / SECONDS_PER_DAY);
+        List<Training> stored = trainingDao.findByTrainerIdAndDateRange(
+                slot.trainerId, training.getTrainingDate().minusDays(1), lastDate);
+        for (Training other : stored) {
+            Slot otherSlot = toSlot(other, 0);
+            if (otherSlot != null && otherSlot.start < slot.end && otherSlot.end > slot.start) {
+                return otherSlot;
+            }
+        }
+        return null;
+    }
+
+    // caller holds the lock of the slot's trainer schedule
+    private void forget(Slot slot) {
+        slot.removed = true;
+        if (slot.trainingId != null) {
+            slotsByTrainingId.remove(slot.trainingId, slot);
+        }
+        indexedSessions.decrementAndGet();
+    }
+
+    private TrainerSchedule schedule(Long trainerId) {
+        return schedules.computeIfAbsent(trainerId, id -> new TrainerSchedule());
+    }
+
+    private static Slot toSlot(Training training, long sequence) {
+        if (training.getTrainerId() == null || training.getTrainingDate() == null
+                || training.getTrainingStartTime() == null || training.getTrainingDuration() == null) {
+            return null;
+        }
+        long start = epochSecond(training.getTrainingDate(), training.getTrainingStartTime());
+        return new Slot(sequence, start, start + training.getTrainingDuration() * 60L,
+                training.getTrainerId(), training.getTraineeId());
+    }
+
+    private static long epochSecond(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * A claimed slot; confirm it with the stored training's id, or release it if nothing was stored.
+     */
+    public final class Reservation {
+
+        private final Slot slot;
+
+        private Reservation(Slot slot) {
+            this.slot = slot;
+        }
+
+        public void confirm(Long trainingId) {
+            if (slot == null || trainingId == null) {
+                return;
+            }
+            TrainerSchedule schedule = schedule(slot.trainerId);
+            synchronized (schedule) {
+                if (slot.removed || slot.trainingId != null) {
+                    return;
+                }
+                if (slotsByTrainingId.putIfAbsent(trainingId, slot) == null) {
+                    slot.trainingId = trainingId;
+                } else if (schedule.slots.remove(slot)) {
+                    // the rebuild already picked the stored training up
+                    forget(slot);
+                }
+            }
+        }
+
+        public void release() {
+            if (slot == null) {
+                return;
+            }
+            TrainerSchedule schedule = schedule(slot.trainerId);
+            synchronized (schedule) {
+                if (schedule.slots.remove(slot)) {
+                    forget(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * One trainer's sessions; guarded by its own monitor.
+     */
+    private static final class TrainerSchedule {
+
+        private final NavigableSet<Slot> slots = new TreeSet<>(SLOT_ORDER);
+        private long longestSlot;
+
+        void add(Slot slot) {
+            slots.add(slot);
+            longestSlot = Math.max(longestSlot, slot.end - slot.start);
+        }
+
+        Slot findOverlap(long start, long end) {
+            // anything starting earlier than this has ended before start
+            Slot from = Slot.probe(start - longestSlot);
+            for (Slot slot : slots.subSet(from, true, Slot.probe(end), false)) {
+                if (slot.end > start) {
+                    return slot;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A session's time range in seconds since the epoch, read as local date-time.
+     */
+    private static final class Slot {
+
+        private final long sequence;
+        private final long start;
+        private final long end;
+        private final Long trainerId;
+        private final Long traineeId;
+        private Long trainingId;
+        private boolean removed;
+
+        private Slot(long sequence, long start, long end, Long trainerId, Long traineeId) {
+            this.sequence = sequence;
+            this.start = start;
+            this.end = end;
+            this.trainerId = trainerId;
+            this.traineeId = traineeId;
+        }
+
+        // sorts before every real slot with the same start
+        static Slot probe(long start) {
+            return new Slot(Long.MIN_VALUE, start, start, null, null);
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.gym.crm.search;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory name search over trainees and trainers by first name, last name and username.
+ * <p>
+ * Names are split into terms, letters and digits apart, so "john.doe2" gives "john", "doe" and "2".
+ * Each distinct term is indexed once by its anchored trigrams ("^jo", "joh", "ohn") and keeps a
+ * sorted list of the users carrying it. A query term is matched against this vocabulary rather
+ * than against users: exact terms score above prefixes, prefixes above near misses within a small
+ * edit distance. The user lists of the matching terms are then merged, and only users matching
+ * every query term are ranked, so a common name costs one pass over its users.
+ * <p>
+ * Built once the application is ready and kept current by the user services.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final Pattern TERM = Pattern.compile("\\p{L}+|\\p{N}+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int MAX_QUERY_TERMS = 5;
+
+    // rough heap cost with compressed oops, for the memory estimate only
+    private static final long BYTES_PER_USER = 120;
+    private static final long BYTES_PER_TERM = 120;
+    private static final long BYTES_PER_GRAM_LINK = 40;
+
+    public enum Role {
+        TRAINEE, TRAINER
+    }
+
+    /**
+     * One search result; score is 1.0 when every query term equals a name term.
+     */
+    public record Hit(Long userId, String username, String firstName, String lastName,
+                      Role role, boolean active, double score) {}
+
+    /**
+     * Size of the index; estimatedBytes approximates the heap it holds.
+     */
+    public record Stats(int users, int terms, long postings, long estimatedBytes) {}
+
+    private record Entry(Long userId, String username, String firstName, String lastName,
+                         Role role, boolean active, List<String> terms, int chars) {}
+
+    private record TermMatch(Term term, float score) {}
+
+    /**
+     * A distinct name term and the ordinals of the users carrying it, kept sorted.
+     */
+    private static final class Term {
+
+        private int[] ordinals = new int[1];
+        private int size;
+
+        void add(int ordinal) {
+            int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, at, ordinals, at + 1, size - at);
+            ordinals[at] = ordinal;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private final TraineeDao traineeDao;
+    private final TrainerDao trainerDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // guarded by lock; a user keeps its ordinal across updates, ordinals of removed users are not reused
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final Map<String, Set<String>> termsByGram = new HashMap<>();
+    private long postingCount;
+    private long gramLinkCount;
+    private long entryChars;
+
+    public UserSearchIndex(TraineeDao traineeDao, TrainerDao trainerDao, MeterRegistry meterRegistry) {
+        this.traineeDao = traineeDao;
+        this.trainerDao = trainerDao;
+        Gauge.builder("gym.search.index.users", this, index -> index.stats().users())
+                .description("Users in the name search index")
+                .register(meterRegistry);
+        Gauge.builder("gym.search.index.memory", this, index -> index.stats().estimatedBytes())
+                .description("Estimated heap held by the name search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every trainee and trainer. Users written meanwhile by the services are kept as they are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<User> users = new ArrayList<>(traineeDao.findAll());
+        users.addAll(trainerDao.findAll());
+
+        lock.writeLock().lock();
+        try {
+            for (User user : users) {
+                if (user.getId() != null && !ordinals.containsKey(user.getId())) {
+                    link(entries.size(), toEntry(user));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Stats stats = stats();
+        logger.info("Indexed {} users ({} terms, ~{} KB) for name search in {} ms", stats.users(), stats.terms(),
+                stats.estimatedBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Adds the user or replaces what is indexed for it.
+     */
+    public void put(User user) {
+        if (user == null || user.getId() == null) {
+            throw new IllegalArgumentException("User and user id cannot be null");
+        }
+        Entry entry = toEntry(user);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(user.getId());
+            if (ordinal != null) {
+                unlink(ordinal);
+                link(ordinal, entry);
+            } else {
+                link(entries.size(), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(userId);
+            if (ordinal != null) {
+                unlink(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds users whose names match every term of the query, best matches first.
+     *
+     * @param query free text, e.g. "jon smi" or "john.smith"
+     * @param role only users of this role, or null for both
+     * @param limit maximum number of hits
+     * @return ranked hits; empty if the query has no letters or digits
+     */
+    public List<Hit> search(String query, Role role, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<String> queryTerms = tokenize(query).stream().limit(MAX_QUERY_TERMS).toList();
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<List<TermMatch>> matches = new ArrayList<>();
+            for (String queryTerm : queryTerms) {
+                List<TermMatch> termMatches = matchTerms(queryTerm);
+                if (termMatches.isEmpty()) {
+                    return List.of();
+                }
+                matches.add(termMatches);
+            }
+            // the most selective query term first, so the others only confirm its users
+            matches.sort(Comparator.comparingLong(UserSearchIndex::postings));
+            return rank(matches, role, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = ordinals.size() * BYTES_PER_USER + entryChars + terms.size() * BYTES_PER_TERM
+                    + postingCount * Integer.BYTES + gramLinkCount * BYTES_PER_GRAM_LINK;
+            return new Stats(ordinals.size(), terms.size(), postingCount, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // caller holds the read lock
+    private List<TermMatch> matchTerms(String queryTerm) {
+        List<String> grams = queryGrams(queryTerm);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            for (String term : termsByGram.getOrDefault(gram, Set.of())) {
+                sharedGrams.merge(term, 1, Integer::sum);
+            }
+        }
+
+        // an edit changes at most three trigrams of the query, so terms sharing fewer are too far off
+        int requiredGrams = Math.max(1, grams.size() - 3 * allowedEdits(queryTerm));
+        List<TermMatch> matches = new ArrayList<>();
+        for (Map.Entry<String, Integer> shared : sharedGrams.entrySet()) {
+            if (shared.getValue() >= requiredGrams) {
+                float score = termScore(queryTerm, shared.getKey());
+                if (score > 0) {
+                    matches.add(new TermMatch(terms.get(shared.getKey()), score));
+                }
+            }
+        }
+        return matches;
+    }
+
+    // caller holds the read lock
+    private List<Hit> rank(List<List<TermMatch>> matches, Role role, int limit) {
+        int capacity = entries.size();
+        // per user: how many query terms matched so far, the best score for the current one, the sum
+        int[] matched = new int[capacity];
+        float[] best = new float[capacity];
+        float[] total = new float[capacity];
+        int[] candidates = new int[(int) Math.min(capacity, postings(matches.get(0)))];
+        int candidateCount = 0;
+
+        for (int i = 0; i < matches.size(); i++) {
+            for (TermMatch match : matches.get(i)) {
+                Term term = match.term();
+                for (int p = 0; p < term.size; p++) {
+                    int ordinal = term.ordinals[p];
+                    if (matched[ordinal] == i) {
+                        matched[ordinal] = i + 1;
+                        best[ordinal] = match.score();
+                        if (i == 0) {
+                            candidates[candidateCount++] = ordinal;
+                        }
+                    } else if (matched[ordinal] == i + 1 && match.score() > best[ordinal]) {
+                        best[ordinal] = match.score();
+                    }
+                }
+            }
+            int kept = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                int ordinal = candidates[c];
+                if (matched[ordinal] == i + 1) {
+                    total[ordinal] += best[ordinal];
+                    candidates[kept++] = ordinal;
+                }
+            }
+            candidateCount = kept;
+        }
+
+        // bounded min-heap of ordinals with the worst kept hit at the root
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            int ordinal = candidates[c];
+            if (role != null && entries.get(ordinal).role() != role) {
+                continue;
+            }
+            if (heapSize < limit) {
+                heap[heapSize] = ordinal;
+                siftUp(heap, heapSize++, total);
+            } else if (ranksAbove(ordinal, heap[0], total)) {
+                heap[0] = ordinal;
+                siftDown(heap, heapSize, total);
+            }
+        }
+
+        Hit[] hits = new Hit[heapSize];
+        for (int h = heapSize - 1; h >= 0; h--) {
+            int ordinal = heap[0];
+            heap[0] = heap[h];
+            siftDown(heap, h, total);
+            Entry entry = entries.get(ordinal);
+            hits[h] = new Hit(entry.userId(), entry.username(), entry.firstName(), entry.lastName(),
+                    entry.role(), entry.active(), total[ordinal] / matches.size());
+        }
+        return List.of(hits);
+    }
+
+    // higher score first, then active users, then by username
+    private boolean ranksAbove(int ordinal, int other, float[] total) {
+        if (total[ordinal] != total[other]) {
+            return total[ordinal] > total[other];
+        }
+        Entry entry = entries.get(ordinal);
+        Entry otherEntry = entries.get(other);
+        if (entry.active() != otherEntry.active()) {
+            return entry.active();
+        }
+        return entry.username().compareTo(otherEntry.username()) < 0;
+    }
+
+    private void siftUp(int[] heap, int at, float[] total) {
+        while (at > 0) {
+            int parent = (at - 1) / 2;
+            if (!ranksAbove(heap[parent], heap[at], total)) {
+                return;
+            }
+            swap(heap, parent, at);
+            at = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, float[] total) {
+        int at = 0;
+        while (true) {
+            int worst = at;
+            for (int child = 2 * at + 1; child <= 2 * at + 2 && child < size; child++) {
+                if (ranksAbove(heap[worst], heap[child], total)) {
+                    worst = child;
+                }
+            }
+            if (worst == at) {
+                return;
+            }
+            swap(heap, at, worst);
+            at = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int swapped = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swapped;
+    }
+
+    // caller holds the write lock
+    private void link(int ordinal, Entry entry) {
+        if (ordinal == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(ordinal, entry);
+        }
+        ordinals.put(entry.userId(), ordinal);
+        for (String text : entry.terms()) {
+            Term term = terms.get(text);
+            if (term == null) {
+                term = new Term();
+                terms.put(text, term);
+                for (String gram : indexGrams(text)) {
+                    termsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(text);
+                    gramLinkCount++;
+                }
+            }
+            term.add(ordinal);
+        }
+        postingCount += entry.terms().size();
+        entryChars += entry.chars();
+    }
+
+    // caller holds the write lock; leaves the slot empty
+    private void unlink(int ordinal) {
+        Entry entry = entries.set(ordinal, null);
+        if (entry == null) {
+            return;
+        }
+        for (String text : entry.terms()) {
+            Term term = terms.get(text);
+            if (term != null && term.remove(ordinal) && term.size == 0) {
+                terms.remove(text);
+                for (String gram : indexGrams(text)) {
+                    Set<String> linked = termsByGram.get(gram);
+                    if (linked != null && linked.remove(text)) {
+                        gramLinkCount--;
+                        if (linked.isEmpty()) {
+                            termsByGram.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+        postingCount -= entry.terms().size();
+        entryChars -= entry.chars();
+    }
+
+    private static long postings(List<TermMatch> matches) {
+        long count = 0;
+        for (TermMatch match : matches) {
+            count += match.term().size;
+        }
+        return count;
+    }
+
+    private static Entry toEntry(User user) {
+        Role role = user instanceof Trainer ? Role.TRAINER : Role.TRAINEE;
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(user.getFirstName()));
+        terms.addAll(tokenize(user.getLastName()));
+        terms.addAll(tokenize(user.getUsername()));
+        int chars = length(user.getUsername()) + length(user.getFirstName()) + length(user.getLastName());
+        return new Entry(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(), role,
+                user.isActive(), List.copyOf(terms), chars);
+    }
+
+    private static Set<String> indexGrams(String term) {
+        Set<String> grams = new HashSet<>(trigrams(term));
+        grams.add("^" + term.charAt(0));
+        return grams;
+    }
+
+    /**
+     * Grams looked up for a query term; terms of one or two characters only match as a prefix.
+     */
+    private static List<String> queryGrams(String term) {
+        return term.length() <= 2 ? List.of("^" + term) : trigrams(term);
+    }
+
+    private static List<String> trigrams(String term) {
+        String anchored = "^" + term;
+        List<String> grams = new ArrayList<>(Math.max(0, anchored.length() - 2));
+        for (int i = 0; i + 3 <= anchored.length(); i++) {
+            grams.add(anchored.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static int allowedEdits(String queryTerm) {
+        return queryTerm.length() >= 8 ? 2 : queryTerm.length() >= 4 ? 1 : 0;
+    }
+
+    /**
+     * How well a query term matches a name term: 1.0 when equal, 0.7-0.9 as a prefix,
+     * 0.4-0.5 within the allowed edits, otherwise 0.
+     */
+    static float termScore(String queryTerm, String nameTerm) {
+        if (nameTerm.equals(queryTerm)) {
+            return 1.0f;
+        }
+        if (nameTerm.startsWith(queryTerm)) {
+            return 0.7f + 0.2f * queryTerm.length() / nameTerm.length();
+        }
+        int allowedEdits = allowedEdits(queryTerm);
+        if (allowedEdits == 0) {
+            return 0;
+        }
+        // compare against name prefixes around the query's length, so "jhon" finds "johnson" too
+        int bestDistance = Integer.MAX_VALUE;
+        for (int length = queryTerm.length() - allowedEdits; length <= queryTerm.length() + allowedEdits; length++) {
+            if (length >= 1 && length <= nameTerm.length()) {
+                bestDistance = Math.min(bestDistance, editDistance(queryTerm, nameTerm.substring(0, length)));
+            }
+        }
+        return bestDistance <= allowedEdits ? 0.6f - 0.1f * bestDistance : 0;
+    }
+
+    /**
+     * Edit distance counting an adjacent transposition as one edit (optimal string alignment).
+     */
+    static int editDistance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    /**
+     * Lower-cased, accent-free runs of letters or of digits in the text, without repeats.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        Matcher matcher = TERM.matcher(folded.toLowerCase(Locale.ROOT));
+        Set<String> tokens = new LinkedHashSet<>();
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
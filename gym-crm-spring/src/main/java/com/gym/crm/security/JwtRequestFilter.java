@@ -1,5 +1,6 @@
 package com.gym.crm.security;
 
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.util.impl.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,7 +8,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,15 +17,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.lang.NonNull;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
 
+    /**
+     * Role in the tokens issued to the {@link OperatorAccount}; guards the diagnostic actuator endpoints.
+     */
+    public static final String OPERATOR_ROLE = "OPERATOR";
+
     private final JwtUtil jwtUtil;
     private final JwtTokenInvalidationService jwtTokenInvalidationService;
 
@@ -38,10 +41,6 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
-        String transactionId = UUID.randomUUID().toString();
-        MDC.put("transactionId", transactionId);
-        response.setHeader("X-Transaction-Id", transactionId);
-
         String requestPath = request.getRequestURI();
         logger.debug("Processing request: {} {}", request.getMethod(), requestPath);
 
@@ -64,9 +63,8 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
                         logger.debug("Valid JWT token for user: {} with role: {}", username, role);
 
-                        List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                                new SimpleGrantedAuthority("ROLE_" + role.toUpperCase())
-                        );
+                        List<SimpleGrantedAuthority> authorities =
+                                List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
 
                         UsernamePasswordAuthenticationToken authToken =
                                 new UsernamePasswordAuthenticationToken(username, null, authorities);
@@ -74,9 +72,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
                         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                        request.setAttribute("authenticatedUsername", username);
-                        request.setAttribute("authenticatedUserId", userId);
-                        request.setAttribute("authenticatedUserRole", role);
+                        RequestContext context = RequestContext.current();
+                        if (context != null) {
+                            context.authenticate(username, userId, role);
+                        }
 
                     } else {
                         logger.warn("Invalid JWT token for path: {}", requestPath);
@@ -90,11 +89,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             logger.error("Error in JWT filter for path: {}", requestPath, e);
         } finally {
-            try {
-                filterChain.doFilter(request, response);
-            } finally {
-                MDC.clear();
-            }
+            filterChain.doFilter(request, response);
         }
     }
 
@@ -109,7 +104,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 path.startsWith("/swagger-ui") ||
                 path.startsWith("/api-docs") ||
                 path.startsWith("/v3/api-docs") ||
-                path.startsWith("/actuator") ||
+                path.startsWith("/actuator/health") ||
+                path.equals("/actuator/info") ||
+                path.equals("/actuator/prometheus") ||
                 path.startsWith("/management") ||
                 path.startsWith("/metrics-dashboard") ||
                 path.startsWith("/h2-console");
@@ -0,0 +1,57 @@
+package com.gym.crm.security;
+
+import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The operator account that may use the non-public actuator endpoints. It lives in configuration
+ * ({@code security.operator.username} and a BCrypt {@code security.operator.password-hash}), not
+ * in the user tables, so registration can neither create nor take it over: generated usernames
+ * skip the operator username. Logging in as the operator yields a token with the operator role
+ * and no user id. Without a password hash there is no operator.
+ */
+@Component
+public class OperatorAccount {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperatorAccount.class);
+
+    private final PasswordEncryption passwordEncryption;
+    private final String username;
+    private final String passwordHash;
+
+    public OperatorAccount(PasswordEncryption passwordEncryption,
+                           @Value("${security.operator.username:}") String username,
+                           @Value("${security.operator.password-hash:}") String passwordHash) {
+        this.passwordEncryption = passwordEncryption;
+        this.username = username.trim();
+        this.passwordHash = passwordHash.trim();
+        if (!this.username.isEmpty() && this.passwordHash.isEmpty()) {
+            logger.warn("Operator username {} has no password hash; operator login is disabled", this.username);
+        }
+    }
+
+    /**
+     * Whether the username is reserved for the operator, ignoring case so lookalikes are reserved too.
+     */
+    public boolean isOperatorUsername(String candidate) {
+        return !username.isEmpty() && candidate != null && username.equalsIgnoreCase(candidate.trim());
+    }
+
+    /**
+     * Checks the operator's password.
+     *
+     * @throws InvalidCredentialsException if the operator is not configured or the password is wrong
+     */
+    public void authenticate(String candidate, String password) {
+        if (!isOperatorUsername(candidate) || passwordHash.isEmpty()
+                || !passwordEncryption.matches(password, passwordHash)) {
+            logger.warn("Operator authentication failed for username: {}", candidate);
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+        logger.info("Operator authenticated successfully: {}", candidate);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gym.crm.service;
+
+import com.gym.crm.dto.response.TraineeProfileResponse;
+import com.gym.crm.fields.FieldSelection;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TraineeProfileService {
+
+    /**
+     * Assembles the full trainee profile: personal data, assigned trainers and a summary
+     * of recent trainings. Independent reads are issued concurrently, each bounded by the
+     * configured per-call timeout.
+     *
+     * @param username Trainee's username
+     * @return Optional containing the profile if the trainee exists, empty otherwise
+     * @throws IllegalStateException if the trainer list cannot be loaded in time
+     */
+    Optional<TraineeProfileResponse> getProfile(String username);
+
+    /**
+     * Assembles only the requested parts of the trainee profile. Unselected sections
+     * (the trainer list and the recent trainings summary) are not loaded at all and stay null in the response.
+     *
+     * @param username Trainee's username
+     * @param fields Top-level response fields to include
+     * @return Optional containing the profile if the trainee exists, empty otherwise
+     */
+    Optional<TraineeProfileResponse> getProfile(String username, FieldSelection fields);
+
+    /**
+     * Assembles the profiles of several trainees with a fixed number of set-based queries,
+     * independent of how many usernames are requested. Recent training summaries are left out.
+     * A profile is returned only if the viewer is that trainee or one of its assigned trainers;
+     * unknown and hidden usernames are both simply absent from the result.
+     *
+     * @param viewerUsername username of the authenticated caller
+     * @param usernames Trainee usernames to look up
+     * @return Profiles keyed by username, in request order
+     */
+    Map<String, TraineeProfileResponse> getProfiles(String viewerUsername, Collection<String> usernames);
+}
@@ -0,0 +1,42 @@
+package com.gym.crm.service;
+
+import com.gym.crm.dto.response.TrainerProfileResponse;
+import com.gym.crm.fields.FieldSelection;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TrainerProfileService {
+
+    /**
+     * Assembles the trainer profile with the list of assigned trainees.
+     * Concurrent requests for the same username share a single assembly.
+     *
+     * @param username Trainer's username
+     * @return Optional containing the profile if the trainer exists, empty otherwise
+     */
+    Optional<TrainerProfileResponse> getProfile(String username);
+
+    /**
+     * Assembles only the requested parts of the trainer profile. Unselected sections
+     * (the trainee list) are not loaded at all and stay null in the response.
+     *
+     * @param username Trainer's username
+     * @param fields Top-level response fields to include
+     * @return Optional containing the profile if the trainer exists, empty otherwise
+     */
+    Optional<TrainerProfileResponse> getProfile(String username, FieldSelection fields);
+
+    /**
+     * Assembles the profiles of several trainers with a fixed number of set-based queries,
+     * independent of how many usernames are requested.
+     * A profile is returned only if the viewer is that trainer or one of its assigned trainees;
+     * unknown and hidden usernames are both simply absent from the result.
+     *
+     * @param viewerUsername username of the authenticated caller
+     * @param usernames Trainer usernames to look up
+     * @return Profiles keyed by username, in request order
+     */
+    Map<String, TrainerProfileResponse> getProfiles(String viewerUsername, Collection<String> usernames);
+}
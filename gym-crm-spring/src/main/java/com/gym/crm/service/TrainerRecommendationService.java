@@ -0,0 +1,22 @@
+package com.gym.crm.service;
+
+import com.gym.crm.dto.response.TrainerRecommendation;
+
+import java.util.List;
+
+public interface TrainerRecommendationService {
+
+    /**
+     * Ranks the active trainers not yet assigned to a trainee. A trainer scores for teaching
+     * the training types the trainee has trained most, and for being chosen by trainees who
+     * share the trainee's current trainers. Co-assignments are read from memory; candidates are
+     * scored by id, and only the best ones are loaded. Trainers with nothing in their favour
+     * are not recommended; ties go to the lower trainer id.
+     *
+     * @param traineeId Trainee's userId
+     * @param limit Maximum number of trainers to return
+     * @return Recommended trainers, best first
+     * @throws IllegalArgumentException if traineeId is null or limit is not positive
+     */
+    List<TrainerRecommendation> recommendTrainers(Long traineeId, int limit);
+}
@@ -1,8 +1,12 @@
 package com.gym.crm.service;
 
+import com.gym.crm.dto.request.BatchTrainingRequest;
+import com.gym.crm.dto.response.BatchTrainingResponse;
+import com.gym.crm.dto.response.TrainingCalendarResponse;
 import com.gym.crm.entity.Training;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +24,17 @@ public interface TrainingService {
      */
     Training createTraining(String authenticatedUsername, Training training);
 
+    /**
+     * Creates a batch of training sessions. Usernames, access and active status are checked
+     * once per distinct trainee/trainer pair, and the valid items are inserted in one transaction.
+     *
+     * @param authenticatedUsername Username of authenticated user (from JWT)
+     * @param request Items to create and whether one invalid item cancels the rest
+     * @return A result for every item, in request order
+     * @throws IllegalArgumentException if the request or its item list is null
+     */
+    BatchTrainingResponse createTrainings(String authenticatedUsername, BatchTrainingRequest request);
+
     /**
      * Finds a training session by id.
      *
@@ -67,6 +82,20 @@ public interface TrainingService {
 
     List<Training> findTrainerTrainingsByDateRange(String authenticatedUsername, Long trainerId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Per-day training counts and minutes of a trainee for one month.
+     *
+     * @throws com.gym.crm.exception.UnauthorizedAccessException if the user is not that trainee
+     */
+    TrainingCalendarResponse getTraineeCalendar(String authenticatedUsername, Long traineeId, YearMonth month);
+
+    /**
+     * Per-day training counts and minutes of a trainer for one month.
+     *
+     * @throws com.gym.crm.exception.UnauthorizedAccessException if the user is not that trainer
+     */
+    TrainingCalendarResponse getTrainerCalendar(String authenticatedUsername, Long trainerId, YearMonth month);
+
     /**
      * Checks if a training session exists with the given id.
      *
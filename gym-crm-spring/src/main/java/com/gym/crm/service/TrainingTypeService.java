@@ -0,0 +1,15 @@
+package com.gym.crm.service;
+
+import com.gym.crm.entity.TrainingType;
+
+import java.util.List;
+
+public interface TrainingTypeService {
+
+    /**
+     * Finds all training types. Concurrent callers share a single database read.
+     *
+     * @return List of all training types
+     */
+    List<TrainingType> findAllTrainingTypes();
+}
@@ -0,0 +1,26 @@
+package com.gym.crm.service;
+
+import com.gym.crm.dto.request.ChangeLoginRequest;
+import com.gym.crm.entity.User;
+
+import java.util.Optional;
+
+public interface UserService {
+
+    /**
+     * Finds a trainee or trainer by username with a single lookup.
+     *
+     * @param username User's username
+     * @return Optional containing the concrete user if found, empty otherwise
+     */
+    Optional<User> findUserByUsername(String username);
+
+    /**
+     * Changes the password of a user of any role.
+     *
+     * @param user User whose password is changed
+     * @param request Old and new password
+     * @throws com.gym.crm.exception.InvalidCredentialsException if old password does not match
+     */
+    void changePassword(User user, ChangeLoginRequest request);
+}
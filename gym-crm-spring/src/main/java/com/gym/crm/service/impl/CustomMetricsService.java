@@ -56,6 +56,10 @@ public class CustomMetricsService {
         trainingCreatedCounter.increment();
     }
 
+    public void incrementTrainingsCreated(int count) {
+        trainingCreatedCounter.increment(count);
+    }
+
     public void incrementLoginAttempt() {
         loginAttemptCounter.increment();
     }
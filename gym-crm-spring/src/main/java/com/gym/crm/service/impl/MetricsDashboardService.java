@@ -0,0 +1,200 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dto.response.MetricsSnapshot;
+import com.gym.crm.dto.response.MetricsSnapshot.EndpointLatency;
+import com.gym.crm.dto.response.MetricsSnapshot.Latency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the metrics dashboard snapshot once per refresh interval on a background thread
+ * and pushes it to every subscribed browser over Server-Sent Events. Page views and
+ * subscribers only read the latest snapshot; the registry is walked once per interval
+ * no matter how many dashboards are open.
+ */
+@Service
+@Profile({"local", "dev"})
+public class MetricsDashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsDashboardService.class);
+
+    static final String EVENT_NAME = "metrics";
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final long refreshIntervalMs;
+    private final int maxSubscribers;
+    private final int endpointLimit;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile MetricsSnapshot latest;
+    private ScheduledExecutorService scheduler;
+
+    public MetricsDashboardService(MeterRegistry meterRegistry,
+                                   @Value("${dashboard.refresh-interval-ms:1000}") long refreshIntervalMs,
+                                   @Value("${dashboard.max-subscribers:20}") int maxSubscribers,
+                                   @Value("${dashboard.endpoint-limit:20}") int endpointLimit) {
+        this.meterRegistry = meterRegistry;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.maxSubscribers = maxSubscribers;
+        this.endpointLimit = endpointLimit;
+        this.latest = snapshot();
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("metrics-dashboard").daemon().factory());
+        scheduler.scheduleAtFixedRate(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    public MetricsSnapshot getLatest() {
+        return latest;
+    }
+
+    /**
+     * Registers a browser for pushed snapshots and sends it the current one right away.
+     *
+     * @throws IllegalStateException when the subscriber limit is reached
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many dashboard subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        send(emitter, latest);
+        logger.debug("Dashboard subscriber added, {} connected", subscribers.size());
+        return emitter;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    void refresh() {
+        try {
+            MetricsSnapshot snapshot = snapshot();
+            latest = snapshot;
+            subscribers.forEach(emitter -> send(emitter, snapshot));
+        } catch (RuntimeException e) {
+            // keep the schedule alive; the next tick retries
+            logger.warn("Failed to refresh metrics dashboard snapshot", e);
+        }
+    }
+
+    private void send(SseEmitter emitter, MetricsSnapshot snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(snapshot, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    MetricsSnapshot snapshot() {
+        double loginAttempts = counter("gym.login.attempts");
+        double loginSuccess = counter("gym.login.success");
+
+        return new MetricsSnapshot(
+                Instant.now(),
+                counter("gym.trainee.registrations"),
+                counter("gym.trainer.registrations"),
+                counter("gym.training.created"),
+                loginAttempts,
+                loginSuccess,
+                loginAttempts > 0 ? loginSuccess / loginAttempts * 100 : 0,
+                Optional.ofNullable(meterRegistry.find("gym.authentication.time").timer())
+                        .map(MetricsDashboardService::latency)
+                        .orElse(Latency.EMPTY),
+                heap("jvm.memory.used") / BYTES_PER_MB,
+                heap("jvm.memory.max") / BYTES_PER_MB,
+                gauge("process.cpu.usage") * 100,
+                endpoints());
+    }
+
+    /**
+     * Busiest endpoints by request count, one row per method, URI template and status.
+     */
+    private List<EndpointLatency> endpoints() {
+        return meterRegistry.find("http.server.requests").timers().stream()
+                .sorted(Comparator.comparingLong(Timer::count).reversed())
+                .limit(endpointLimit)
+                .map(timer -> new EndpointLatency(
+                        timer.getId().getTag("method"),
+                        timer.getId().getTag("uri"),
+                        timer.getId().getTag("status"),
+                        latency(timer)))
+                .toList();
+    }
+
+    static Latency latency(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = 0;
+        double p95 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            double millis = value.value(TimeUnit.MILLISECONDS);
+            if (value.percentile() == 0.5) {
+                p50 = millis;
+            } else if (value.percentile() == 0.95) {
+                p95 = millis;
+            } else if (value.percentile() == 0.99) {
+                p99 = millis;
+            }
+        }
+        return new Latency(snapshot.count(), p50, p95, p99, snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    private double counter(String name) {
+        Counter counter = meterRegistry.find(name).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private double gauge(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge != null ? gauge.value() : 0.0;
+    }
+
+    private double heap(String name) {
+        return meterRegistry.find(name).tag("area", "heap").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> value > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,280 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.context.RequestContext;
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.diagnostics.RequestQueryStatistics;
+import com.gym.crm.dto.response.TraineeProfileResponse;
+import com.gym.crm.dto.response.TrainerSummary;
+import com.gym.crm.dto.response.TrainingActivitySummary;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.Training;
+import com.gym.crm.exception.ServiceUnavailableException;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TraineeProfileService;
+import com.gym.crm.service.TraineeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds trainee profiles by fanning the independent reads (assigned trainers and the
+ * recent trainings summary) out to a bounded pool. Only the request thread waits on the
+ * pool, so tasks never block on each other and the pool cannot deadlock; when the queue is
+ * full the caller runs the read itself. A required read that times out or fails surfaces as
+ * {@link ServiceUnavailableException}.
+ */
+@Service
+public class TraineeProfileServiceImpl implements TraineeProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraineeProfileServiceImpl.class);
+
+    private final TraineeService traineeService;
+    private final TraineeDao traineeDao;
+    private final TrainerDao trainerDao;
+    private final TraineeTrainerAssignmentDao assignmentDao;
+    private final TrainingDao trainingDao;
+    private final ExecutorService executor;
+    private final long callTimeoutNanos;
+    private final int recentTrainingsDays;
+
+    public TraineeProfileServiceImpl(TraineeService traineeService,
+                                     TraineeDao traineeDao,
+                                     TrainerDao trainerDao,
+                                     TraineeTrainerAssignmentDao assignmentDao,
+                                     TrainingDao trainingDao,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${profile.assembly.pool-size:8}") int poolSize,
+                                     @Value("${profile.assembly.queue-capacity:200}") int queueCapacity,
+                                     @Value("${profile.assembly.call-timeout-ms:2000}") long callTimeoutMs,
+                                     @Value("${profile.assembly.recent-trainings-days:30}") int recentTrainingsDays) {
+        this.traineeService = traineeService;
+        this.traineeDao = traineeDao;
+        this.trainerDao = trainerDao;
+        this.assignmentDao = assignmentDao;
+        this.trainingDao = trainingDao;
+        this.callTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(callTimeoutMs);
+        this.recentTrainingsDays = recentTrainingsDays;
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("profile-assembly-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "profileAssembly");
+    }
+
+    @Override
+    public Optional<TraineeProfileResponse> getProfile(String username) {
+        return getProfile(username, FieldSelection.all());
+    }
+
+    @Override
+    public Optional<TraineeProfileResponse> getProfile(String username, FieldSelection fields) {
+        if (username == null || username.isBlank()) {
+            logger.debug("GetProfile called with blank username");
+            return Optional.empty();
+        }
+
+        Optional<Trainee> traineeOpt = traineeService.findTraineeByUsername(username);
+        if (traineeOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        Trainee trainee = traineeOpt.get();
+        Long traineeId = trainee.getId();
+
+        long readsDeadline = deadline();
+        Future<List<TrainerSummary>> assignedTrainers = fields.includes("trainers")
+                ? submit(() -> loadTrainers(traineeId)) : null;
+        Future<TrainingActivitySummary> recentTrainings = fields.includes("recentTrainings")
+                ? submit(() -> summarizeRecentTrainings(traineeId)) : null;
+
+        List<TrainerSummary> trainers = assignedTrainers == null
+                ? null : await(assignedTrainers, readsDeadline, "trainers");
+
+        TraineeProfileResponse response = new TraineeProfileResponse(
+                trainee.getFirstName(),
+                trainee.getLastName(),
+                trainee.getDateOfBirth(),
+                trainee.getAddress(),
+                trainee.getIsActive(),
+                trainers
+        );
+        if (recentTrainings != null) {
+            response.setRecentTrainings(awaitOptional(recentTrainings, readsDeadline, "recent trainings"));
+        }
+
+        logger.debug("Assembled profile for trainee: {} with fields: {}", username, fields);
+        return Optional.of(response);
+    }
+
+    @Override
+    public Map<String, TraineeProfileResponse> getProfiles(String viewerUsername, Collection<String> usernames) {
+        if (viewerUsername == null || usernames == null || usernames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Trainee> trainees = traineeDao.findByUsernames(usernames).stream()
+                .collect(Collectors.toMap(Trainee::getUsername, Function.identity()));
+        if (trainees.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> traineeIds = trainees.values().stream().map(Trainee::getId).toList();
+        Map<Long, List<Long>> trainerIdsByTrainee = assignmentDao.findByTraineeIds(traineeIds).stream()
+                .collect(Collectors.groupingBy(TraineeTrainerAssignment::getTraineeId,
+                        Collectors.mapping(TraineeTrainerAssignment::getTrainerId, Collectors.toList())));
+        Map<Long, Trainer> trainersById = trainerDao.findByIds(trainerIdsByTrainee.values().stream()
+                        .flatMap(List::stream)
+                        .distinct()
+                        .toList()).stream()
+                .collect(Collectors.toMap(Trainer::getId, Function.identity()));
+
+        Map<String, TraineeProfileResponse> profiles = new LinkedHashMap<>();
+        for (String username : usernames) {
+            Trainee trainee = username == null ? null : trainees.get(username.trim());
+            if (trainee == null || profiles.containsKey(trainee.getUsername())) {
+                continue;
+            }
+
+            List<Trainer> trainers = trainerIdsByTrainee.getOrDefault(trainee.getId(), List.of()).stream()
+                    .map(trainersById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            boolean visible = viewerUsername.equals(trainee.getUsername())
+                    || trainers.stream().anyMatch(trainer -> viewerUsername.equals(trainer.getUsername()));
+            if (!visible) {
+                continue;
+            }
+
+            profiles.put(trainee.getUsername(), new TraineeProfileResponse(
+                    trainee.getUsername(),
+                    trainee.getFirstName(),
+                    trainee.getLastName(),
+                    trainee.getDateOfBirth(),
+                    trainee.getAddress(),
+                    trainee.getIsActive(),
+                    trainers.stream().map(TraineeProfileServiceImpl::toSummary).toList()
+            ));
+        }
+
+        logger.debug("Assembled {} of {} requested trainee profiles for {}", profiles.size(), usernames.size(),
+                viewerUsername);
+        return profiles;
+    }
+
+    private static TrainerSummary toSummary(Trainer trainer) {
+        return new TrainerSummary(
+                trainer.getUsername(),
+                trainer.getFirstName(),
+                trainer.getLastName(),
+                trainer.getSpecializationName()
+        );
+    }
+
+    private List<TrainerSummary> loadTrainers(Long traineeId) {
+        List<Long> trainerIds = assignmentDao.findByTraineeId(traineeId).stream()
+                .map(TraineeTrainerAssignment::getTrainerId)
+                .toList();
+        if (trainerIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Trainer> trainersById = trainerDao.findByIds(trainerIds).stream()
+                .collect(Collectors.toMap(Trainer::getId, Function.identity()));
+        return trainerIds.stream()
+                .map(trainersById::get)
+                .filter(Objects::nonNull)
+                .map(TraineeProfileServiceImpl::toSummary)
+                .toList();
+    }
+
+    TrainingActivitySummary summarizeRecentTrainings(Long traineeId) {
+        LocalDate today = LocalDate.now();
+        List<Training> trainings = trainingDao.findByTraineeIdAndDateRange(
+                traineeId, today.minusDays(recentTrainingsDays), today);
+
+        long totalMinutes = trainings.stream()
+                .map(Training::getTrainingDuration)
+                .filter(Objects::nonNull)
+                .mapToLong(Integer::longValue)
+                .sum();
+        LocalDate lastTrainingDate = trainings.stream()
+                .map(Training::getTrainingDate)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        return new TrainingActivitySummary(recentTrainingsDays, trainings.size(), totalMinutes, lastTrainingDate);
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        return executor.submit(RequestContext.wrap(() -> {
+            RequestQueryStatistics previousStatistics = RequestQueryStatistics.bind(statistics);
+            try {
+                return task.call();
+            } finally {
+                RequestQueryStatistics.restore(previousStatistics);
+            }
+        }));
+    }
+
+    private long deadline() {
+        return System.nanoTime() + callTimeoutNanos;
+    }
+
+    private <T> T await(Future<T> future, long deadline, String what) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Timed out loading {} for trainee profile", what);
+            throw new ServiceUnavailableException("Timed out loading " + what);
+        } catch (ExecutionException e) {
+            throw new ServiceUnavailableException("Failed to load " + what, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while loading " + what, e);
+        }
+    }
+
+    private <T> T awaitOptional(Future<T> future, long deadline, String what) {
+        try {
+            return await(future, deadline, what);
+        } catch (ServiceUnavailableException e) {
+            logger.warn("Omitting {} from trainee profile: {}", what, e.getMessage());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
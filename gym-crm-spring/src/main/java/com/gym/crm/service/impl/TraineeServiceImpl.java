@@ -6,6 +6,9 @@ import com.gym.crm.dto.request.ChangeLoginRequest;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.exception.InvalidCredentialsException;
 import com.gym.crm.exception.UserNotFoundException;
+import com.gym.crm.recommendation.CoAssignmentIndex;
+import com.gym.crm.schedule.TrainerScheduleIndex;
+import com.gym.crm.search.UserSearchIndex;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.util.AuthenticationService;
 import com.gym.crm.util.CredentialsGeneratorService;
@@ -31,19 +34,28 @@ public class TraineeServiceImpl implements TraineeService {
     private final CredentialsGeneratorService credentialsGenerator;
     private final ValidationService validationService;
     private final PasswordEncryption passwordEncryption;
+    private final TrainerScheduleIndex scheduleIndex;
+    private final UserSearchIndex searchIndex;
+    private final CoAssignmentIndex coAssignmentIndex;
 
     public TraineeServiceImpl(TraineeDao traineeDao,
                               TrainingDao trainingDao,
                               AuthenticationService authenticationService,
                               CredentialsGeneratorService credentialsGenerator,
                               ValidationService validationService,
-                              PasswordEncryption passwordEncryption) {
+                              PasswordEncryption passwordEncryption,
+                              TrainerScheduleIndex scheduleIndex,
+                              UserSearchIndex searchIndex,
+                              CoAssignmentIndex coAssignmentIndex) {
         this.traineeDao = traineeDao;
         this.trainingDao = trainingDao;
         this.authenticationService = authenticationService;
         this.credentialsGenerator = credentialsGenerator;
         this.validationService = validationService;
         this.passwordEncryption = passwordEncryption;
+        this.scheduleIndex = scheduleIndex;
+        this.searchIndex = searchIndex;
+        this.coAssignmentIndex = coAssignmentIndex;
     }
 
     @Override
@@ -69,6 +81,7 @@ public class TraineeServiceImpl implements TraineeService {
         trainee.setIsActive(true);
 
         Trainee savedTrainee = traineeDao.create(trainee);
+        searchIndex.put(savedTrainee);
 
         logger.info("Successfully created trainee: {} with username: {} and id: {}",
                 savedTrainee.getFullName(), savedTrainee.getUsername(), savedTrainee.getId());
@@ -108,6 +121,7 @@ public class TraineeServiceImpl implements TraineeService {
         trainee.setPassword(existingTrainee.getPassword());
 
         Trainee updatedTrainee = traineeDao.update(trainee);
+        searchIndex.put(updatedTrainee);
 
         logger.info("Successfully updated trainee: {} with id: {}",
                 updatedTrainee.getFullName(), updatedTrainee.getId());
@@ -130,11 +144,14 @@ public class TraineeServiceImpl implements TraineeService {
         }
 
         int deletedTrainings = trainingDao.deleteByTraineeId(userId);
+        scheduleIndex.removeTrainee(userId);
         logger.info("Cascade deleted {} trainings for trainee: {}", deletedTrainings, userId);
 
         boolean deleted = traineeDao.delete(userId);
 
         if (deleted) {
+            searchIndex.remove(userId);
+            coAssignmentIndex.removeTrainee(userId);
             logger.info("Successfully deleted trainee with id: {} and {} related trainings", userId, deletedTrainings);
         } else {
             logger.debug("No trainee found with id: {} for deletion", userId);
@@ -276,6 +293,7 @@ public class TraineeServiceImpl implements TraineeService {
 
         try {
             traineeDao.update(trainee);
+            searchIndex.put(trainee);
             action = isActive ? "Activated" : "Deactivated";
             logger.info("Successfully {} trainee: {} (was previously {})",
                     action.toLowerCase(), trainee.getFullName(), !isActive ? "active" : "inactive");
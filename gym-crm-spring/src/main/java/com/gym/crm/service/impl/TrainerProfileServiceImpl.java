@@ -0,0 +1,165 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dto.response.TraineeSummary;
+import com.gym.crm.dto.response.TrainerProfileResponse;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TrainerProfileService;
+import com.gym.crm.service.TrainerService;
+import com.gym.crm.util.impl.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TrainerProfileServiceImpl implements TrainerProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerProfileServiceImpl.class);
+
+    private final TrainerService trainerService;
+    private final TrainerDao trainerDao;
+    private final TraineeDao traineeDao;
+    private final TraineeTrainerAssignmentDao assignmentDao;
+    private final SingleFlight<String, Optional<TrainerProfileResponse>> profileFlight;
+
+    public TrainerProfileServiceImpl(TrainerService trainerService,
+                                     TrainerDao trainerDao,
+                                     TraineeDao traineeDao,
+                                     TraineeTrainerAssignmentDao assignmentDao,
+                                     MeterRegistry meterRegistry) {
+        this.trainerService = trainerService;
+        this.trainerDao = trainerDao;
+        this.traineeDao = traineeDao;
+        this.assignmentDao = assignmentDao;
+        this.profileFlight = new SingleFlight<>("trainerProfile", meterRegistry);
+    }
+
+    @Override
+    public Optional<TrainerProfileResponse> getProfile(String username) {
+        return getProfile(username, FieldSelection.all());
+    }
+
+    @Override
+    public Optional<TrainerProfileResponse> getProfile(String username, FieldSelection fields) {
+        if (username == null || username.isBlank()) {
+            logger.debug("GetProfile called with blank username");
+            return Optional.empty();
+        }
+
+        return profileFlight.execute(username + "?" + fields, () -> assembleProfile(username, fields));
+    }
+
+    private Optional<TrainerProfileResponse> assembleProfile(String username, FieldSelection fields) {
+        Optional<Trainer> trainerOpt = trainerService.findTrainerByUsername(username);
+        if (trainerOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Trainer trainer = trainerOpt.get();
+
+        List<TraineeSummary> trainees = fields.includes("trainees") ? loadTrainees(trainer.getId()) : null;
+
+        logger.debug("Assembled profile for trainer: {} with fields: {}", username, fields);
+        return Optional.of(new TrainerProfileResponse(
+                trainer.getFirstName(),
+                trainer.getLastName(),
+                trainer.getSpecializationName(),
+                trainer.getIsActive(),
+                trainees
+        ));
+    }
+
+    private List<TraineeSummary> loadTrainees(Long trainerId) {
+        List<Long> traineeIds = assignmentDao.findByTrainerId(trainerId).stream()
+                .map(TraineeTrainerAssignment::getTraineeId)
+                .toList();
+        if (traineeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Trainee> traineesById = traineeDao.findByIds(traineeIds).stream()
+                .collect(Collectors.toMap(Trainee::getId, Function.identity()));
+        return traineeIds.stream()
+                .map(traineesById::get)
+                .filter(Objects::nonNull)
+                .map(TrainerProfileServiceImpl::toSummary)
+                .toList();
+    }
+
+    @Override
+    public Map<String, TrainerProfileResponse> getProfiles(String viewerUsername, Collection<String> usernames) {
+        if (viewerUsername == null || usernames == null || usernames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Trainer> trainers = trainerDao.findByUsernames(usernames).stream()
+                .collect(Collectors.toMap(Trainer::getUsername, Function.identity()));
+        if (trainers.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> trainerIds = trainers.values().stream().map(Trainer::getId).toList();
+        Map<Long, List<Long>> traineeIdsByTrainer = assignmentDao.findByTrainerIds(trainerIds).stream()
+                .collect(Collectors.groupingBy(TraineeTrainerAssignment::getTrainerId,
+                        Collectors.mapping(TraineeTrainerAssignment::getTraineeId, Collectors.toList())));
+        Map<Long, Trainee> traineesById = traineeDao.findByIds(traineeIdsByTrainer.values().stream()
+                        .flatMap(List::stream)
+                        .distinct()
+                        .toList()).stream()
+                .collect(Collectors.toMap(Trainee::getId, Function.identity()));
+
+        Map<String, TrainerProfileResponse> profiles = new LinkedHashMap<>();
+        for (String username : usernames) {
+            Trainer trainer = username == null ? null : trainers.get(username.trim());
+            if (trainer == null || profiles.containsKey(trainer.getUsername())) {
+                continue;
+            }
+
+            List<Trainee> trainees = traineeIdsByTrainer.getOrDefault(trainer.getId(), List.of()).stream()
+                    .map(traineesById::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            boolean visible = viewerUsername.equals(trainer.getUsername())
+                    || trainees.stream().anyMatch(trainee -> viewerUsername.equals(trainee.getUsername()));
+            if (!visible) {
+                continue;
+            }
+
+            profiles.put(trainer.getUsername(), new TrainerProfileResponse(
+                    trainer.getUsername(),
+                    trainer.getFirstName(),
+                    trainer.getLastName(),
+                    trainer.getSpecializationName(),
+                    trainer.getIsActive(),
+                    trainees.stream().map(TrainerProfileServiceImpl::toSummary).toList()
+            ));
+        }
+
+        logger.debug("Assembled {} of {} requested trainer profiles for {}", profiles.size(), usernames.size(),
+                viewerUsername);
+        return profiles;
+    }
+
+    private static TraineeSummary toSummary(Trainee trainee) {
+        return new TraineeSummary(
+                trainee.getUsername(),
+                trainee.getFirstName(),
+                trainee.getLastName()
+        );
+    }
+}
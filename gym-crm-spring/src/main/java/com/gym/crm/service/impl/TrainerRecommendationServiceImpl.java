@@ -0,0 +1,106 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.response.TrainerRecommendation;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.recommendation.CoAssignmentIndex;
+import com.gym.crm.service.TrainerRecommendationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TrainerRecommendationServiceImpl implements TrainerRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainerRecommendationServiceImpl.class);
+
+    private static final double SPECIALIZATION_WEIGHT = 0.5;
+    private static final double CO_ASSIGNMENT_WEIGHT = 0.4;
+    // lets popular trainers lead for trainees without history or trainers yet
+    private static final double POPULARITY_WEIGHT = 0.1;
+
+    private final TrainerDao trainerDao;
+    private final TrainingDao trainingDao;
+    private final CoAssignmentIndex coAssignmentIndex;
+
+    public TrainerRecommendationServiceImpl(TrainerDao trainerDao,
+                                            TrainingDao trainingDao,
+                                            CoAssignmentIndex coAssignmentIndex) {
+        this.trainerDao = trainerDao;
+        this.trainingDao = trainingDao;
+        this.coAssignmentIndex = coAssignmentIndex;
+    }
+
+    @Override
+    public List<TrainerRecommendation> recommendTrainers(Long traineeId, int limit) {
+        if (traineeId == null) {
+            throw new IllegalArgumentException("Trainee ID cannot be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        Set<Long> assignedTrainerIds = coAssignmentIndex.getTrainerIds(traineeId);
+        Map<Long, Double> similarity = coAssignmentIndex.similarTrainers(assignedTrainerIds);
+        Map<Long, Integer> traineeCounts = coAssignmentIndex.getTraineeCounts();
+        Map<Long, Long> trainingsPerType = trainingDao.countByTraineeIdPerType(traineeId);
+        long totalTrainings = trainingsPerType.values().stream().mapToLong(Long::longValue).sum();
+        double maxPopularity = Math.log1p(traineeCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0));
+        Map<Long, Long> specializations = trainerDao.findActiveIdsBySpecializations(trainingsPerType.keySet());
+
+        // every candidate has a positive score: a shared trainee, any trainee at all, or a matching specialization
+        Set<Long> candidateIds = new HashSet<>(similarity.keySet());
+        candidateIds.addAll(traineeCounts.keySet());
+        candidateIds.addAll(specializations.keySet());
+        candidateIds.removeAll(assignedTrainerIds);
+
+        List<Candidate> ranked = candidateIds.stream()
+                .map(trainerId -> {
+                    Long typeId = specializations.get(trainerId);
+                    double specializationScore = typeId != null && totalTrainings > 0
+                            ? (double) trainingsPerType.getOrDefault(typeId, 0L) / totalTrainings : 0;
+                    double coAssignmentScore = Math.min(1, similarity.getOrDefault(trainerId, 0.0));
+                    double popularity = maxPopularity > 0
+                            ? Math.log1p(traineeCounts.getOrDefault(trainerId, 0)) / maxPopularity : 0;
+                    double score = SPECIALIZATION_WEIGHT * specializationScore
+                            + CO_ASSIGNMENT_WEIGHT * coAssignmentScore + POPULARITY_WEIGHT * popularity;
+                    return new Candidate(trainerId, score, specializationScore, coAssignmentScore);
+                })
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                        .thenComparing(Candidate::trainerId))
+                .toList();
+
+        // load the best candidates a page at a time, skipping inactive or deleted trainers
+        List<TrainerRecommendation> recommendations = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int from = 0; from < ranked.size() && recommendations.size() < limit; from += limit) {
+            List<Candidate> page = ranked.subList(from, Math.min(from + limit, ranked.size()));
+            Map<Long, Trainer> trainers = trainerDao.findByIds(page.stream().map(Candidate::trainerId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Trainer::getId, Function.identity()));
+            for (Candidate candidate : page) {
+                Trainer trainer = trainers.get(candidate.trainerId());
+                if (trainer != null && trainer.isActive() && recommendations.size() < limit) {
+                    recommendations.add(new TrainerRecommendation(trainer.getUsername(), trainer.getFirstName(),
+                            trainer.getLastName(), trainer.getSpecializationName(), candidate.score(),
+                            candidate.specializationScore(), candidate.coAssignmentScore()));
+                }
+            }
+        }
+
+        logger.debug("Recommended {} trainers for trainee {} ({} assigned, {} trainings)",
+                recommendations.size(), traineeId, assignedTrainerIds.size(), totalTrainings);
+        return recommendations;
+    }
+
+    private record Candidate(Long trainerId, double score, double specializationScore, double coAssignmentScore) {}
+}
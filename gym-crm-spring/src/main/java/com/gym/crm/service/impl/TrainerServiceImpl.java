@@ -5,6 +5,7 @@ import com.gym.crm.dto.request.ChangeLoginRequest;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.TrainingType;
 import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.search.UserSearchIndex;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.util.AuthenticationService;
 import com.gym.crm.util.CredentialsGeneratorService;
@@ -28,17 +29,20 @@ public class TrainerServiceImpl implements TrainerService {
     private final CredentialsGeneratorService credentialsGenerator;
     private final ValidationService validationService;
     private final PasswordEncryption passwordEncryption;
+    private final UserSearchIndex searchIndex;
 
     public TrainerServiceImpl(TrainerDao trainerDao,
                               AuthenticationService authenticationService,
                               CredentialsGeneratorService credentialsGenerator,
                               ValidationService validationService,
-                              PasswordEncryption passwordEncryption) {
+                              PasswordEncryption passwordEncryption,
+                              UserSearchIndex searchIndex) {
         this.trainerDao = trainerDao;
         this.authenticationService = authenticationService;
         this.credentialsGenerator = credentialsGenerator;
         this.validationService = validationService;
         this.passwordEncryption = passwordEncryption;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -64,6 +68,7 @@ public class TrainerServiceImpl implements TrainerService {
         trainer.setIsActive(true);
 
         Trainer savedTrainer = trainerDao.create(trainer);
+        searchIndex.put(savedTrainer);
 
         logger.info("Successfully created trainer: {} with username: {} and id: {}",
                 savedTrainer.getFullName(), savedTrainer.getUsername(), savedTrainer.getId());
@@ -104,6 +109,7 @@ public class TrainerServiceImpl implements TrainerService {
         trainer.setSpecialization(existingTrainer.getSpecialization());
 
         Trainer updatedTrainer = trainerDao.update(trainer);
+        searchIndex.put(updatedTrainer);
 
         logger.info("Successfully updated trainer: {} with id: {}",
                 updatedTrainer.getFullName(), updatedTrainer.getId());
@@ -154,6 +160,7 @@ public class TrainerServiceImpl implements TrainerService {
 
         try {
             trainerDao.update(trainer);
+            searchIndex.put(trainer);
             action = isActive ? "Activated" : "Deactivated";
             logger.info("Successfully {} trainer: {} (was previously {})",
                     action.toLowerCase(), trainer.getFullName(), !isActive ? "active" : "inactive");
@@ -3,16 +3,31 @@ package com.gym.crm.service.impl;
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
 import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.request.AddTrainingRequest;
+import com.gym.crm.dto.request.BatchTrainingRequest;
+import com.gym.crm.dto.response.BatchTrainingItemResult;
+import com.gym.crm.dto.response.BatchTrainingResponse;
+import com.gym.crm.dto.response.CalendarDay;
+import com.gym.crm.dto.response.TrainingCalendarResponse;
 import com.gym.crm.entity.Training;
+import com.gym.crm.events.ScheduleEvent;
+import com.gym.crm.exception.ScheduleConflictException;
 import com.gym.crm.exception.UnauthorizedAccessException;
+import com.gym.crm.schedule.TrainerScheduleIndex;
 import com.gym.crm.service.TrainingService;
 import com.gym.crm.util.ValidationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,15 +39,21 @@ public class TrainingServiceImpl implements TrainingService {
     private final TrainerDao trainerDao;
     private final TraineeDao traineeDao;
     private final ValidationService validationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrainerScheduleIndex scheduleIndex;
 
     public TrainingServiceImpl(TrainingDao trainingDao,
                                TrainerDao trainerDao,
                                TraineeDao traineeDao,
-                               ValidationService validationService) {
+                               ValidationService validationService,
+                               ApplicationEventPublisher eventPublisher,
+                               TrainerScheduleIndex scheduleIndex) {
         this.trainingDao = trainingDao;
         this.trainerDao = trainerDao;
         this.traineeDao = traineeDao;
         this.validationService = validationService;
+        this.eventPublisher = eventPublisher;
+        this.scheduleIndex = scheduleIndex;
     }
 
     @Override
@@ -67,7 +88,16 @@ public class TrainingServiceImpl implements TrainingService {
             throw new IllegalArgumentException("Cannot create training for inactive trainer");
         }
 
-        Training savedTraining = trainingDao.create(training);
+        TrainerScheduleIndex.Reservation reservation = scheduleIndex.reserve(training);
+        Training savedTraining;
+        try {
+            savedTraining = trainingDao.create(training);
+        } catch (RuntimeException e) {
+            reservation.release();
+            throw e;
+        }
+        reservation.confirm(savedTraining.getId());
+        eventPublisher.publishEvent(ScheduleEvent.trainingCreated(savedTraining));
 
         logger.info("Successfully created training: '{}' with id: {} (trainee: {}, trainer: {})",
                 savedTraining.getTrainingName(), savedTraining.getId(),
@@ -76,6 +106,133 @@ public class TrainingServiceImpl implements TrainingService {
         return savedTraining;
     }
 
+    @Override
+    public BatchTrainingResponse createTrainings(String authenticatedUsername, BatchTrainingRequest request) {
+        if (request == null || request.getTrainings() == null) {
+            throw new IllegalArgumentException("Training batch cannot be null");
+        }
+        if (authenticatedUsername == null) {
+            throw new UnauthorizedAccessException("Invalid access validation parameters");
+        }
+
+        List<AddTrainingRequest> items = request.getTrainings();
+        logger.info("Creating batch of {} trainings ({}) by user: {}", items.size(), request.getMode(), authenticatedUsername);
+
+        Map<List<String>, PairCheck> pairChecks = new HashMap<>();
+        BatchTrainingItemResult[] results = new BatchTrainingItemResult[items.size()];
+        List<Training> valid = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        List<TrainerScheduleIndex.Reservation> reservations = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                try {
+                    Training training = toTraining(authenticatedUsername, items.get(i), pairChecks);
+                    // reserved one by one, so items of the same batch cannot double-book a trainer either
+                    reservations.add(scheduleIndex.reserve(training));
+                    valid.add(training);
+                    validIndexes.add(i);
+                } catch (IllegalArgumentException | UnauthorizedAccessException | ScheduleConflictException e) {
+                    results[i] = BatchTrainingItemResult.failed(i, e.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            reservations.forEach(TrainerScheduleIndex.Reservation::release);
+            throw e;
+        }
+
+        if (request.getMode() == BatchTrainingRequest.Mode.ALL_OR_NOTHING && valid.size() < items.size()) {
+            logger.warn("Rejected batch of {} trainings by user: {} - {} invalid items",
+                    items.size(), authenticatedUsername, items.size() - valid.size());
+            reservations.forEach(TrainerScheduleIndex.Reservation::release);
+            validIndexes.forEach(index -> results[index] = BatchTrainingItemResult.notCreated(index));
+        } else if (!valid.isEmpty()) {
+            try {
+                trainingDao.createAll(valid);
+            } catch (RuntimeException e) {
+                reservations.forEach(TrainerScheduleIndex.Reservation::release);
+                throw e;
+            }
+            for (int i = 0; i < valid.size(); i++) {
+                int index = validIndexes.get(i);
+                reservations.get(i).confirm(valid.get(i).getId());
+                results[index] = BatchTrainingItemResult.created(index, valid.get(i).getId());
+                eventPublisher.publishEvent(ScheduleEvent.trainingCreated(valid.get(i)));
+            }
+            logger.info("Created {} of {} trainings in batch by user: {} ({} distinct trainee/trainer pairs)",
+                    valid.size(), items.size(), authenticatedUsername, pairChecks.size());
+        }
+
+        return new BatchTrainingResponse(request.getMode(), Arrays.asList(results));
+    }
+
+    private Training toTraining(String authenticatedUsername, AddTrainingRequest item,
+                                Map<List<String>, PairCheck> pairChecks) {
+        if (item == null) {
+            throw new IllegalArgumentException("Training cannot be null");
+        }
+        if (item.getTraineeUsername() == null || item.getTraineeUsername().isBlank()) {
+            throw new IllegalArgumentException("Trainee username is required");
+        }
+        if (item.getTrainerUsername() == null || item.getTrainerUsername().isBlank()) {
+            throw new IllegalArgumentException("Trainer username is required");
+        }
+        if (item.getTrainingDuration() == null) {
+            throw new IllegalArgumentException("Training duration is required");
+        }
+
+        PairCheck pair = pairChecks.computeIfAbsent(
+                List.of(item.getTraineeUsername(), item.getTrainerUsername()),
+                key -> checkPair(authenticatedUsername, key.get(0), key.get(1)));
+        if (pair.error() != null) {
+            throw new IllegalArgumentException(pair.error());
+        }
+
+        Training training = new Training(
+                pair.trainee().getId(),
+                pair.trainer().getId(),
+                item.getTrainingName(),
+                pair.trainer().getSpecialization(),
+                item.getTrainingDate(),
+                item.getTrainingDuration()
+        );
+        training.setTrainingStartTime(item.getTrainingStartTime());
+        validationService.validateTraining(training);
+        return training;
+    }
+
+    /**
+     * The checks that depend only on who the training is for, done once per pair in a batch.
+     */
+    private PairCheck checkPair(String authenticatedUsername, String traineeUsername, String trainerUsername) {
+        if (!authenticatedUsername.equals(traineeUsername) && !authenticatedUsername.equals(trainerUsername)) {
+            return PairCheck.failed("User can only create trainings for themselves");
+        }
+
+        Optional<com.gym.crm.entity.Trainee> traineeOpt = traineeDao.findByUsername(traineeUsername);
+        if (traineeOpt.isEmpty()) {
+            return PairCheck.failed("Trainee not found: " + traineeUsername);
+        }
+        Optional<com.gym.crm.entity.Trainer> trainerOpt = trainerDao.findByUsername(trainerUsername);
+        if (trainerOpt.isEmpty()) {
+            return PairCheck.failed("Trainer not found: " + trainerUsername);
+        }
+        if (!traineeOpt.get().isActive()) {
+            return PairCheck.failed("Cannot create training for inactive trainee");
+        }
+        if (!trainerOpt.get().isActive()) {
+            return PairCheck.failed("Cannot create training for inactive trainer");
+        }
+        return new PairCheck(traineeOpt.get(), trainerOpt.get(), null);
+    }
+
+    private record PairCheck(com.gym.crm.entity.Trainee trainee, com.gym.crm.entity.Trainer trainer, String error) {
+
+        static PairCheck failed(String error) {
+            return new PairCheck(null, null, error);
+        }
+    }
+
     @Override
     public Optional<Training> findTrainingById(Long id) {
         if (id == null) {
@@ -234,6 +391,34 @@ public class TrainingServiceImpl implements TrainingService {
         return trainings;
     }
 
+    @Override
+    public TrainingCalendarResponse getTraineeCalendar(String authenticatedUsername, Long traineeId, YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("Month cannot be null");
+        }
+
+        validateTraineeAccess(authenticatedUsername, traineeId);
+
+        List<CalendarDay> days = trainingDao.sumByTraineeIdPerDay(traineeId, month.atDay(1), month.atEndOfMonth());
+
+        logger.debug("Found trainings on {} days of {} for trainee {}", days.size(), month, traineeId);
+        return new TrainingCalendarResponse(month, days);
+    }
+
+    @Override
+    public TrainingCalendarResponse getTrainerCalendar(String authenticatedUsername, Long trainerId, YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("Month cannot be null");
+        }
+
+        validateTrainerAccess(authenticatedUsername, trainerId);
+
+        List<CalendarDay> days = trainingDao.sumByTrainerIdPerDay(trainerId, month.atDay(1), month.atEndOfMonth());
+
+        logger.debug("Found trainings on {} days of {} for trainer {}", days.size(), month, trainerId);
+        return new TrainingCalendarResponse(month, days);
+    }
+
     @Override
     public boolean trainingExists(Long id) {
         if (id == null) {
@@ -0,0 +1,35 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.service.TrainingTypeService;
+import com.gym.crm.util.impl.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class TrainingTypeServiceImpl implements TrainingTypeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingTypeServiceImpl.class);
+    private static final String ALL_TYPES = "all";
+
+    private final TrainingTypeDao trainingTypeDao;
+    private final SingleFlight<String, List<TrainingType>> allTypesFlight;
+
+    public TrainingTypeServiceImpl(TrainingTypeDao trainingTypeDao, MeterRegistry meterRegistry) {
+        this.trainingTypeDao = trainingTypeDao;
+        this.allTypesFlight = new SingleFlight<>("trainingTypes", meterRegistry);
+    }
+
+    @Override
+    public List<TrainingType> findAllTrainingTypes() {
+        return allTypesFlight.execute(ALL_TYPES, () -> {
+            logger.debug("Loading all training types");
+            return List.copyOf(trainingTypeDao.findAll());
+        });
+    }
+}
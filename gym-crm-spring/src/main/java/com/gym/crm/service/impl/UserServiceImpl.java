@@ -0,0 +1,60 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.UserDao;
+import com.gym.crm.dto.request.ChangeLoginRequest;
+import com.gym.crm.entity.User;
+import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.service.UserService;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class UserServiceImpl implements UserService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+
+    private final UserDao userDao;
+    private final PasswordEncryption passwordEncryption;
+
+    public UserServiceImpl(UserDao userDao, PasswordEncryption passwordEncryption) {
+        this.userDao = userDao;
+        this.passwordEncryption = passwordEncryption;
+    }
+
+    @Override
+    public Optional<User> findUserByUsername(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            logger.debug("FindUserByUsername called with invalid username: {}", username);
+            return Optional.empty();
+        }
+
+        logger.debug("Finding user by username: {}", username);
+
+        Optional<User> result = userDao.findByUsername(username.trim());
+
+        if (result.isPresent()) {
+            logger.debug("Found {} with username: {}", result.get().getRole(), username);
+        } else {
+            logger.debug("No user found with username: {}", username);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void changePassword(User user, ChangeLoginRequest request) {
+        boolean oldPasswordValid = passwordEncryption.matches(request.getOldPassword(), user.getPassword());
+        if (!oldPasswordValid) {
+            throw new InvalidCredentialsException("Invalid old password");
+        }
+
+        String encodedPassword = passwordEncryption.encode(request.getNewPassword());
+        user.setPassword(encodedPassword);
+
+        userDao.update(user);
+    }
+}
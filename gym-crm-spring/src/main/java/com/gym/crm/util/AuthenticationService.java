@@ -2,12 +2,24 @@ package com.gym.crm.util;
 
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.User;
 
 /**
  * Service interface for user authentication and authorization.
  */
 public interface AuthenticationService {
 
+    /**
+     * Authenticates a trainee or trainer with username and password.
+     * Resolves the principal with a single lookup instead of probing each role in turn.
+     *
+     * @param username User's username
+     * @param password User's password
+     * @return Authenticated trainee or trainer
+     * @throws SecurityException if authentication fails
+     */
+    User authenticate(String username, String password);
+
     /**
      * Authenticates a trainee with username and password.
      *
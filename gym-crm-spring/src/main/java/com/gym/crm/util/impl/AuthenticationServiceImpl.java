@@ -2,8 +2,10 @@ package com.gym.crm.util.impl;
 
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.UserDao;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.User;
 import com.gym.crm.exception.InactiveAccountException;
 import com.gym.crm.exception.InvalidCredentialsException;
 import com.gym.crm.exception.UnauthorizedAccessException;
@@ -21,15 +23,54 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final TraineeDao traineeDao;
     private final TrainerDao trainerDao;
+    private final UserDao userDao;
     private final PasswordEncryption passwordEncryption;
 
-    public AuthenticationServiceImpl(TraineeDao traineeDao, TrainerDao trainerDao,
+    public AuthenticationServiceImpl(TraineeDao traineeDao, TrainerDao trainerDao, UserDao userDao,
                                      PasswordEncryption passwordEncryption) {
         this.traineeDao = traineeDao;
         this.trainerDao = trainerDao;
+        this.userDao = userDao;
         this.passwordEncryption = passwordEncryption;
     }
 
+    @Override
+    public User authenticate(String username, String password) {
+        if (username == null || username.trim().isEmpty()) {
+            logger.warn("Authentication failed: username is null or empty");
+            throw new InvalidCredentialsException("Username is required");
+        }
+
+        if (password == null || password.trim().isEmpty()) {
+            logger.warn("Authentication failed: password is null or empty for username: {}", username);
+            throw new InvalidCredentialsException("Password is required");
+        }
+
+        logger.debug("Authenticating user with username: {}", username);
+
+        Optional<User> userOpt = userDao.findByUsername(username.trim());
+
+        if (userOpt.isEmpty()) {
+            logger.warn("Authentication failed: username not found: {}", username);
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        User user = userOpt.get();
+
+        if (!passwordEncryption.matches(password, user.getPassword())) {
+            logger.warn("Authentication failed: invalid password for username: {}", username);
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        if (!user.isActive()) {
+            logger.warn("Authentication failed: account is inactive for username: {}", username);
+            throw new InactiveAccountException("This account is inactive");
+        }
+
+        logger.info("{} authenticated successfully: {}", user.getRole(), username);
+        return user;
+    }
+
     @Override
     public Trainee authenticateTrainee(String username, String password) {
         if (username == null || username.trim().isEmpty()) {
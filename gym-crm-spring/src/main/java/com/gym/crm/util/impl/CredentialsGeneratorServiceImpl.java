@@ -2,6 +2,7 @@ package com.gym.crm.util.impl;
 
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.security.OperatorAccount;
 import com.gym.crm.util.CredentialsGeneratorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,11 +19,14 @@ public class CredentialsGeneratorServiceImpl implements CredentialsGeneratorServ
 
     private final TraineeDao traineeDao;
     private final TrainerDao trainerDao;
+    private final OperatorAccount operatorAccount;
     private final SecureRandom random = new SecureRandom();
 
-    public CredentialsGeneratorServiceImpl(TraineeDao traineeDao, TrainerDao trainerDao) {
+    public CredentialsGeneratorServiceImpl(TraineeDao traineeDao, TrainerDao trainerDao,
+                                           OperatorAccount operatorAccount) {
         this.traineeDao = traineeDao;
         this.trainerDao = trainerDao;
+        this.operatorAccount = operatorAccount;
     }
 
     @Override
@@ -69,6 +73,10 @@ public class CredentialsGeneratorServiceImpl implements CredentialsGeneratorServ
         if (username == null || username.trim().isEmpty()) return false;
 
         String clean = username.trim();
+        if (operatorAccount.isOperatorUsername(clean)) {
+            logger.debug("Username '{}' is reserved for the operator", clean);
+            return false;
+        }
         boolean existsInTrainees = traineeDao.existsByUsername(clean);
         boolean existsInTrainers = trainerDao.existsByUsername(clean);
         boolean isUnique = !existsInTrainees && !existsInTrainers;
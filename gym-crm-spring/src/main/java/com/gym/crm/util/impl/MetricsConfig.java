@@ -1,53 +1,39 @@
 package com.gym.crm.util.impl;
 
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Registry-wide meter configuration. The application meters themselves are owned by
+ * {@link com.gym.crm.service.impl.CustomMetricsService} and the method timing aspect.
+ */
 @Configuration
 public class MetricsConfig {
 
-    @Bean
-    public Counter traineeRegistrationCounter(MeterRegistry registry) {
-        return Counter.builder("gym.trainee.registrations")
-                .description("Number of trainee registrations")
-                .register(registry);
-    }
-
-    @Bean
-    public Counter trainerRegistrationCounter(MeterRegistry registry) {
-        return Counter.builder("gym.trainer.registrations")
-                .description("Number of trainer registrations")
-                .register(registry);
-    }
-
-    @Bean
-    public Counter trainingCreatedCounter(MeterRegistry registry) {
-        return Counter.builder("gym.training.created")
-                .description("Number of trainings created")
-                .register(registry);
-    }
-
-    @Bean
-    public Counter loginAttemptCounter(MeterRegistry registry) {
-        return Counter.builder("gym.login.attempts")
-                .description("Number of login attempts")
-                .register(registry);
-    }
-
-    @Bean
-    public Counter loginSuccessCounter(MeterRegistry registry) {
-        return Counter.builder("gym.login.success")
-                .description("Number of successful logins")
-                .register(registry);
-    }
+    static final double[] PUBLISHED_PERCENTILES = {0.5, 0.95, 0.99};
 
+    /**
+     * Publishes a percentile histogram (for Prometheus) and p50/p95/p99 (for the dashboard)
+     * on every application timer and on http.server.requests. Timers that configure their
+     * own distribution (e.g. per-method timers publishing only the histogram) keep it.
+     */
     @Bean
-    public Timer authenticationTimer(MeterRegistry registry) {
-        return Timer.builder("gym.authentication.time")
-                .description("Time taken for authentication")
-                .register(registry);
+    public MeterFilter latencyPercentilesFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER
+                        || !(id.getName().startsWith("gym.") || id.getName().equals("http.server.requests"))) {
+                    return config;
+                }
+                return config.merge(DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(PUBLISHED_PERCENTILES)
+                        .build());
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.gym.crm.util.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into one in-flight computation.
+ * The first caller for a key runs the loader on its own thread; callers arriving while it
+ * is running wait for and share the same result (or exception). Nothing is cached: once the
+ * computation completes, the next caller for the key starts a fresh one.
+ *
+ * Publishes gym.singleflight.calls{name, role=leader|follower} and
+ * gym.singleflight.coalescing.ratio{name} (followers / all calls).
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter followerCalls;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderCalls = Counter.builder("gym.singleflight.calls")
+                .description("Reads that executed the underlying computation")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followerCalls = Counter.builder("gym.singleflight.calls")
+                .description("Reads that joined an in-flight computation")
+                .tag("name", name)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder("gym.singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of reads served by joining an in-flight computation")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("gym.singleflight.in.flight", inFlight, ConcurrentMap::size)
+                .description("Keys with a computation currently in flight")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            followerCalls.increment();
+            return join(existing);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    public double coalescingRatio() {
+        double followers = followerCalls.count();
+        double total = followers + leaderCalls.count();
+        return total == 0 ? 0.0 : followers / total;
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
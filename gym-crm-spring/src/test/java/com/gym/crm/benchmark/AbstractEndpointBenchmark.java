@@ -0,0 +1,146 @@
+package com.gym.crm.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.diagnostics.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives blocking-heavy endpoints (login with BCrypt + DB lookup, trainee profile with
+ * several DB reads) with a fixed number of concurrent clients and prints throughput and
+ * latency percentiles. Subclasses pick the request execution mode.
+ *
+ * Not part of the regular build (surefire only includes *Test / *Tests). Run both modes with:
+ *   mvn test -Dtest='*ThreadEndpointBenchmark' -Dbenchmark.concurrency=200
+ */
+abstract class AbstractEndpointBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 100);
+    private static final int LOGIN_REQUESTS = Integer.getInteger("benchmark.login-requests", 200);
+    private static final int PROFILE_REQUESTS = Integer.getInteger("benchmark.profile-requests", 5000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+
+    protected abstract String mode();
+
+    @Test
+    void loginAndProfileUnderConcurrentLoad() throws Exception {
+        JsonNode credentials = post("/api/trainees/register",
+                "{\"firstName\":\"Bench\",\"lastName\":\"Mark\",\"address\":\"1 Load Street\"}");
+        String username = credentials.get("username").asText();
+        String password = credentials.get("password").asText();
+        String loginPath = "/api/auth/login?username=" + username + "&password=" + password;
+        String token = get(loginPath, null).get("token").asText();
+
+        // warm-up so JIT and connection pools do not skew the first mode measured
+        run("warm-up", 200, () -> get("/api/trainees/profile/" + username, token));
+
+        run("login", LOGIN_REQUESTS, () -> get(loginPath, null));
+        run("profile", PROFILE_REQUESTS, () -> get("/api/trainees/profile/" + username, token));
+
+        pinningMonitor.ifAvailable(monitor ->
+                System.out.printf("[%s] pinning: %s%n", mode(), monitor.snapshot().get("totalEvents")));
+    }
+
+    private void run(String endpoint, int requests, Call call) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(clients.submit(() -> {
+                    long callStart = System.nanoTime();
+                    try {
+                        call.execute();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - callStart;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %-8s requests=%d concurrency=%d throughput=%.1f req/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms errors=%d%n",
+                mode(), endpoint, requests, CONCURRENCY, requests / (elapsed / 1e9),
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1e6, errors.get());
+
+        assertThat(errors.get()).isZero();
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private JsonNode get(String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request.build());
+    }
+
+    private JsonNode post(String path, String json) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object execute() throws Exception;
+    }
+}
@@ -0,0 +1,298 @@
+package com.gym.crm.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.data.SyntheticDataGenerator;
+import com.gym.crm.data.SyntheticPopulation;
+import com.gym.crm.entity.TrainingType;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: seeds a large synthetic dataset into H2, then drives a fixed mix of
+ * login, trainee profile, filtered training history and training creation at a constant
+ * arrival rate (open model). Latency is measured from each request's scheduled start, so a
+ * stalled server shows up as queueing delay instead of silently lowering the offered load.
+ *
+ * Dataset, request mix and parameters come from a fixed random seed, so two commits run the
+ * same request sequence. Results go to target/load-test-results.csv together with the commit.
+ * Not part of the regular build; run with e.g.
+ *   mvn test -Dtest=LoadTestBenchmark -Dload.rate=100 -Dload.duration-seconds=120
+ * and scale the dataset down with -Dload.trainees / -Dload.trainers / -Dload.trainings.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"limiter.enabled=false", "query.statistics.fail-on-budget-exceeded=false",
+                "logging.level.com.gym.crm=WARN"})
+@ActiveProfiles("test")
+class LoadTestBenchmark {
+
+    private static final int TRAINEES = Integer.getInteger("load.trainees", 100_000);
+    private static final int TRAINERS = Integer.getInteger("load.trainers", 5_000);
+    private static final int TRAININGS = Integer.getInteger("load.trainings", 2_000_000);
+    private static final int ASSIGNMENTS_PER_TRAINEE = Integer.getInteger("load.assignments-per-trainee", 2);
+    private static final int ACTIVE_USERS = Integer.getInteger("load.users", 200);
+    private static final int RATE = Integer.getInteger("load.rate", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 15);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 60);
+    private static final String RESULTS = System.getProperty("load.results", "target/load-test-results.csv");
+
+    private static final String PASSWORD = "LoadTest123";
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    enum Operation {
+        LOGIN(10), PROFILE(35), TRAINING_HISTORY(45), CREATE_TRAINING(10);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record User(int index, String username, String token) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private TrainingTypeDao trainingTypeDao;
+
+    private List<String> trainingTypes;
+
+    @Test
+    void mixedWorkloadAtTargetRate() throws Exception {
+        long seedStart = System.nanoTime();
+        SyntheticPopulation dataset = new SyntheticPopulation(
+                TRAINEES, TRAINERS, TRAININGS, ASSIGNMENTS_PER_TRAINEE, PASSWORD, 42);
+        syntheticDataGenerator.populate(dataset);
+        trainingTypes = trainingTypeDao.findAll().stream().map(TrainingType::getTrainingTypeName).toList();
+        System.out.printf("[load] seeded %d trainees, %d trainers, %d trainings in %ds%n",
+                TRAINEES, TRAINERS, TRAININGS, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart));
+
+        List<User> users = loginActiveUsers(dataset);
+
+        run(dataset, users, WARMUP_SECONDS, new SplittableRandom(7));
+        Map<Operation, Stats> results = run(dataset, users, DURATION_SECONDS, new SplittableRandom(11));
+
+        report(results);
+    }
+
+    private List<User> loginActiveUsers(SyntheticPopulation dataset) throws Exception {
+        SplittableRandom random = new SplittableRandom(3);
+        List<User> users = new ArrayList<>(ACTIVE_USERS);
+        for (int i = 0; i < ACTIVE_USERS; i++) {
+            int index = random.nextInt(dataset.trainees());
+            users.add(new User(index, dataset.traineeUsername(index), null));
+        }
+
+        List<User> loggedIn = new ArrayList<>(users.size());
+        try (ExecutorService logins = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<User>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(logins.submit(() -> new User(user.index(), user.username(), objectMapper
+                        .readTree(send(login(user.username())).body()).get("token").asText())));
+            }
+            for (Future<User> future : futures) {
+                loggedIn.add(future.get());
+            }
+        }
+        return loggedIn;
+    }
+
+    private Map<Operation, Stats> run(SyntheticPopulation dataset, List<User> users,
+                                      int seconds, SplittableRandom random) throws InterruptedException {
+        Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+
+        int totalWeight = 0;
+        for (Operation operation : Operation.values()) {
+            totalWeight += operation.weight;
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = (long) RATE * seconds;
+        long start = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                Operation operation = pick(random.nextInt(totalWeight));
+                User user = users.get(random.nextInt(users.size()));
+                HttpRequest request = build(operation, user, dataset, random);
+
+                long scheduled = start + i * intervalNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                clients.submit(() -> {
+                    Stats endpoint = stats.get(operation);
+                    try {
+                        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() >= 300) {
+                            endpoint.errors.increment();
+                        }
+                    } catch (Exception e) {
+                        endpoint.errors.increment();
+                    } finally {
+                        endpoint.latency.recordValue(Math.min(
+                                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled), MAX_TRACKABLE_MICROS));
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest build(Operation operation, User user, SyntheticPopulation dataset,
+                              SplittableRandom random) {
+        return switch (operation) {
+            case LOGIN -> login(user.username());
+            case PROFILE -> authorized(user, "/api/trainees/profile/" + user.username()).GET().build();
+            case TRAINING_HISTORY -> {
+                LocalDate to = LocalDate.now().minusDays(random.nextInt(365));
+                LocalDate from = to.minusDays(90);
+                String path = "/api/trainees/" + user.username() + "/trainings?periodFrom=" + from + "&periodTo=" + to;
+                if (random.nextBoolean()) {
+                    path += "&trainingType=" + trainingTypes.get(random.nextInt(trainingTypes.size()));
+                }
+                yield authorized(user, path).GET().build();
+            }
+            case CREATE_TRAINING -> {
+                int[] trainers = dataset.assignedTrainers(user.index());
+                int trainerIndex = trainers.length > 0 ? trainers[random.nextInt(trainers.length)]
+                        : random.nextInt(dataset.trainers());
+                String body = "{\"traineeUsername\":\"" + user.username() + "\","
+                        + "\"trainerUsername\":\"" + dataset.trainerUsername(trainerIndex) + "\","
+                        + "\"trainingName\":\"Load session\","
+                        + "\"trainingDate\":\"" + LocalDate.now().plusDays(random.nextInt(1, 60)) + "\","
+                        + "\"trainingDuration\":60}";
+                yield authorized(user, "/api/trainings")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+        };
+    }
+
+    private static Operation pick(int roll) {
+        for (Operation operation : Operation.values()) {
+            if (roll < operation.weight) {
+                return operation;
+            }
+            roll -= operation.weight;
+        }
+        throw new IllegalStateException("Weights do not cover roll");
+    }
+
+    private HttpRequest login(String username) {
+        return HttpRequest.newBuilder(uri("/api/auth/login?username=" + username + "&password=" + PASSWORD))
+                .GET().build();
+    }
+
+    private HttpRequest.Builder authorized(User user, String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + user.token());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(Map<Operation, Stats> results) throws IOException {
+        String commit = gitCommit();
+        Path file = Path.of(RESULTS);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.printf("# commit=%s date=%s rate=%d/s duration=%ds trainees=%d trainers=%d trainings=%d users=%d%n",
+                    commit, Instant.now(), RATE, DURATION_SECONDS, TRAINEES, TRAINERS, TRAININGS, ACTIVE_USERS);
+            out.println("endpoint,count,errors,p50_ms,p95_ms,p99_ms,max_ms");
+            System.out.printf("[load] commit=%s rate=%d/s duration=%ds%n", commit, RATE, DURATION_SECONDS);
+            System.out.printf("[load] %-17s %8s %7s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+            results.forEach((operation, stats) -> {
+                Histogram h = stats.latency;
+                String row = String.format("%s,%d,%d,%.2f,%.2f,%.2f,%.2f", operation.name().toLowerCase(),
+                        h.getTotalCount(), stats.errors.sum(), millis(h.getValueAtPercentile(50)),
+                        millis(h.getValueAtPercentile(95)), millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+                out.println(row);
+                System.out.printf("[load] %-17s %8d %7d %9.2f %9.2f %9.2f %9.2f%n", operation.name().toLowerCase(),
+                        h.getTotalCount(), stats.errors.sum(), millis(h.getValueAtPercentile(50)),
+                        millis(h.getValueAtPercentile(95)), millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+            });
+        }
+        System.out.println("[load] results written to " + file.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,15 @@
+package com.gym.crm.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=false", "server.tomcat.threads.max=200", "limiter.enabled=false"})
+@ActiveProfiles("test")
+class PlatformThreadEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
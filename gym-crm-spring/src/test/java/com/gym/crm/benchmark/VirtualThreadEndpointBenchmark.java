@@ -0,0 +1,14 @@
+package com.gym.crm.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "limiter.enabled=false")
+@ActiveProfiles({"test", "vthreads"})
+class VirtualThreadEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,99 @@
+package com.gym.crm.context;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestContextBindingFilter Tests")
+class RequestContextBindingFilterTest {
+
+    private final RequestContextBindingFilter filter = new RequestContextBindingFilter(new RequestIdGenerator("node-a", 0));
+
+    private final AtomicReference<RequestContext> seenContext = new AtomicReference<>();
+    private final AtomicReference<String> seenMdc = new AtomicReference<>();
+
+    private final FilterChain recordingChain = (request, response) -> {
+        seenContext.set(RequestContext.current());
+        seenMdc.set(MDC.get(RequestContext.MDC_KEY));
+    };
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        RequestContext.bind(null);
+    }
+
+    @Nested
+    @DisplayName("Request Dispatch Tests")
+    class RequestDispatchTests {
+
+        @Test
+        @DisplayName("Should bind one ID to the context, MDC and response header")
+        void doFilter_ShouldExposeRequestIdEverywhere() throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/trainees/profile/john"), response, recordingChain);
+
+            String requestId = seenContext.get().getRequestId();
+            assertThat(requestId).isEqualTo("nodea-0-1");
+            assertThat(seenMdc.get()).isEqualTo(requestId);
+            assertThat(response.getHeader(RequestContext.HEADER)).isEqualTo(requestId);
+        }
+
+        @Test
+        @DisplayName("Should unbind the context and MDC entry after the request")
+        void doFilter_ShouldCleanUpAfterRequest() throws Exception {
+            MDC.put("unrelated", "kept");
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/login"), new MockHttpServletResponse(), recordingChain);
+
+            assertThat(RequestContext.current()).isNull();
+            assertThat(MDC.get(RequestContext.MDC_KEY)).isNull();
+            assertThat(MDC.get("unrelated")).isEqualTo("kept");
+        }
+
+        @Test
+        @DisplayName("Should issue increasing IDs for consecutive requests")
+        void doFilter_ShouldIssueNewIdPerRequest() throws Exception {
+            MockHttpServletResponse first = new MockHttpServletResponse();
+            MockHttpServletResponse second = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/a"), first, recordingChain);
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/b"), second, recordingChain);
+
+            assertThat(first.getHeader(RequestContext.HEADER)).isEqualTo("nodea-0-1");
+            assertThat(second.getHeader(RequestContext.HEADER)).isEqualTo("nodea-0-2");
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Dispatch Tests")
+    class ErrorDispatchTests {
+
+        @Test
+        @DisplayName("Should rebind the original context on an error dispatch")
+        void doFilter_ShouldReuseContext_OnErrorDispatch() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trainings");
+            filter.doFilter(request, new MockHttpServletResponse(), recordingChain);
+            RequestContext original = seenContext.get();
+
+            request.setDispatcherType(DispatcherType.ERROR);
+            MockHttpServletResponse errorResponse = new MockHttpServletResponse();
+            filter.doFilter(request, errorResponse, recordingChain);
+
+            assertThat(seenContext.get()).isSameAs(original);
+            assertThat(seenMdc.get()).isEqualTo(original.getRequestId());
+            assertThat(errorResponse.getHeader(RequestContext.HEADER)).isNull();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.gym.crm.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestContext Tests")
+class RequestContextTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        RequestContext.bind(null);
+    }
+
+    private RequestContext bindAuthenticated() {
+        RequestContext context = new RequestContext("node-1-a");
+        context.authenticate("john.doe", 7L, "TRAINEE");
+        RequestContext.bind(context);
+        MDC.put(RequestContext.MDC_KEY, context.getRequestId());
+        return context;
+    }
+
+    @Nested
+    @DisplayName("Binding Tests")
+    class BindingTests {
+
+        @Test
+        @DisplayName("Should reject a blank request ID")
+        void constructor_ShouldRejectBlankId() {
+            assertThatThrownBy(() -> new RequestContext(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return the previous context from bind")
+        void bind_ShouldReturnPrevious() {
+            RequestContext outer = new RequestContext("outer");
+            RequestContext inner = new RequestContext("inner");
+
+            assertThat(RequestContext.bind(outer)).isNull();
+            RequestContext previous = RequestContext.bind(inner);
+            RequestContext.restore(previous);
+
+            assertThat(previous).isSameAs(outer);
+            assertThat(RequestContext.current()).isSameAs(outer);
+        }
+
+        @Test
+        @DisplayName("Should expose the authenticated username")
+        void currentUsername_ShouldReturnPrincipalUsername() {
+            assertThat(RequestContext.currentUsername()).isNull();
+
+            RequestContext.bind(new RequestContext("anonymous"));
+            assertThat(RequestContext.currentUsername()).isNull();
+
+            bindAuthenticated();
+            assertThat(RequestContext.currentUsername()).isEqualTo("john.doe");
+        }
+    }
+
+    @Nested
+    @DisplayName("Propagation Tests")
+    class PropagationTests {
+
+        @Test
+        @DisplayName("Should carry context and MDC onto an executor thread")
+        void wrap_ShouldPropagateToExecutor() throws Exception {
+            RequestContext context = bindAuthenticated();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Callable<String> task = RequestContext.wrap(() ->
+                        RequestContext.currentUsername() + "/" + MDC.get(RequestContext.MDC_KEY));
+
+                assertThat(executor.submit(task).get()).isEqualTo("john.doe/" + context.getRequestId());
+                assertThat(executor.submit(() -> RequestContext.current() == null
+                        && MDC.get(RequestContext.MDC_KEY) == null).get()).isTrue();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should restore the running thread's own context afterwards")
+        void wrap_ShouldRestoreExecutingThreadState() {
+            bindAuthenticated();
+            AtomicReference<String> seen = new AtomicReference<>();
+            Runnable task = RequestContext.wrap(() -> seen.set(RequestContext.current().getRequestId()));
+
+            RequestContext own = new RequestContext("own");
+            RequestContext.bind(own);
+            MDC.put(RequestContext.MDC_KEY, "own");
+            task.run();
+
+            assertThat(seen.get()).isEqualTo("node-1-a");
+            assertThat(RequestContext.current()).isSameAs(own);
+            assertThat(MDC.get(RequestContext.MDC_KEY)).isEqualTo("own");
+        }
+
+        @Test
+        @DisplayName("Should return the task unchanged outside a request")
+        void wrap_ShouldNotWrap_WhenNothingBound() {
+            Runnable task = () -> { };
+
+            assertThat(RequestContext.wrap(task)).isSameAs(task);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.gym.crm.context;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestIdGenerator Tests")
+class RequestIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should prefix IDs with the node and start time in base 36")
+    void nextId_ShouldUseNodeAndStartTime() {
+        RequestIdGenerator generator = new RequestIdGenerator("gym-crm-7f9c", 36_000L * 1000);
+
+        assertThat(generator.nextId()).isEqualTo("gymcrm7f9c-rs0-1");
+        assertThat(generator.nextId()).isEqualTo("gymcrm7f9c-rs0-2");
+    }
+
+    @Test
+    @DisplayName("Should keep the tail of long node names")
+    void nodeName_ShouldTruncateLongNames() {
+        assertThat(RequestIdGenerator.nodeName("gym-crm-deployment-5d8f7b9c4-x2x7k"))
+                .isEqualTo("nt5d8f7b9c4x2x7k")
+                .hasSize(RequestIdGenerator.MAX_NODE_LENGTH);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a random tag without a node name")
+    void nodeName_ShouldGenerateTag_WhenBlank() {
+        assertThat(RequestIdGenerator.nodeName("")).matches("[0-9a-z]{4}");
+        assertThat(RequestIdGenerator.nodeName(null)).matches("[0-9a-z]{4}");
+    }
+
+    @Test
+    @DisplayName("Should not repeat IDs under concurrent use")
+    void nextId_ShouldBeUniqueAcrossThreads() {
+        RequestIdGenerator generator = new RequestIdGenerator("node", 0);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        assertThat(ids).hasSize(10_000);
+        assertThat(ids).contains("node-0-1", "node-0-7ps");
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -174,6 +175,34 @@ class TraineeDaoImplTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    void findByUsernames_ShouldReturnOnlyMatchingTrainees() {
+        traineeDao.create(testTrainee);
+        Trainee trainee2 = new Trainee("Jane", "Smith");
+        trainee2.setUsername("jane.smith");
+        trainee2.setPassword("password456");
+        traineeDao.create(trainee2);
+
+        List<Trainee> found = traineeDao.findByUsernames(Arrays.asList(" john.doe ", "jane.smith", "ghost", null, "john.doe"));
+
+        assertThat(found).extracting(Trainee::getUsername).containsExactlyInAnyOrder("john.doe", "jane.smith");
+    }
+
+    @Test
+    void findByUsernames_ShouldReturnEmpty_WhenNothingRequested() {
+        assertThat(traineeDao.findByUsernames(null)).isEmpty();
+        assertThat(traineeDao.findByUsernames(List.of())).isEmpty();
+        assertThat(traineeDao.findByUsernames(List.of(" "))).isEmpty();
+    }
+
+    @Test
+    void findByIds_ShouldReturnOnlyMatchingTrainees() {
+        Trainee created = traineeDao.create(testTrainee);
+
+        assertThat(traineeDao.findByIds(List.of(created.getId(), 999L))).containsExactly(created);
+        assertThat(traineeDao.findByIds(List.of())).isEmpty();
+    }
+
     @Test
     void findAllActive_ShouldReturnOnlyActiveTrainees() {
         traineeDao.create(testTrainee);
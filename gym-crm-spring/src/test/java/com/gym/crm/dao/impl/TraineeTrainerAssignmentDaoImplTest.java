@@ -8,17 +8,21 @@ import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.TraineeTrainerAssignment;
 import com.gym.crm.entity.TrainingType;
+import com.gym.crm.events.ScheduleEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -27,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @Import({TraineeTrainerAssignmentDaoImpl.class, TraineeDaoImpl.class, TrainerDaoImpl.class, TrainingTypeDaoImpl.class})
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 class TraineeTrainerAssignmentDaoImplTest {
 
     @Autowired
@@ -41,6 +46,9 @@ class TraineeTrainerAssignmentDaoImplTest {
     @Autowired
     private TrainingTypeDao trainingTypeDao;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Trainee testTrainee;
     private Trainer testTrainer;
     private TraineeTrainerAssignment testAssignment;
@@ -92,6 +100,16 @@ class TraineeTrainerAssignmentDaoImplTest {
         assertThat(assignmentDao.findByTraineeId(testTrainee.getId())).hasSize(1);
     }
 
+    @Test
+    void findAll_ShouldReturnEveryAssignment() {
+        assertThat(assignmentDao.findAll()).isEmpty();
+
+        assignmentDao.create(testAssignment);
+
+        assertThat(assignmentDao.findAll()).singleElement()
+                .satisfies(assignment -> assertThat(assignment.getTrainerId()).isEqualTo(testTrainer.getId()));
+    }
+
     @Test
     void create_ShouldAllowCustomAssignedDate() {
         LocalDate customDate = LocalDate.of(2023, 1, 1);
@@ -175,6 +193,26 @@ class TraineeTrainerAssignmentDaoImplTest {
         assertThat(assignments).isEmpty();
     }
 
+    @Test
+    void findByTraineeIdsAndTrainerIds_ShouldReturnAssignmentsForAllIds() {
+        assignmentDao.create(testAssignment);
+
+        Trainee anotherTrainee = new Trainee("Another", "Trainee");
+        anotherTrainee.setUsername("another.trainee");
+        anotherTrainee.setPassword("password789");
+        anotherTrainee = traineeDao.create(anotherTrainee);
+        assignmentDao.create(new TraineeTrainerAssignment(anotherTrainee.getId(), testTrainer.getId()));
+
+        assertThat(assignmentDao.findByTraineeIds(List.of(testTrainee.getId(), anotherTrainee.getId(), 999L)))
+                .extracting(TraineeTrainerAssignment::getTraineeId)
+                .containsExactlyInAnyOrder(testTrainee.getId(), anotherTrainee.getId());
+        assertThat(assignmentDao.findByTrainerIds(List.of(testTrainer.getId())))
+                .extracting(TraineeTrainerAssignment::getTraineeId)
+                .containsExactlyInAnyOrder(testTrainee.getId(), anotherTrainee.getId());
+        assertThat(assignmentDao.findByTraineeIds(List.of())).isEmpty();
+        assertThat(assignmentDao.findByTrainerIds(null)).isEmpty();
+    }
+
     @Test
     void findByTraineeIdAndTrainerId_ShouldReturnAssignment_WhenExists() {
         assignmentDao.create(testAssignment);
@@ -376,6 +414,12 @@ class TraineeTrainerAssignmentDaoImplTest {
         assertThat(assignmentDao.existsByTraineeIdAndTrainerId(
                 testTrainee.getId(), trainer3.getId()
         )).isTrue();
+        assertThat(applicationEvents.stream(ScheduleEvent.class)).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(ScheduleEvent.Type.ASSIGNMENT_CHANGED);
+            assertThat(event.userIds()).isEqualTo(Set.of(
+                    testTrainee.getId(), testTrainer.getId(), newTrainerIds.get(0), newTrainerIds.get(1)));
+            assertThat(event.data()).containsEntry("trainerIds", newTrainerIds);
+        });
     }
 
     @Test
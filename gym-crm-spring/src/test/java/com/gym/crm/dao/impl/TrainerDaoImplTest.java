@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
@@ -157,6 +159,49 @@ class TrainerDaoImplTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    void findByUsernames_ShouldReturnMatchingTrainersWithSpecialization() {
+        trainerDao.create(testTrainer);
+        TrainingType strengthType = trainingTypeDao.create(new TrainingType("Strength"));
+        Trainer trainer2 = new Trainer("Jane", "Coach", strengthType);
+        trainer2.setUsername("jane.coach");
+        trainer2.setPassword("password456");
+        trainerDao.create(trainer2);
+
+        List<Trainer> found = trainerDao.findByUsernames(List.of("john.trainer", "jane.coach", "ghost"));
+
+        assertThat(found).extracting(Trainer::getUsername, Trainer::getSpecializationName)
+                .containsExactlyInAnyOrder(tuple("john.trainer", "Cardio"), tuple("jane.coach", "Strength"));
+        assertThat(trainerDao.findByUsernames(List.of())).isEmpty();
+    }
+
+    @Test
+    void findByIds_ShouldReturnOnlyMatchingTrainers() {
+        Trainer created = trainerDao.create(testTrainer);
+
+        assertThat(trainerDao.findByIds(List.of(created.getId(), 999L))).containsExactly(created);
+        assertThat(trainerDao.findByIds(null)).isEmpty();
+    }
+
+    @Test
+    void findActiveIdsBySpecializations_ShouldReturnActiveTrainersOfTheTypes() {
+        Trainer created = trainerDao.create(testTrainer);
+        Trainer other = new Trainer("Other", "Coach", trainingTypeDao.create(new TrainingType("Pilates")));
+        other.setUsername("other.coach");
+        other.setPassword("password789");
+        other.setIsActive(true);
+        trainerDao.create(other);
+        Trainer inactive = new Trainer("Idle", "Coach", testSpecialization);
+        inactive.setUsername("idle.coach");
+        inactive.setPassword("password789");
+        inactive.setIsActive(false);
+        trainerDao.create(inactive);
+
+        assertThat(trainerDao.findActiveIdsBySpecializations(List.of(testSpecialization.getId())))
+                .containsOnly(entry(created.getId(), testSpecialization.getId()));
+        assertThat(trainerDao.findActiveIdsBySpecializations(List.of())).isEmpty();
+    }
+
     @Test
     void existsById_ShouldReturnTrue_WhenTrainerExists() {
         Trainer created = trainerDao.create(testTrainer);
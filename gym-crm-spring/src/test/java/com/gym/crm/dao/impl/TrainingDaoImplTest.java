@@ -4,29 +4,44 @@ import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
 import com.gym.crm.dao.TrainingDao;
 import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.dto.response.CalendarDay;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.Training;
 import com.gym.crm.entity.TrainingType;
+import com.gym.crm.events.TrainerMinutesChanged;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @Import({TrainingDaoImpl.class, TraineeDaoImpl.class, TrainerDaoImpl.class, TrainingTypeDaoImpl.class})
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 class TrainingDaoImplTest {
 
     @Autowired
@@ -41,6 +56,12 @@ class TrainingDaoImplTest {
     @Autowired
     private TrainingTypeDao trainingTypeDao;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Training testTraining;
     private Trainee testTrainee;
     private Trainer testTrainer;
@@ -92,6 +113,41 @@ class TrainingDaoImplTest {
                 .hasMessage("Training cannot be null");
     }
 
+    @Test
+    void createAll_ShouldPersistAllTrainingsInJdbcBatches() {
+        AtomicInteger batches = new AtomicInteger();
+        entityManager.unwrap(Session.class).addEventListeners(new SessionEventListener() {
+            @Override
+            public void jdbcExecuteBatchStart() {
+                batches.incrementAndGet();
+            }
+        });
+        List<Training> trainings = IntStream.range(0, TrainingDaoImpl.JDBC_BATCH_SIZE + 10)
+                .mapToObj(i -> new Training(testTrainee.getId(), testTrainer.getId(), "Session " + i,
+                        testTrainingType, LocalDate.now().plusDays(i), 45))
+                .toList();
+
+        List<Training> created = trainingDao.createAll(trainings);
+
+        assertThat(created).allSatisfy(training -> assertThat(training.getId()).isNotNull());
+        assertThat(trainingDao.findByTraineeId(testTrainee.getId())).hasSize(trainings.size());
+        assertThat(batches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void createAll_ShouldReturnEmpty_WhenNothingToCreate() {
+        assertThat(trainingDao.createAll(List.of())).isEmpty();
+    }
+
+    @Test
+    void createAll_ShouldThrowException_WhenListOrElementIsNull() {
+        assertThatThrownBy(() -> trainingDao.createAll(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trainingDao.createAll(Arrays.asList(testTraining, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Trainings cannot be null");
+    }
+
     @Test
     void findById_ShouldReturnTraining_WhenExists() {
         Training created = trainingDao.create(testTraining);
@@ -275,6 +331,81 @@ class TrainingDaoImplTest {
                 .containsExactlyInAnyOrder("Yesterday", "Morning Cardio", "Tomorrow");
     }
 
+    @Test
+    void sumPerDay_ShouldGroupTrainingsOfUserByDateWithinRange() {
+        LocalDate first = LocalDate.of(2030, 3, 1);
+        LocalDate fifth = LocalDate.of(2030, 3, 5);
+        Trainee otherTrainee = new Trainee("Other", "Trainee", LocalDate.of(1991, 2, 2), "1 Other St");
+        otherTrainee.setUsername("other.trainee");
+        otherTrainee.setPassword("password123");
+        traineeDao.create(otherTrainee);
+
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "A", testTrainingType, first, 30));
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "B", testTrainingType, first, 45));
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "C", testTrainingType, fifth, 60));
+        trainingDao.create(new Training(otherTrainee.getId(), testTrainer.getId(), "D", testTrainingType, fifth, 20));
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "E", testTrainingType,
+                LocalDate.of(2030, 4, 1), 90));
+
+        List<CalendarDay> traineeDays = trainingDao.sumByTraineeIdPerDay(
+                testTrainee.getId(), first, LocalDate.of(2030, 3, 31));
+        List<CalendarDay> trainerDays = trainingDao.sumByTrainerIdPerDay(
+                testTrainer.getId(), first, LocalDate.of(2030, 3, 31));
+
+        assertThat(traineeDays).extracting(CalendarDay::getDate, CalendarDay::getTrainingCount,
+                        CalendarDay::getTotalDurationMinutes)
+                .containsExactly(tuple(first, 2L, 75L), tuple(fifth, 1L, 60L));
+        assertThat(trainerDays).extracting(CalendarDay::getDate, CalendarDay::getTrainingCount,
+                        CalendarDay::getTotalDurationMinutes)
+                .containsExactly(tuple(first, 2L, 75L), tuple(fifth, 2L, 80L));
+    }
+
+    @Test
+    void sumPerDay_ShouldReturnEmpty_WhenParametersInvalid() {
+        LocalDate today = LocalDate.now();
+
+        assertThat(trainingDao.sumByTraineeIdPerDay(null, today, today)).isEmpty();
+        assertThat(trainingDao.sumByTrainerIdPerDay(testTrainer.getId(), today.plusDays(1), today)).isEmpty();
+    }
+
+    @Test
+    void countByTraineeIdPerType_ShouldCountTraineeTrainingsOfEachType() {
+        TrainingType yoga = trainingTypeDao.create(new TrainingType("Yoga"));
+        LocalDate day = LocalDate.of(2030, 3, 1);
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "A", testTrainingType, day, 30));
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "B", testTrainingType, day, 30));
+        trainingDao.create(new Training(testTrainee.getId(), testTrainer.getId(), "C", yoga, day, 30));
+
+        Map<Long, Long> counts = trainingDao.countByTraineeIdPerType(testTrainee.getId());
+
+        assertThat(counts).containsOnly(entry(testTrainingType.getId(), 2L), entry(yoga.getId(), 1L));
+        assertThat(trainingDao.countByTraineeIdPerType(testTrainer.getId())).isEmpty();
+        assertThat(trainingDao.countByTraineeIdPerType(null)).isEmpty();
+    }
+
+    @Test
+    void findScheduledFrom_ShouldReturnOnlyTimedTrainingsFromDate() {
+        LocalDate today = LocalDate.now();
+
+        Training timedPast = new Training(testTrainee.getId(), testTrainer.getId(), "Timed Past",
+                testTrainingType, today.minusDays(1), 30);
+        timedPast.setTrainingStartTime(LocalTime.of(9, 0));
+        Training timedToday = new Training(testTrainee.getId(), testTrainer.getId(), "Timed Today",
+                testTrainingType, today, 45);
+        timedToday.setTrainingStartTime(LocalTime.of(10, 30));
+        Training untimedToday = new Training(testTrainee.getId(), testTrainer.getId(), "Untimed Today",
+                testTrainingType, today, 60);
+        trainingDao.create(timedPast);
+        trainingDao.create(timedToday);
+        trainingDao.create(untimedToday);
+
+        List<Training> scheduled = trainingDao.findScheduledFrom(today);
+
+        assertThat(scheduled).extracting(Training::getTrainingName).containsExactly("Timed Today");
+        assertThat(scheduled.get(0).getTrainingStartTime()).isEqualTo(LocalTime.of(10, 30));
+        assertThat(trainingDao.findScheduledFrom(null)).isEmpty();
+    }
+
     @Test
     void findByDateRange_ShouldReturnEmpty_WhenInvalidRange() {
         LocalDate tomorrow = LocalDate.now().plusDays(1);
@@ -418,6 +549,43 @@ class TrainingDaoImplTest {
         assertThat(deletedCount).isEqualTo(0);
     }
 
+    @Test
+    void sumMinutesPerTrainer_ShouldSumDurationsWithinRangePerTrainer() {
+        Trainer otherTrainer = new Trainer("Other", "Coach", testTrainingType);
+        otherTrainer.setUsername("other.coach");
+        otherTrainer.setPassword("password789");
+        otherTrainer = trainerDao.create(otherTrainer);
+        LocalDate start = LocalDate.of(2030, 3, 1);
+        trainingDao.createAll(List.of(
+                new Training(testTrainee.getId(), testTrainer.getId(), "First", testTrainingType, start, 60),
+                new Training(testTrainee.getId(), testTrainer.getId(), "Second", testTrainingType, start.plusDays(30), 45),
+                new Training(testTrainee.getId(), otherTrainer.getId(), "Third", testTrainingType, start.plusDays(5), 30),
+                new Training(testTrainee.getId(), otherTrainer.getId(), "Next Month", testTrainingType, start.plusMonths(1), 90)));
+
+        Map<Long, Long> minutes = trainingDao.sumMinutesPerTrainer(start, start.plusMonths(1).minusDays(1));
+
+        assertThat(minutes).containsOnly(entry(testTrainer.getId(), 105L), entry(otherTrainer.getId(), 30L));
+        assertThat(trainingDao.sumMinutesPerTrainer(start, start.minusDays(1))).isEmpty();
+        assertThat(trainingDao.sumMinutesPerTrainer(null, start)).isEmpty();
+    }
+
+    @Test
+    void createAndDelete_ShouldPublishTrainerMinutesChanges() {
+        trainingDao.create(testTraining);
+        trainingDao.createAll(List.of(new Training(testTrainee.getId(), testTrainer.getId(), "Evening Cardio",
+                testTrainingType, LocalDate.now(), 30)));
+
+        trainingDao.deleteByTraineeId(testTrainee.getId());
+
+        assertThat(applicationEvents.stream(TrainerMinutesChanged.class))
+                .extracting(TrainerMinutesChanged::trainerId, TrainerMinutesChanged::trainingDate,
+                        TrainerMinutesChanged::minutes)
+                .containsExactly(
+                        tuple(testTrainer.getId(), LocalDate.now(), 60L),
+                        tuple(testTrainer.getId(), LocalDate.now(), 30L),
+                        tuple(testTrainer.getId(), LocalDate.now(), -90L));
+    }
+
     @Test
     void shouldTrimTrainingName() {
         Training trainingWithSpaces = new Training(
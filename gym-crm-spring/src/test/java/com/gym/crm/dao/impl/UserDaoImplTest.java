@@ -0,0 +1,129 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.dao.UserDao;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.entity.User;
+import com.gym.crm.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({UserDaoImpl.class, TraineeDaoImpl.class, TrainerDaoImpl.class, TrainingTypeDaoImpl.class})
+@ActiveProfiles("test")
+@Transactional
+class UserDaoImplTest {
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private TraineeDao traineeDao;
+
+    @Autowired
+    private TrainerDao trainerDao;
+
+    @Autowired
+    private TrainingTypeDao trainingTypeDao;
+
+    private Trainee testTrainee;
+    private Trainer testTrainer;
+
+    @BeforeEach
+    void setUp() {
+        testTrainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test Street");
+        testTrainee.setUsername("john.doe");
+        testTrainee.setPassword("password123");
+        testTrainee = traineeDao.create(testTrainee);
+
+        TrainingType specialization = trainingTypeDao.create(new TrainingType("Cardio"));
+        testTrainer = new Trainer("Jane", "Smith", specialization);
+        testTrainer.setUsername("jane.smith");
+        testTrainer.setPassword("password123");
+        testTrainer = trainerDao.create(testTrainer);
+    }
+
+    @Test
+    void findByUsername_ShouldReturnTraineeSubtype() {
+        Optional<User> found = userDao.findByUsername("john.doe");
+
+        assertThat(found).isPresent();
+        assertThat(found.get()).isInstanceOf(Trainee.class);
+        assertThat(found.get().getRole()).isEqualTo(UserRole.TRAINEE);
+        assertThat(found.get().getId()).isEqualTo(testTrainee.getId());
+        assertThat(((Trainee) found.get()).getAddress()).isEqualTo("123 Test Street");
+    }
+
+    @Test
+    void findByUsername_ShouldReturnTrainerSubtype() {
+        Optional<User> found = userDao.findByUsername("jane.smith");
+
+        assertThat(found).isPresent();
+        assertThat(found.get()).isInstanceOf(Trainer.class);
+        assertThat(found.get().getRole()).isEqualTo(UserRole.TRAINER);
+        assertThat(((Trainer) found.get()).getSpecializationName()).isEqualTo("Cardio");
+    }
+
+    @Test
+    void findByUsername_ShouldTrimUsername() {
+        assertThat(userDao.findByUsername("  jane.smith  ")).isPresent();
+    }
+
+    @Test
+    void findByUsername_ShouldReturnEmpty_WhenNotFound() {
+        assertThat(userDao.findByUsername("nobody")).isEmpty();
+    }
+
+    @Test
+    void findByUsername_ShouldReturnEmpty_WhenUsernameInvalid() {
+        assertThat(userDao.findByUsername(null)).isEmpty();
+        assertThat(userDao.findByUsername("   ")).isEmpty();
+    }
+
+    @Test
+    void existsByUsername_ShouldCoverBothRoles() {
+        assertThat(userDao.existsByUsername("john.doe")).isTrue();
+        assertThat(userDao.existsByUsername("jane.smith")).isTrue();
+        assertThat(userDao.existsByUsername("nobody")).isFalse();
+        assertThat(userDao.existsByUsername(null)).isFalse();
+    }
+
+    @Test
+    void update_ShouldPersistChangesThroughBaseType() {
+        User user = userDao.findByUsername("jane.smith").orElseThrow();
+        user.setPassword("newPassword");
+
+        userDao.update(user);
+
+        assertThat(trainerDao.findByUsername("jane.smith").orElseThrow().getPassword()).isEqualTo("newPassword");
+    }
+
+    @Test
+    void update_ShouldThrowException_WhenUserIsNull() {
+        assertThatThrownBy(() -> userDao.update(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("User cannot be null");
+    }
+
+    @Test
+    void update_ShouldThrowException_WhenIdIsNull() {
+        assertThatThrownBy(() -> userDao.update(new Trainee("Test", "User")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("User id cannot be null for update");
+    }
+}
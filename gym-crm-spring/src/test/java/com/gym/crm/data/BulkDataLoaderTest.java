@@ -0,0 +1,256 @@
+package com.gym.crm.data;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.dao.impl.TraineeDaoImpl;
+import com.gym.crm.dao.impl.TraineeTrainerAssignmentDaoImpl;
+import com.gym.crm.dao.impl.TrainerDaoImpl;
+import com.gym.crm.dao.impl.TrainingDaoImpl;
+import com.gym.crm.dao.impl.TrainingTypeDaoImpl;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.Training;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({BulkDataLoader.class, PasswordEncryption.class, TraineeDaoImpl.class, TrainerDaoImpl.class,
+        TrainingDaoImpl.class, TrainingTypeDaoImpl.class, TraineeTrainerAssignmentDaoImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class BulkDataLoaderTest {
+
+    private static final String HASH = "$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234";
+
+    private static final String DOCUMENT = """
+            {
+              "trainingTypes": [{"id": 1, "trainingTypeName": "Cardio"}, {"trainingTypeName": "Yoga"}],
+              "trainers": [
+                {"firstName": "Jane", "lastName": "Smith", "username": "jane.smith",
+                 "passwordHash": "%1$s", "specialization": "Yoga"}
+              ],
+              "trainees": [
+                {"firstName": "John", "lastName": "Doe", "username": "john.doe", "passwordHash": "%1$s",
+                 "dateOfBirth": "1990-01-01", "address": "123 Test St", "isActive": false}
+              ],
+              "assignments": [{"traineeUsername": "john.doe", "trainerUsername": "jane.smith",
+                               "assignedDate": "2025-01-01"}],
+              "trainings": [
+                {"traineeUsername": "john.doe", "trainerUsername": "jane.smith", "trainingName": "Morning flow",
+                 "trainingDate": "2025-02-01", "trainingDuration": 45},
+                {"traineeUsername": "john.doe", "trainerUsername": "jane.smith", "trainingName": "Run",
+                 "trainingType": "Cardio", "trainingDate": "2025-02-02"}
+              ]
+            }
+            """.formatted(HASH);
+
+    @Autowired
+    private BulkDataLoader bulkDataLoader;
+
+    @Autowired
+    private TraineeDao traineeDao;
+
+    @Autowired
+    private TrainerDao trainerDao;
+
+    @Autowired
+    private TrainingDao trainingDao;
+
+    @Autowired
+    private TrainingTypeDao trainingTypeDao;
+
+    @Autowired
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    @Autowired
+    private PasswordEncryption passwordEncryption;
+
+    private BulkLoadReport load(String json) throws IOException {
+        return bulkDataLoader.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Nested
+    @DisplayName("load")
+    class Load {
+
+        @Test
+        @DisplayName("Should insert every section and report row counts")
+        void shouldInsertEverySection() throws IOException {
+            BulkLoadReport report = load(DOCUMENT);
+
+            assertThat(report.trainingTypes()).isEqualTo(2);
+            assertThat(report.trainers()).isEqualTo(1);
+            assertThat(report.trainees()).isEqualTo(1);
+            assertThat(report.assignments()).isEqualTo(1);
+            assertThat(report.trainings()).isEqualTo(2);
+            assertThat(report.totalRows()).isEqualTo(7);
+
+            Trainer trainer = trainerDao.findByUsername("jane.smith").orElseThrow();
+            assertThat(trainer.getSpecialization().getTrainingTypeName()).isEqualTo("Yoga");
+            assertThat(trainer.getPassword()).isEqualTo(HASH);
+
+            Trainee trainee = traineeDao.findByUsername("john.doe").orElseThrow();
+            assertThat(trainee.getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 1));
+            assertThat(trainee.getAddress()).isEqualTo("123 Test St");
+            assertThat(trainee.getIsActive()).isFalse();
+
+            assertThat(assignmentDao.existsByTraineeIdAndTrainerId(trainee.getId(), trainer.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should default training type to trainer specialization")
+        void shouldDefaultTrainingTypeToSpecialization() throws IOException {
+            load(DOCUMENT);
+
+            Trainee trainee = traineeDao.findByUsername("john.doe").orElseThrow();
+            List<Training> trainings = trainingDao.findByTraineeId(trainee.getId());
+
+            assertThat(trainings).extracting(Training::getTrainingName, t -> t.getTrainingType().getTrainingTypeName(),
+                            Training::getTrainingDuration)
+                    .containsExactlyInAnyOrder(
+                            tuple("Morning flow", "Yoga", 45),
+                            tuple("Run", "Cardio", 60));
+        }
+
+        @Test
+        @DisplayName("Should skip training types that already exist")
+        void shouldSkipExistingTrainingTypes() throws IOException {
+            trainingTypeDao.create(new TrainingType("Cardio"));
+
+            BulkLoadReport report = load(DOCUMENT);
+
+            assertThat(report.trainingTypes()).isEqualTo(1);
+            assertThat(trainingTypeDao.findAll()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should hash plain passwords")
+        void shouldHashPlainPasswords() throws IOException {
+            load("""
+                    {"trainingTypes": [{"trainingTypeName": "Cardio"}],
+                     "trainers": [{"firstName": "A", "lastName": "B", "username": "a.b", "password": "Secret123",
+                                   "specialization": "Cardio"}]}
+                    """);
+
+            String stored = trainerDao.findByUsername("a.b").orElseThrow().getPassword();
+            assertThat(stored).isNotEqualTo("Secret123");
+            assertThat(passwordEncryption.matches("Secret123", stored)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reference users that existed before the load")
+        void shouldReferenceExistingUsers() throws IOException {
+            TrainingType cardio = trainingTypeDao.create(new TrainingType("Cardio"));
+            Trainer existing = new Trainer("Old", "Trainer", cardio);
+            existing.setUsername("old.trainer");
+            existing.setPassword(HASH);
+            existing = trainerDao.create(existing);
+
+            load("""
+                    {"trainees": [{"firstName": "N", "lastName": "T", "username": "new.trainee", "passwordHash": "x"}],
+                     "trainings": [{"traineeUsername": "new.trainee", "trainerUsername": "old.trainer",
+                                    "trainingName": "Intro", "trainingDate": "2025-03-01"}]}
+                    """);
+
+            List<Training> trainings = trainingDao.findByTrainerId(existing.getId());
+            assertThat(trainings).singleElement()
+                    .satisfies(t -> assertThat(t.getTrainingType().getTrainingTypeName()).isEqualTo("Cardio"));
+        }
+
+        @Test
+        @DisplayName("Should leave sequences usable for entities created afterwards")
+        void shouldKeepSequencesUsable() throws IOException {
+            load(DOCUMENT);
+
+            Trainee created = new Trainee("Later", "User", null, null);
+            created.setUsername("later.user");
+            created.setPassword(HASH);
+            created = traineeDao.create(created);
+
+            assertThat(traineeDao.findAll()).extracting(Trainee::getId).doesNotHaveDuplicates().contains(created.getId());
+        }
+
+        @Test
+        @DisplayName("Should ignore unknown sections and empty arrays")
+        void shouldIgnoreUnknownSections() throws IOException {
+            BulkLoadReport report = load("""
+                    {"comment": {"nested": [1, 2]}, "extra": [{"a": 1}], "trainers": [], "trainings": []}
+                    """);
+
+            assertThat(report.totalRows()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should report the failing row when a field is missing")
+        void shouldReportFailingRow() {
+            assertThatThrownBy(() -> load("""
+                    {"trainees": [{"firstName": "A", "lastName": "B", "username": "a.b", "passwordHash": "x"},
+                                  {"firstName": "C", "lastName": "D", "passwordHash": "x"}]}
+                    """))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("trainees[1]")
+                    .hasMessageContaining("username is required");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown training types and users")
+        void shouldRejectUnknownReferences() {
+            assertThatThrownBy(() -> load("""
+                    {"trainers": [{"firstName": "A", "lastName": "B", "username": "a.b", "passwordHash": "x",
+                                   "specialization": "Boxing"}]}
+                    """))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown training type: Boxing");
+
+            assertThatThrownBy(() -> load("""
+                    {"assignments": [{"traineeUsername": "ghost", "trainerUsername": "nobody"}]}
+                    """))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown user: ghost");
+        }
+
+        @Test
+        @DisplayName("Should reject a document that is not an object")
+        void shouldRejectNonObject() {
+            assertThatThrownBy(() -> load("[]"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("hasNoUsers")
+    class HasNoUsers {
+
+        @Test
+        @DisplayName("Should reflect whether users exist")
+        void shouldReflectUsers() throws IOException {
+            assertThat(bulkDataLoader.hasNoUsers()).isTrue();
+
+            load(DOCUMENT);
+
+            assertThat(bulkDataLoader.hasNoUsers()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.gym.crm.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.dao.impl.TraineeDaoImpl;
+import com.gym.crm.dao.impl.TraineeTrainerAssignmentDaoImpl;
+import com.gym.crm.dao.impl.TrainerDaoImpl;
+import com.gym.crm.dao.impl.TrainingDaoImpl;
+import com.gym.crm.dao.impl.TrainingTypeDaoImpl;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({SyntheticDataGenerator.class, BulkDataLoader.class, PasswordEncryption.class, TraineeDaoImpl.class,
+        TrainerDaoImpl.class, TrainingDaoImpl.class, TrainingTypeDaoImpl.class, TraineeTrainerAssignmentDaoImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticPopulation POPULATION = new SyntheticPopulation(20, 4, 100, 2, "Synthetic123", 7);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private TraineeDao traineeDao;
+
+    @Autowired
+    private TrainerDao trainerDao;
+
+    @Autowired
+    private TrainingDao trainingDao;
+
+    @Autowired
+    private TrainingTypeDao trainingTypeDao;
+
+    @Autowired
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    @Autowired
+    private PasswordEncryption passwordEncryption;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        trainingTypeDao.create(new TrainingType("Cardio"));
+        trainingTypeDao.create(new TrainingType("Yoga"));
+    }
+
+    @Nested
+    @DisplayName("populate")
+    class Populate {
+
+        @Test
+        @DisplayName("Should insert the requested population")
+        void shouldInsertPopulation() {
+            BulkLoadReport report = generator.populate(POPULATION);
+
+            assertThat(report.trainingTypes()).isZero();
+            assertThat(report.trainers()).isEqualTo(4);
+            assertThat(report.trainees()).isEqualTo(20);
+            assertThat(report.assignments()).isEqualTo(40);
+            assertThat(report.trainings()).isEqualTo(100);
+            assertThat(trainingDao.findAll()).hasSize(100);
+            assertThat(traineeDao.findAll()).hasSize(20);
+        }
+
+        @Test
+        @DisplayName("Should assign the trainers the population reports")
+        void shouldAssignReportedTrainers() {
+            generator.populate(POPULATION);
+
+            Trainee trainee = traineeDao.findByUsername(POPULATION.traineeUsername(3)).orElseThrow();
+            Long[] expected = Arrays.stream(POPULATION.assignedTrainers(3))
+                    .mapToObj(i -> trainerDao.findByUsername(POPULATION.trainerUsername(i)).orElseThrow().getId())
+                    .toArray(Long[]::new);
+
+            assertThat(assignmentDao.findByTraineeId(trainee.getId()))
+                    .extracting(a -> a.getTrainerId())
+                    .containsExactlyInAnyOrder(expected);
+        }
+
+        @Test
+        @DisplayName("Should share one hash of the population password")
+        void shouldShareOneHash() {
+            generator.populate(POPULATION);
+
+            Trainer trainer = trainerDao.findByUsername(POPULATION.trainerUsername(0)).orElseThrow();
+            Trainee trainee = traineeDao.findByUsername(POPULATION.traineeUsername(0)).orElseThrow();
+
+            assertThat(trainer.getPassword()).isEqualTo(trainee.getPassword());
+            assertThat(passwordEncryption.matches("Synthetic123", trainer.getPassword())).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("writeJson")
+    class WriteJson {
+
+        @Test
+        @DisplayName("Should write every row in the bulk data format")
+        void shouldWriteBulkFormat() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            generator.writeJson(POPULATION, out);
+
+            JsonNode root = objectMapper.readTree(out.toByteArray());
+            assertThat(root.get("trainingTypes")).hasSize(2);
+            assertThat(root.get("trainers")).hasSize(4);
+            assertThat(root.get("trainees")).hasSize(20);
+            assertThat(root.get("assignments")).hasSize(40);
+            assertThat(root.get("trainings")).hasSize(100);
+            assertThat(root.get("trainers").get(0).get("username").asText()).isEqualTo(POPULATION.trainerUsername(0));
+            assertThat(root.get("trainers").get(0).has("passwordHash")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should produce the same rows for the same seed")
+        void shouldBeDeterministic() throws IOException {
+            JsonNode first = objectMapper.readTree(json(POPULATION));
+            JsonNode second = objectMapper.readTree(json(POPULATION));
+            JsonNode otherSeed = objectMapper.readTree(json(new SyntheticPopulation(20, 4, 100, 2, "Synthetic123", 8)));
+
+            assertThat(second.get("trainings")).isEqualTo(first.get("trainings"));
+            assertThat(second.get("trainees").get(0).get("address")).isEqualTo(first.get("trainees").get(0).get("address"));
+            assertThat(otherSeed.get("trainings")).isNotEqualTo(first.get("trainings"));
+        }
+
+        private byte[] json(SyntheticPopulation population) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            generator.writeJson(population, out);
+            return out.toByteArray();
+        }
+    }
+
+    @Nested
+    @DisplayName("SyntheticPopulation")
+    class Population {
+
+        @Test
+        @DisplayName("Should assign distinct trainers capped by the trainer count")
+        void shouldAssignDistinctTrainers() {
+            SyntheticPopulation population = new SyntheticPopulation(10, 3, 0, 5, "x", 1);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(population.assignedTrainers(i)).hasSize(3).doesNotHaveDuplicates();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid sizes")
+        void shouldRejectInvalidSizes() {
+            assertThatThrownBy(() -> new SyntheticPopulation(-1, 1, 0, 0, "x", 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SyntheticPopulation(1, 0, 5, 0, "x", 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SyntheticPopulation(1, 1, 0, 0, "", 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
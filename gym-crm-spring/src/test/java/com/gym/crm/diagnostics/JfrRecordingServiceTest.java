@@ -0,0 +1,141 @@
+package com.gym.crm.diagnostics;
+
+import com.gym.crm.diagnostics.JfrRecordingService.FrameWeight;
+import com.gym.crm.diagnostics.JfrRecordingService.RecordingInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrRecordingService Tests")
+class JfrRecordingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JfrRecordingService(directory, 60, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static void awaitFinished(RecordingInfo info) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!info.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(info.isFinished()).isTrue();
+    }
+
+    @Nested
+    @DisplayName("Start Tests")
+    class StartTests {
+
+        @Test
+        @DisplayName("Should cap the duration at the configured maximum")
+        void start_ShouldCapDuration() {
+            RecordingInfo info = service.start(JfrProfile.CPU, Duration.ofMinutes(10));
+
+            assertThat(info.duration()).isEqualTo(Duration.ofSeconds(2));
+            assertThat(info.isRunning()).isTrue();
+            assertThat(info.file()).hasParent(directory);
+        }
+
+        @Test
+        @DisplayName("Should allow only one running recording")
+        void start_ShouldRejectConcurrentRecording() {
+            service.start(JfrProfile.CPU, Duration.ofSeconds(2));
+
+            assertThatThrownBy(() -> service.start(JfrProfile.LOCKS, Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("still running");
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive durations")
+        void start_ShouldRejectNonPositiveDuration() {
+            assertThatThrownBy(() -> service.start(JfrProfile.CPU, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.start(null, Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Summary Tests")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("Should be empty while the recording is running")
+        void summary_ShouldBeEmptyWhileRunning() {
+            RecordingInfo info = service.start(JfrProfile.CPU, Duration.ofSeconds(2));
+
+            assertThat(service.summary(info.id())).isEmpty();
+            assertThat(service.summary("unknown")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should write the file and report allocating frames after an early stop")
+        @SuppressWarnings("unchecked")
+        void summary_ShouldReportAllocatingFrames() throws InterruptedException {
+            RecordingInfo info = service.start(JfrProfile.ALLOCATION, Duration.ofSeconds(2));
+            List<byte[]> retained = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                retained.add(new byte[1024]);
+                if (retained.size() > 100) {
+                    retained.clear();
+                }
+            }
+            service.stop(info.id());
+            awaitFinished(info);
+
+            Map<String, Object> summary = service.summary(info.id()).orElseThrow();
+
+            assertThat(Files.exists(info.file())).isTrue();
+            assertThat(summary).containsEntry("unit", "bytes");
+            assertThat((long) summary.get("events")).isPositive();
+            assertThat((List<FrameWeight>) summary.get("topApplicationFrames"))
+                    .extracting(FrameWeight::frame)
+                    .anyMatch(frame -> frame.startsWith(JfrRecordingServiceTest.class.getName()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retention Tests")
+    class RetentionTests {
+
+        @Test
+        @DisplayName("Should delete the oldest finished recordings beyond the limit")
+        void start_ShouldEvictOldestRecordings() throws InterruptedException {
+            List<RecordingInfo> started = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                RecordingInfo info = service.start(JfrProfile.LOCKS, Duration.ofSeconds(1));
+                service.stop(info.id());
+                awaitFinished(info);
+                started.add(info);
+            }
+
+            assertThat(service.list()).extracting(RecordingInfo::id)
+                    .containsExactly(started.get(1).id(), started.get(2).id());
+            assertThat(Files.exists(started.get(0).file())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.gym.crm.diagnostics;
+
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.service.TrainingTypeService;
+import com.gym.crm.service.impl.CustomMetricsService;
+import com.gym.crm.service.impl.TrainingTypeServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MethodTimingAspect Tests")
+class MethodTimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrainingTypeDao trainingTypeDao;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trainingTypeDao = mock(TrainingTypeDao.class);
+    }
+
+    private TrainingTypeService proxiedService(MethodTimingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TrainingTypeServiceImpl(trainingTypeDao, meterRegistry));
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.find(MethodTimingAspect.METER_NAME)
+                .tag("class", "TrainingTypeServiceImpl")
+                .tag("method", "findAllTrainingTypes")
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    @Nested
+    @DisplayName("Timing Tests")
+    class TimingTests {
+
+        @Test
+        @DisplayName("Should time successful calls with class, method and outcome tags only")
+        void shouldTimeSuccessfulCalls() {
+            when(trainingTypeDao.findAll()).thenReturn(List.of());
+            TrainingTypeService service = proxiedService(new MethodTimingAspect(meterRegistry, true, ""));
+
+            service.findAllTrainingTypes();
+            service.findAllTrainingTypes();
+
+            Timer timer = timer(MethodTimingAspect.OUTCOME_SUCCESS);
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(2);
+            assertThat(timer.getId().getTags()).extracting(tag -> tag.getKey())
+                    .containsExactlyInAnyOrder("class", "method", "outcome");
+        }
+
+        @Test
+        @DisplayName("Should record failures under the error outcome and rethrow")
+        void shouldRecordFailures() {
+            when(trainingTypeDao.findAll()).thenThrow(new IllegalStateException("boom"));
+            TrainingTypeService service = proxiedService(new MethodTimingAspect(meterRegistry, true, ""));
+
+            assertThatThrownBy(service::findAllTrainingTypes).isInstanceOf(IllegalStateException.class);
+
+            assertThat(timer(MethodTimingAspect.OUTCOME_ERROR).count()).isEqualTo(1);
+            assertThat(timer(MethodTimingAspect.OUTCOME_SUCCESS).count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not publish client-side percentiles")
+        void shouldNotPublishClientSidePercentiles() {
+            when(trainingTypeDao.findAll()).thenReturn(List.of());
+            TrainingTypeService service = proxiedService(new MethodTimingAspect(meterRegistry, true, ""));
+
+            service.findAllTrainingTypes();
+
+            assertThat(timer(MethodTimingAspect.OUTCOME_SUCCESS).takeSnapshot().percentileValues()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not time the metrics service itself")
+        void shouldSkipMetricsService() {
+            AspectJProxyFactory factory = new AspectJProxyFactory(new CustomMetricsService(meterRegistry));
+            factory.addAspect(new MethodTimingAspect(meterRegistry, true, ""));
+            CustomMetricsService metricsService = factory.getProxy();
+
+            metricsService.incrementLoginAttempt();
+
+            assertThat(meterRegistry.find(MethodTimingAspect.METER_NAME).meters()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Package Switch Tests")
+    class PackageSwitchTests {
+
+        @Test
+        @DisplayName("Should skip packages disabled at startup")
+        void shouldSkipPackagesDisabledAtStartup() {
+            when(trainingTypeDao.findAll()).thenReturn(List.of());
+            TrainingTypeService service = proxiedService(
+                    new MethodTimingAspect(meterRegistry, true, "com.gym.crm.dao, com.gym.crm.service"));
+
+            service.findAllTrainingTypes();
+
+            assertThat(timer(MethodTimingAspect.OUTCOME_SUCCESS).count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should apply runtime changes to sub-packages")
+        void shouldApplyRuntimeChangesToSubPackages() {
+            when(trainingTypeDao.findAll()).thenReturn(List.of());
+            MethodTimingAspect aspect = new MethodTimingAspect(meterRegistry, true, "");
+            TrainingTypeService service = proxiedService(aspect);
+
+            service.findAllTrainingTypes();
+            aspect.setEnabled("com.gym.crm.service", false);
+            service.findAllTrainingTypes();
+            aspect.reset("com.gym.crm.service");
+            service.findAllTrainingTypes();
+
+            assertThat(timer(MethodTimingAspect.OUTCOME_SUCCESS).count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should let the most specific package setting win")
+        void shouldPreferMostSpecificPackage() {
+            MethodTimingAspect aspect = new MethodTimingAspect(meterRegistry, false, "");
+
+            aspect.setEnabled("com.gym.crm.service.impl", true);
+
+            assertThat(aspect.isEnabled("com.gym.crm.service.impl")).isTrue();
+            assertThat(aspect.isEnabled("com.gym.crm.service")).isFalse();
+            assertThat(aspect.isEnabled("com.gym.crm.dao.impl")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should report instrumented packages with their effective setting")
+        void shouldReportInstrumentedPackages() {
+            when(trainingTypeDao.findAll()).thenReturn(List.of());
+            MethodTimingAspect aspect = new MethodTimingAspect(meterRegistry, true, "");
+            proxiedService(aspect).findAllTrainingTypes();
+
+            aspect.setEnabled("com.gym.crm", false);
+
+            assertThat(aspect.instrumentedPackages()).containsEntry("com.gym.crm.service.impl", false);
+            assertThat(aspect.packageSettings()).containsEntry("com.gym.crm", false);
+        }
+
+        @Test
+        @DisplayName("Should reject blank package names")
+        void shouldRejectBlankPackageNames() {
+            MethodTimingAspect aspect = new MethodTimingAspect(meterRegistry, true, "");
+
+            assertThatThrownBy(() -> aspect.setEnabled(" ", false)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> aspect.reset(null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
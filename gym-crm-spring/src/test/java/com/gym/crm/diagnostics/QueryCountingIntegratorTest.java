@@ -0,0 +1,75 @@
+package com.gym.crm.diagnostics;
+
+import com.gym.crm.config.QueryStatisticsConfig;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.dao.impl.TrainerDaoImpl;
+import com.gym.crm.dao.impl.TrainingTypeDaoImpl;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryStatisticsConfig.class, TrainerDaoImpl.class, TrainingTypeDaoImpl.class})
+@ActiveProfiles("test")
+class QueryCountingIntegratorTest {
+
+    @Autowired
+    private TrainerDao trainerDao;
+
+    @Autowired
+    private TrainingTypeDao trainingTypeDao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private RequestQueryStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Trainer trainer = new Trainer("Jane", "Smith", trainingTypeDao.create(new TrainingType("Yoga")));
+        trainer.setUsername("jane.smith");
+        trainer.setPassword("password123");
+        trainerDao.create(trainer);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = new RequestQueryStatistics();
+        RequestQueryStatistics.bind(statistics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStatistics.bind(null);
+    }
+
+    @Test
+    @DisplayName("Should count statements and entity loads of the bound request")
+    void shouldCountStatementsAndLoads() {
+        assertThat(trainerDao.findByUsername("jane.smith")).isPresent();
+
+        assertThat(statistics.getStatements()).isPositive();
+        assertThat(statistics.getEntityLoads()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count work outside a request")
+    void shouldIgnoreUnboundThreads() {
+        RequestQueryStatistics.bind(null);
+
+        trainerDao.findByUsername("jane.smith");
+
+        assertThat(statistics.getStatements()).isZero();
+        assertThat(statistics.getEntityLoads()).isZero();
+    }
+}
@@ -0,0 +1,182 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueryStatisticsFilter Tests")
+class QueryStatisticsFilterTest {
+
+    private static final String HANDLER = "SampleController.list";
+
+    private SimpleMeterRegistry meterRegistry;
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    static class SampleController {
+        public void list() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private QueryStatisticsFilter newFilter(boolean enabled, boolean failOnBudgetExceeded) {
+        return new QueryStatisticsFilter(meterRegistry, enabled, 5, 3, failOnBudgetExceeded);
+    }
+
+    private MockHttpServletRequest mappedRequest() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/things");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new SampleController(), SampleController.class.getMethod("list")));
+        return request;
+    }
+
+    private FilterChain issuing(String... statements) {
+        return (request, response) -> {
+            for (String sql : statements) {
+                inspector.inspect(sql);
+            }
+        };
+    }
+
+    private double statements() {
+        return meterRegistry.get("gym.request.sql.statements").tag("handler", HANDLER).summary().totalAmount();
+    }
+
+    @Nested
+    @DisplayName("Counting Tests")
+    class CountingTests {
+
+        @Test
+        @DisplayName("Should record statements per handler method")
+        void shouldRecordPerHandler() throws Exception {
+            newFilter(true, false).doFilter(mappedRequest(), new MockHttpServletResponse(),
+                    issuing("select a", "select b"));
+
+            assertThat(statements()).isEqualTo(2);
+            assertThat(meterRegistry.get("gym.request.entity.loads").tag("handler", HANDLER).summary().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should bind statistics only for the duration of the request")
+        void shouldUnbindAfterRequest() throws Exception {
+            AtomicReference<RequestQueryStatistics> during = new AtomicReference<>();
+
+            newFilter(true, false).doFilter(mappedRequest(), new MockHttpServletResponse(),
+                    (request, response) -> during.set(RequestQueryStatistics.current()));
+
+            assertThat(during.get()).isNotNull();
+            assertThat(RequestQueryStatistics.current()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should tag requests without a handler method as unmapped")
+        void shouldTagUnmapped() throws Exception {
+            newFilter(true, false).doFilter(new MockHttpServletRequest("GET", "/api/missing"),
+                    new MockHttpServletResponse(), issuing("select a"));
+
+            assertThat(meterRegistry.get("gym.request.sql.statements")
+                    .tag("handler", QueryStatisticsFilter.UNMAPPED).summary().totalAmount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should skip non-API paths and a disabled filter")
+        void shouldSkipNonApiAndDisabled() throws Exception {
+            newFilter(true, false).doFilter(new MockHttpServletRequest("GET", "/actuator/health"),
+                    new MockHttpServletResponse(), issuing("select a"));
+            newFilter(false, false).doFilter(mappedRequest(), new MockHttpServletResponse(), issuing("select a"));
+
+            assertThat(meterRegistry.find("gym.request.sql.statements").summary()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Budget Tests")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("Should count requests over budget without failing by default")
+        void shouldCountOverBudget() throws Exception {
+            newFilter(true, false).doFilter(mappedRequest(), new MockHttpServletResponse(),
+                    issuing("q1", "q2", "q3", "q4", "q5", "q6"));
+
+            assertThat(meterRegistry.get("gym.request.sql.budget.exceeded").tag("handler", HANDLER)
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should fail at the statement over budget when configured")
+        void shouldFailOverBudget() throws NoSuchMethodException {
+            QueryStatisticsFilter filter = newFilter(true, true);
+            MockHttpServletRequest request = mappedRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Boolean> reachedHandlerEnd = new AtomicReference<>(false);
+
+            assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+                issuing("q1", "q2", "q3", "q4", "q5", "q6").doFilter(req, res);
+                reachedHandlerEnd.set(true);
+            }))
+                    .isInstanceOf(StatementBudgetExceededException.class)
+                    .hasMessageContaining("Statement 6")
+                    .hasMessageContaining("q6");
+            assertThat(reachedHandlerEnd.get()).isFalse();
+            assertThat(response.isCommitted()).isFalse();
+            assertThat(meterRegistry.get("gym.request.sql.budget.exceeded").tag("handler", HANDLER)
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not fail requests within budget")
+        void shouldPassWithinBudget() throws Exception {
+            newFilter(true, true).doFilter(mappedRequest(), new MockHttpServletResponse(),
+                    issuing("q1", "q2", "q3", "q4", "q5"));
+
+            assertThat(meterRegistry.find("gym.request.sql.budget.exceeded").counter()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Repeated Statement Tests")
+    class RepeatedStatementTests {
+
+        @Test
+        @DisplayName("Should flag a statement repeated past the threshold")
+        void shouldFlagRepeatedStatement() throws Exception {
+            newFilter(true, false).doFilter(mappedRequest(), new MockHttpServletResponse(),
+                    issuing("select trainer", "select trainer", "select trainer", "select trainee"));
+
+            assertThat(meterRegistry.get("gym.request.sql.repeated").tag("handler", HANDLER)
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should report the most repeated statement")
+        void shouldReportMostRepeated() {
+            RequestQueryStatistics statistics = new RequestQueryStatistics();
+            statistics.statementPrepared("a");
+            statistics.statementPrepared("b");
+            statistics.statementPrepared("b");
+
+            assertThat(statistics.mostRepeatedStatement(2)).hasValueSatisfying(entry -> {
+                assertThat(entry.getKey()).isEqualTo("b");
+                assertThat(entry.getValue()).isEqualTo(2);
+            });
+            assertThat(statistics.mostRepeatedStatement(3)).isEmpty();
+        }
+    }
+}
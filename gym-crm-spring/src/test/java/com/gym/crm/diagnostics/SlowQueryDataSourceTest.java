@@ -0,0 +1,139 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SlowQueryDataSource Tests")
+class SlowQueryDataSourceTest {
+
+    private SlowQueryMonitor monitor;
+    private SlowQueryDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow_query_data_source;DB_CLOSE_DELAY=-1");
+
+        monitor = mock(SlowQueryMonitor.class);
+        when(monitor.isSlow(anyLong())).thenReturn(true);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("slowQueryMonitor", monitor);
+        ObjectProvider<SlowQueryMonitor> provider = beanFactory.getBeanProvider(SlowQueryMonitor.class);
+        dataSource = new SlowQueryDataSource(h2, provider);
+
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists item (id bigint primary key, name varchar(50))");
+            statement.execute("delete from item");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report prepared statements with their bound parameters")
+    void shouldReportPreparedStatements() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select * from item where id = ? and name = ?")) {
+            statement.setLong(1, 5L);
+            statement.setNull(2, java.sql.Types.VARCHAR);
+            try (ResultSet rs = statement.executeQuery()) {
+                assertThat(rs.next()).isFalse();
+            }
+        }
+
+        verify(monitor).record(eq("select * from item where id = ? and name = ?"),
+                eq(new Object[]{5L, null}), eq(1), anyLong(), any(Connection.class));
+    }
+
+    @Test
+    @DisplayName("Should report batches with their size")
+    void shouldReportBatches() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into item (id, name) values (?, ?)")) {
+            for (long id = 1; id <= 3; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "item" + id);
+                statement.addBatch();
+            }
+            assertThat(statement.executeBatch()).hasSize(3);
+        }
+
+        verify(monitor).record(eq("insert into item (id, name) values (?, ?)"),
+                eq(new Object[]{3L, "item3"}), eq(3), anyLong(), any(Connection.class));
+    }
+
+    @Test
+    @DisplayName("Should start counting afresh after a single-row batch")
+    void shouldResetBatchSizeAfterSingleRowBatch() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("insert into item (id, name) values (?, ?)")) {
+            statement.setLong(1, 1L);
+            statement.setString(2, "item1");
+            statement.addBatch();
+            statement.executeBatch();
+
+            for (long id = 2; id <= 3; id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "item" + id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        verify(monitor).record(eq("insert into item (id, name) values (?, ?)"),
+                eq(new Object[]{1L, "item1"}), eq(1), anyLong(), any(Connection.class));
+        verify(monitor).record(eq("insert into item (id, name) values (?, ?)"),
+                eq(new Object[]{3L, "item3"}), eq(2), anyLong(), any(Connection.class));
+    }
+
+    @Test
+    @DisplayName("Should report plain statements with the executed SQL")
+    void shouldReportPlainStatements() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeQuery("select count(*) from item").close();
+        }
+
+        verify(monitor).record(eq("select count(*) from item"), eq(new Object[0]), eq(1), anyLong(),
+                any(Connection.class));
+    }
+
+    @Test
+    @DisplayName("Should not report fast statements")
+    void shouldIgnoreFastStatements() throws SQLException {
+        when(monitor.isSlow(anyLong())).thenReturn(false);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeQuery("select count(*) from item").close();
+        }
+
+        verify(monitor, never()).record(any(), any(), eq(1), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep proxy identity and expose the pool underneath")
+    void shouldKeepIdentity() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isEqualTo(connection);
+            assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+        }
+        assertThat(dataSource.getTargetDataSource()).isInstanceOf(JdbcDataSource.class);
+    }
+}
@@ -0,0 +1,189 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowQueryMonitor Tests")
+class SlowQueryMonitorTest {
+
+    private static final String SQL = "select * from training where \"trainee id\" = ? and \"training date\" >= ?";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SlowQueryMonitor newMonitor(SlowQueryMonitor.ParameterPolicy policy, boolean explain, int maxFingerprints) {
+        return new SlowQueryMonitor(meterRegistry, 100, policy, explain, maxFingerprints);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> statements(SlowQueryMonitor monitor) {
+        return (List<Map<String, Object>>) monitor.snapshot().get("statements");
+    }
+
+    @Nested
+    @DisplayName("Threshold Tests")
+    class ThresholdTests {
+
+        @Test
+        @DisplayName("Should treat executions at or over the threshold as slow")
+        void shouldApplyThreshold() {
+            SlowQueryMonitor monitor = newMonitor(SlowQueryMonitor.ParameterPolicy.HIDE, false, 10);
+
+            assertThat(monitor.isSlow(TimeUnit.MILLISECONDS.toNanos(99))).isFalse();
+            assertThat(monitor.isSlow(TimeUnit.MILLISECONDS.toNanos(100))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Parameter Policy Tests")
+    class ParameterPolicyTests {
+
+        private final Object[] parameters = {7L, "john.doe", LocalDate.of(2025, 1, 1), null};
+
+        @Test
+        @DisplayName("Should show every value with SHOW")
+        void shouldShowValues() {
+            assertThat(newMonitor(SlowQueryMonitor.ParameterPolicy.SHOW, false, 10).renderParameters(parameters))
+                    .isEqualTo("[7, 'john.doe', 2025-01-01, null]");
+        }
+
+        @Test
+        @DisplayName("Should mask strings with MASK_STRINGS")
+        void shouldMaskStrings() {
+            assertThat(newMonitor(SlowQueryMonitor.ParameterPolicy.MASK_STRINGS, false, 10).renderParameters(parameters))
+                    .isEqualTo("[7, '***', 2025-01-01, null]");
+        }
+
+        @Test
+        @DisplayName("Should only count parameters with HIDE")
+        void shouldHideValues() {
+            assertThat(newMonitor(SlowQueryMonitor.ParameterPolicy.HIDE, false, 10).renderParameters(parameters))
+                    .isEqualTo("[4 hidden]");
+        }
+    }
+
+    @Nested
+    @DisplayName("Caller Tests")
+    class CallerTests {
+
+        @Test
+        @DisplayName("Should report the nearest DAO method without proxy suffixes")
+        void shouldReportDaoMethod() {
+            assertThat(SlowQueryMonitor.callerOf(List.of(
+                    "com.gym.crm.diagnostics.SlowQueryDataSource$StatementHandler.invoke",
+                    "org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl.executeQuery",
+                    "com.gym.crm.dao.impl.TrainingDaoImpl$$SpringCGLIB$$0.findByTraineeIdAndDateRange",
+                    "com.gym.crm.service.impl.TrainingServiceImpl.findTraineeTrainingsByDateRange")))
+                    .isEqualTo("TrainingDaoImpl.findByTraineeIdAndDateRange");
+        }
+
+        @Test
+        @DisplayName("Should fall back to the nearest application frame")
+        void shouldFallBackToApplicationFrame() {
+            assertThat(SlowQueryMonitor.callerOf(List.of(
+                    "com.gym.crm.diagnostics.SlowQueryDataSource$StatementHandler.invoke",
+                    "com.gym.crm.data.BulkDataLoader$JdbcSession.flush")))
+                    .isEqualTo("BulkDataLoader$JdbcSession.flush");
+            assertThat(SlowQueryMonitor.callerOf(List.of("java.lang.Thread.run"))).isEqualTo("unknown");
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should count slow statements by fingerprint")
+        void shouldCountByFingerprint() {
+            SlowQueryMonitor monitor = newMonitor(SlowQueryMonitor.ParameterPolicy.MASK_STRINGS, false, 10);
+
+            monitor.record(SQL, new Object[]{1L, LocalDate.now()}, 1, TimeUnit.MILLISECONDS.toNanos(150), null);
+            monitor.record(SQL, new Object[]{2L, LocalDate.now()}, 1, TimeUnit.MILLISECONDS.toNanos(300), null);
+
+            String fingerprint = SqlFingerprint.id(SqlFingerprint.normalize(SQL));
+            assertThat(meterRegistry.get("gym.sql.slow").tag("fingerprint", fingerprint).timer().count()).isEqualTo(2);
+            assertThat(statements(monitor)).singleElement().satisfies(statement -> {
+                assertThat(statement.get("fingerprint")).isEqualTo(fingerprint);
+                assertThat(statement.get("count")).isEqualTo(2L);
+                assertThat(statement.get("maxMs")).isEqualTo(300L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should fold fingerprints past the limit into other")
+        void shouldCapFingerprints() {
+            SlowQueryMonitor monitor = newMonitor(SlowQueryMonitor.ParameterPolicy.HIDE, false, 1);
+
+            monitor.record("select * from users", new Object[0], 1, TimeUnit.MILLISECONDS.toNanos(150), null);
+            monitor.record("select * from trainer", new Object[0], 1, TimeUnit.MILLISECONDS.toNanos(150), null);
+
+            assertThat(statements(monitor)).hasSize(1);
+            assertThat(meterRegistry.get("gym.sql.slow").tag("fingerprint", SlowQueryMonitor.OTHER_FINGERPRINT)
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Explain Tests")
+    class ExplainTests {
+
+        private Connection connection;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            connection = DriverManager.getConnection("jdbc:h2:mem:slow_query_monitor;DB_CLOSE_DELAY=-1");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table if not exists training (id bigint primary key, "
+                        + "\"trainee id\" bigint, \"training date\" date)");
+            }
+        }
+
+        @AfterEach
+        void tearDown() throws SQLException {
+            connection.close();
+        }
+
+        @Test
+        @DisplayName("Should capture the H2 plan of slow selects")
+        void shouldCapturePlan() {
+            SlowQueryMonitor monitor = newMonitor(SlowQueryMonitor.ParameterPolicy.MASK_STRINGS, true, 10);
+
+            monitor.record(SQL, new Object[]{1L, LocalDate.now()}, 1, TimeUnit.MILLISECONDS.toNanos(150), connection);
+
+            assertThat(statements(monitor)).singleElement()
+                    .satisfies(statement -> assertThat((String) statement.get("lastPlan")).containsIgnoringCase("training"));
+        }
+
+        @Test
+        @DisplayName("Should not explain writes or statements with binary parameters")
+        void shouldSkipUnexplainable() {
+            SlowQueryMonitor monitor = newMonitor(SlowQueryMonitor.ParameterPolicy.MASK_STRINGS, true, 10);
+
+            monitor.record("update training set \"trainee id\" = ?", new Object[]{1L}, 1,
+                    TimeUnit.MILLISECONDS.toNanos(150), connection);
+            monitor.record(SQL, new Object[]{SlowQueryMonitor.UNBINDABLE, LocalDate.now()}, 1,
+                    TimeUnit.MILLISECONDS.toNanos(150), connection);
+
+            assertThat(statements(monitor)).allSatisfy(statement -> assertThat(statement).doesNotContainKey("lastPlan"));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.gym.crm.diagnostics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlFingerprint Tests")
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("Should replace literals and normalize whitespace and case")
+    void shouldNormalizeLiterals() {
+        assertThat(SqlFingerprint.normalize("SELECT *  FROM users\n WHERE username = 'o''brien' AND id = 42"))
+                .isEqualTo("select * from users where username = ? and id = ?");
+    }
+
+    @Test
+    @DisplayName("Should keep digits inside identifiers")
+    void shouldKeepIdentifiers() {
+        assertThat(SqlFingerprint.normalize("select t1_0.id from training t1_0"))
+                .isEqualTo("select t1_0.id from training t1_0");
+    }
+
+    @Test
+    @DisplayName("Should collapse IN lists of any length")
+    void shouldCollapseInLists() {
+        assertThat(SqlFingerprint.normalize("select * from users where id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.normalize("select * from users where id in (?,?)"));
+    }
+
+    @Test
+    @DisplayName("Should give equal statements equal ids")
+    void shouldGiveStableIds() {
+        String first = SqlFingerprint.normalize("select * from training where id = 1");
+        String second = SqlFingerprint.normalize("select * from training where id = 2");
+
+        assertThat(SqlFingerprint.id(first)).isEqualTo(SqlFingerprint.id(second)).hasSize(8);
+        assertThat(SqlFingerprint.id(SqlFingerprint.normalize("select * from users"))).isNotEqualTo(SqlFingerprint.id(first));
+    }
+}
@@ -0,0 +1,128 @@
+package com.gym.crm.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private MeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Nested
+    @DisplayName("Event Recording Tests")
+    class EventRecordingTests {
+
+        @Test
+        @DisplayName("Should record pinned time in the pinning timer")
+        void record_ShouldUpdateTimer() {
+            monitor.record(Instant.now(), Duration.ofMillis(40), "tomcat-handler-1", List.of("org.h2.engine.SessionLocal.lock:10"));
+            monitor.record(Instant.now(), Duration.ofMillis(60), "tomcat-handler-2", List.of("org.h2.engine.SessionLocal.lock:10"));
+
+            assertThat(meterRegistry.get("gym.vthreads.pinned").timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("gym.vthreads.pinned").timer().totalTime(TimeUnit.MILLISECONDS))
+                    .isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Should aggregate events by application call site")
+        @SuppressWarnings("unchecked")
+        void snapshot_ShouldGroupEventsBySite() {
+            List<String> frames = List.of(
+                    "org.h2.jdbc.JdbcPreparedStatement.executeQuery:120",
+                    "com.gym.crm.dao.impl.TraineeDaoImpl.findByUsername:131");
+            monitor.record(Instant.now(), Duration.ofMillis(25), "t1", frames);
+            monitor.record(Instant.now(), Duration.ofMillis(25), "t2", frames);
+            monitor.record(Instant.now(), Duration.ofMillis(25), "t3", List.of("java.lang.Object.wait:1"));
+
+            Map<String, Object> snapshot = monitor.snapshot();
+            Map<String, Long> topSites = (Map<String, Long>) snapshot.get("topSites");
+
+            assertThat(snapshot.get("totalEvents")).isEqualTo(3L);
+            assertThat(topSites).containsEntry("com.gym.crm.dao.impl.TraineeDaoImpl.findByUsername:131", 2L);
+            assertThat(topSites).containsEntry("java.lang.Object.wait:1", 1L);
+            assertThat(topSites.keySet().iterator().next())
+                    .isEqualTo("com.gym.crm.dao.impl.TraineeDaoImpl.findByUsername:131");
+        }
+
+        @Test
+        @DisplayName("Should keep only the most recent events")
+        void snapshot_ShouldBoundRecentEvents() {
+            for (int i = 0; i < 150; i++) {
+                monitor.record(Instant.now(), Duration.ofMillis(21), "t" + i, List.of());
+            }
+
+            List<?> recent = (List<?>) monitor.snapshot().get("recentEvents");
+
+            assertThat(recent).hasSize(100);
+            assertThat(((VirtualThreadPinningMonitor.PinnedEvent) recent.get(0)).thread()).isEqualTo("t149");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pinning Site Tests")
+    class PinningSiteTests {
+
+        @Test
+        @DisplayName("Should prefer the first application frame")
+        void pinningSite_ShouldPreferApplicationFrame() {
+            String site = VirtualThreadPinningMonitor.pinningSite(List.of(
+                    "org.h2.mvstore.MVStore.lock:1",
+                    "com.gym.crm.dao.impl.TrainingDaoImpl.create:35",
+                    "com.gym.crm.service.impl.TrainingServiceImpl.createTraining:70"));
+
+            assertThat(site).isEqualTo("com.gym.crm.dao.impl.TrainingDaoImpl.create:35");
+        }
+
+        @Test
+        @DisplayName("Should fall back to the top frame or unknown")
+        void pinningSite_ShouldFallBack() {
+            assertThat(VirtualThreadPinningMonitor.pinningSite(List.of("java.lang.Object.wait:1")))
+                    .isEqualTo("java.lang.Object.wait:1");
+            assertThat(VirtualThreadPinningMonitor.pinningSite(List.of())).isEqualTo("unknown");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle Tests")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should report active after JFR stream starts")
+        void start_ShouldActivateRecordingStream() {
+            monitor.start();
+
+            assertThat(monitor.snapshot()).containsEntry("active", true);
+            assertThat(monitor.snapshot()).containsEntry("thresholdMs", 20L);
+        }
+
+        @Test
+        @DisplayName("Should be inactive before start")
+        void snapshot_ShouldReportInactive_BeforeStart() {
+            assertThat(monitor.snapshot()).containsEntry("active", false);
+        }
+    }
+}
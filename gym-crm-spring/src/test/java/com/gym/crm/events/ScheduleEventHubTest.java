@@ -0,0 +1,170 @@
+package com.gym.crm.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScheduleEventHub Tests")
+class ScheduleEventHubTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduleEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new ScheduleEventHub(meterRegistry, 2, 3, 2, 60_000, 0, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    private static ScheduleEvent event(Long... userIds) {
+        return new ScheduleEvent(ScheduleEvent.Type.TRAINING_CREATED, Set.of(userIds), Map.of("trainingId", 7L));
+    }
+
+    static class RecordingSink implements ScheduleEventHub.EventSink {
+
+        final BlockingQueue<ScheduleEventHub.SseMessage> messages = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        volatile boolean failing;
+
+        @Override
+        public void send(ScheduleEventHub.SseMessage message) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                try {
+                    currentGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        ScheduleEventHub.SseMessage next() throws InterruptedException {
+            return messages.poll(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to the streams of the addressed users")
+    void shouldFanOutToAddressedUsers() throws Exception {
+        RecordingSink trainee = new RecordingSink();
+        RecordingSink trainer = new RecordingSink();
+        RecordingSink bystander = new RecordingSink();
+        hub.register(1L, trainee);
+        hub.register(2L, trainer);
+        hub.register(3L, bystander);
+
+        hub.publish(event(1L, 2L));
+
+        ScheduleEventHub.SseMessage received = trainee.next();
+        assertThat(received.name()).isEqualTo("training-created");
+        assertThat(received.data()).isEqualTo(Map.of("trainingId", 7L));
+        assertThat(trainer.next().id()).isEqualTo(received.id());
+        assertThat(bystander.messages.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.get("gym.events.published").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows without blocking the publisher")
+    void shouldDisconnectSlowSubscriber() throws Exception {
+        RecordingSink slow = new RecordingSink();
+        RecordingSink fast = new RecordingSink();
+        slow.gate = new CountDownLatch(1);
+        hub.register(1L, slow);
+        hub.register(1L, fast);
+
+        // the first event is taken by the sender and blocks in send; two more fill the buffer
+        for (int i = 0; i < 6; i++) {
+            hub.publish(event(1L));
+            Thread.sleep(20);
+        }
+
+        assertThat(slow.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("gym.events.disconnects").counter().count()).isEqualTo(1);
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        slow.gate.countDown();
+        for (int i = 0; i < 6; i++) {
+            assertThat(fast.next()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose connection fails")
+    void shouldRemoveBrokenSubscriber() throws Exception {
+        RecordingSink broken = new RecordingSink();
+        broken.failing = true;
+        hub.register(1L, broken);
+
+        hub.publish(event(1L));
+
+        assertThat(broken.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should enforce the per-user and global stream limits")
+    void shouldEnforceLimits() {
+        assertThat(hub.register(1L, new RecordingSink())).isPresent();
+        assertThat(hub.register(1L, new RecordingSink())).isPresent();
+        assertThat(hub.register(1L, new RecordingSink())).isEmpty();
+        assertThat(hub.register(2L, new RecordingSink())).isPresent();
+        assertThat(hub.register(3L, new RecordingSink())).isEmpty();
+        assertThat(hub.getSubscriberCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("gym.events.subscribers").gauge().value()).isEqualTo(3);
+        assertThatThrownBy(() -> hub.register(null, new RecordingSink()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats to idle streams and free slots on close")
+    void shouldHeartbeatAndClose() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        ScheduleEventHub.Subscriber subscriber = hub.register(1L, sink).orElseThrow();
+
+        hub.sendHeartbeats();
+
+        assertThat(sink.next().comment()).isEqualTo("heartbeat");
+        subscriber.close();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(hub.getSubscriberCount()).isZero();
+        hub.publish(event(1L));
+        assertThat(sink.messages.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should address training events to trainee and trainer, assignment events to old and new trainers")
+    void shouldAddressEvents() {
+        ScheduleEvent assignments = ScheduleEvent.assignmentsChanged(1L, List.of(2L, 3L), List.of(3L, 4L));
+
+        assertThat(assignments.userIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(assignments.data()).containsEntry("trainerIds", List.of(3L, 4L));
+    }
+}
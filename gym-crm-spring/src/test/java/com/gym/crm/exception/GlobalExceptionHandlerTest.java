@@ -103,6 +103,30 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().get("message")).isEqualTo("User not found");
     }
 
+    @Test
+    void handleScheduleConflict_ShouldReturn409() {
+        ScheduleConflictException exception = new ScheduleConflictException("Trainer is already booked");
+
+        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleScheduleConflict(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().get("status")).isEqualTo(409);
+        assertThat(response.getBody().get("message")).isEqualTo("Trainer is already booked");
+    }
+
+    @Test
+    void handleServiceUnavailable_ShouldReturn503() {
+        ServiceUnavailableException exception = new ServiceUnavailableException("Timed out loading trainers");
+
+        ResponseEntity<Map<String, Object>> response = exceptionHandler.handleServiceUnavailable(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().get("status")).isEqualTo(503);
+        assertThat(response.getBody().get("message")).isEqualTo("Timed out loading trainers");
+    }
+
     @Test
     void handleValidationExceptions_MethodArgumentNotValid_ShouldReturn400() {
         BindingResult bindingResult = mock(BindingResult.class);
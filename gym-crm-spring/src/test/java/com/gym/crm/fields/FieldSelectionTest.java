@@ -0,0 +1,42 @@
+package com.gym.crm.fields;
+
+import com.gym.crm.dto.response.TraineeProfileResponse;
+import com.gym.crm.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldSelection Tests")
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("Should include everything when the parameter is missing or blank")
+    void shouldSelectAllWithoutParameter() {
+        assertThat(FieldSelection.parse(null).isAll()).isTrue();
+        assertThat(FieldSelection.parse(" , ").isAll()).isTrue();
+        assertThat(FieldSelection.parse(null, TraineeProfileResponse.class).includes("trainers")).isTrue();
+        assertThat(FieldSelection.all()).hasToString("*");
+    }
+
+    @Test
+    @DisplayName("Should include only the listed fields")
+    void shouldSelectListedFields() {
+        FieldSelection selection = FieldSelection.parse(" lastName,firstName,, firstName", TraineeProfileResponse.class);
+
+        assertThat(selection.isAll()).isFalse();
+        assertThat(selection.includes("firstName")).isTrue();
+        assertThat(selection.includes("trainers")).isFalse();
+        assertThat(selection.fields()).containsExactly("lastName", "firstName");
+        assertThat(selection).hasToString("firstName,lastName");
+    }
+
+    @Test
+    @DisplayName("Should reject names that are not properties of the response")
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> FieldSelection.parse("firstName,password", TraineeProfileResponse.class))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageStartingWith("Unknown field 'password'");
+    }
+}
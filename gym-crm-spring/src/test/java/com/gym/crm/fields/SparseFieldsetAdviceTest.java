@@ -0,0 +1,71 @@
+package com.gym.crm.fields;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym.crm.config.JacksonConfig;
+import com.gym.crm.dto.response.TrainerProfileResponse;
+import com.gym.crm.dto.response.TraineeSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SparseFieldsetAdvice Tests")
+class SparseFieldsetAdviceTest {
+
+    private ObjectMapper objectMapper;
+    private SparseFieldsetAdvice advice;
+    private TrainerProfileResponse profile;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().fieldSelectionFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+        advice = new SparseFieldsetAdvice();
+        profile = new TrainerProfileResponse("jane.smith", "Jane", "Smith", "Cardio", true,
+                List.of(new TraineeSummary("john.doe", "John", "Doe")));
+    }
+
+    private String write(Object body, String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trainers/profile/jane.smith");
+        if (fields != null) {
+            request.setParameter(FieldSelection.PARAM, fields);
+        }
+        MappingJacksonValue container = new MappingJacksonValue(body);
+        advice.beforeBodyWriteInternal(container, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), null);
+        return container.getFilters() == null
+                ? objectMapper.writeValueAsString(container.getValue())
+                : objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue());
+    }
+
+    @Test
+    @DisplayName("Should write every property without the fields parameter")
+    void shouldWriteAllPropertiesByDefault() throws Exception {
+        assertThat(objectMapper.writeValueAsString(profile)).contains("\"trainees\"", "\"specialization\"");
+        assertThat(write(profile, null)).contains("\"trainees\"", "\"specialization\"");
+    }
+
+    @Test
+    @DisplayName("Should write only the requested properties")
+    void shouldWriteRequestedProperties() throws Exception {
+        assertThat(write(profile, "firstName,isActive")).isEqualTo("{\"firstName\":\"Jane\",\"isActive\":true}");
+    }
+
+    @Test
+    @DisplayName("Should filter each value of collection bodies and leave other bodies alone")
+    void shouldFilterNestedValuesOnly() throws Exception {
+        assertThat(write(Map.of("jane.smith", profile), "lastName"))
+                .isEqualTo("{\"jane.smith\":{\"lastName\":\"Smith\"}}");
+        assertThat(write(Map.of("error", "Not found"), "lastName")).isEqualTo("{\"error\":\"Not found\"}");
+    }
+}
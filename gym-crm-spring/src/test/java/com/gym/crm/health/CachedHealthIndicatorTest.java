@@ -0,0 +1,120 @@
+package com.gym.crm.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedHealthIndicatorTest {
+
+    @Mock
+    private HealthIndicator delegate;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private CachedHealthIndicator cachedHealthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        cachedHealthIndicator = new CachedHealthIndicator("database", delegate, Duration.ofSeconds(30), now::get);
+    }
+
+    @Nested
+    @DisplayName("Cached Result Tests")
+    class CachedResultTests {
+
+        @Test
+        @DisplayName("Should report UNKNOWN before the first refresh")
+        void health_ShouldReturnUnknown_BeforeFirstRefresh() {
+            Health health = cachedHealthIndicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+        }
+
+        @Test
+        @DisplayName("Should serve the last result without calling the delegate again")
+        void health_ShouldServeCachedResult() {
+            when(delegate.health()).thenReturn(Health.up().withDetail("database", "H2").build());
+            cachedHealthIndicator.refresh();
+
+            now.addAndGet(5_000);
+            Health first = cachedHealthIndicator.health();
+            Health second = cachedHealthIndicator.health();
+
+            verify(delegate, times(1)).health();
+            assertThat(first.getStatus()).isEqualTo(Status.UP);
+            assertThat(second.getDetails())
+                    .containsEntry("database", "H2")
+                    .containsEntry("ageMs", 5_000L)
+                    .containsKeys("checkedAt", "checkDurationMs");
+        }
+
+        @Test
+        @DisplayName("Should keep a DOWN result from the delegate")
+        void health_ShouldKeepDownResult() {
+            when(delegate.health()).thenReturn(Health.down().withDetail("error", "No training types found").build());
+            cachedHealthIndicator.refresh();
+
+            Health health = cachedHealthIndicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+            assertThat(health.getDetails()).containsEntry("error", "No training types found");
+        }
+
+        @Test
+        @DisplayName("Should turn a throwing delegate into DOWN")
+        void refresh_ShouldReportDown_WhenDelegateThrows() {
+            when(delegate.health()).thenThrow(new IllegalStateException("pool exhausted"));
+            cachedHealthIndicator.refresh();
+
+            Health health = cachedHealthIndicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+            assertThat(health.getDetails().get("error").toString()).contains("pool exhausted");
+        }
+    }
+
+    @Nested
+    @DisplayName("Staleness Tests")
+    class StalenessTests {
+
+        @Test
+        @DisplayName("Should report DOWN when the last check is older than the threshold")
+        void health_ShouldReturnDown_WhenStale() {
+            when(delegate.health()).thenReturn(Health.up().build());
+            cachedHealthIndicator.refresh();
+
+            now.addAndGet(30_001);
+            Health health = cachedHealthIndicator.health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+            assertThat(health.getDetails()).containsKey("reason");
+        }
+
+        @Test
+        @DisplayName("Should recover once a new check completes")
+        void health_ShouldRecover_AfterRefresh() {
+            when(delegate.health()).thenReturn(Health.up().build());
+            cachedHealthIndicator.refresh();
+            now.addAndGet(60_000);
+
+            cachedHealthIndicator.refresh();
+
+            assertThat(cachedHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.gym.crm.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.DefaultHealthContributorRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HealthSnapshotRefresherTest {
+
+    private final AtomicInteger databaseChecks = new AtomicInteger();
+    private HealthContributorRegistry registry;
+    private HealthIndicator ping;
+    private HealthSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DefaultHealthContributorRegistry();
+        ping = () -> Health.up().build();
+        registry.registerContributor("database", (HealthIndicator) () -> {
+            databaseChecks.incrementAndGet();
+            return Health.up().build();
+        });
+        registry.registerContributor("ping", ping);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (refresher != null) {
+            refresher.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private HealthSnapshotRefresher newRefresher(boolean enabled, String names, long refreshIntervalMs) {
+        ObjectProvider<HealthContributorRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+        return new HealthSnapshotRefresher(provider, enabled, names, refreshIntervalMs, 30_000);
+    }
+
+    @Nested
+    @DisplayName("Registration Tests")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("Should replace configured indicators with cached ones and leave others alone")
+        void afterSingletonsInstantiated_ShouldWrapConfiguredIndicators() {
+            refresher = newRefresher(true, "database, missing", 60_000);
+
+            refresher.afterSingletonsInstantiated();
+
+            assertThat(registry.getContributor("database")).isInstanceOf(CachedHealthIndicator.class);
+            assertThat(registry.getContributor("ping")).isSameAs(ping);
+            assertThat(refresher.cachedIndicators()).extracting(CachedHealthIndicator::getName)
+                    .containsExactly("database");
+        }
+
+        @Test
+        @DisplayName("Should compute the first snapshot before probes arrive")
+        void afterSingletonsInstantiated_ShouldRefreshImmediately() {
+            refresher = newRefresher(true, "database", 60_000);
+
+            refresher.afterSingletonsInstantiated();
+            HealthIndicator cached = (HealthIndicator) registry.getContributor("database");
+
+            assertThat(cached.health().getStatus()).isEqualTo(Status.UP);
+            cached.health();
+            assertThat(databaseChecks.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should leave the registry untouched when disabled")
+        void afterSingletonsInstantiated_ShouldDoNothing_WhenDisabled() {
+            refresher = newRefresher(false, "database", 60_000);
+
+            refresher.afterSingletonsInstantiated();
+
+            assertThat(registry.getContributor("database")).isNotInstanceOf(CachedHealthIndicator.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Schedule Tests")
+    class ScheduleTests {
+
+        @Test
+        @DisplayName("Should refresh in the background")
+        void shouldRefreshInBackground() throws InterruptedException {
+            refresher = newRefresher(true, "database", 20);
+
+            refresher.afterSingletonsInstantiated();
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (databaseChecks.get() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(databaseChecks.get()).isGreaterThanOrEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.gym.crm.leaderboard;
+
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.events.TrainerMinutesChanged;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainerLeaderboard Tests")
+class TrainerLeaderboardTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2030, 3);
+    private static final LocalDate MARCH_10 = MARCH.atDay(10);
+
+    @Mock
+    private TrainingDao trainingDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private TrainerLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(MARCH_10);
+        leaderboard = new TrainerLeaderboard(trainingDao, meterRegistry, 0, clock);
+    }
+
+    private void loadMarch(Map<Long, Long> minutes) {
+        when(trainingDao.sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth())).thenReturn(minutes);
+        leaderboard.rebuild();
+    }
+
+    private List<Long> topTrainerIds(int limit) {
+        return leaderboard.top(limit).stream().map(TrainerLeaderboard.Standing::trainerId).toList();
+    }
+
+    @Test
+    @DisplayName("Should rank trainers loaded from the database by minutes")
+    void shouldRankLoadedTotals() {
+        loadMarch(Map.of(1L, 120L, 2L, 300L, 3L, 120L, 4L, 60L));
+
+        assertThat(leaderboard.top(3))
+                .extracting(TrainerLeaderboard.Standing::rank, TrainerLeaderboard.Standing::trainerId,
+                        TrainerLeaderboard.Standing::minutes)
+                .containsExactly(tuple(1, 2L, 300L), tuple(2, 1L, 120L), tuple(3, 3L, 120L));
+        assertThat(leaderboard.getMonth()).isEqualTo(MARCH);
+        assertThat(meterRegistry.get("gym.leaderboard.trainers").gauge().value()).isEqualTo(4.0);
+        assertThatThrownBy(() -> leaderboard.top(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should apply added and removed minutes of the current month only")
+    void shouldApplyMinuteChanges() {
+        loadMarch(Map.of(1L, 100L, 2L, 50L));
+
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(2L, MARCH_10, 90));
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(1L, MARCH_10, -100));
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(3L, MARCH.atDay(1).minusDays(1), 500));
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(null, MARCH_10, 500));
+
+        assertThat(leaderboard.top(10)).extracting(TrainerLeaderboard.Standing::trainerId,
+                        TrainerLeaderboard.Standing::minutes)
+                .containsExactly(tuple(2L, 140L));
+        assertThat(leaderboard.getTrainerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated views from the cached top list until the totals change")
+    void shouldCacheTopUntilChange() {
+        loadMarch(Map.of(1L, 100L, 2L, 50L));
+
+        List<TrainerLeaderboard.Standing> first = leaderboard.top(5);
+        assertThat(leaderboard.top(1)).containsExactly(first.get(0));
+        assertThat(leaderboard.top(5)).isEqualTo(first);
+        verify(trainingDao, times(1)).sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth());
+
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(2L, MARCH_10, 100));
+
+        assertThat(topTrainerIds(5)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep exact top entries across many trainers")
+    void shouldPickTopAmongManyTrainers() {
+        Map<Long, Long> minutes = new HashMap<>();
+        for (long trainerId = 1; trainerId <= 1000; trainerId++) {
+            minutes.put(trainerId, trainerId % 97);
+        }
+        loadMarch(minutes);
+
+        // 96 minutes: trainers 96, 193, 290, ...; lower ids first
+        assertThat(topTrainerIds(3)).containsExactly(96L, 193L, 290L);
+        assertThat(leaderboard.getTrainerCount()).isEqualTo(990);
+    }
+
+    @Test
+    @DisplayName("Should reload totals that drifted from the database")
+    void shouldCorrectDrift() {
+        when(trainingDao.sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth()))
+                .thenReturn(Map.of(1L, 100L))
+                .thenReturn(Map.of(1L, 100L))
+                .thenReturn(Map.of(1L, 40L, 2L, 80L));
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.checkDrift()).isFalse();
+        assertThat(leaderboard.checkDrift()).isTrue();
+
+        assertThat(topTrainerIds(10)).containsExactly(2L, 1L);
+        assertThat(meterRegistry.get("gym.leaderboard.drift-corrections").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should load again when a change arrives during the startup load")
+    void shouldReloadWhenChangeArrivesDuringLoad() {
+        when(trainingDao.sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth()))
+                .thenAnswer(invocation -> {
+                    // committed before this read finished, delivered while it is in flight
+                    leaderboard.onMinutesChanged(new TrainerMinutesChanged(1L, MARCH_10, 50));
+                    return Map.of(1L, 100L);
+                })
+                .thenReturn(Map.of(1L, 150L));
+
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.top(1).get(0).minutes()).isEqualTo(150L);
+        verify(trainingDao, times(2)).sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth());
+    }
+
+    @Test
+    @DisplayName("Should not install a drift check load that raced with a change")
+    void shouldNotCountRacingChangeAsDrift() {
+        when(trainingDao.sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth()))
+                .thenReturn(Map.of(1L, 100L))
+                .thenAnswer(invocation -> {
+                    leaderboard.onMinutesChanged(new TrainerMinutesChanged(1L, MARCH_10, 50));
+                    return Map.of(1L, 100L);
+                })
+                .thenReturn(Map.of(1L, 150L));
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.checkDrift()).isFalse();
+
+        assertThat(leaderboard.top(1).get(0).minutes()).isEqualTo(150L);
+        assertThat(meterRegistry.get("gym.leaderboard.drift-corrections").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip the drift check while changes keep arriving")
+    void shouldSkipDriftCheckUnderConstantChange() {
+        when(trainingDao.sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth()))
+                .thenReturn(Map.of(1L, 100L))
+                .thenAnswer(invocation -> {
+                    leaderboard.onMinutesChanged(new TrainerMinutesChanged(1L, MARCH_10, 10));
+                    return Map.of(1L, 0L);
+                });
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.checkDrift()).isFalse();
+
+        assertThat(leaderboard.top(1).get(0).minutes()).isEqualTo(100L + 10L * TrainerLeaderboard.MAX_LOAD_ATTEMPTS);
+        verify(trainingDao, times(1 + TrainerLeaderboard.MAX_LOAD_ATTEMPTS))
+                .sumMinutesPerTrainer(MARCH.atDay(1), MARCH.atEndOfMonth());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes before the first load and reload when the month changes")
+    void shouldLoadNewMonth() {
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(1L, MARCH_10, 30));
+        verifyNoInteractions(trainingDao);
+
+        loadMarch(Map.of(1L, 30L));
+        YearMonth april = MARCH.plusMonths(1);
+        when(trainingDao.sumMinutesPerTrainer(april.atDay(1), april.atEndOfMonth())).thenReturn(Map.of(5L, 45L));
+        clock.set(april.atDay(1));
+
+        assertThat(topTrainerIds(10)).containsExactly(5L);
+        assertThat(leaderboard.getMonth()).isEqualTo(april);
+        leaderboard.onMinutesChanged(new TrainerMinutesChanged(5L, april.atDay(2), 15));
+        assertThat(leaderboard.top(1).get(0).minutes()).isEqualTo(60L);
+        verify(trainingDao, times(1)).sumMinutesPerTrainer(april.atDay(1), april.atEndOfMonth());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private LocalDate date;
+
+        private MutableClock(LocalDate date) {
+            this.date = date;
+        }
+
+        void set(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return date.atStartOfDay().toInstant(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.gym.crm.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should reject once in-flight requests reach the limit")
+        void shouldRejectAtLimit() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 0.2);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+            assertThat(limiter.getInFlight()).isEqualTo(2);
+
+            limiter.release(-1);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should clamp initial limit into the configured range")
+        void shouldClampInitialLimit() {
+            assertThat(new AdaptiveConcurrencyLimiter(500, 1, 50, 1.5, 0.2).getLimit()).isEqualTo(50);
+            assertThat(new AdaptiveConcurrencyLimiter(0, 3, 50, 1.5, 0.2).getLimit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should reject inconsistent limit bounds")
+        void shouldRejectInvalidBounds() {
+            assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 10, 5, 1.5, 0.2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptation Tests")
+    class AdaptationTests {
+
+        @Test
+        @DisplayName("Should grow the limit while latency stays at baseline and the limit is used")
+        void shouldGrowAtSteadyLatency() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.2);
+
+            for (int i = 0; i < 50; i++) {
+                saturateAndComplete(limiter, BASELINE_RTT);
+            }
+
+            assertThat(limiter.getLimit()).isGreaterThan(10);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit when the group is mostly idle")
+        void shouldNotGrowWhenIdle() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.2);
+
+            for (int i = 0; i < 50; i++) {
+                limiter.tryAcquire();
+                limiter.release(BASELINE_RTT);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit when latency rises well above baseline")
+        void shouldShrinkWhenLatencyInflates() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 2, 100, 1.5, 0.2);
+            for (int i = 0; i < 20; i++) {
+                saturateAndComplete(limiter, BASELINE_RTT);
+            }
+            int before = limiter.getLimit();
+
+            for (int i = 0; i < 100; i++) {
+                limiter.tryAcquire();
+                limiter.release(BASELINE_RTT * 10);
+            }
+
+            assertThat(limiter.getLimit()).isLessThan(before);
+            assertThat(limiter.getShortRttMillis()).isGreaterThan(limiter.getLongRttMillis());
+        }
+
+        @Test
+        @DisplayName("Should never drop below the minimum limit")
+        void shouldRespectMinimum() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 8, 100, 1.0, 1.0);
+            limiter.tryAcquire();
+            limiter.release(BASELINE_RTT);
+
+            for (int i = 0; i < 200; i++) {
+                limiter.tryAcquire();
+                limiter.release(BASELINE_RTT * 50);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(8);
+        }
+
+        private void saturateAndComplete(AdaptiveConcurrencyLimiter limiter, long rtt) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rtt);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.gym.crm.limiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = newFilter(true);
+    }
+
+    private ConcurrencyLimitFilter newFilter(boolean enabled) {
+        return new ConcurrencyLimitFilter(meterRegistry, enabled, 1, 1.5, 0.2, 1, 4, 2, 8, 1, 4);
+    }
+
+    private double requests(String group, String outcome) {
+        return meterRegistry.get("gym.limiter.requests").tag("group", group).tag("outcome", outcome)
+                .counter().count();
+    }
+
+    @Nested
+    @DisplayName("Classification Tests")
+    class ClassificationTests {
+
+        @Test
+        @DisplayName("Should classify login and registration as auth")
+        void shouldClassifyAuth() {
+            assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/auth/login")))
+                    .isEqualTo(EndpointGroup.AUTH);
+            assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/trainees/register")))
+                    .isEqualTo(EndpointGroup.AUTH);
+        }
+
+        @Test
+        @DisplayName("Should classify by HTTP method otherwise")
+        void shouldClassifyReadAndWrite() {
+            assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/training-types")))
+                    .isEqualTo(EndpointGroup.READ);
+            assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("PUT", "/api/trainees/profile/a")))
+                    .isEqualTo(EndpointGroup.WRITE);
+            assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("DELETE", "/api/trainees/a")))
+                    .isEqualTo(EndpointGroup.WRITE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Shedding Tests")
+    class SheddingTests {
+
+        @Test
+        @DisplayName("Should pass requests through while under the limit")
+        void shouldPassUnderLimit() throws Exception {
+            FilterChain chain = mock(FilterChain.class);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/training-types"), response, chain);
+
+            verify(chain).doFilter(any(), any());
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(requests("read", "accepted")).isEqualTo(1.0);
+            assertThat(filter.getLimiter(EndpointGroup.READ).getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should shed with 503 when the group limit is reached")
+        void shouldShedOverLimit() throws Exception {
+            AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+            FilterChain chain = (req, res) -> {
+                MockHttpServletResponse inner = new MockHttpServletResponse();
+                filter.doFilter(new MockHttpServletRequest("POST", "/api/trainings"), inner, mock(FilterChain.class));
+                nested.set(inner);
+            };
+
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/trainings"), new MockHttpServletResponse(), chain);
+
+            MockHttpServletResponse shed = nested.get();
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(shed.getContentAsString()).contains("\"status\":503");
+            assertThat(requests("write", "rejected")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should keep groups independent")
+        void shouldIsolateGroups() throws Exception {
+            AtomicReference<Integer> readStatus = new AtomicReference<>();
+            FilterChain chain = (req, res) -> {
+                MockHttpServletResponse inner = new MockHttpServletResponse();
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/training-types"), inner, mock(FilterChain.class));
+                readStatus.set(inner.getStatus());
+            };
+
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/trainings"), new MockHttpServletResponse(), chain);
+
+            assertThat(readStatus.get()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should release the slot when the chain throws")
+        void shouldReleaseOnException() throws Exception {
+            FilterChain chain = mock(FilterChain.class);
+            doThrow(new RuntimeException("boom")).when(chain).doFilter(any(), any());
+
+            try {
+                filter.doFilter(new MockHttpServletRequest("POST", "/api/trainings"), new MockHttpServletResponse(), chain);
+            } catch (RuntimeException ignored) {
+                // expected
+            }
+
+            assertThat(filter.getLimiter(EndpointGroup.WRITE).getInFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Bypass Tests")
+    class BypassTests {
+
+        @Test
+        @DisplayName("Should not limit non-API paths")
+        void shouldBypassActuator() throws Exception {
+            FilterChain chain = mock(FilterChain.class);
+
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), chain);
+
+            verify(chain).doFilter(any(), any());
+            assertThat(requests("read", "accepted")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not limit anything when disabled")
+        void shouldBypassWhenDisabled() throws Exception {
+            meterRegistry = new SimpleMeterRegistry();
+            ConcurrencyLimitFilter disabled = newFilter(false);
+            FilterChain chain = mock(FilterChain.class);
+
+            disabled.doFilter(new MockHttpServletRequest("GET", "/api/training-types"), new MockHttpServletResponse(), chain);
+
+            verify(chain).doFilter(any(), any());
+            assertThat(disabled.getLimiter(EndpointGroup.READ).getInFlight()).isZero();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLoggingMetricsTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        target.setContext(context);
+        target.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_FILE");
+        appender.setQueueSize(16);
+        appender.addAppender(target);
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+        context.getLogger("com.gym.crm").addAppender(appender);
+
+        LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Should find each async appender once")
+    void asyncAppenders_ShouldFindAttachedAppenders() {
+        assertThat(AsyncLoggingMetrics.asyncAppenders(context)).containsExactly(appender);
+    }
+
+    @Test
+    @DisplayName("Should publish queue depth, drop counts and sampled events")
+    void bindTo_ShouldRegisterLoggingMeters() {
+        new AsyncLoggingMetrics().bindTo(registry, context);
+
+        assertThat(registry.get("gym.logging.queue.capacity").tag("appender", "ASYNC_FILE").gauge().value())
+                .isEqualTo(16);
+        assertThat(registry.get("gym.logging.queue.depth").tag("appender", "ASYNC_FILE").gauge().value())
+                .isZero();
+        assertThat(registry.get("gym.logging.events.dropped").functionCounters()).hasSize(2);
+        assertThat(registry.get("gym.logging.events.sampled").tag("logger", "com.gym.crm.dao").functionCounter())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should register nothing without async appenders")
+    void bindTo_ShouldRegisterNothing_WhenNoAsyncAppenders() {
+        new AsyncLoggingMetrics().bindTo(registry, new LoggerContext());
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
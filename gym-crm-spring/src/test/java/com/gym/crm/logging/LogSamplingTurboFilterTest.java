@@ -0,0 +1,98 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingTurboFilterTest {
+
+    private static final String CREATED = "Successfully created trainee: {} with id: {}";
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger daoLogger = context.getLogger("com.gym.crm.dao.impl.TraineeDaoImpl");
+    private final Logger serviceLogger = context.getLogger("com.gym.crm.service.impl.TraineeServiceImpl");
+
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LogSamplingTurboFilter();
+        filter.setRate(10);
+        filter.start();
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+
+    @Nested
+    @DisplayName("Sampling Tests")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("Should keep the first and every tenth DAO INFO event per template")
+        void shouldSampleDaoInfoEvents() {
+            int kept = 0;
+            for (int i = 0; i < 100; i++) {
+                if (decide(daoLogger, Level.INFO, CREATED) == FilterReply.NEUTRAL) {
+                    kept++;
+                }
+            }
+
+            assertThat(kept).isEqualTo(10);
+            assertThat(filter.getSampledOutCount()).isEqualTo(90);
+        }
+
+        @Test
+        @DisplayName("Should count each message template separately")
+        void shouldKeepFirstOccurrenceOfEachTemplate() {
+            decide(daoLogger, Level.INFO, CREATED);
+
+            assertThat(decide(daoLogger, Level.INFO, "Successfully deleted trainee: {} with id: {}"))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(daoLogger, Level.INFO, CREATED)).isEqualTo(FilterReply.DENY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Pass-through Tests")
+    class PassThroughTests {
+
+        @Test
+        @DisplayName("Should never sample WARN, ERROR or other packages")
+        void shouldPassOtherEvents() {
+            for (int i = 0; i < 20; i++) {
+                assertThat(decide(daoLogger, Level.WARN, CREATED)).isEqualTo(FilterReply.NEUTRAL);
+                assertThat(decide(daoLogger, Level.ERROR, CREATED)).isEqualTo(FilterReply.NEUTRAL);
+                assertThat(decide(serviceLogger, Level.INFO, CREATED)).isEqualTo(FilterReply.NEUTRAL);
+            }
+        }
+
+        @Test
+        @DisplayName("Should not consume samples on isInfoEnabled checks")
+        void shouldIgnoreLevelChecks() {
+            for (int i = 0; i < 5; i++) {
+                assertThat(decide(daoLogger, Level.INFO, null)).isEqualTo(FilterReply.NEUTRAL);
+            }
+
+            assertThat(decide(daoLogger, Level.INFO, CREATED)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        @Test
+        @DisplayName("Should be disabled with a rate of one")
+        void shouldPassEverything_WhenRateIsOne() {
+            filter.setRate(1);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(decide(daoLogger, Level.INFO, CREATED)).isEqualTo(FilterReply.NEUTRAL);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.gym.crm.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        AppenderBase<ILoggingEvent> slowAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event.getFormattedMessage());
+            }
+        };
+        slowAppender.setContext(context);
+        slowAppender.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_TEST");
+        appender.setQueueSize(4);
+        appender.setDiscardingThreshold(2);
+        appender.setNeverBlock(true);
+        appender.addAppender(slowAppender);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    private void log(Level level, String message) {
+        appender.doAppend(new LoggingEvent(getClass().getName(), context.getLogger("com.gym.crm.dao.impl.TraineeDaoImpl"),
+                level, message, null, null));
+    }
+
+    private void awaitWorkerBusy() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (appender.getNumberOfElementsInQueue() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Drop Counting Tests")
+    class DropCountingTests {
+
+        @Test
+        @DisplayName("Should count INFO events discarded below the threshold and keep WARN")
+        void shouldCountDiscardedEvents() throws InterruptedException {
+            log(Level.INFO, "in flight");
+            awaitWorkerBusy();
+
+            log(Level.INFO, "queued 1");
+            log(Level.INFO, "queued 2");
+            log(Level.INFO, "queued 3");
+            log(Level.INFO, "discarded");
+            log(Level.WARN, "kept");
+
+            assertThat(appender.getDiscardedCount()).isEqualTo(1);
+            assertThat(appender.getDroppedWhenFullCount()).isZero();
+            assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should count events dropped on a full queue")
+        void shouldCountEventsDroppedWhenFull() throws InterruptedException {
+            log(Level.INFO, "in flight");
+            awaitWorkerBusy();
+
+            for (int i = 0; i < 4; i++) {
+                log(Level.WARN, "queued " + i);
+            }
+            log(Level.ERROR, "dropped");
+
+            assertThat(appender.getDroppedWhenFullCount()).isEqualTo(1);
+
+            release.countDown();
+            appender.stop();
+            assertThat(written).contains("in flight", "queued 0", "queued 3").doesNotContain("dropped");
+        }
+    }
+}
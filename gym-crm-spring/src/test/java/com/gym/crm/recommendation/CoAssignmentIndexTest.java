@@ -0,0 +1,129 @@
+package com.gym.crm.recommendation;
+
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.events.ScheduleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoAssignmentIndex Tests")
+class CoAssignmentIndexTest {
+
+    @Mock
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoAssignmentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new CoAssignmentIndex(assignmentDao, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count trainees shared by each trainer pair after a rebuild")
+    void shouldBuildMatrixFromStoredAssignments() {
+        when(assignmentDao.findAll()).thenReturn(List.of(
+                new TraineeTrainerAssignment(1L, 10L),
+                new TraineeTrainerAssignment(1L, 20L),
+                new TraineeTrainerAssignment(2L, 10L),
+                new TraineeTrainerAssignment(2L, 20L),
+                new TraineeTrainerAssignment(2L, 30L)));
+
+        index.rebuild();
+
+        assertThat(index.getTrainerIds(2L)).containsExactlyInAnyOrder(10L, 20L, 30L);
+        assertThat(index.getTraineeCounts()).containsOnly(entry(10L, 2), entry(20L, 2), entry(30L, 1));
+        assertThat(index.getPairCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("gym.recommendation.trainer-pairs").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should score co-assigned trainers by average cosine similarity")
+    void shouldScoreSimilarTrainers() {
+        index.replaceAssignments(1L, List.of(10L, 20L));
+        index.replaceAssignments(2L, List.of(10L, 20L));
+        index.replaceAssignments(3L, List.of(10L, 30L));
+        index.replaceAssignments(4L, List.of(40L));
+
+        // 20: shares 2 of 10's 3 trainees and 20 has 2 -> 2 / sqrt(3 * 2)
+        assertThat(index.similarTrainers(Set.of(10L)))
+                .containsOnlyKeys(20L, 30L)
+                .hasEntrySatisfying(20L, score -> assertThat(score).isCloseTo(2 / Math.sqrt(6), within(1e-9)))
+                .hasEntrySatisfying(30L, score -> assertThat(score).isCloseTo(1 / Math.sqrt(3), within(1e-9)));
+        assertThat(index.similarTrainers(Set.of(10L, 20L))).containsOnlyKeys(30L);
+        assertThat(index.similarTrainers(Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should update only the changed pairs when a trainer list is replaced")
+    void shouldApplyReplacementIncrementally() {
+        index.replaceAssignments(1L, List.of(10L, 20L, 30L));
+        index.replaceAssignments(2L, List.of(10L, 20L));
+
+        index.replaceAssignments(1L, List.of(10L, 40L));
+
+        assertThat(index.getTrainerIds(1L)).containsExactlyInAnyOrder(10L, 40L);
+        assertThat(index.getTraineeCounts()).containsOnly(entry(10L, 2), entry(20L, 1), entry(40L, 1));
+        assertThat(index.similarTrainers(Set.of(20L))).containsOnlyKeys(10L);
+        assertThat(index.similarTrainers(Set.of(40L))).containsOnlyKeys(10L);
+        assertThat(index.getPairCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should forget a deleted trainee's pairs")
+    void shouldRemoveTrainee() {
+        index.replaceAssignments(1L, List.of(10L, 20L));
+
+        index.removeTrainee(1L);
+        index.removeTrainee(99L);
+
+        assertThat(index.getTrainerIds(1L)).isEmpty();
+        assertThat(index.getTraineeCounts()).isEmpty();
+        assertThat(index.getPairCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should follow assignment change events and ignore other events")
+    void shouldApplyAssignmentEvents() {
+        index.onScheduleEvent(ScheduleEvent.assignmentsChanged(1L, List.of(), List.of(10L, 20L)));
+        index.onScheduleEvent(new ScheduleEvent(ScheduleEvent.Type.TRAINING_CREATED, Set.of(1L),
+                Map.of("traineeId", 1L)));
+
+        assertThat(index.getTrainerIds(1L)).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(index.getPairCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep trainees changed before the rebuild finished")
+    void shouldNotOverwriteNewerAssignmentsOnRebuild() {
+        index.replaceAssignments(1L, List.of(30L));
+        when(assignmentDao.findAll()).thenReturn(List.of(
+                new TraineeTrainerAssignment(1L, 10L),
+                new TraineeTrainerAssignment(2L, 10L)));
+
+        index.rebuild();
+
+        assertThat(index.getTrainerIds(1L)).containsExactly(30L);
+        assertThat(index.getTraineeCounts()).containsOnly(entry(10L, 1), entry(30L, 1));
+        assertThatThrownBy(() -> index.replaceAssignments(null, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
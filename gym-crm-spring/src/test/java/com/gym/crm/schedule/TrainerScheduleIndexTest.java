@@ -0,0 +1,187 @@
+package com.gym.crm.schedule;
+
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.entity.Training;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.exception.ScheduleConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainerScheduleIndex Tests")
+class TrainerScheduleIndexTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    private static final TrainingType CARDIO = new TrainingType("Cardio");
+
+    @Mock
+    private TrainingDao trainingDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrainerScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new TrainerScheduleIndex(trainingDao, meterRegistry);
+    }
+
+    private static Training training(Long id, Long traineeId, Long trainerId, LocalDate date,
+                                     LocalTime startTime, int duration) {
+        Training training = new Training(id, traineeId, trainerId, "Session " + id, CARDIO, date, duration);
+        training.setTrainingStartTime(startTime);
+        return training;
+    }
+
+    private static Training atTomorrow(Long trainerId, int hour, int minute, int duration) {
+        return training(null, 1L, trainerId, TOMORROW, LocalTime.of(hour, minute), duration);
+    }
+
+    @Test
+    @DisplayName("Should reject a session overlapping one loaded at startup")
+    void shouldRejectOverlapWithRebuiltSession() {
+        when(trainingDao.findScheduledFrom(LocalDate.now().minusDays(1))).thenReturn(List.of(
+                training(7L, 1L, 2L, TOMORROW, LocalTime.of(10, 0), 60)));
+        index.rebuild();
+        index.rebuild();
+
+        assertThat(index.getIndexedSessionCount()).isEqualTo(1);
+        assertThatThrownBy(() -> index.reserve(atTomorrow(2L, 10, 59, 30)))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessage("Trainer is already booked from " + TOMORROW + "T10:00 to " + TOMORROW + "T11:00");
+        assertThat(meterRegistry.get("gym.schedule.conflicts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should accept back-to-back sessions and other trainers at the same time")
+    void shouldAcceptAdjacentSessionsAndOtherTrainers() {
+        index.rebuild();
+        index.reserve(atTomorrow(2L, 10, 0, 60));
+
+        assertThatCode(() -> index.reserve(atTomorrow(2L, 9, 0, 60))).doesNotThrowAnyException();
+        assertThatCode(() -> index.reserve(atTomorrow(2L, 11, 0, 60))).doesNotThrowAnyException();
+        assertThatCode(() -> index.reserve(atTomorrow(3L, 10, 0, 60))).doesNotThrowAnyException();
+        assertThat(index.getIndexedSessionCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should find a long session that started well before the new one")
+    void shouldFindLongSessionStartedEarlier() {
+        index.rebuild();
+        index.reserve(atTomorrow(2L, 8, 0, 480));
+        index.reserve(atTomorrow(2L, 16, 0, 15));
+
+        assertThatThrownBy(() -> index.reserve(atTomorrow(2L, 15, 0, 15)))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessageContaining("T08:00 to ");
+    }
+
+    @Test
+    @DisplayName("Should detect a session running past midnight")
+    void shouldDetectOverlapAcrossMidnight() {
+        index.rebuild();
+        index.reserve(training(null, 1L, 2L, TOMORROW, LocalTime.of(23, 30), 60));
+
+        assertThatThrownBy(() -> index.reserve(
+                training(null, 1L, 2L, TOMORROW.plusDays(1), LocalTime.of(0, 15), 30)))
+                .isInstanceOf(ScheduleConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should never index or reject sessions without a start time")
+    void shouldIgnoreUntimedSessions() {
+        index.rebuild();
+        index.reserve(atTomorrow(2L, 10, 0, 60));
+
+        TrainerScheduleIndex.Reservation reservation = index.reserve(
+                training(null, 1L, 2L, TOMORROW, null, 60));
+        reservation.confirm(5L);
+        reservation.release();
+
+        assertThat(index.getIndexedSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free the slot when a reservation is released")
+    void shouldFreeReleasedSlot() {
+        index.rebuild();
+        TrainerScheduleIndex.Reservation reservation = index.reserve(atTomorrow(2L, 10, 0, 60));
+
+        reservation.release();
+
+        assertThat(index.getIndexedSessionCount()).isZero();
+        assertThatCode(() -> index.reserve(atTomorrow(2L, 10, 0, 60))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should keep one entry when a reservation is confirmed after the rebuild loaded it")
+    void shouldNotDoubleCountSessionLoadedDuringReservation() {
+        TrainerScheduleIndex.Reservation reservation = index.reserve(atTomorrow(2L, 10, 0, 60));
+        when(trainingDao.findScheduledFrom(any())).thenReturn(List.of(
+                training(7L, 1L, 2L, TOMORROW, LocalTime.of(10, 0), 60)));
+        index.rebuild();
+
+        reservation.confirm(7L);
+
+        assertThat(index.getIndexedSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop all sessions of a deleted trainee")
+    void shouldRemoveTraineeSessions() {
+        index.rebuild();
+        index.reserve(training(null, 1L, 2L, TOMORROW, LocalTime.of(10, 0), 60)).confirm(7L);
+        index.reserve(training(null, 1L, 3L, TOMORROW, LocalTime.of(10, 0), 60)).confirm(8L);
+        index.reserve(training(null, 4L, 2L, TOMORROW, LocalTime.of(12, 0), 60)).confirm(9L);
+
+        index.removeTrainee(1L);
+
+        assertThat(index.getIndexedSessionCount()).isEqualTo(1);
+        assertThatCode(() -> index.reserve(atTomorrow(2L, 10, 0, 60))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> index.reserve(atTomorrow(2L, 12, 30, 60)))
+                .isInstanceOf(ScheduleConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should check stored sessions until the index has been rebuilt")
+    void shouldCheckDatabaseBeforeRebuild() {
+        when(trainingDao.findByTrainerIdAndDateRange(2L, LocalDate.now(), TOMORROW)).thenReturn(List.of(
+                training(7L, 1L, 2L, TOMORROW, LocalTime.of(10, 0), 60),
+                training(8L, 1L, 2L, TOMORROW, null, 60)));
+
+        assertThatThrownBy(() -> index.reserve(atTomorrow(2L, 10, 30, 60)))
+                .isInstanceOf(ScheduleConflictException.class);
+        assertThatCode(() -> index.reserve(atTomorrow(2L, 11, 0, 60))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should check stored sessions only for dates before the indexed window")
+    void shouldCheckDatabaseOnlyForPastDates() {
+        index.rebuild();
+        LocalDate lastWeek = LocalDate.now().minusDays(7);
+
+        index.reserve(atTomorrow(2L, 10, 0, 60));
+        index.reserve(training(null, 1L, 2L, lastWeek, LocalTime.of(10, 0), 60));
+
+        verify(trainingDao, never()).findByTrainerIdAndDateRange(eq(2L), eq(TOMORROW.minusDays(1)), any());
+        verify(trainingDao).findByTrainerIdAndDateRange(2L, lastWeek.minusDays(1), lastWeek);
+    }
+}
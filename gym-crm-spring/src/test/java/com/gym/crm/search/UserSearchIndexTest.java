@@ -0,0 +1,196 @@
+package com.gym.crm.search;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchIndex Tests")
+class UserSearchIndexTest {
+
+    @Mock
+    private TraineeDao traineeDao;
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new UserSearchIndex(traineeDao, trainerDao, meterRegistry);
+    }
+
+    private static Trainee trainee(Long id, String firstName, String lastName, String username) {
+        Trainee trainee = new Trainee(firstName, lastName);
+        trainee.setId(id);
+        trainee.setUsername(username);
+        trainee.setIsActive(true);
+        return trainee;
+    }
+
+    private static Trainer trainer(Long id, String firstName, String lastName, String username) {
+        Trainer trainer = new Trainer(firstName, lastName, new TrainingType("Cardio"));
+        trainer.setId(id);
+        trainer.setUsername(username);
+        trainer.setIsActive(true);
+        return trainer;
+    }
+
+    private List<String> usernames(String query) {
+        return index.search(query, null, 10).stream().map(UserSearchIndex.Hit::username).toList();
+    }
+
+    @Test
+    @DisplayName("Should load trainees and trainers at startup and report their size")
+    void shouldRebuildFromDaos() {
+        when(traineeDao.findAll()).thenReturn(List.of(trainee(1L, "John", "Smith", "john.smith")));
+        when(trainerDao.findAll()).thenReturn(List.of(trainer(2L, "Jane", "Doe", "jane.doe")));
+
+        index.rebuild();
+
+        UserSearchIndex.Stats stats = index.stats();
+        assertThat(stats.users()).isEqualTo(2);
+        assertThat(stats.terms()).isEqualTo(4);
+        assertThat(stats.estimatedBytes()).isPositive();
+        assertThat(meterRegistry.get("gym.search.index.users").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("gym.search.index.memory").gauge().value())
+                .isEqualTo((double) stats.estimatedBytes());
+        assertThat(index.search("jane", null, 10)).singleElement()
+                .satisfies(hit -> assertThat(hit.role()).isEqualTo(UserSearchIndex.Role.TRAINER));
+    }
+
+    @Test
+    @DisplayName("Should rank exact names above prefixes and prefixes above typos")
+    void shouldRankExactThenPrefixThenTypo() {
+        index.put(trainee(1L, "Jon", "Smith", "jon.smith"));
+        index.put(trainee(2L, "Jonathan", "Smith", "jonathan.smith"));
+        index.put(trainee(3L, "Joan", "Smith", "joan.smith"));
+        index.put(trainee(4L, "Maria", "Lopez", "maria.lopez"));
+
+        assertThat(usernames("jon")).containsExactly("jon.smith", "jonathan.smith");
+        assertThat(usernames("jona")).containsExactly("jonathan.smith", "joan.smith", "jon.smith");
+    }
+
+    @Test
+    @DisplayName("Should tolerate a typo in a longer name, including in its first letter")
+    void shouldTolerateTypos() {
+        index.put(trainee(1L, "Jonathan", "Smith", "jonathan.smith"));
+        index.put(trainee(2L, "Maria", "Lopez", "maria.lopez"));
+
+        assertThat(usernames("jonahtan")).containsExactly("jonathan.smith");
+        assertThat(usernames("smoth")).containsExactly("jonathan.smith");
+        assertThat(usernames("lopes")).containsExactly("maria.lopez");
+        assertThat(usernames("xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should require every query token to match and ignore case and accents")
+    void shouldMatchAllTokens() {
+        index.put(trainee(1L, "José", "García", "jose.garcia"));
+        index.put(trainee(2L, "José", "Martínez", "jose.martinez"));
+
+        assertThat(usernames("JOSE gar")).containsExactly("jose.garcia");
+        assertThat(usernames("jose.martinez")).containsExactly("jose.martinez");
+        assertThat(usernames("j")).containsExactlyInAnyOrder("jose.garcia", "jose.martinez");
+        assertThat(usernames(" .,- ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match letters and digits of a username separately")
+    void shouldSplitLettersAndDigits() {
+        index.put(trainee(1L, "Trainee", "Synthetic", "trainee.123"));
+        index.put(trainee(2L, "Trainee", "Synthetic", "trainee.1234"));
+        index.put(trainee(3L, "Trainee", "Synthetic", "trainee.45"));
+
+        assertThat(usernames("trainee.123")).containsExactly("trainee.123", "trainee.1234");
+        assertThat(usernames("trainee123")).containsExactly("trainee.123", "trainee.1234");
+        assertThat(usernames("45 synthetic")).containsExactly("trainee.45");
+        assertThat(index.stats().terms()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals immediately")
+    void shouldApplyIncrementalChanges() {
+        Trainee trainee = trainee(1L, "Anna", "Bell", "member1");
+        index.put(trainee);
+        long sizeBefore = index.stats().estimatedBytes();
+
+        trainee.setLastName("Carter");
+        trainee.setIsActive(false);
+        index.put(trainee);
+
+        assertThat(usernames("bell")).isEmpty();
+        assertThat(index.search("carter", null, 10)).singleElement()
+                .satisfies(hit -> assertThat(hit.active()).isFalse());
+
+        index.remove(1L);
+        index.remove(99L);
+
+        assertThat(usernames("anna")).isEmpty();
+        assertThat(index.stats().users()).isZero();
+        assertThat(index.stats().postings()).isZero();
+        assertThat(index.stats().estimatedBytes()).isLessThan(sizeBefore);
+    }
+
+    @Test
+    @DisplayName("Should keep users written during the rebuild")
+    void shouldNotOverwriteNewerEntriesOnRebuild() {
+        index.put(trainee(1L, "Anna", "Carter", "anna.bell"));
+        when(traineeDao.findAll()).thenReturn(List.of(trainee(1L, "Anna", "Bell", "anna.bell")));
+        when(trainerDao.findAll()).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertThat(usernames("carter")).containsExactly("anna.bell");
+    }
+
+    @Test
+    @DisplayName("Should filter by role, put active users first and honour the limit")
+    void shouldFilterAndLimit() {
+        Trainee inactive = trainee(1L, "Sam", "Lee", "sam.lee");
+        inactive.setIsActive(false);
+        index.put(inactive);
+        index.put(trainee(2L, "Sam", "Lee", "sam.lee1"));
+        index.put(trainer(3L, "Sam", "Lee", "sam.lee2"));
+
+        assertThat(usernames("sam lee")).containsExactly("sam.lee1", "sam.lee2", "sam.lee");
+        assertThat(index.search("sam", UserSearchIndex.Role.TRAINER, 10))
+                .extracting(UserSearchIndex.Hit::username).containsExactly("sam.lee2");
+        assertThat(index.search("sam", null, 1)).hasSize(1);
+        assertThatThrownBy(() -> index.search("sam", null, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject users that cannot be indexed")
+    void shouldRejectInvalidUsers() {
+        assertThatThrownBy(() -> index.put(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.put(trainee(null, "A", "B", "a.b")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should count an adjacent transposition as one edit")
+    void shouldComputeEditDistance() {
+        assertThat(UserSearchIndex.editDistance("john", "jhon")).isEqualTo(1);
+        assertThat(UserSearchIndex.editDistance("smith", "smyth")).isEqualTo(1);
+        assertThat(UserSearchIndex.editDistance("abc", "")).isEqualTo(3);
+    }
+}
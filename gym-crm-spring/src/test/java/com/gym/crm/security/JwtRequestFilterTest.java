@@ -1,10 +1,12 @@
 package com.gym.crm.security;
 
+import com.gym.crm.context.RequestContext;
 import com.gym.crm.util.impl.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -74,7 +76,6 @@ class JwtRequestFilterTest {
 
             verify(securityContext).setAuthentication(any(Authentication.class));
             verify(filterChain).doFilter(request, response);
-            verify(response).setHeader(eq("X-Transaction-Id"), any(String.class));
         }
 
         @Test
@@ -145,6 +146,54 @@ class JwtRequestFilterTest {
             }));
         }
 
+        @Test
+        @DisplayName("Should grant the operator role from an operator token")
+        void doFilterInternal_ShouldGrantOperatorRole_WhenTokenHasOperatorRole() throws ServletException, IOException {
+            String validToken = "valid.jwt.token";
+            when(request.getRequestURI()).thenReturn("/actuator/jfr");
+            when(request.getMethod()).thenReturn("POST");
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+            when(jwtTokenInvalidationService.isInvalidated(validToken)).thenReturn(false);
+            when(jwtUtil.validateToken(validToken)).thenReturn(true);
+            when(jwtUtil.extractUsername(validToken)).thenReturn("ops.admin");
+            when(jwtUtil.extractRole(validToken)).thenReturn(JwtRequestFilter.OPERATOR_ROLE);
+            when(jwtUtil.extractUserId(validToken)).thenReturn(null);
+
+            jwtRequestFilter.doFilterInternal(request, response, filterChain);
+
+            verify(securityContext).setAuthentication(argThat(auth -> auth != null
+                    && auth.getAuthorities().equals(List.of(new SimpleGrantedAuthority("ROLE_OPERATOR")))));
+        }
+
+        @Test
+        @DisplayName("Should not grant the operator role to user tokens, whatever their username")
+        void doFilterInternal_ShouldNotGrantOperatorRole_ToUserTokens() throws ServletException, IOException {
+            String validToken = "valid.jwt.token";
+            when(request.getRequestURI()).thenReturn("/actuator/jfr");
+            when(request.getMethod()).thenReturn("POST");
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+            when(jwtTokenInvalidationService.isInvalidated(validToken)).thenReturn(false);
+            when(jwtUtil.validateToken(validToken)).thenReturn(true);
+            when(jwtUtil.extractUsername(validToken)).thenReturn("ops.admin");
+            when(jwtUtil.extractRole(validToken)).thenReturn("TRAINEE");
+            when(jwtUtil.extractUserId(validToken)).thenReturn(123L);
+
+            jwtRequestFilter.doFilterInternal(request, response, filterChain);
+
+            verify(securityContext).setAuthentication(argThat(auth -> auth != null
+                    && !auth.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_OPERATOR"))));
+        }
+
+        @Test
+        @DisplayName("Should authenticate restricted actuator endpoints but skip public ones")
+        void shouldNotFilter_ShouldOnlySkipPublicActuatorEndpoints() {
+            when(request.getRequestURI()).thenReturn("/actuator/jfr", "/actuator/health/liveness", "/actuator/prometheus");
+
+            assertThat(jwtRequestFilter.shouldNotFilter(request)).isFalse();
+            assertThat(jwtRequestFilter.shouldNotFilter(request)).isTrue();
+            assertThat(jwtRequestFilter.shouldNotFilter(request)).isTrue();
+        }
+
         @Test
         @DisplayName("Should handle null user ID")
         void doFilterInternal_ShouldHandleNullUserId() throws ServletException, IOException {
@@ -320,40 +369,40 @@ class JwtRequestFilterTest {
     }
 
     @Nested
-    @DisplayName("Transaction ID and Headers Tests")
-    class TransactionIdTests {
-
-        @Test
-        @DisplayName("Should always set transaction ID header")
-        void doFilterInternal_ShouldAlwaysSetTransactionId() throws ServletException, IOException {
-            when(request.getRequestURI()).thenReturn("/api/public");
-            when(request.getMethod()).thenReturn("GET");
-            when(request.getHeader("Authorization")).thenReturn(null);
-
-            jwtRequestFilter.doFilterInternal(request, response, filterChain);
+    @DisplayName("Request Context Tests")
+    class RequestContextTests {
 
-            verify(response).setHeader(eq("X-Transaction-Id"), any(String.class));
+        @AfterEach
+        void unbind() {
+            RequestContext.bind(null);
         }
 
         @Test
-        @DisplayName("Should set different transaction IDs for different requests")
-        void doFilterInternal_ShouldSetDifferentTransactionIds() throws ServletException, IOException {
-            when(request.getRequestURI()).thenReturn("/api/test");
+        @DisplayName("Should record the principal on the bound request context")
+        void doFilterInternal_ShouldAuthenticateRequestContext_WhenValidToken() throws ServletException, IOException {
+            RequestContext context = new RequestContext("node-1");
+            RequestContext.bind(context);
+            String validToken = "valid.jwt.token";
+            when(request.getRequestURI()).thenReturn("/api/protected");
             when(request.getMethod()).thenReturn("GET");
-            when(request.getHeader("Authorization")).thenReturn(null);
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+            when(jwtTokenInvalidationService.isInvalidated(validToken)).thenReturn(false);
+            when(jwtUtil.validateToken(validToken)).thenReturn(true);
+            when(jwtUtil.extractUsername(validToken)).thenReturn("john.doe");
+            when(jwtUtil.extractRole(validToken)).thenReturn("TRAINEE");
+            when(jwtUtil.extractUserId(validToken)).thenReturn(123L);
 
-            // First request
             jwtRequestFilter.doFilterInternal(request, response, filterChain);
-            verify(response).setHeader(eq("X-Transaction-Id"), any(String.class));
 
-            reset(response);
-            jwtRequestFilter.doFilterInternal(request, response, filterChain);
-            verify(response).setHeader(eq("X-Transaction-Id"), any(String.class));
+            assertThat(context.getPrincipal()).isEqualTo(new RequestContext.Principal("john.doe", 123L, "TRAINEE"));
+            assertThat(RequestContext.currentUsername()).isEqualTo("john.doe");
         }
 
         @Test
-        @DisplayName("Should set transaction ID even when authentication fails")
-        void doFilterInternal_ShouldSetTransactionId_WhenAuthFails() throws ServletException, IOException {
+        @DisplayName("Should leave the request context anonymous when authentication fails")
+        void doFilterInternal_ShouldNotAuthenticateRequestContext_WhenAuthFails() throws ServletException, IOException {
+            RequestContext context = new RequestContext("node-1");
+            RequestContext.bind(context);
             when(request.getRequestURI()).thenReturn("/api/protected");
             when(request.getMethod()).thenReturn("GET");
             when(request.getHeader("Authorization")).thenReturn("Bearer invalid.token");
@@ -362,7 +411,8 @@ class JwtRequestFilterTest {
 
             jwtRequestFilter.doFilterInternal(request, response, filterChain);
 
-            verify(response).setHeader(eq("X-Transaction-Id"), any(String.class));
+            assertThat(context.getPrincipal()).isNull();
+            verify(filterChain).doFilter(request, response);
         }
     }
 
@@ -454,8 +504,6 @@ class JwtRequestFilterTest {
 
             verify(chain1).doFilter(request1, response1);
             verify(chain2).doFilter(request2, response2);
-            verify(response1).setHeader(eq("X-Transaction-Id"), any(String.class));
-            verify(response2).setHeader(eq("X-Transaction-Id"), any(String.class));
         }
     }
 }
\ No newline at end of file
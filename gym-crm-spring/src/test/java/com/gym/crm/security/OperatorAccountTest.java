@@ -0,0 +1,51 @@
+package com.gym.crm.security;
+
+import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OperatorAccount Tests")
+class OperatorAccountTest {
+
+    private static final PasswordEncryption PASSWORD_ENCRYPTION = new PasswordEncryption();
+    private static final String PASSWORD_HASH = PASSWORD_ENCRYPTION.encode("s3cret-ops");
+
+    @Test
+    @DisplayName("Should accept the configured operator password only")
+    void shouldAuthenticateConfiguredOperator() {
+        OperatorAccount operator = new OperatorAccount(PASSWORD_ENCRYPTION, " ops.admin ", PASSWORD_HASH);
+
+        assertThatCode(() -> operator.authenticate("ops.admin", "s3cret-ops")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> operator.authenticate("ops.admin", "guess"))
+                .isInstanceOf(InvalidCredentialsException.class);
+        assertThatThrownBy(() -> operator.authenticate("John.Doe", "s3cret-ops"))
+                .isInstanceOf(InvalidCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("Should reserve the operator username regardless of case")
+    void shouldReserveOperatorUsername() {
+        OperatorAccount operator = new OperatorAccount(PASSWORD_ENCRYPTION, "ops.admin", PASSWORD_HASH);
+
+        assertThat(operator.isOperatorUsername("Ops.Admin")).isTrue();
+        assertThat(operator.isOperatorUsername("ops.admin1")).isFalse();
+        assertThat(operator.isOperatorUsername(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should have no operator without a username or password hash")
+    void shouldDisableOperatorWhenNotConfigured() {
+        OperatorAccount unnamed = new OperatorAccount(PASSWORD_ENCRYPTION, "", "");
+        OperatorAccount withoutHash = new OperatorAccount(PASSWORD_ENCRYPTION, "ops.admin", "");
+
+        assertThat(unnamed.isOperatorUsername("")).isFalse();
+        assertThatThrownBy(() -> withoutHash.authenticate("ops.admin", "anything"))
+                .isInstanceOf(InvalidCredentialsException.class);
+        assertThat(withoutHash.isOperatorUsername("ops.admin")).isTrue();
+    }
+}
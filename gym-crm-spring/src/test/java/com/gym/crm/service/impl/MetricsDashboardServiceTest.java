@@ -0,0 +1,136 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dto.response.MetricsSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MetricsDashboardServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MetricsDashboardService(meterRegistry, 60_000, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private Timer httpTimer(String uri, String status) {
+        return Timer.builder("http.server.requests")
+                .tag("method", "GET").tag("uri", uri).tag("status", status)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should report business counters and login success rate")
+        void shouldReportCounters() {
+            Counter.builder("gym.login.attempts").register(meterRegistry).increment(4);
+            Counter.builder("gym.login.success").register(meterRegistry).increment(3);
+            Counter.builder("gym.training.created").register(meterRegistry).increment();
+
+            MetricsSnapshot snapshot = service.snapshot();
+
+            assertThat(snapshot.loginAttempts()).isEqualTo(4);
+            assertThat(snapshot.loginSuccessRate()).isEqualTo(75.0);
+            assertThat(snapshot.trainingsCreated()).isEqualTo(1);
+            assertThat(snapshot.authentication()).isEqualTo(MetricsSnapshot.Latency.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should report authentication percentiles")
+        void shouldReportAuthenticationPercentiles() {
+            Timer timer = Timer.builder("gym.authentication.time")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            for (int i = 1; i <= 100; i++) {
+                timer.record(i, TimeUnit.MILLISECONDS);
+            }
+
+            MetricsSnapshot.Latency latency = service.snapshot().authentication();
+
+            assertThat(latency.count()).isEqualTo(100);
+            assertThat(latency.p50()).isBetween(45.0, 55.0);
+            assertThat(latency.p99()).isBetween(95.0, 105.0);
+            assertThat(latency.max()).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Should list the busiest endpoints up to the limit")
+        void shouldListBusiestEndpoints() {
+            httpTimer("/api/a", "200").record(5, TimeUnit.MILLISECONDS);
+            Timer busy = httpTimer("/api/b", "200");
+            busy.record(5, TimeUnit.MILLISECONDS);
+            busy.record(7, TimeUnit.MILLISECONDS);
+            Timer busiest = httpTimer("/api/c", "404");
+            for (int i = 0; i < 3; i++) {
+                busiest.record(1, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(service.snapshot().endpoints())
+                    .extracting(MetricsSnapshot.EndpointLatency::uri, MetricsSnapshot.EndpointLatency::status)
+                    .containsExactly(
+                            tuple("/api/c", "404"),
+                            tuple("/api/b", "200"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Subscription Tests")
+    class SubscriptionTests {
+
+        @Test
+        @DisplayName("Should serve the background snapshot until the next refresh")
+        void shouldServeLatestSnapshot() {
+            MetricsSnapshot before = service.getLatest();
+            Counter.builder("gym.training.created").register(meterRegistry).increment();
+
+            assertThat(service.getLatest()).isSameAs(before);
+
+            service.refresh();
+
+            assertThat(service.getLatest().trainingsCreated()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should limit the number of subscribers")
+        void shouldLimitSubscribers() {
+            service.subscribe();
+            service.subscribe();
+
+            assertThat(service.getSubscriberCount()).isEqualTo(2);
+            assertThatThrownBy(() -> service.subscribe()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should drop subscribers on shutdown")
+        void shouldDropSubscribersOnShutdown() {
+            service.subscribe();
+
+            service.shutdown();
+
+            assertThat(service.getSubscriberCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.response.TraineeProfileResponse;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.Training;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.exception.ServiceUnavailableException;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TraineeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TraineeProfileServiceImpl Tests")
+class TraineeProfileServiceImplTest {
+
+    private static final long CALL_TIMEOUT_MS = 500;
+
+    @Mock
+    private TraineeService traineeService;
+
+    @Mock
+    private TraineeDao traineeDao;
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    @Mock
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    @Mock
+    private TrainingDao trainingDao;
+
+    private TraineeProfileServiceImpl profileService;
+    private Trainee trainee;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        profileService = new TraineeProfileServiceImpl(traineeService, traineeDao, trainerDao,
+                assignmentDao, trainingDao, new SimpleMeterRegistry(), 4, 16, CALL_TIMEOUT_MS, 30);
+
+        trainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
+        trainee.setId(1L);
+        trainee.setUsername("John.Doe");
+        trainee.setIsActive(true);
+
+        trainer = new Trainer("Jane", "Smith", new TrainingType("Cardio"));
+        trainer.setId(2L);
+        trainer.setUsername("Jane.Smith");
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Profile Assembly Tests")
+    class ProfileAssemblyTests {
+
+        @Test
+        @DisplayName("Should assemble trainee data, trainers and recent trainings")
+        void shouldAssembleProfile() {
+            LocalDate today = LocalDate.now();
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenReturn(List.of(new TraineeTrainerAssignment(1L, 2L)));
+            when(trainerDao.findByIds(List.of(2L))).thenReturn(List.of(trainer));
+            when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenReturn(List.of(
+                    new Training(1L, 2L, "Morning", trainer.getSpecialization(), today.minusDays(3), 45),
+                    new Training(1L, 2L, "Evening", trainer.getSpecialization(), today.minusDays(1), 60)));
+
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe").orElseThrow();
+
+            assertThat(profile.getFirstName()).isEqualTo("John");
+            assertThat(profile.getIsActive()).isTrue();
+            assertThat(profile.getTrainers()).singleElement()
+                    .satisfies(summary -> {
+                        assertThat(summary.getUsername()).isEqualTo("Jane.Smith");
+                        assertThat(summary.getSpecialization()).isEqualTo("Cardio");
+                    });
+            assertThat(profile.getRecentTrainings().getTrainingCount()).isEqualTo(2);
+            assertThat(profile.getRecentTrainings().getTotalDurationMinutes()).isEqualTo(105);
+            assertThat(profile.getRecentTrainings().getLastTrainingDate()).isEqualTo(today.minusDays(1));
+            assertThat(profile.getRecentTrainings().getWindowDays()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("Should resolve the assigned trainers with one set query")
+        void shouldLoadAssignedTrainersTogether() {
+            Trainer second = new Trainer("Max", "Power", new TrainingType("Yoga"));
+            second.setId(3L);
+            second.setUsername("Max.Power");
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenReturn(List.of(
+                    new TraineeTrainerAssignment(1L, 3L), new TraineeTrainerAssignment(1L, 2L)));
+            when(trainerDao.findByIds(List.of(3L, 2L))).thenReturn(List.of(trainer, second));
+
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe",
+                    FieldSelection.parse("trainers")).orElseThrow();
+
+            assertThat(profile.getTrainers()).extracting(summary -> summary.getUsername())
+                    .containsExactly("Max.Power", "Jane.Smith");
+            verify(trainerDao, times(1)).findByIds(any());
+            verifyNoInteractions(trainingDao);
+        }
+
+        @Test
+        @DisplayName("Should return empty when trainee does not exist")
+        void shouldReturnEmptyWhenTraineeMissing() {
+            when(traineeService.findTraineeByUsername("Ghost")).thenReturn(Optional.empty());
+
+            assertThat(profileService.getProfile("Ghost")).isEmpty();
+            verifyNoInteractions(assignmentDao, trainingDao, trainerDao);
+        }
+
+        @Test
+        @DisplayName("Should return empty for blank username")
+        void shouldReturnEmptyForBlankUsername() {
+            assertThat(profileService.getProfile(" ")).isEmpty();
+            assertThat(profileService.getProfile(null)).isEmpty();
+            verifyNoInteractions(traineeService);
+        }
+
+        @Test
+        @DisplayName("Should skip assignments whose trainer no longer exists")
+        void shouldSkipMissingTrainers() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenReturn(List.of(
+                    new TraineeTrainerAssignment(1L, 2L), new TraineeTrainerAssignment(1L, 3L)));
+            when(trainerDao.findByIds(List.of(2L, 3L))).thenReturn(List.of(trainer));
+            when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenReturn(List.of());
+
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe").orElseThrow();
+
+            assertThat(profile.getTrainers()).hasSize(1);
+            assertThat(profile.getRecentTrainings().getTrainingCount()).isZero();
+            assertThat(profile.getRecentTrainings().getLastTrainingDate()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not load sections left out of the field selection")
+        void shouldSkipUnselectedSections() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe",
+                    FieldSelection.parse("firstName,isActive")).orElseThrow();
+
+            assertThat(profile.getFirstName()).isEqualTo("John");
+            assertThat(profile.getTrainers()).isNull();
+            assertThat(profile.getRecentTrainings()).isNull();
+            verifyNoInteractions(assignmentDao, trainingDao, trainerDao);
+        }
+
+        @Test
+        @DisplayName("Should load only the selected section")
+        void shouldLoadOnlySelectedSection() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenReturn(List.of());
+
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe",
+                    FieldSelection.parse("recentTrainings")).orElseThrow();
+
+            assertThat(profile.getTrainers()).isNull();
+            assertThat(profile.getRecentTrainings().getTrainingCount()).isZero();
+            verifyNoInteractions(assignmentDao, trainerDao);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Profile Tests")
+    class BulkProfileTests {
+
+        @Test
+        @DisplayName("Should resolve trainees, assignments and trainers with one set query each")
+        void shouldAssembleWithSetQueries() {
+            Trainee other = new Trainee("Ann", "Lee");
+            other.setId(4L);
+            other.setUsername("Ann.Lee");
+            other.setIsActive(false);
+            List<String> usernames = List.of("Ann.Lee", "John.Doe", "Ghost");
+            when(traineeDao.findByUsernames(usernames)).thenReturn(List.of(trainee, other));
+            when(assignmentDao.findByTraineeIds(argThat(ids -> ids.containsAll(List.of(1L, 4L)) && ids.size() == 2)))
+                    .thenReturn(List.of(new TraineeTrainerAssignment(1L, 2L), new TraineeTrainerAssignment(4L, 2L)));
+            when(trainerDao.findByIds(List.of(2L))).thenReturn(List.of(trainer));
+
+            Map<String, TraineeProfileResponse> profiles = profileService.getProfiles("Jane.Smith", usernames);
+
+            assertThat(profiles.keySet()).containsExactly("Ann.Lee", "John.Doe");
+            assertThat(profiles.get("Ann.Lee").getIsActive()).isFalse();
+            assertThat(profiles.get("John.Doe").getTrainers()).singleElement()
+                    .satisfies(summary -> assertThat(summary.getSpecialization()).isEqualTo("Cardio"));
+            assertThat(profiles.get("John.Doe").getRecentTrainings()).isNull();
+            verifyNoInteractions(traineeService, trainingDao);
+        }
+
+        @Test
+        @DisplayName("Should only return profiles of the viewer or trainees assigned to them")
+        void shouldHideUnrelatedTrainees() {
+            when(traineeDao.findByUsernames(List.of("John.Doe"))).thenReturn(List.of(trainee));
+            when(assignmentDao.findByTraineeIds(List.of(1L))).thenReturn(List.of());
+            when(trainerDao.findByIds(List.of())).thenReturn(List.of());
+
+            assertThat(profileService.getProfiles("Jane.Smith", List.of("John.Doe"))).isEmpty();
+            assertThat(profileService.getProfiles("John.Doe", List.of("John.Doe"))).containsOnlyKeys("John.Doe");
+        }
+
+        @Test
+        @DisplayName("Should skip lookups for an empty request or missing viewer")
+        void shouldReturnEmptyWithoutInput() {
+            assertThat(profileService.getProfiles("Jane.Smith", List.of())).isEmpty();
+            assertThat(profileService.getProfiles(null, List.of("John.Doe"))).isEmpty();
+            verifyNoInteractions(traineeDao, assignmentDao, trainerDao);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should run the assignment and training reads concurrently")
+        void shouldRunIndependentReadsConcurrently() {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenAnswer(invocation -> {
+                bothStarted.countDown();
+                bothStarted.await(CALL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                return List.of();
+            });
+            when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenAnswer(invocation -> {
+                bothStarted.countDown();
+                bothStarted.await(CALL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                return List.of();
+            });
+
+            profileService.getProfile("John.Doe");
+
+            assertThat(bothStarted.getCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should omit recent trainings when the read times out")
+        void shouldOmitRecentTrainingsOnTimeout() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenReturn(List.of());
+            when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenAnswer(invocation -> {
+                Thread.sleep(CALL_TIMEOUT_MS * 4);
+                return List.of();
+            });
+
+            long start = System.nanoTime();
+            TraineeProfileResponse profile = profileService.getProfile("John.Doe").orElseThrow();
+
+            assertThat(profile.getRecentTrainings()).isNull();
+            assertThat(profile.getTrainers()).isEmpty();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(CALL_TIMEOUT_MS * 3);
+        }
+
+        @Test
+        @DisplayName("Should fail when trainer lookup times out")
+        void shouldFailWhenTrainerLookupTimesOut() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenReturn(List.of(new TraineeTrainerAssignment(1L, 2L)));
+            when(trainerDao.findByIds(List.of(2L))).thenAnswer(invocation -> {
+                Thread.sleep(CALL_TIMEOUT_MS * 4);
+                return List.of(trainer);
+            });
+            lenient().when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenReturn(List.of());
+
+            assertThatThrownBy(() -> profileService.getProfile("John.Doe"))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasMessageContaining("trainers");
+        }
+
+        @Test
+        @DisplayName("Should surface DAO failures from the trainer assignment read")
+        void shouldPropagateAssignmentFailure() {
+            when(traineeService.findTraineeByUsername("John.Doe")).thenReturn(Optional.of(trainee));
+            when(assignmentDao.findByTraineeId(1L)).thenThrow(new RuntimeException("db down"));
+            lenient().when(trainingDao.findByTraineeIdAndDateRange(eq(1L), any(), any())).thenReturn(List.of());
+
+            assertThatThrownBy(() -> profileService.getProfile("John.Doe"))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasRootCauseMessage("db down");
+        }
+    }
+}
@@ -7,6 +7,9 @@ import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.User;
 import com.gym.crm.exception.InvalidCredentialsException;
 import com.gym.crm.exception.UserNotFoundException;
+import com.gym.crm.recommendation.CoAssignmentIndex;
+import com.gym.crm.schedule.TrainerScheduleIndex;
+import com.gym.crm.search.UserSearchIndex;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.util.AuthenticationService;
 import com.gym.crm.util.CredentialsGeneratorService;
@@ -50,6 +53,15 @@ class TraineeServiceImplTest {
     @Mock
     private PasswordEncryption passwordEncryption;
 
+    @Mock
+    private TrainerScheduleIndex scheduleIndex;
+
+    @Mock
+    private UserSearchIndex searchIndex;
+
+    @Mock
+    private CoAssignmentIndex coAssignmentIndex;
+
     private TraineeService traineeService;
     private Trainee testTrainee;
 
@@ -61,7 +73,10 @@ class TraineeServiceImplTest {
                 authenticationService,
                 credentialsGenerator,
                 validationService,
-                passwordEncryption
+                passwordEncryption,
+                scheduleIndex,
+                searchIndex,
+                coAssignmentIndex
         );
 
         testTrainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
@@ -93,6 +108,7 @@ class TraineeServiceImplTest {
 
         verify(validationService).validateTrainee(any(Trainee.class));
         verify(traineeDao).create(any(Trainee.class));
+        verify(searchIndex).put(created);
     }
 
     @Test
@@ -183,7 +199,10 @@ class TraineeServiceImplTest {
 
         assertThat(result).isTrue();
         verify(trainingDao).deleteByTraineeId(1L);
+        verify(scheduleIndex).removeTrainee(1L);
         verify(traineeDao).delete(1L);
+        verify(searchIndex).remove(1L);
+        verify(coAssignmentIndex).removeTrainee(1L);
     }
 
     @Test
@@ -212,6 +231,8 @@ class TraineeServiceImplTest {
         boolean result = traineeService.deleteTrainee("JWT_AUTH", "JWT_AUTH", 999L);
 
         assertThat(result).isFalse();
+        verify(searchIndex, never()).remove(any());
+        verify(coAssignmentIndex, never()).removeTrainee(any());
     }
 
     @Test
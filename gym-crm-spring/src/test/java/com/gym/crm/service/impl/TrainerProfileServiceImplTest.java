@@ -0,0 +1,173 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TraineeDao;
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dto.response.TrainerProfileResponse;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.TraineeTrainerAssignment;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.fields.FieldSelection;
+import com.gym.crm.service.TrainerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainerProfileServiceImpl Tests")
+class TrainerProfileServiceImplTest {
+
+    @Mock
+    private TrainerService trainerService;
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    @Mock
+    private TraineeDao traineeDao;
+
+    @Mock
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrainerProfileServiceImpl profileService;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        profileService = new TrainerProfileServiceImpl(trainerService, trainerDao, traineeDao, assignmentDao,
+                meterRegistry);
+
+        trainer = new Trainer("Jane", "Smith", new TrainingType("Cardio"));
+        trainer.setId(2L);
+        trainer.setUsername("Jane.Smith");
+        trainer.setIsActive(true);
+    }
+
+    @Test
+    @DisplayName("Should assemble trainer profile with assigned trainees")
+    void shouldAssembleProfile() {
+        Trainee trainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
+        trainee.setId(1L);
+        trainee.setUsername("John.Doe");
+        when(trainerService.findTrainerByUsername("Jane.Smith")).thenReturn(Optional.of(trainer));
+        when(assignmentDao.findByTrainerId(2L)).thenReturn(List.of(
+                new TraineeTrainerAssignment(1L, 2L), new TraineeTrainerAssignment(9L, 2L)));
+        when(traineeDao.findByIds(List.of(1L, 9L))).thenReturn(List.of(trainee));
+
+        TrainerProfileResponse profile = profileService.getProfile("Jane.Smith").orElseThrow();
+
+        assertThat(profile.getSpecialization()).isEqualTo("Cardio");
+        assertThat(profile.getIsActive()).isTrue();
+        assertThat(profile.getTrainees()).singleElement()
+                .satisfies(summary -> assertThat(summary.getUsername()).isEqualTo("John.Doe"));
+    }
+
+    @Test
+    @DisplayName("Should return empty when trainer does not exist")
+    void shouldReturnEmptyWhenTrainerMissing() {
+        when(trainerService.findTrainerByUsername("Ghost")).thenReturn(Optional.empty());
+
+        assertThat(profileService.getProfile("Ghost")).isEmpty();
+        verifyNoInteractions(assignmentDao);
+    }
+
+    @Test
+    @DisplayName("Should return empty for blank username without loading")
+    void shouldReturnEmptyForBlankUsername() {
+        assertThat(profileService.getProfile(null)).isEmpty();
+        assertThat(profileService.getProfile("")).isEmpty();
+        verifyNoInteractions(trainerService);
+    }
+
+    @Test
+    @DisplayName("Should record profile loads under the trainerProfile single-flight")
+    void shouldRecordSingleFlightMetrics() {
+        when(trainerService.findTrainerByUsername("Jane.Smith")).thenReturn(Optional.of(trainer));
+        when(assignmentDao.findByTrainerId(2L)).thenReturn(List.of());
+
+        profileService.getProfile("Jane.Smith");
+
+        verifyNoInteractions(traineeDao);
+        assertThat(meterRegistry.get("gym.singleflight.calls")
+                .tag("name", "trainerProfile").tag("role", "leader").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not load trainees when they are not selected")
+    void shouldSkipTraineesWhenNotSelected() {
+        when(trainerService.findTrainerByUsername("Jane.Smith")).thenReturn(Optional.of(trainer));
+
+        TrainerProfileResponse profile = profileService.getProfile("Jane.Smith",
+                FieldSelection.parse("firstName,specialization")).orElseThrow();
+
+        assertThat(profile.getSpecialization()).isEqualTo("Cardio");
+        assertThat(profile.getTrainees()).isNull();
+        verifyNoInteractions(assignmentDao, traineeDao);
+    }
+
+    @Test
+    @DisplayName("Should assemble bulk profiles with one query per table, in request order")
+    void shouldAssembleBulkProfilesWithSetQueries() {
+        Trainer other = new Trainer("Mike", "Brown", new TrainingType("Yoga"));
+        other.setId(3L);
+        other.setUsername("Mike.Brown");
+        other.setIsActive(false);
+        Trainee trainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
+        trainee.setId(1L);
+        trainee.setUsername("John.Doe");
+        List<String> usernames = List.of("Mike.Brown", "Ghost", "Jane.Smith", "Mike.Brown");
+        when(trainerDao.findByUsernames(usernames)).thenReturn(List.of(trainer, other));
+        when(assignmentDao.findByTrainerIds(List.of(2L, 3L))).thenReturn(List.of(
+                new TraineeTrainerAssignment(1L, 2L), new TraineeTrainerAssignment(1L, 3L)));
+        when(traineeDao.findByIds(List.of(1L))).thenReturn(List.of(trainee));
+
+        Map<String, TrainerProfileResponse> profiles = profileService.getProfiles("John.Doe", usernames);
+
+        assertThat(profiles).containsOnlyKeys("Mike.Brown", "Jane.Smith");
+        assertThat(profiles.keySet()).containsExactly("Mike.Brown", "Jane.Smith");
+        assertThat(profiles.get("Mike.Brown").getSpecialization()).isEqualTo("Yoga");
+        assertThat(profiles.get("Mike.Brown").getIsActive()).isFalse();
+        assertThat(profiles.get("Jane.Smith").getTrainees()).singleElement()
+                .satisfies(summary -> assertThat(summary.getUsername()).isEqualTo("John.Doe"));
+        verifyNoInteractions(trainerService);
+    }
+
+    @Test
+    @DisplayName("Should only return bulk profiles visible to the viewer")
+    void shouldHideBulkProfilesFromUnrelatedViewers() {
+        Trainee trainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
+        trainee.setId(1L);
+        trainee.setUsername("John.Doe");
+        when(trainerDao.findByUsernames(List.of("Jane.Smith"))).thenReturn(List.of(trainer));
+        when(assignmentDao.findByTrainerIds(List.of(2L))).thenReturn(List.of(new TraineeTrainerAssignment(1L, 2L)));
+        when(traineeDao.findByIds(List.of(1L))).thenReturn(List.of(trainee));
+
+        assertThat(profileService.getProfiles("Someone.Else", List.of("Jane.Smith"))).isEmpty();
+        assertThat(profileService.getProfiles("Jane.Smith", List.of("Jane.Smith"))).containsOnlyKeys("Jane.Smith");
+    }
+
+    @Test
+    @DisplayName("Should skip queries when no bulk usernames match")
+    void shouldReturnEmptyBulkProfilesWhenNothingMatches() {
+        when(trainerDao.findByUsernames(List.of("Ghost"))).thenReturn(List.of());
+
+        assertThat(profileService.getProfiles("Jane.Smith", List.of("Ghost"))).isEmpty();
+        assertThat(profileService.getProfiles(null, List.of("Jane.Smith"))).isEmpty();
+        verifyNoInteractions(assignmentDao, traineeDao);
+    }
+}
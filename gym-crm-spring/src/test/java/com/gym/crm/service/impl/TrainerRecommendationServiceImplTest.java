@@ -0,0 +1,131 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TraineeTrainerAssignmentDao;
+import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.response.TrainerRecommendation;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.recommendation.CoAssignmentIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainerRecommendationServiceImpl Tests")
+class TrainerRecommendationServiceImplTest {
+
+    private static final TrainingType CARDIO = new TrainingType(1L, "Cardio");
+    private static final TrainingType YOGA = new TrainingType(2L, "Yoga");
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    @Mock
+    private TrainingDao trainingDao;
+
+    @Mock
+    private TraineeTrainerAssignmentDao assignmentDao;
+
+    private CoAssignmentIndex coAssignmentIndex;
+    private TrainerRecommendationServiceImpl recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        coAssignmentIndex = new CoAssignmentIndex(assignmentDao, new SimpleMeterRegistry());
+        recommendationService = new TrainerRecommendationServiceImpl(trainerDao, trainingDao, coAssignmentIndex);
+    }
+
+    private static Trainer trainer(Long id, String username, TrainingType specialization, boolean active) {
+        Trainer trainer = new Trainer("First", "Last", specialization);
+        trainer.setId(id);
+        trainer.setUsername(username);
+        trainer.setIsActive(active);
+        return trainer;
+    }
+
+    @Test
+    @DisplayName("Should rank unassigned active trainers by history and co-assignment")
+    void shouldRankByHistoryAndCoAssignment() {
+        coAssignmentIndex.replaceAssignments(1L, List.of(10L));
+        coAssignmentIndex.replaceAssignments(2L, List.of(10L, 20L));
+        coAssignmentIndex.replaceAssignments(3L, List.of(30L));
+        when(trainingDao.countByTraineeIdPerType(1L)).thenReturn(Map.of(YOGA.getId(), 3L, CARDIO.getId(), 1L));
+        when(trainerDao.findActiveIdsBySpecializations(Set.of(YOGA.getId(), CARDIO.getId()))).thenReturn(Map.of(
+                10L, CARDIO.getId(), 20L, CARDIO.getId(), 30L, YOGA.getId(), 50L, CARDIO.getId()));
+        when(trainerDao.findByIds(List.of(20L, 30L, 50L))).thenReturn(List.of(
+                trainer(50L, "newcomer", CARDIO, true),
+                trainer(20L, "peer.choice", CARDIO, true),
+                trainer(30L, "yoga.teacher", YOGA, true)));
+
+        List<TrainerRecommendation> recommendations = recommendationService.recommendTrainers(1L, 10);
+
+        assertThat(recommendations).extracting(TrainerRecommendation::getUsername)
+                .containsExactly("peer.choice", "yoga.teacher", "newcomer");
+        TrainerRecommendation peerChoice = recommendations.get(0);
+        assertThat(peerChoice.getSpecializationScore()).isEqualTo(0.25);
+        assertThat(peerChoice.getCoAssignmentScore()).isCloseTo(1 / Math.sqrt(2), within(1e-9));
+        assertThat(recommendations.get(1).getSpecializationScore()).isEqualTo(0.75);
+        assertThat(recommendations.get(1).getCoAssignmentScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fall back to popular trainers for a trainee without history")
+    void shouldRecommendPopularTrainersForNewTrainee() {
+        coAssignmentIndex.replaceAssignments(2L, List.of(20L));
+        coAssignmentIndex.replaceAssignments(3L, List.of(20L, 30L));
+        when(trainingDao.countByTraineeIdPerType(1L)).thenReturn(Map.of());
+        when(trainerDao.findByIds(List.of(20L, 30L))).thenReturn(List.of(
+                trainer(30L, "b.trainer", CARDIO, true),
+                trainer(20L, "c.trainer", CARDIO, true)));
+
+        List<TrainerRecommendation> recommendations = recommendationService.recommendTrainers(1L, 2);
+
+        assertThat(recommendations).extracting(TrainerRecommendation::getUsername)
+                .containsExactly("c.trainer", "b.trainer");
+        assertThat(recommendations.get(0).getScore()).isCloseTo(0.1, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should load only the best candidates and page past inactive or deleted trainers")
+    void shouldLoadBestCandidatesOnly() {
+        coAssignmentIndex.replaceAssignments(2L, List.of(20L));
+        coAssignmentIndex.replaceAssignments(3L, List.of(20L, 30L));
+        coAssignmentIndex.replaceAssignments(4L, List.of(20L, 30L, 40L));
+        when(trainingDao.countByTraineeIdPerType(1L)).thenReturn(Map.of());
+        when(trainerDao.findByIds(List.of(20L))).thenReturn(List.of(trainer(20L, "retired", CARDIO, false)));
+        when(trainerDao.findByIds(List.of(30L))).thenReturn(List.of());
+        when(trainerDao.findByIds(List.of(40L))).thenReturn(List.of(trainer(40L, "available", CARDIO, true)));
+
+        List<TrainerRecommendation> recommendations = recommendationService.recommendTrainers(1L, 1);
+
+        assertThat(recommendations).extracting(TrainerRecommendation::getUsername).containsExactly("available");
+        verify(trainerDao, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject a missing trainee id or a non-positive limit")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> recommendationService.recommendTrainers(null, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> recommendationService.recommendTrainers(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(trainerDao, trainingDao);
+    }
+}
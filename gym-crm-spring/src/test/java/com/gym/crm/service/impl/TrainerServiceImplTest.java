@@ -6,6 +6,7 @@ import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.TrainingType;
 import com.gym.crm.entity.User;
 import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.search.UserSearchIndex;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.util.AuthenticationService;
 import com.gym.crm.util.CredentialsGeneratorService;
@@ -44,6 +45,9 @@ class TrainerServiceImplTest {
     @Mock
     private PasswordEncryption passwordEncryption;
 
+    @Mock
+    private UserSearchIndex searchIndex;
+
     private TrainerService trainerService;
     private Trainer testTrainer;
     private TrainingType testSpecialization;
@@ -55,7 +59,8 @@ class TrainerServiceImplTest {
                 authenticationService,
                 credentialsGenerator,
                 validationService,
-                passwordEncryption
+                passwordEncryption,
+                searchIndex
         );
 
         testSpecialization = new TrainingType("Cardio");
@@ -91,6 +96,7 @@ class TrainerServiceImplTest {
 
         verify(validationService).validateTrainer(any(Trainer.class));
         verify(trainerDao).create(any(Trainer.class));
+        verify(searchIndex).put(created);
     }
 
     @Test
@@ -222,6 +228,7 @@ class TrainerServiceImplTest {
 
         assertThat(result).isTrue();
         verify(trainerDao).update(argThat(t -> !t.getIsActive()));
+        verify(searchIndex).put(argThat(t -> !t.getIsActive()));
     }
 
     @Test
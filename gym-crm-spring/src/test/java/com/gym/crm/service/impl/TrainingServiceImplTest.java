@@ -3,27 +3,43 @@ package com.gym.crm.service.impl;
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
 import com.gym.crm.dao.TrainingDao;
+import com.gym.crm.dto.request.AddTrainingRequest;
+import com.gym.crm.dto.request.BatchTrainingRequest;
+import com.gym.crm.dto.response.BatchTrainingItemResult;
+import com.gym.crm.dto.response.BatchTrainingResponse;
+import com.gym.crm.dto.response.CalendarDay;
+import com.gym.crm.dto.response.TrainingCalendarResponse;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.Training;
+import com.gym.crm.events.ScheduleEvent;
 import com.gym.crm.entity.TrainingType;
+import com.gym.crm.exception.ScheduleConflictException;
 import com.gym.crm.exception.UnauthorizedAccessException;
+import com.gym.crm.schedule.TrainerScheduleIndex;
 import com.gym.crm.service.TrainingService;
 import com.gym.crm.util.ValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +57,10 @@ class TrainingServiceImplTest {
     @Mock
     private ValidationService validationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TrainerScheduleIndex scheduleIndex;
     private TrainingService trainingService;
     private Training testTraining;
     private Trainee testTrainee;
@@ -49,11 +69,15 @@ class TrainingServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        scheduleIndex = new TrainerScheduleIndex(trainingDao, new SimpleMeterRegistry());
+        scheduleIndex.rebuild();
         trainingService = new TrainingServiceImpl(
                 trainingDao,
                 trainerDao,
                 traineeDao,
-                validationService
+                validationService,
+                eventPublisher,
+                scheduleIndex
         );
 
         testTrainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
@@ -96,6 +120,10 @@ class TrainingServiceImplTest {
         assertThat(created.getTrainingName()).isEqualTo("Morning Workout");
         verify(validationService).validateTraining(testTraining);
         verify(trainingDao).create(testTraining);
+        verify(eventPublisher).publishEvent(argThat((ScheduleEvent event) ->
+                event.type() == ScheduleEvent.Type.TRAINING_CREATED
+                        && event.userIds().equals(Set.of(1L, 2L))
+                        && event.data().get("trainingId").equals(1L)));
     }
 
     @Test
@@ -112,6 +140,52 @@ class TrainingServiceImplTest {
         verify(trainingDao).create(testTraining);
     }
 
+    private Training timedTraining(Long id, int hour, int minute, int duration) {
+        Training training = new Training(testTrainee.getId(), testTrainer.getId(), "Session " + id,
+                testTrainingType, LocalDate.now().plusDays(1), duration);
+        training.setId(id);
+        training.setTrainingStartTime(LocalTime.of(hour, minute));
+        return training;
+    }
+
+    private void stubCreatableUsers() {
+        when(traineeDao.existsById(testTrainee.getId())).thenReturn(true);
+        when(trainerDao.existsById(testTrainer.getId())).thenReturn(true);
+        when(traineeDao.findById(testTrainee.getId())).thenReturn(Optional.of(testTrainee));
+        when(trainerDao.findById(testTrainer.getId())).thenReturn(Optional.of(testTrainer));
+    }
+
+    @Test
+    void createTraining_ShouldRejectSessionOverlappingTrainersBooking() {
+        stubCreatableUsers();
+        when(trainingDao.create(any(Training.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        trainingService.createTraining("john.doe", timedTraining(10L, 10, 0, 60));
+
+        assertThatThrownBy(() -> trainingService.createTraining("john.doe", timedTraining(11L, 10, 30, 30)))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessageContaining("T10:00 to ")
+                .hasMessageContaining("T11:00");
+        trainingService.createTraining("john.doe", timedTraining(12L, 11, 0, 30));
+
+        verify(trainingDao, times(2)).create(any(Training.class));
+        assertThat(scheduleIndex.getIndexedSessionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createTraining_ShouldReleaseSlot_WhenInsertFails() {
+        stubCreatableUsers();
+        when(trainingDao.create(any(Training.class)))
+                .thenThrow(new IllegalStateException("Connection reset"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThatThrownBy(() -> trainingService.createTraining("john.doe", timedTraining(10L, 10, 0, 60)))
+                .isInstanceOf(IllegalStateException.class);
+        Training created = trainingService.createTraining("john.doe", timedTraining(11L, 10, 0, 60));
+
+        assertThat(created.getId()).isEqualTo(11L);
+        assertThat(scheduleIndex.getIndexedSessionCount()).isEqualTo(1);
+    }
+
     @Test
     void createTraining_ShouldThrowException_WhenTrainingIsNull() {
         assertThatThrownBy(() -> trainingService.createTraining("john.doe", null))
@@ -129,6 +203,7 @@ class TrainingServiceImplTest {
         assertThatThrownBy(() -> trainingService.createTraining("john.doe", testTraining))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Cannot create training for inactive trainee");
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -365,10 +440,219 @@ class TrainingServiceImplTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    void getTraineeCalendar_ShouldQueryMonthRangeAndTotalDays() {
+        YearMonth february = YearMonth.of(2028, 2);
+        when(traineeDao.findById(testTrainee.getId())).thenReturn(Optional.of(testTrainee));
+        when(trainingDao.sumByTraineeIdPerDay(testTrainee.getId(), LocalDate.of(2028, 2, 1), LocalDate.of(2028, 2, 29)))
+                .thenReturn(List.of(new CalendarDay(LocalDate.of(2028, 2, 3), 2, 90),
+                        new CalendarDay(LocalDate.of(2028, 2, 17), 1, 45)));
+
+        TrainingCalendarResponse calendar = trainingService.getTraineeCalendar("john.doe", testTrainee.getId(), february);
+
+        assertThat(calendar.getMonth()).isEqualTo(february);
+        assertThat(calendar.getTrainingCount()).isEqualTo(3);
+        assertThat(calendar.getTotalDurationMinutes()).isEqualTo(135);
+        assertThat(calendar.getDays()).hasSize(2);
+    }
+
+    @Test
+    void getTrainerCalendar_ShouldThrowException_WhenNotOwnCalendar() {
+        when(trainerDao.findById(testTrainer.getId())).thenReturn(Optional.of(testTrainer));
+
+        assertThatThrownBy(() -> trainingService.getTrainerCalendar("john.doe", testTrainer.getId(), YearMonth.now()))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verify(trainingDao, never()).sumByTrainerIdPerDay(any(), any(), any());
+    }
+
+    @Test
+    void getTrainerCalendar_ShouldReturnEmptyMonth_WhenNoTrainings() {
+        YearMonth month = YearMonth.of(2028, 4);
+        when(trainerDao.findById(testTrainer.getId())).thenReturn(Optional.of(testTrainer));
+        when(trainingDao.sumByTrainerIdPerDay(testTrainer.getId(), month.atDay(1), month.atEndOfMonth()))
+                .thenReturn(List.of());
+
+        TrainingCalendarResponse calendar = trainingService.getTrainerCalendar("jane.smith", testTrainer.getId(), month);
+
+        assertThat(calendar.getTrainingCount()).isZero();
+        assertThat(calendar.getTotalDurationMinutes()).isZero();
+        assertThat(calendar.getDays()).isEmpty();
+    }
+
     @Test
     void trainingExists_ShouldReturnFalse_WhenIdIsNull() {
         boolean exists = trainingService.trainingExists(null);
 
         assertThat(exists).isFalse();
     }
+
+    private AddTrainingRequest batchItem(String traineeUsername, String trainerUsername, int dayOffset) {
+        return new AddTrainingRequest(traineeUsername, trainerUsername, "Session " + dayOffset,
+                LocalDate.now().plusDays(dayOffset), 45);
+    }
+
+    private void stubBatchUsers() {
+        when(traineeDao.findByUsername("john.doe")).thenReturn(Optional.of(testTrainee));
+        when(trainerDao.findByUsername("jane.smith")).thenReturn(Optional.of(testTrainer));
+    }
+
+    private void stubCreateAllAssigningIds() {
+        when(trainingDao.createAll(anyList())).thenAnswer(invocation -> {
+            List<Training> trainings = invocation.getArgument(0);
+            long id = 100;
+            for (Training training : trainings) {
+                training.setId(id++);
+            }
+            return trainings;
+        });
+    }
+
+    @Test
+    void createTrainings_ShouldResolveEachPairOnceAndInsertInOneCall() {
+        stubBatchUsers();
+        stubCreateAllAssigningIds();
+        List<AddTrainingRequest> items = IntStream.range(0, 12)
+                .mapToObj(week -> batchItem("john.doe", "jane.smith", week * 7))
+                .toList();
+
+        BatchTrainingResponse response = trainingService.createTrainings("jane.smith",
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.ALL_OR_NOTHING, items));
+
+        assertThat(response.getCreated()).isEqualTo(12);
+        assertThat(response.getFailed()).isZero();
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getTrainingId)
+                .containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L, 110L, 111L);
+        verify(traineeDao, times(1)).findByUsername("john.doe");
+        verify(trainerDao, times(1)).findByUsername("jane.smith");
+        verify(trainingDao, times(1)).createAll(argThat(trainings -> trainings.size() == 12));
+        verify(trainingDao, never()).create(any());
+        verify(eventPublisher, times(12)).publishEvent(any(ScheduleEvent.class));
+    }
+
+    @Test
+    void createTrainings_ShouldSaveNothing_WhenAnyItemFailsInAllOrNothingMode() {
+        stubBatchUsers();
+        when(traineeDao.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        BatchTrainingResponse response = trainingService.createTrainings("jane.smith",
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.ALL_OR_NOTHING, List.of(
+                        batchItem("john.doe", "jane.smith", 0),
+                        batchItem("ghost", "jane.smith", 1))));
+
+        assertThat(response.getCreated()).isZero();
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getStatus)
+                .containsExactly(BatchTrainingItemResult.Status.NOT_CREATED, BatchTrainingItemResult.Status.FAILED);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("Trainee not found: ghost");
+        verify(trainingDao, never()).createAll(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createTrainings_ShouldSaveValidItems_WhenPartialMode() {
+        stubBatchUsers();
+        stubCreateAllAssigningIds();
+        AddTrainingRequest missingDuration = batchItem("john.doe", "jane.smith", 2);
+        missingDuration.setTrainingDuration(null);
+
+        BatchTrainingResponse response = trainingService.createTrainings("john.doe",
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.PARTIAL, Arrays.asList(
+                        batchItem("john.doe", "jane.smith", 0),
+                        batchItem("someone.else", "jane.smith", 1),
+                        missingDuration,
+                        null,
+                        batchItem("john.doe", "jane.smith", 3))));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getError).containsExactly(
+                null,
+                "User can only create trainings for themselves",
+                "Training duration is required",
+                "Training cannot be null",
+                null);
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getTrainingId)
+                .containsExactly(100L, null, null, null, 101L);
+        verify(traineeDao, never()).findByUsername("someone.else");
+    }
+
+    @Test
+    void createTrainings_ShouldReportInactiveUsersAndFieldErrors() {
+        stubBatchUsers();
+        Trainer inactiveTrainer = new Trainer("Old", "Coach", testTrainingType);
+        inactiveTrainer.setId(3L);
+        inactiveTrainer.setUsername("old.coach");
+        inactiveTrainer.setIsActive(false);
+        when(trainerDao.findByUsername("old.coach")).thenReturn(Optional.of(inactiveTrainer));
+        doThrow(new IllegalArgumentException("Training name is required"))
+                .when(validationService).validateTraining(argThat(training -> training.getTrainingName() == null));
+        AddTrainingRequest unnamed = batchItem("john.doe", "jane.smith", 1);
+        unnamed.setTrainingName(null);
+
+        BatchTrainingResponse response = trainingService.createTrainings("john.doe",
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.PARTIAL, List.of(
+                        batchItem("john.doe", "old.coach", 0),
+                        unnamed)));
+
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getError)
+                .containsExactly("Cannot create training for inactive trainer", "Training name is required");
+        verify(trainingDao, never()).createAll(anyList());
+    }
+
+    @Test
+    void createTrainings_ShouldFailItemsOverlappingEarlierItemsOfTheBatch() {
+        stubBatchUsers();
+        stubCreateAllAssigningIds();
+        AddTrainingRequest first = batchItem("john.doe", "jane.smith", 1);
+        first.setTrainingStartTime(LocalTime.of(9, 0));
+        AddTrainingRequest overlapping = batchItem("john.doe", "jane.smith", 1);
+        overlapping.setTrainingStartTime(LocalTime.of(9, 30));
+        AddTrainingRequest untimed = batchItem("john.doe", "jane.smith", 1);
+
+        BatchTrainingResponse response = trainingService.createTrainings("john.doe",
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.PARTIAL, List.of(first, overlapping, untimed)));
+
+        assertThat(response.getResults()).extracting(BatchTrainingItemResult::getStatus)
+                .containsExactly(BatchTrainingItemResult.Status.CREATED, BatchTrainingItemResult.Status.FAILED,
+                        BatchTrainingItemResult.Status.CREATED);
+        assertThat(response.getResults().get(1).getError()).startsWith("Trainer is already booked");
+        assertThat(scheduleIndex.getIndexedSessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createTrainings_ShouldReleaseSlots_WhenAllOrNothingBatchIsRejected() {
+        stubBatchUsers();
+        when(traineeDao.findByUsername("ghost")).thenReturn(Optional.empty());
+        AddTrainingRequest timed = batchItem("john.doe", "jane.smith", 1);
+        timed.setTrainingStartTime(LocalTime.of(9, 0));
+
+        trainingService.createTrainings("jane.smith", new BatchTrainingRequest(
+                BatchTrainingRequest.Mode.ALL_OR_NOTHING, List.of(timed, batchItem("ghost", "jane.smith", 1))));
+
+        assertThat(scheduleIndex.getIndexedSessionCount()).isZero();
+    }
+
+    @Test
+    void createTrainings_ShouldReleaseSlots_WhenAnItemFailsUnexpectedly() {
+        stubBatchUsers();
+        when(traineeDao.findByUsername("broken")).thenThrow(new IllegalStateException("Database unavailable"));
+        AddTrainingRequest timed = batchItem("john.doe", "jane.smith", 1);
+        timed.setTrainingStartTime(LocalTime.of(9, 0));
+
+        assertThatThrownBy(() -> trainingService.createTrainings("jane.smith", new BatchTrainingRequest(
+                BatchTrainingRequest.Mode.PARTIAL, List.of(timed, batchItem("broken", "jane.smith", 1)))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(scheduleIndex.getIndexedSessionCount()).isZero();
+        verify(trainingDao, never()).createAll(anyList());
+    }
+
+    @Test
+    void createTrainings_ShouldThrowException_WhenRequestIsInvalid() {
+        assertThatThrownBy(() -> trainingService.createTrainings("john.doe", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trainingService.createTrainings(null,
+                new BatchTrainingRequest(BatchTrainingRequest.Mode.PARTIAL, List.of())))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
 }
\ No newline at end of file
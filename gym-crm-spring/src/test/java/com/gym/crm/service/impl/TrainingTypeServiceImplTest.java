@@ -0,0 +1,51 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.TrainingTypeDao;
+import com.gym.crm.entity.TrainingType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainingTypeServiceImpl Tests")
+class TrainingTypeServiceImplTest {
+
+    @Mock
+    private TrainingTypeDao trainingTypeDao;
+
+    private TrainingTypeServiceImpl trainingTypeService;
+
+    @BeforeEach
+    void setUp() {
+        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDao, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should return all training types from the DAO")
+    void shouldReturnAllTrainingTypes() {
+        List<TrainingType> types = List.of(new TrainingType("Cardio"), new TrainingType("Yoga"));
+        when(trainingTypeDao.findAll()).thenReturn(types);
+
+        assertThat(trainingTypeService.findAllTrainingTypes()).containsExactlyElementsOf(types);
+    }
+
+    @Test
+    @DisplayName("Should read from the DAO again once the previous read finished")
+    void shouldNotCacheBetweenReads() {
+        when(trainingTypeDao.findAll()).thenReturn(List.of());
+
+        trainingTypeService.findAllTrainingTypes();
+        trainingTypeService.findAllTrainingTypes();
+
+        verify(trainingTypeDao, times(2)).findAll();
+    }
+}
@@ -0,0 +1,101 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.UserDao;
+import com.gym.crm.dto.request.ChangeLoginRequest;
+import com.gym.crm.entity.Trainee;
+import com.gym.crm.entity.Trainer;
+import com.gym.crm.entity.TrainingType;
+import com.gym.crm.entity.User;
+import com.gym.crm.exception.InvalidCredentialsException;
+import com.gym.crm.service.UserService;
+import com.gym.crm.util.impl.PasswordEncryption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private PasswordEncryption passwordEncryption;
+
+    private UserService userService;
+    private Trainee testTrainee;
+    private Trainer testTrainer;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userDao, passwordEncryption);
+
+        testTrainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
+        testTrainee.setId(1L);
+        testTrainee.setUsername("john.doe");
+        testTrainee.setPassword("encodedPassword");
+
+        testTrainer = new Trainer("Jane", "Smith", new TrainingType("Cardio"));
+        testTrainer.setId(2L);
+        testTrainer.setUsername("jane.smith");
+        testTrainer.setPassword("encodedPassword");
+    }
+
+    @Test
+    void findUserByUsername_ShouldReturnConcreteUser() {
+        when(userDao.findByUsername("jane.smith")).thenReturn(Optional.of(testTrainer));
+
+        Optional<User> result = userService.findUserByUsername(" jane.smith ");
+
+        assertThat(result).containsSame(testTrainer);
+    }
+
+    @Test
+    void findUserByUsername_ShouldReturnEmpty_WhenUsernameInvalid() {
+        assertThat(userService.findUserByUsername(null)).isEmpty();
+        assertThat(userService.findUserByUsername("  ")).isEmpty();
+
+        verifyNoInteractions(userDao);
+    }
+
+    @Test
+    void changePassword_ShouldUpdatePassword() {
+        ChangeLoginRequest request = new ChangeLoginRequest();
+        request.setUsername("john.doe");
+        request.setOldPassword("oldPassword");
+        request.setNewPassword("newPassword");
+
+        when(passwordEncryption.matches("oldPassword", "encodedPassword")).thenReturn(true);
+        when(passwordEncryption.encode("newPassword")).thenReturn("newEncodedPassword");
+        when(userDao.update(any(User.class))).thenReturn(testTrainee);
+
+        userService.changePassword(testTrainee, request);
+
+        verify(userDao).update(argThat(u -> u.getPassword().equals("newEncodedPassword")));
+    }
+
+    @Test
+    void changePassword_ShouldThrowException_WhenOldPasswordInvalid() {
+        ChangeLoginRequest request = new ChangeLoginRequest();
+        request.setOldPassword("wrongPassword");
+        request.setNewPassword("newPassword");
+
+        when(passwordEncryption.matches("wrongPassword", "encodedPassword")).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.changePassword(testTrainer, request))
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessage("Invalid old password");
+
+        verify(userDao, never()).update(any());
+    }
+}
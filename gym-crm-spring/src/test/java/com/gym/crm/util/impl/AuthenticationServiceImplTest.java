@@ -2,9 +2,11 @@ package com.gym.crm.util.impl;
 
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.dao.UserDao;
 import com.gym.crm.entity.Trainee;
 import com.gym.crm.entity.Trainer;
 import com.gym.crm.entity.TrainingType;
+import com.gym.crm.entity.User;
 import com.gym.crm.exception.InactiveAccountException;
 import com.gym.crm.exception.InvalidCredentialsException;
 import com.gym.crm.exception.UnauthorizedAccessException;
@@ -33,6 +35,9 @@ class AuthenticationServiceImplTest {
     @Mock
     private TrainerDao trainerDao;
 
+    @Mock
+    private UserDao userDao;
+
     @Mock
     private PasswordEncryption passwordEncryption;
 
@@ -42,7 +47,7 @@ class AuthenticationServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        authenticationService = new AuthenticationServiceImpl(traineeDao, trainerDao, passwordEncryption);
+        authenticationService = new AuthenticationServiceImpl(traineeDao, trainerDao, userDao, passwordEncryption);
 
         testTrainee = new Trainee("John", "Doe", LocalDate.of(1990, 1, 1), "123 Test St");
         testTrainee.setId(1L);
@@ -58,6 +63,78 @@ class AuthenticationServiceImplTest {
         testTrainer.setIsActive(true);
     }
 
+    @Nested
+    @DisplayName("Unified Authentication Tests")
+    class UnifiedAuthenticationTests {
+
+        @Test
+        @DisplayName("Should return trainee resolved by single lookup")
+        void authenticate_ShouldReturnTrainee_WhenCredentialsValid() {
+            when(userDao.findByUsername("john.doe")).thenReturn(Optional.of(testTrainee));
+            when(passwordEncryption.matches("password", "$2a$12$encodedBCryptPassword")).thenReturn(true);
+
+            User authenticated = authenticationService.authenticate("john.doe", "password");
+
+            assertThat(authenticated).isEqualTo(testTrainee);
+            verifyNoInteractions(traineeDao, trainerDao);
+        }
+
+        @Test
+        @DisplayName("Should return trainer resolved by single lookup")
+        void authenticate_ShouldReturnTrainer_WhenCredentialsValid() {
+            when(userDao.findByUsername("jane.smith")).thenReturn(Optional.of(testTrainer));
+            when(passwordEncryption.matches("password", "$2a$12$encodedBCryptPassword")).thenReturn(true);
+
+            User authenticated = authenticationService.authenticate("jane.smith", "password");
+
+            assertThat(authenticated).isEqualTo(testTrainer);
+            verifyNoInteractions(traineeDao, trainerDao);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when user not found")
+        void authenticate_ShouldThrowException_WhenUserNotFound() {
+            when(userDao.findByUsername("ghost")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authenticationService.authenticate("ghost", "password"))
+                    .isInstanceOf(InvalidCredentialsException.class)
+                    .hasMessage("Invalid username or password");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when password is invalid")
+        void authenticate_ShouldThrowException_WhenPasswordInvalid() {
+            when(userDao.findByUsername("john.doe")).thenReturn(Optional.of(testTrainee));
+            when(passwordEncryption.matches("wrong", "$2a$12$encodedBCryptPassword")).thenReturn(false);
+
+            assertThatThrownBy(() -> authenticationService.authenticate("john.doe", "wrong"))
+                    .isInstanceOf(InvalidCredentialsException.class)
+                    .hasMessage("Invalid username or password");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when account is inactive")
+        void authenticate_ShouldThrowException_WhenAccountInactive() {
+            testTrainer.setIsActive(false);
+            when(userDao.findByUsername("jane.smith")).thenReturn(Optional.of(testTrainer));
+            when(passwordEncryption.matches("password", "$2a$12$encodedBCryptPassword")).thenReturn(true);
+
+            assertThatThrownBy(() -> authenticationService.authenticate("jane.smith", "password"))
+                    .isInstanceOf(InactiveAccountException.class)
+                    .hasMessage("This account is inactive");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when username is blank")
+        void authenticate_ShouldThrowException_WhenUsernameBlank() {
+            assertThatThrownBy(() -> authenticationService.authenticate("  ", "password"))
+                    .isInstanceOf(InvalidCredentialsException.class)
+                    .hasMessage("Username is required");
+
+            verifyNoInteractions(userDao);
+        }
+    }
+
     @Nested
     @DisplayName("Trainee Authentication Tests")
     class TraineeAuthenticationTests {
@@ -2,6 +2,7 @@ package com.gym.crm.util.impl;
 
 import com.gym.crm.dao.TraineeDao;
 import com.gym.crm.dao.TrainerDao;
+import com.gym.crm.security.OperatorAccount;
 import com.gym.crm.util.CredentialsGeneratorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +27,8 @@ class CredentialsGeneratorServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        credentialsGenerator = new CredentialsGeneratorServiceImpl(traineeDao, trainerDao);
+        credentialsGenerator = new CredentialsGeneratorServiceImpl(traineeDao, trainerDao,
+                new OperatorAccount(new PasswordEncryption(), "Ops.Admin", ""));
     }
 
     @Test
@@ -51,6 +53,17 @@ class CredentialsGeneratorServiceImplTest {
         assertThat(username).isEqualTo("John.Doe1");
     }
 
+    @Test
+    void generateUsername_ShouldSkipOperatorUsername() {
+        when(traineeDao.existsByUsername("ops.admin1")).thenReturn(false);
+        when(trainerDao.existsByUsername("ops.admin1")).thenReturn(false);
+
+        String username = credentialsGenerator.generateUsername("ops", "admin");
+
+        assertThat(username).isEqualTo("ops.admin1");
+        assertThat(credentialsGenerator.isUsernameUnique("Ops.Admin")).isFalse();
+    }
+
     @Test
     void generateUsername_ShouldIncrementSerialNumber_WhenMultipleDuplicates() {
         when(traineeDao.existsByUsername("John.Doe")).thenReturn(true);
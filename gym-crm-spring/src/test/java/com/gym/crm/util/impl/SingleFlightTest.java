@@ -0,0 +1,127 @@
+package com.gym.crm.util.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("gym.singleflight.calls").tag("name", "test").tag("role", role).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should share one computation between concurrent callers")
+        void shouldShareInFlightComputation() throws Exception {
+            int callers = 8;
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            ExecutorService pool = Executors.newFixedThreadPool(callers);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                results.add(pool.submit(() -> singleFlight.execute("key", () -> {
+                    executions.incrementAndGet();
+                    leaderStarted.countDown();
+                    await(release);
+                    return "value";
+                })));
+                assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                for (int i = 1; i < callers; i++) {
+                    results.add(pool.submit(() -> singleFlight.execute("key", () -> {
+                        executions.incrementAndGet();
+                        return "other";
+                    })));
+                }
+                while (calls("follower") < callers - 1) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(calls("leader")).isEqualTo(1.0);
+            assertThat(singleFlight.coalescingRatio()).isEqualTo((callers - 1) / (double) callers);
+        }
+
+        @Test
+        @DisplayName("Should not cache results after the computation completes")
+        void shouldRecomputeAfterCompletion() {
+            AtomicInteger executions = new AtomicInteger();
+
+            singleFlight.execute("key", () -> "v" + executions.incrementAndGet());
+            String second = singleFlight.execute("key", () -> "v" + executions.incrementAndGet());
+
+            assertThat(second).isEqualTo("v2");
+            assertThat(singleFlight.coalescingRatio()).isZero();
+            assertThat(meterRegistry.get("gym.singleflight.in.flight").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep different keys independent")
+        void shouldSeparateKeys() {
+            assertThat(singleFlight.execute("a", () -> "A")).isEqualTo("A");
+            assertThat(singleFlight.execute("b", () -> "B")).isEqualTo("B");
+            assertThat(calls("leader")).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should propagate loader exception and release the key")
+        void shouldPropagateExceptionAndRelease() {
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+            assertThat(singleFlight.execute("key", () -> "recovered")).isEqualTo("recovered");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}